@@ -0,0 +1,68 @@
+# Shared ProGuard rules for the per-handler Lambda JARs.
+# Only unreachable classes and members are removed: nothing is optimized or renamed, so stack
+# traces and reflection by name keep working. The handler class itself is kept by the Gradle task.
+
+-dontobfuscate
+-dontoptimize
+-dontnote
+-keepattributes *Annotation*,Signature,InnerClasses,EnclosingMethod,Exceptions,MethodParameters,Record
+
+# Enums are looked up by name (Jackson, fromValue helpers)
+-keepclassmembers enum * {
+    public static **[] values();
+    public static ** valueOf(java.lang.String);
+}
+
+# Jackson-bound models and their Lombok builders
+-keep class com.osrsGoalTracker.user.model.** { *; }
+-keep class com.osrsGoalTracker.user.handler.request.** { *; }
+-keep class com.osrsGoalTracker.user.handler.response.** { *; }
+
+# JFR events are registered and their fields are read by the JVM
+-keep class com.osrsGoalTracker.user.common.jfr.** { *; }
+
+# Lambda event types are populated and read through their getters and setters
+-keepclassmembers class com.amazonaws.services.lambda.runtime.events.** { *; }
+
+# Libraries that load their own classes by name
+-keep class com.fasterxml.jackson.** { *; }
+-keep class org.apache.logging.log4j.** { *; }
+-keep class org.slf4j.** { *; }
+-keep class org.apache.commons.pool2.impl.DefaultEvictionPolicy { *; }
+
+# AWS SDK runtime: interceptors, credential providers and HTTP services are loaded by name.
+# Generated request, response and exception models are left to shrinking.
+-keep class !software.amazon.awssdk.services.**.model.**,software.amazon.awssdk.** { *; }
+
+# Optional dependencies of the libraries above that are not packaged
+-dontwarn software.amazon.awssdk.crt.**
+-dontwarn io.github.resilience4j.**
+-dontwarn net.sf.cglib.**
+-dontwarn org.slf4j.impl.**
+-dontwarn org.joda.convert.**
+-dontwarn org.osgi.**
+-dontwarn aQute.bnd.annotation.**
+-dontwarn edu.umd.cs.findbugs.annotations.**
+-dontwarn com.google.j2objc.annotations.**
+-dontwarn com.fasterxml.jackson.dataformat.**
+-dontwarn org.codehaus.stax2.**
+
+# Optional Log4j2 appenders, layouts and async loggers that are not configured
+-dontwarn com.lmax.disruptor.**
+-dontwarn com.conversantmedia.**
+-dontwarn org.jctools.**
+-dontwarn org.zeromq.**
+-dontwarn org.apache.kafka.**
+-dontwarn org.apache.commons.csv.**
+-dontwarn org.apache.commons.compress.**
+-dontwarn org.fusesource.jansi.**
+-dontwarn javax.jms.**
+-dontwarn javax.mail.**
+-dontwarn javax.activation.**
+-dontwarn org.apache.logging.log4j.core.async.JCToolsBlockingQueueFactory$**
+-dontwarn org.apache.logging.log4j.core.jackson.Log4jXmlObjectMapper
+-dontwarn org.apache.logging.log4j.core.jackson.Log4jYamlObjectMapper
+-dontwarn org.apache.logging.log4j.core.layout.JacksonFactory$Log4jXmlPrettyPrinter
+
+# Signature-polymorphic calls that ProGuard cannot resolve against the JDK
+-dontwarn java.lang.invoke.MethodHandle
@@ -0,0 +1,127 @@
+#!/bin/sh
+# Shared helpers for scripts/train-cds.sh and scripts/measure-cds.sh.
+#
+# Handlers run in the AWS Lambda java21 base image, under the Runtime Interface Emulator it
+# bundles, so archives are dumped by the same JDK build and runtime class path that Lambda uses.
+# DynamoDB Local stands in for the user table so the AWS SDK path is exercised as well.
+
+LAMBDA_IMAGE=${LAMBDA_IMAGE:-public.ecr.aws/lambda/java:21}
+DYNAMODB_LOCAL_IMAGE=${DYNAMODB_LOCAL_IMAGE:-amazon/dynamodb-local:latest}
+CDS_NETWORK=user-service-cds
+DYNAMODB_CONTAINER=user-service-cds-dynamodb
+TABLE_NAME=users
+HANDLER_PACKAGE=com.osrsGoalTracker.user.handler
+
+# Maps a handler name to its Lambda handler string
+handler_for() {
+    case "$1" in
+        getUser) echo "${HANDLER_PACKAGE}.GetUserHandler::handleRequest" ;;
+        createUser) echo "${HANDLER_PACKAGE}.CreateUserHandler::handleRequest" ;;
+        *) echo "Unknown handler: $1" >&2; return 1 ;;
+    esac
+}
+
+# Starts DynamoDB Local on a private network and creates the user table
+start_backend() {
+    docker network create "$CDS_NETWORK" >/dev/null 2>&1 || true
+    docker rm -f "$DYNAMODB_CONTAINER" >/dev/null 2>&1 || true
+    docker run -d --rm --name "$DYNAMODB_CONTAINER" --network "$CDS_NETWORK" -p 8000:8000 \
+        "$DYNAMODB_LOCAL_IMAGE" -jar DynamoDBLocal.jar -inMemory >/dev/null
+    i=0
+    until dynamodb_request CreateTable "{
+            \"TableName\": \"${TABLE_NAME}\",
+            \"BillingMode\": \"PAY_PER_REQUEST\",
+            \"AttributeDefinitions\": [
+                {\"AttributeName\": \"pk\", \"AttributeType\": \"S\"},
+                {\"AttributeName\": \"sk\", \"AttributeType\": \"S\"},
+                {\"AttributeName\": \"email\", \"AttributeType\": \"S\"}],
+            \"KeySchema\": [
+                {\"AttributeName\": \"pk\", \"KeyType\": \"HASH\"},
+                {\"AttributeName\": \"sk\", \"KeyType\": \"RANGE\"}],
+            \"GlobalSecondaryIndexes\": [{
+                \"IndexName\": \"email-sk-index\",
+                \"KeySchema\": [
+                    {\"AttributeName\": \"email\", \"KeyType\": \"HASH\"},
+                    {\"AttributeName\": \"sk\", \"KeyType\": \"RANGE\"}],
+                \"Projection\": {\"ProjectionType\": \"ALL\"}}]
+        }" >/dev/null 2>&1; do
+        i=$((i + 1))
+        if [ "$i" -ge 60 ]; then
+            echo "DynamoDB Local did not start" >&2
+            return 1
+        fi
+        sleep 0.5
+    done
+}
+
+stop_backend() {
+    docker rm -f "$DYNAMODB_CONTAINER" >/dev/null 2>&1 || true
+    docker network rm "$CDS_NETWORK" >/dev/null 2>&1 || true
+}
+
+# Sends a DynamoDB JSON API request to DynamoDB Local, which does not check signatures
+dynamodb_request() {
+    curl -sf -X POST http://localhost:8000 \
+        -H "Content-Type: application/x-amz-json-1.0" \
+        -H "X-Amz-Target: DynamoDB_20120810.$1" \
+        -H "Authorization: AWS4-HMAC-SHA256 Credential=local/20240101/us-east-1/dynamodb/aws4_request, SignedHeaders=host, Signature=local" \
+        -d "$2"
+}
+
+# Starts a handler container: start_function <container> <task dir> <port> <handler> <archive mode>
+# The archive mode is "dump", "use", or "none" to run without the exec wrapper.
+start_function() {
+    container=$1
+    task_dir=$2
+    port=$3
+    handler=$4
+    mode=$5
+    wrapper_env=""
+    if [ "$mode" != "none" ]; then
+        wrapper_env="-e AWS_LAMBDA_EXEC_WRAPPER=/var/task/cds-wrapper -e CDS_ARCHIVE_MODE=${mode}"
+    fi
+    docker rm -f "$container" >/dev/null 2>&1 || true
+    # shellcheck disable=SC2086
+    docker run -d --name "$container" --network "$CDS_NETWORK" -p "${port}:8080" \
+        -v "$(cd "$task_dir" && pwd):/var/task" \
+        -e USER_TABLE_NAME="$TABLE_NAME" \
+        -e DYNAMODB_ENDPOINT="http://${DYNAMODB_CONTAINER}:8000" \
+        -e AWS_REGION=us-east-1 \
+        -e AWS_ACCESS_KEY_ID=local \
+        -e AWS_SECRET_ACCESS_KEY=local \
+        $wrapper_env \
+        "$LAMBDA_IMAGE" "$handler" >/dev/null
+    i=0
+    until curl -s -o /dev/null "http://localhost:${port}/"; do
+        i=$((i + 1))
+        if [ "$i" -ge 100 ]; then
+            echo "Runtime interface emulator in ${container} did not start" >&2
+            return 1
+        fi
+        sleep 0.1
+    done
+}
+
+# Invokes a function and prints its response: invoke <port> <event json>
+invoke() {
+    curl -s -X POST "http://localhost:$1/2015-03-31/functions/function/invocations" -d "$2"
+}
+
+# Prints an API Gateway event that creates a user with the given email
+create_user_event() {
+    echo "{\"httpMethod\":\"POST\",\"path\":\"/users\",\"body\":\"{\\\"email\\\":\\\"$1\\\"}\"}"
+}
+
+# Prints an API Gateway event that reads the given user
+get_user_event() {
+    echo "{\"httpMethod\":\"GET\",\"path\":\"/users/$1\",\"pathParameters\":{\"userId\":\"$1\"}}"
+}
+
+# Prints the userId from a createUser response
+user_id_from() {
+    echo "$1" | sed -n 's/.*userId\\":\\"\([^\\]*\)\\".*/\1/p'
+}
+
+now_millis() {
+    date +%s%3N
+}
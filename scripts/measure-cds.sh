@@ -0,0 +1,65 @@
+#!/bin/sh
+# Compares cold-start time of the CDS-enabled handlers with and without their AppCDS archive.
+#
+# Each run starts a fresh Lambda java21 base image container under the Runtime Interface
+# Emulator and times the first invocation, which includes runtime and handler initialization.
+# Runs alternate between the archive and no archive so both see the same machine conditions.
+#
+# Usage: scripts/measure-cds.sh [runs]
+# Requires Docker and the output of: ./gradlew lambdaCdsArchives
+
+set -e
+cd "$(dirname "$0")/.."
+. scripts/cds-common.sh
+
+RUNS=${1:-5}
+PORT=9200
+
+# Prints the milliseconds until the first invocation of a fresh container returns
+cold_start() {
+    name=$1
+    mode=$2
+    event=$3
+    container="user-service-cds-measure-${name}"
+    start_function "$container" "build/cds/${name}" "$PORT" "$(handler_for "$name")" "$mode"
+    start=$(now_millis)
+    invoke "$PORT" "$event" >/dev/null
+    elapsed=$(($(now_millis) - start))
+    docker rm -f "$container" >/dev/null
+    echo "$elapsed"
+}
+
+for name in createUser getUser; do
+    if [ ! -f "build/cds/${name}/app.jsa" ]; then
+        echo "Train first: ./gradlew lambdaCdsArchives" >&2
+        exit 1
+    fi
+done
+
+trap stop_backend EXIT
+start_backend
+
+# Seed one user for the getUser runs to read
+start_function user-service-cds-seed build/cds/createUser "$PORT" "$(handler_for createUser)" none
+USER_ID=$(user_id_from "$(invoke "$PORT" "$(create_user_event cds-measure@example.com)")")
+docker rm -f user-service-cds-seed >/dev/null
+
+for name in createUser getUser; do
+    with_total=0
+    without_total=0
+    run=1
+    while [ "$run" -le "$RUNS" ]; do
+        if [ "$name" = "createUser" ]; then
+            without=$(cold_start "$name" none "$(create_user_event "cds-measure-${run}-none@example.com")")
+            with=$(cold_start "$name" use "$(create_user_event "cds-measure-${run}-archive@example.com")")
+        else
+            without=$(cold_start "$name" none "$(get_user_event "$USER_ID")")
+            with=$(cold_start "$name" use "$(get_user_event "$USER_ID")")
+        fi
+        echo "${name} run ${run}: ${without} ms without archive, ${with} ms with archive"
+        without_total=$((without_total + without))
+        with_total=$((with_total + with))
+        run=$((run + 1))
+    done
+    echo "${name} mean: $((without_total / RUNS)) ms without archive, $((with_total / RUNS)) ms with archive"
+done
@@ -0,0 +1,73 @@
+#!/bin/sh
+# Measures cold start of the JVM handler JAR against the native image.
+#
+# Both are started under the Lambda Runtime Interface Emulator with the in-memory backend, and
+# each run reports the time until the first createUser invocation returns and the process's
+# peak resident memory. Every run starts a fresh process, so every invocation is a cold start.
+#
+# Usage: scripts/measure-cold-start.sh [runs]
+# Requires aws-lambda-rie on PATH (https://github.com/aws/aws-lambda-runtime-interface-emulator)
+# and the outputs of: ./gradlew createUserLambdaMin copyLambdaRuntimeClient nativeCompile
+
+set -e
+
+RUNS=${1:-5}
+PORT=9000
+HANDLER=com.osrsGoalTracker.user.handler.CreateUserHandler::handleRequest
+JVM_JAR=$(ls build/libs/createUser-lambda-*-min.jar 2>/dev/null | head -n 1)
+NATIVE_IMAGE=build/native/nativeCompile/user-service
+INVOKE_URL=http://localhost:${PORT}/2015-03-31/functions/function/invocations
+
+if ! command -v aws-lambda-rie >/dev/null 2>&1; then
+    echo "aws-lambda-rie is not on PATH"
+    exit 1
+fi
+if [ -z "$JVM_JAR" ] || [ ! -x "$NATIVE_IMAGE" ]; then
+    echo "Build first: ./gradlew createUserLambdaMin copyLambdaRuntimeClient nativeCompile"
+    exit 1
+fi
+
+export USER_STORAGE_BACKEND=memory
+export AWS_REGION=${AWS_REGION:-us-east-1}
+
+now_millis() {
+    date +%s%3N
+}
+
+# Prints "<first response millis> <peak RSS kB>" for one cold start of the given command
+measure() {
+    start=$(now_millis)
+    aws-lambda-rie "$@" >/dev/null 2>&1 &
+    rie_pid=$!
+    i=0
+    status=""
+    while [ "$i" -lt 300 ] && [ "$status" != "200" ]; do
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "$INVOKE_URL" \
+            -d "{\"body\":\"{\\\"email\\\":\\\"cold-start-$start@example.com\\\"}\"}" || true)
+        [ "$status" = "200" ] || sleep 0.01
+        i=$((i + 1))
+    done
+    elapsed=$(($(now_millis) - start))
+    runtime_pid=$(pgrep -P "$rie_pid" | head -n 1)
+    peak_rss=$(awk '/VmHWM/ {print $2}' "/proc/${runtime_pid}/status" 2>/dev/null || echo "?")
+    kill "$rie_pid" 2>/dev/null || true
+    wait "$rie_pid" 2>/dev/null || true
+    echo "$elapsed $peak_rss"
+}
+
+report() {
+    label=$1
+    shift
+    run=1
+    while [ "$run" -le "$RUNS" ]; do
+        result=$(measure "$@")
+        echo "$label run $run: first response $(echo "$result" | cut -d' ' -f1) ms," \
+            "peak RSS $(echo "$result" | cut -d' ' -f2) kB"
+        run=$((run + 1))
+    done
+}
+
+report "jvm" java -XX:+TieredCompilation -XX:TieredStopAtLevel=1 \
+    -cp "${JVM_JAR}:build/lambda-runtime-client/*" \
+    com.amazonaws.services.lambda.runtime.api.client.AWSLambda "$HANDLER"
+report "native" "$NATIVE_IMAGE" "$HANDLER"
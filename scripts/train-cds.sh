@@ -0,0 +1,88 @@
+#!/bin/sh
+# Dumps an AppCDS archive for each CDS-enabled handler (getUser, createUser).
+#
+# Each handler's shrunk JAR is staged with the exec wrapper in build/cds/<handler>, laid out
+# like /var/task in the deployment package. The handler is started in the Lambda java21 base
+# image with CDS_ARCHIVE_MODE=dump, invoked with training events against DynamoDB Local, and
+# stopped so the JVM writes build/cds/<handler>/app.jsa on exit.
+#
+# Usage: scripts/train-cds.sh
+# Requires Docker and the outputs of: ./gradlew createUserLambdaMin getUserLambdaMin
+
+set -e
+cd "$(dirname "$0")/.."
+. scripts/cds-common.sh
+
+TRAINING_INVOCATIONS=${TRAINING_INVOCATIONS:-20}
+PORT=9100
+
+stage() {
+    name=$1
+    jar=$(ls build/libs/${name}-lambda-*-min.jar 2>/dev/null | head -n 1)
+    if [ -z "$jar" ]; then
+        echo "Build first: ./gradlew ${name}LambdaMin" >&2
+        exit 1
+    fi
+    rm -rf "build/cds/${name}"
+    mkdir -p "build/cds/${name}/lib"
+    cp "$jar" "build/cds/${name}/lib/"
+    cp src/cds/cds-wrapper "build/cds/${name}/"
+    chmod 755 "build/cds/${name}/cds-wrapper"
+}
+
+# Stops the JVM with SIGTERM so it exits normally and dumps the archive, then waits for it
+dump() {
+    name=$1
+    container="user-service-cds-${name}"
+    docker exec "$container" sh -c 'for p in /proc/[0-9]*; do
+        case "$(readlink "$p/exe")" in */java) kill -TERM "${p#/proc/}" ;; esac
+    done'
+    i=0
+    while docker exec "$container" sh -c 'for p in /proc/[0-9]*; do
+            case "$(readlink "$p/exe")" in */java) exit 0 ;; esac
+        done; exit 1'; do
+        i=$((i + 1))
+        if [ "$i" -ge 120 ]; then
+            echo "${name} runtime did not exit" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+    docker rm -f "$container" >/dev/null
+    if [ ! -s "build/cds/${name}/app.jsa" ]; then
+        echo "No archive was written for ${name}; see docker logs of the training run" >&2
+        exit 1
+    fi
+    echo "${name}: $(wc -c < "build/cds/${name}/app.jsa") byte archive"
+}
+
+trap stop_backend EXIT
+stage createUser
+stage getUser
+start_backend
+
+# createUser: create new users, then repeat an email to train the duplicate path
+start_function user-service-cds-createUser build/cds/createUser "$PORT" "$(handler_for createUser)" dump
+response=$(invoke "$PORT" "$(create_user_event cds-training@example.com)")
+USER_ID=$(user_id_from "$response")
+if [ -z "$USER_ID" ]; then
+    echo "Training createUser failed: $response" >&2
+    exit 1
+fi
+i=1
+while [ "$i" -lt "$TRAINING_INVOCATIONS" ]; do
+    invoke "$PORT" "$(create_user_event "cds-training-${i}@example.com")" >/dev/null
+    i=$((i + 1))
+done
+invoke "$PORT" "$(create_user_event cds-training@example.com)" >/dev/null
+dump createUser
+
+# getUser: read the user created above, then a missing one
+start_function user-service-cds-getUser build/cds/getUser "$PORT" "$(handler_for getUser)" dump
+i=0
+while [ "$i" -lt "$TRAINING_INVOCATIONS" ]; do
+    invoke "$PORT" "$(get_user_event "$USER_ID")" >/dev/null
+    i=$((i + 1))
+done
+invoke "$PORT" "$(get_user_event missing)" >/dev/null
+dump getUser
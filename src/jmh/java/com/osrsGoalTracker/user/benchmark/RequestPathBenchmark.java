@@ -0,0 +1,101 @@
+package com.osrsGoalTracker.user.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.di.UserStorageBackend;
+import com.osrsGoalTracker.user.handler.GetUserHandler;
+import com.osrsGoalTracker.user.handler.server.UserHttpServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares serving GET /users/{userId} through the Lambda handler invoked directly with serving
+ * it through the HTTP server over a kept-alive connection. Both paths use the in-memory backend,
+ * so the difference is the cost of the transport rather than of storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestPathBenchmark {
+    private GetUserHandler getUserHandler;
+    private APIGatewayProxyRequestEvent lambdaRequest;
+    private UserHttpServer server;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+
+    /**
+     * Creates a user and starts a server on a free port, both backed by the same injector.
+     *
+     * @throws IOException          If the server cannot start
+     * @throws InterruptedException If interrupted while creating the user
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        Injector injector = Guice.createInjector(new UserModule(UserStorageBackend.MEMORY));
+        getUserHandler = injector.getInstance(GetUserHandler.class);
+        server = new UserHttpServer(injector, 0, 256, 1000L);
+        server.start();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<String> created = httpClient.send(HttpRequest.newBuilder(uri("/users"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"benchmark@example.com\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        String userId = new ObjectMapper().readTree(created.body()).get("userId").asText();
+
+        lambdaRequest = new APIGatewayProxyRequestEvent().withPathParameters(Map.of("userId", userId));
+        httpRequest = HttpRequest.newBuilder(uri("/users/" + userId)).GET().build();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Invokes the Lambda handler directly, as the Lambda runtime would.
+     *
+     * @return The handler's response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent lambdaHandlerPath() {
+        return getUserHandler.handleRequest(lambdaRequest, null);
+    }
+
+    /**
+     * Sends the request to the HTTP server, reusing the client's kept-alive connection.
+     *
+     * @return The response body
+     * @throws IOException          If the request fails
+     * @throws InterruptedException If interrupted while waiting for the response
+     */
+    @Benchmark
+    public String httpServerPath() throws IOException, InterruptedException {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.user.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.user.repository.util.TimestampAttributeUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the cost of decoding a stored timestamp on the user read path,
+ * comparing the legacy ISO-8601 string format against epoch-millis numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimestampDecodeBenchmark {
+    private AttributeValue isoValue;
+    private AttributeValue epochMillisValue;
+
+    /**
+     * Prepares one attribute value per storage format for the same instant.
+     */
+    @Setup
+    public void setUp() {
+        Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+        isoValue = TimestampAttributeUtil.toAttributeValue(timestamp, TimestampFormat.ISO_8601);
+        epochMillisValue = TimestampAttributeUtil.toAttributeValue(timestamp, TimestampFormat.EPOCH_MILLIS);
+    }
+
+    /**
+     * Decodes an ISO-8601 string attribute.
+     *
+     * @return The decoded timestamp
+     */
+    @Benchmark
+    public Instant decodeIso8601() {
+        return TimestampAttributeUtil.fromAttributeValue(isoValue);
+    }
+
+    /**
+     * Decodes an epoch-millis number attribute.
+     *
+     * @return The decoded timestamp
+     */
+    @Benchmark
+    public Instant decodeEpochMillis() {
+        return TimestampAttributeUtil.fromAttributeValue(epochMillisValue);
+    }
+}
@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.user.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.user.common.id.UserIdFormat;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures user ID generation throughput with many threads creating users at once,
+ * comparing random UUIDv4 IDs against time-ordered UUIDv7 IDs. All threads share one
+ * generator, as the repository does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class UserIdGeneratorBenchmark {
+    @Param({"UUID_V4", "UUID_V7"})
+    private UserIdFormat format;
+
+    private UserIdGenerator generator;
+
+    /**
+     * Creates the shared generator for the format under test.
+     */
+    @Setup
+    public void setUp() {
+        generator = format.createGenerator();
+    }
+
+    /**
+     * Generates one user ID.
+     *
+     * @return The generated ID
+     */
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+}
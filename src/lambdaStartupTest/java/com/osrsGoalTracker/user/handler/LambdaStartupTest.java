@@ -0,0 +1,170 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Starts each shrunk Lambda JAR in a class loader that sees only the JAR and the JDK, then
+ * deserializes an event, invokes the handler and serializes the result the way the Lambda
+ * runtime does. Fails when shrinking removed a class the handler needs or when the first
+ * invocation takes longer than the startup budget.
+ */
+class LambdaStartupTest {
+    private static final Path LIBS_DIR = Path.of(System.getProperty("lambda.libsDir", "build/libs"));
+    private static final String VERSION = System.getProperty("lambda.version");
+    private static final long BUDGET_MILLIS = Long.getLong("lambda.startupBudgetMillis", 5000L);
+    private static final String HANDLER_PACKAGE = "com.osrsGoalTracker.user.handler.";
+
+    @Test
+    void createUser_MinJar_StartsAndCreatesUser() throws Exception {
+        // When
+        String response = invoke("createUser", "CreateUserHandler",
+                "{\"httpMethod\":\"POST\",\"body\":\"{\\\"email\\\":\\\"startup@example.com\\\"}\"}");
+
+        // Then
+        assertTrue(response.contains("\"statusCode\":200"), response);
+    }
+
+    @Test
+    void getUser_MinJar_StartsAndLooksUpUser() throws Exception {
+        // When
+        String response = invoke("getUser", "GetUserHandler",
+                "{\"httpMethod\":\"GET\",\"pathParameters\":{\"userId\":\"missing\"}}");
+
+        // Then
+        assertTrue(response.contains("User not found with ID: missing"), response);
+    }
+
+    @Test
+    void migrateTimestamps_MinJar_StartsAndMigrates() throws Exception {
+        // When
+        String response = invoke("migrateTimestamps", "MigrateTimestampsHandler", "{\"totalSegments\":1}");
+
+        // Then
+        assertTrue(response.contains("\"migratedCount\":0"), response);
+    }
+
+    @Test
+    void outboxPublisher_MinJar_StartsAndHandlesEmptyBatch() throws Exception {
+        // When
+        String response = invoke("outboxPublisher", "OutboxPublisherHandler", "{\"records\":[]}");
+
+        // Then
+        assertTrue(response.contains("\"batchItemFailures\":[]"), response);
+    }
+
+    @Test
+    void userCacheSync_MinJar_StartsAndHandlesEmptyBatch() throws Exception {
+        // When
+        String response = invoke("userCacheSync", "UserCacheSyncHandler", "{\"records\":[]}");
+
+        // Then
+        assertEquals("0", response);
+    }
+
+    @Test
+    void rebuildEmailFilter_MinJar_StartsAndRebuilds() throws Exception {
+        // When
+        String response = invoke("rebuildEmailFilter", "RebuildEmailFilterHandler", "{\"totalSegments\":1}");
+
+        // Then
+        assertTrue(response.contains("\"emailCount\":0"), response);
+    }
+
+    @Test
+    void listUsers_MinJar_StartsAndLists() throws Exception {
+        // When
+        String response = invoke("listUsers", "ListUsersHandler", "{\"httpMethod\":\"GET\"}");
+
+        // Then
+        assertTrue(response.contains("\"statusCode\":200"), response);
+    }
+
+    @Test
+    void listChannelSubscribers_MinJar_StartsAndLists() throws Exception {
+        // When
+        String response = invoke("listChannelSubscribers", "ListChannelSubscribersHandler",
+                "{\"channelType\":\"DISCORD\",\"segment\":3}");
+
+        // Then
+        assertTrue(response.contains("\"totalSegments\":10"), response);
+        assertTrue(response.contains("\"subscribers\":[]"), response);
+    }
+
+    @Test
+    void compactProgress_MinJar_StartsAndCompletes() throws Exception {
+        // When
+        String response = invoke("compactProgress", "CompactProgressHandler",
+                "{\"maxConcurrency\":1,\"granularity\":\"MONTH\"}");
+
+        // Then
+        assertTrue(response.contains("\"usersProcessed\":0"), response);
+        assertTrue(response.contains("\"complete\":true"), response);
+    }
+
+    @Test
+    void getGoalProgress_MinJar_StartsAndReadsEmptySeries() throws Exception {
+        // When
+        String response = invoke("getGoalProgress", "GetGoalProgressHandler",
+                "{\"httpMethod\":\"GET\",\"pathParameters\":{\"userId\":\"user123\","
+                        + "\"characterName\":\"Zezima\",\"goalId\":\"goal1\"}}");
+
+        // Then
+        assertTrue(response.contains("\"statusCode\":200"), response);
+        assertTrue(response.contains("\\\"timestamps\\\":[]"), response);
+    }
+
+    @Test
+    void purgeUser_MinJar_StartsAndCompletes() throws Exception {
+        // When
+        String response = invoke("purgeUser", "PurgeUserHandler",
+                "{\"userId\":\"user123\",\"maxInFlightBatches\":2}");
+
+        // Then
+        assertTrue(response.contains("\"itemsDeleted\":0"), response);
+        assertTrue(response.contains("\"complete\":true"), response);
+    }
+
+    private String invoke(String name, String handlerClassName, String eventJson) throws Exception {
+        Path jar = LIBS_DIR.resolve(name + "-lambda-" + VERSION + "-min.jar");
+        assertTrue(Files.exists(jar), "Missing " + jar + ", run ./gradlew " + name + "LambdaMin");
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()},
+                ClassLoader.getPlatformClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            long start = System.nanoTime();
+
+            Object handler = loader.loadClass(HANDLER_PACKAGE + handlerClassName).getConstructor().newInstance();
+            Method handleRequest = Arrays.stream(handler.getClass().getMethods())
+                    .filter(method -> method.getName().equals("handleRequest") && !method.isBridge())
+                    .findFirst()
+                    .orElseThrow();
+            Class<?> mapperClass = loader.loadClass("com.fasterxml.jackson.databind.ObjectMapper");
+            Object mapper = mapperClass.getConstructor().newInstance();
+            Object event = mapperClass.getMethod("readValue", String.class, Class.class)
+                    .invoke(mapper, eventJson, handleRequest.getParameterTypes()[0]);
+            Object result = handleRequest.invoke(handler, event, null);
+            String response = (String) mapperClass.getMethod("writeValueAsString", Object.class)
+                    .invoke(mapper, result);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMillis <= BUDGET_MILLIS, String.format(
+                    "%s took %d ms to start and handle its first event, budget is %d ms",
+                    name, elapsedMillis, BUDGET_MILLIS));
+            return response;
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+}
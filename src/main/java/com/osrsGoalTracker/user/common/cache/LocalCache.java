@@ -0,0 +1,137 @@
+package com.osrsGoalTracker.user.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded, in-process cache with least-recently-used eviction and a fixed time-to-live.
+ * Intended for per-container caching inside a Lambda execution environment.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class LocalCache<K, V> {
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<K, CacheEntry<V>> entries;
+
+    /**
+     * Creates a cache that holds at most maxSize entries for the given time-to-live.
+     *
+     * @param maxSize The maximum number of entries to keep
+     * @param ttl     How long an entry stays fresh after it is written
+     */
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with an explicit clock.
+     *
+     * @param maxSize The maximum number of entries to keep
+     * @param ttl     How long an entry stays fresh after it is written
+     * @param clock   The clock used to expire entries
+     */
+    public LocalCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be at least 1");
+        }
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets a fresh value from the cache.
+     *
+     * @param key The key to look up
+     * @return The cached value, or empty if absent or expired
+     */
+    public synchronized Optional<V> get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis <= clock.millis()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Gets a value from the cache even if it has expired.
+     * Expired entries are kept until they are replaced, invalidated or evicted, so callers
+     * can fall back to them when the source of truth is unavailable.
+     *
+     * @param key The key to look up
+     * @return The cached value, or empty if absent
+     */
+    public synchronized Optional<V> getStale(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        return entry == null ? Optional.empty() : Optional.of(entry.value);
+    }
+
+    /**
+     * Stores a value in the cache, replacing any existing value.
+     *
+     * @param key   The key to store under
+     * @param value The value to store
+     */
+    public synchronized void put(K key, V value) {
+        put(key, value, ttl);
+    }
+
+    /**
+     * Stores a value in the cache with its own time-to-live, replacing any existing value.
+     *
+     * @param key      The key to store under
+     * @param value    The value to store
+     * @param entryTtl How long this entry stays fresh after it is written
+     */
+    public synchronized void put(K key, V value, Duration entryTtl) {
+        entries.put(key, new CacheEntry<>(value, clock.millis() + entryTtl.toMillis()));
+    }
+
+    /**
+     * Removes a single key from the cache.
+     *
+     * @param key The key to remove
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of entries currently held, including expired ones not yet evicted.
+     *
+     * @return The number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private CacheEntry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.user.common.deadline;
+
+import java.util.OptionalLong;
+
+/**
+ * Tracks the deadline of the request being processed on the current thread.
+ * Handlers start the deadline from the time their invocation has left, and lower layers
+ * use it to avoid starting work that cannot finish in time.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<Long> DEADLINE_MILLIS = new ThreadLocal<>();
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private RequestDeadline() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Starts a deadline for the current thread.
+     * A non-positive remaining time is treated as unknown and clears the deadline.
+     *
+     * @param remainingMillis The time the current request has left, in milliseconds
+     */
+    public static void start(long remainingMillis) {
+        if (remainingMillis <= 0) {
+            DEADLINE_MILLIS.remove();
+            return;
+        }
+        DEADLINE_MILLIS.set(System.currentTimeMillis() + remainingMillis);
+    }
+
+    /**
+     * Gets the time left until the current thread's deadline.
+     *
+     * @return The remaining time in milliseconds (possibly negative), or empty if no deadline is set
+     */
+    public static OptionalLong remainingMillis() {
+        Long deadline = DEADLINE_MILLIS.get();
+        if (deadline == null) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Clears the current thread's deadline.
+     */
+    public static void clear() {
+        DEADLINE_MILLIS.remove();
+    }
+}
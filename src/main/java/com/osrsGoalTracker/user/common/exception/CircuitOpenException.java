@@ -0,0 +1,17 @@
+package com.osrsGoalTracker.user.common.exception;
+
+/**
+ * Exception thrown when a call is rejected without being attempted because the circuit
+ * breaker protecting its dependency is open.
+ */
+public class CircuitOpenException extends ServiceUnavailableException {
+    /**
+     * Constructs a new CircuitOpenException with the specified detail message.
+     *
+     * @param message the detail message. The detail message is saved for later
+     *                retrieval by the {@link #getMessage()} method.
+     */
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
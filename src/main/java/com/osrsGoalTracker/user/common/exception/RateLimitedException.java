@@ -0,0 +1,42 @@
+package com.osrsGoalTracker.user.common.exception;
+
+/**
+ * Exception thrown when a request is shed because the service is being throttled by a dependency.
+ * Callers should retry after the suggested delay.
+ */
+public class RateLimitedException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    /**
+     * Constructs a new RateLimitedException with the specified detail message and retry delay.
+     *
+     * @param message          the detail message
+     * @param retryAfterMillis the suggested delay before retrying, in milliseconds
+     */
+    public RateLimitedException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Constructs a new RateLimitedException for a request the dependency itself throttled.
+     * Requests shed on the client side have no cause.
+     *
+     * @param message          the detail message
+     * @param retryAfterMillis the suggested delay before retrying, in milliseconds
+     * @param cause            the dependency's throttling error
+     */
+    public RateLimitedException(String message, long retryAfterMillis, Throwable cause) {
+        super(message, cause);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Gets the suggested delay before retrying.
+     *
+     * @return the delay in milliseconds
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
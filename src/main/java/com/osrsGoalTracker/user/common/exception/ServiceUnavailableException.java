@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.user.common.exception;
+
+/**
+ * Exception thrown when a request is shed because it cannot complete before its deadline.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    /**
+     * Constructs a new ServiceUnavailableException with the specified detail message.
+     *
+     * @param message the detail message. The detail message is saved for later
+     *                retrieval by the {@link #getMessage()} method.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,207 @@
+package com.osrsGoalTracker.user.common.filter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings, backed by a bitset of 64-bit words.
+ * A negative answer is certain; a positive answer is wrong with a probability that grows with
+ * the share of set bits. Adding and testing are thread-safe and lock-free, so a filter can be
+ * filled from several scan segments at once and updated while it is being read.
+ * The bitset can be written to and read from a compact binary form.
+ */
+public final class BloomFilter {
+    private static final int MAGIC = 0x55424C46;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_HASH_FUNCTIONS = 32;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(AtomicLongArray words, int hashFunctions) {
+        this.words = words;
+        this.bitSize = (long) words.length() * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates an empty filter sized for the expected number of entries and target false positive rate.
+     *
+     * @param expectedEntries   The number of entries the filter is sized for
+     * @param falsePositiveRate The false positive rate at the expected number of entries, between 0 and 1
+     * @return An empty filter
+     * @throws IllegalArgumentException If expectedEntries is less than 1 or falsePositiveRate is not between 0 and 1
+     */
+    public static BloomFilter create(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries < 1) {
+            throw new IllegalArgumentException("Expected entries must be at least 1");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long wordCount = Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filter would exceed the maximum size");
+        }
+        int hashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS,
+                Math.round((double) wordCount * Long.SIZE / expectedEntries * ln2)));
+        return new BloomFilter(new AtomicLongArray((int) wordCount), hashFunctions);
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value to add
+     * @return true if any bit changed, meaning the value was definitely not present before
+     */
+    public boolean put(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash + GOLDEN_GAMMA) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+        return changed;
+    }
+
+    /**
+     * Tests whether a value may have been added to the filter.
+     *
+     * @param value The value to test
+     * @return false if the value was definitely never added, true if it may have been
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash + GOLDEN_GAMMA) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false positive rate from the share of set bits.
+     *
+     * @return The probability that mightContain returns true for a value that was never added
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount() / bitSize, hashFunctions);
+    }
+
+    /**
+     * Gets the number of bits in the filter.
+     *
+     * @return The number of bits
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Gets the number of hash functions each value is tested against.
+     *
+     * @return The number of hash functions
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Writes the filter in its binary form: a magic number, the format version, the number of
+     * hash functions, the number of words and the words themselves. Concurrent additions may or
+     * may not be included.
+     *
+     * @param out The stream to write to; it is not closed
+     * @throws IOException If writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(hashFunctions);
+        data.writeInt(words.length());
+        for (int i = 0; i < words.length(); i++) {
+            data.writeLong(words.get(i));
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(OutputStream)}.
+     *
+     * @param in The stream to read from; it is not closed
+     * @return The filter
+     * @throws IOException If reading fails or the data is not a filter in a supported format
+     */
+    public static BloomFilter readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a Bloom filter");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported Bloom filter format version: " + version);
+        }
+        int hashFunctions = data.readInt();
+        int wordCount = data.readInt();
+        if (hashFunctions < 1 || hashFunctions > MAX_HASH_FUNCTIONS || wordCount < 1) {
+            throw new IOException("Corrupt Bloom filter header");
+        }
+        AtomicLongArray words = new AtomicLongArray(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.set(i, data.readLong());
+        }
+        return new BloomFilter(words, hashFunctions);
+    }
+
+    private long setBitCount() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long previous = words.getAndAccumulate(index, mask, (current, m) -> current | m);
+        return (previous & mask) == 0;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer of the SplitMix64 generator, used to spread the FNV-1a hash over all 64 bits
+     * and to derive the second hash for double hashing.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
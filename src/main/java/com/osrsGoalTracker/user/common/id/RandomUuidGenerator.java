@@ -0,0 +1,14 @@
+package com.osrsGoalTracker.user.common.id;
+
+import java.util.UUID;
+
+/**
+ * Generates random (version 4) UUIDs. All random bits come from the JDK's shared
+ * SecureRandom, which makes the IDs unguessable but serializes concurrent callers.
+ */
+public class RandomUuidGenerator implements UserIdGenerator {
+    @Override
+    public String generate() {
+        return UUID.randomUUID().toString();
+    }
+}
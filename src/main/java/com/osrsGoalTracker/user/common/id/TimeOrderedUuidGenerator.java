@@ -0,0 +1,70 @@
+package com.osrsGoalTracker.user.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered (version 7) UUIDs as described in RFC 9562. The first 48 bits are
+ * the Unix time in milliseconds, so IDs sort by creation time both as UUIDs and as strings.
+ * The 12 bits after the version are a counter that is seeded randomly each millisecond and
+ * incremented for further IDs in the same millisecond, so the IDs a thread generates are
+ * strictly increasing even if the clock stands still or steps back. The remaining 62 bits are
+ * random. All state and entropy are per thread, so concurrent callers never contend.
+ * The random bits do not come from a cryptographically secure source; the IDs are unique, not
+ * unguessable.
+ */
+public class TimeOrderedUuidGenerator implements UserIdGenerator {
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final int COUNTER_SEED_BOUND = 0x800;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Creates a generator that reads the system clock.
+     */
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a generator that reads the given clock.
+     *
+     * @param clock Supplies the current Unix time in milliseconds
+     */
+    TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String generate() {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        if (now > current.millis) {
+            current.millis = now;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else if (current.counter < MAX_COUNTER) {
+            current.counter++;
+        } else {
+            current.millis++;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        }
+
+        long mostSignificantBits = (current.millis << 16) | VERSION_BITS | current.counter;
+        long leastSignificantBits = VARIANT_BITS | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    /**
+     * The millisecond and counter of the last ID generated by one thread.
+     */
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private int counter;
+    }
+}
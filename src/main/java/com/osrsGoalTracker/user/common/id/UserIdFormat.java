@@ -0,0 +1,46 @@
+package com.osrsGoalTracker.user.common.id;
+
+/**
+ * Formats in which new user IDs can be generated. Both are UUID strings, so users created
+ * in either format can be stored and read side by side.
+ */
+public enum UserIdFormat {
+    /**
+     * Random UUIDs, as generated before time-ordered IDs were introduced.
+     */
+    UUID_V4,
+
+    /**
+     * Time-ordered UUIDs that sort by creation time and are generated without contention.
+     */
+    UUID_V7;
+
+    /**
+     * Resolves an ID format from its configured name.
+     * Falls back to {@link #UUID_V7} when no value is configured.
+     *
+     * @param value The configured format name (case-insensitive), may be null
+     * @return The matching ID format
+     * @throws IllegalArgumentException if the value does not match a known format
+     */
+    public static UserIdFormat fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return UUID_V7;
+        }
+        for (UserIdFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown user ID format: " + value);
+    }
+
+    /**
+     * Creates a generator for this format.
+     *
+     * @return A new generator
+     */
+    public UserIdGenerator createGenerator() {
+        return this == UUID_V4 ? new RandomUuidGenerator() : new TimeOrderedUuidGenerator();
+    }
+}
@@ -0,0 +1,14 @@
+package com.osrsGoalTracker.user.common.id;
+
+/**
+ * Generates the IDs of new users. Implementations must be safe to call from many threads
+ * at once.
+ */
+public interface UserIdGenerator {
+    /**
+     * Generates a new user ID.
+     *
+     * @return A new, unique user ID
+     */
+    String generate();
+}
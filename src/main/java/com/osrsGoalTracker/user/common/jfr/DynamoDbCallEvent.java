@@ -0,0 +1,49 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event timing one DynamoDB API call, including the SDK's retries. The user is taken from
+ * the service span the call is made in.
+ */
+@Name("com.osrsGoalTracker.user.DynamoDbCall")
+@Label("DynamoDB Call")
+@Description("One DynamoDB API call, including SDK retries")
+public class DynamoDbCallEvent extends SpanEvent {
+    private transient int attempts;
+
+    /**
+     * Starts timing a DynamoDB call.
+     *
+     * @param operation The DynamoDB operation, e.g. GetItem
+     * @return The span, to be finished when the call completes or fails
+     */
+    public static DynamoDbCallEvent start(String operation) {
+        DynamoDbCallEvent span = new DynamoDbCallEvent();
+        if (span.isEnabled()) {
+            span.open(operation, SpanContext.userId());
+        }
+        return span;
+    }
+
+    /**
+     * Records that an attempt of the call is about to be sent.
+     */
+    public void attempt() {
+        attempts++;
+    }
+
+    /**
+     * Finishes the call. Its retries are added to the enclosing spans' retry counts.
+     *
+     * @param outcome {@link #SUCCESS} or the simple name of the exception the call failed with
+     */
+    public void finish(String outcome) {
+        if (isOpen()) {
+            SpanContext.addRetries(Math.max(0, attempts - 1));
+            close(outcome);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event timing one Lambda handler invocation. The outcome is the HTTP status code of the
+ * response.
+ */
+@Name("com.osrsGoalTracker.user.Handler")
+@Label("Handler Invocation")
+@Description("One invocation of a user service Lambda handler")
+public class HandlerSpanEvent extends SpanEvent {
+    /**
+     * Starts timing a handler invocation. The user is set with {@link #userId(String)} once the
+     * request has been parsed.
+     *
+     * @param operation The name of the operation, e.g. GetUser
+     * @return The span, to be finished when the response is ready
+     */
+    public static HandlerSpanEvent start(String operation) {
+        HandlerSpanEvent span = new HandlerSpanEvent();
+        span.open(operation, null);
+        return span;
+    }
+
+    /**
+     * Finishes the invocation.
+     *
+     * @param statusCode The HTTP status code of the response
+     */
+    public void finish(int statusCode) {
+        if (isOpen()) {
+            close(Integer.toString(statusCode));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Summarizes a JFR recording of the user service into per-operation latency breakdowns.
+ * For each span event type and operation it reports the number of spans, latency percentiles,
+ * DynamoDB retries and errors. The mean latency is broken down into time spent in DynamoDB
+ * calls on the span's thread (for handler and service spans), in GC pauses, and blocked on
+ * monitors or parked on the span's thread, with the remainder reported as other.
+ * Run it with {@code ./gradlew analyzeRecording -Precording=<file.jfr>}.
+ */
+public final class RecordingAnalyzer {
+    static final String HANDLER_EVENT = "com.osrsGoalTracker.user.Handler";
+    static final String SERVICE_EVENT = "com.osrsGoalTracker.user.Service";
+    static final String DYNAMODB_EVENT = "com.osrsGoalTracker.user.DynamoDbCall";
+
+    private static final Map<String, String> SPAN_TYPES = Map.of(
+            HANDLER_EVENT, "Handler",
+            SERVICE_EVENT, "Service",
+            DYNAMODB_EVENT, "DynamoDB");
+    private static final List<String> TYPE_ORDER = List.of("Handler", "Service", "DynamoDB");
+    private static final String GC_PAUSE_EVENT = "jdk.GCPhasePause";
+    private static final Set<String> LOCK_EVENTS = Set.of("jdk.JavaMonitorEnter", "jdk.ThreadPark");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int HTTP_BAD_REQUEST = 400;
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private RecordingAnalyzer() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Prints the summary of the recording named by the only argument.
+     *
+     * @param args The path of the recording
+     * @throws IOException If the recording cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: RecordingAnalyzer <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(format(analyze(Path.of(args[0]))));
+    }
+
+    /**
+     * Reads a recording and summarizes its spans per event type and operation.
+     *
+     * @param recording The path of the recording
+     * @return One summary per event type and operation, handlers first, then by operation
+     * @throws IOException If the recording cannot be read
+     */
+    public static List<OperationSummary> analyze(Path recording) throws IOException {
+        List<Interval> spans = new ArrayList<>();
+        Map<Long, List<Interval>> dynamoDbCallsByThread = new HashMap<>();
+        Map<Long, List<Interval>> lockWaitsByThread = new HashMap<>();
+        List<Interval> gcPauses = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String name = event.getEventType().getName();
+            if (SPAN_TYPES.containsKey(name)) {
+                Interval span = new Interval(event, threadId(event));
+                spans.add(span);
+                if (DYNAMODB_EVENT.equals(name)) {
+                    dynamoDbCallsByThread.computeIfAbsent(span.threadId, t -> new ArrayList<>()).add(span);
+                }
+            } else if (LOCK_EVENTS.contains(name)) {
+                lockWaitsByThread.computeIfAbsent(threadId(event), t -> new ArrayList<>())
+                        .add(new Interval(event, threadId(event)));
+            } else if (GC_PAUSE_EVENT.equals(name)) {
+                gcPauses.add(new Interval(event, -1));
+            }
+        }
+        dynamoDbCallsByThread.values().forEach(RecordingAnalyzer::sortByStart);
+        lockWaitsByThread.values().forEach(RecordingAnalyzer::sortByStart);
+        sortByStart(gcPauses);
+
+        Map<String, List<Interval>> spansByOperation = new TreeMap<>(Comparator
+                .comparing((String key) -> TYPE_ORDER.indexOf(key.substring(0, key.indexOf(' '))))
+                .thenComparing(Comparator.naturalOrder()));
+        for (Interval span : spans) {
+            span.dynamoDbNanos = DYNAMODB_EVENT.equals(span.eventName) ? 0
+                    : overlapNanos(span, dynamoDbCallsByThread.getOrDefault(span.threadId, List.of()));
+            span.gcNanos = overlapNanos(span, gcPauses);
+            span.lockNanos = overlapNanos(span, lockWaitsByThread.getOrDefault(span.threadId, List.of()));
+            spansByOperation.computeIfAbsent(SPAN_TYPES.get(span.eventName) + " " + span.operation,
+                    key -> new ArrayList<>()).add(span);
+        }
+
+        List<OperationSummary> summaries = new ArrayList<>();
+        for (List<Interval> operationSpans : spansByOperation.values()) {
+            summaries.add(summarize(operationSpans));
+        }
+        return summaries;
+    }
+
+    /**
+     * Formats summaries as a fixed-width table.
+     *
+     * @param summaries The summaries to format
+     * @return The table, one line per summary after a header line
+     */
+    public static String format(List<OperationSummary> summaries) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-8s %-26s %7s %9s %9s %9s %9s %7s %6s %11s %8s %8s %8s%n",
+                "Type", "Operation", "Count", "p50 ms", "p90 ms", "p99 ms", "max ms", "Retries", "Errors",
+                "DynamoDB ms", "GC ms", "Lock ms", "Other ms"));
+        for (OperationSummary summary : summaries) {
+            table.append(String.format(Locale.ROOT,
+                    "%-8s %-26s %7d %9.2f %9.2f %9.2f %9.2f %7d %6d %11.2f %8.2f %8.2f %8.2f%n",
+                    summary.getType(), summary.getOperation(), summary.getCount(), summary.getP50Millis(),
+                    summary.getP90Millis(), summary.getP99Millis(), summary.getMaxMillis(), summary.getRetries(),
+                    summary.getErrors(), summary.getMeanDynamoDbMillis(), summary.getMeanGcMillis(),
+                    summary.getMeanLockMillis(), summary.getMeanOtherMillis()));
+        }
+        return table.toString();
+    }
+
+    private static OperationSummary summarize(List<Interval> spans) {
+        long[] durations = new long[spans.size()];
+        long retries = 0;
+        long errors = 0;
+        long dynamoDbNanos = 0;
+        long gcNanos = 0;
+        long lockNanos = 0;
+        for (int i = 0; i < spans.size(); i++) {
+            Interval span = spans.get(i);
+            durations[i] = span.durationNanos();
+            retries += span.retryCount;
+            errors += isError(span.outcome) ? 1 : 0;
+            dynamoDbNanos += span.dynamoDbNanos;
+            gcNanos += span.gcNanos;
+            lockNanos += span.lockNanos;
+        }
+        Arrays.sort(durations);
+        int count = spans.size();
+        double meanMillis = Arrays.stream(durations).sum() / NANOS_PER_MILLI / count;
+        double meanDynamoDbMillis = dynamoDbNanos / NANOS_PER_MILLI / count;
+        double meanGcMillis = gcNanos / NANOS_PER_MILLI / count;
+        double meanLockMillis = lockNanos / NANOS_PER_MILLI / count;
+        Interval first = spans.get(0);
+        return OperationSummary.builder()
+                .type(SPAN_TYPES.get(first.eventName))
+                .operation(first.operation)
+                .count(count)
+                .p50Millis(percentile(durations, 0.50))
+                .p90Millis(percentile(durations, 0.90))
+                .p99Millis(percentile(durations, 0.99))
+                .maxMillis(durations[count - 1] / NANOS_PER_MILLI)
+                .retries(retries)
+                .errors(errors)
+                .meanDynamoDbMillis(meanDynamoDbMillis)
+                .meanGcMillis(meanGcMillis)
+                .meanLockMillis(meanLockMillis)
+                .meanOtherMillis(Math.max(0, meanMillis - meanDynamoDbMillis - meanGcMillis - meanLockMillis))
+                .build();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted durations, in milliseconds.
+     */
+    private static double percentile(long[] sortedDurations, double fraction) {
+        int rank = (int) Math.ceil(fraction * sortedDurations.length);
+        return sortedDurations[Math.max(0, rank - 1)] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Sums how long the intervals, sorted by start, overlap the span.
+     */
+    private static long overlapNanos(Interval span, List<Interval> intervals) {
+        int low = 0;
+        int high = intervals.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (!intervals.get(middle).start.isBefore(span.start)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        // The intervals of one list do not overlap each other, so of those starting before the
+        // span only the last can still reach into it.
+        long overlap = 0;
+        for (int i = Math.max(0, low - 1); i < intervals.size(); i++) {
+            Interval interval = intervals.get(i);
+            if (!interval.start.isBefore(span.end)) {
+                break;
+            }
+            Instant start = interval.start.isAfter(span.start) ? interval.start : span.start;
+            Instant end = interval.end.isBefore(span.end) ? interval.end : span.end;
+            if (end.isAfter(start)) {
+                overlap += Duration.between(start, end).toNanos();
+            }
+        }
+        return overlap;
+    }
+
+    private static boolean isError(String outcome) {
+        if (outcome == null || SpanEvent.SUCCESS.equals(outcome)) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(outcome) >= HTTP_BAD_REQUEST;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static long threadId(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread == null ? -1 : thread.getJavaThreadId();
+    }
+
+    private static void sortByStart(List<Interval> intervals) {
+        Collections.sort(intervals, Comparator.comparing((Interval interval) -> interval.start));
+    }
+
+    /**
+     * The time range of one recorded event and, for spans, its fields.
+     */
+    private static final class Interval {
+        private final String eventName;
+        private final long threadId;
+        private final Instant start;
+        private final Instant end;
+        private final String operation;
+        private final int retryCount;
+        private final String outcome;
+        private long dynamoDbNanos;
+        private long gcNanos;
+        private long lockNanos;
+
+        private Interval(RecordedEvent event, long threadId) {
+            this.eventName = event.getEventType().getName();
+            this.threadId = threadId;
+            this.start = event.getStartTime();
+            this.end = event.getEndTime();
+            boolean span = SPAN_TYPES.containsKey(eventName);
+            this.operation = span ? event.getString("operation") : null;
+            this.retryCount = span ? event.getInt("retryCount") : 0;
+            this.outcome = span ? event.getString("outcome") : null;
+        }
+
+        private long durationNanos() {
+            return Duration.between(start, end).toNanos();
+        }
+    }
+
+    /**
+     * Latency summary of the spans of one event type and operation.
+     */
+    @Value
+    @Builder
+    public static class OperationSummary {
+        /**
+         * The span type: Handler, Service or DynamoDB.
+         */
+        private final String type;
+
+        /**
+         * The operation, e.g. GetUser or GetItem.
+         */
+        private final String operation;
+
+        /**
+         * The number of spans.
+         */
+        private final long count;
+
+        /**
+         * The median latency.
+         */
+        private final double p50Millis;
+
+        /**
+         * The 90th percentile latency.
+         */
+        private final double p90Millis;
+
+        /**
+         * The 99th percentile latency.
+         */
+        private final double p99Millis;
+
+        /**
+         * The highest latency.
+         */
+        private final double maxMillis;
+
+        /**
+         * The DynamoDB retries made during the spans.
+         */
+        private final long retries;
+
+        /**
+         * The number of spans that ended with an exception or an HTTP status of 400 or more.
+         */
+        private final long errors;
+
+        /**
+         * The mean time per span spent in DynamoDB calls on the span's thread.
+         */
+        private final double meanDynamoDbMillis;
+
+        /**
+         * The mean time per span that overlapped GC pauses.
+         */
+        private final double meanGcMillis;
+
+        /**
+         * The mean time per span the span's thread was blocked on a monitor or parked.
+         */
+        private final double meanLockMillis;
+
+        /**
+         * The mean time per span not accounted for by the other parts.
+         */
+        private final double meanOtherMillis;
+    }
+}
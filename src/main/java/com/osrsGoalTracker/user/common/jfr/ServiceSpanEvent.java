@@ -0,0 +1,54 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event timing one user service call, including every repository and DynamoDB call it
+ * makes.
+ */
+@Name("com.osrsGoalTracker.user.Service")
+@Label("Service Call")
+@Description("One call of a user service operation")
+public class ServiceSpanEvent extends SpanEvent {
+    /**
+     * Runs a service call inside a span. The user becomes the current thread's user for the
+     * DynamoDB calls made by the call.
+     *
+     * @param operation The name of the operation, e.g. GetUser
+     * @param userId    The user the call is for, may be null
+     * @param call      The call to run
+     * @param <T>       The result type of the call
+     * @return The result of the call
+     */
+    public static <T> T record(String operation, String userId, Supplier<T> call) {
+        ServiceSpanEvent span = new ServiceSpanEvent();
+        span.open(operation, userId);
+        String outcome = SUCCESS;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            span.close(outcome);
+        }
+    }
+
+    /**
+     * Runs a service call without a result inside a span.
+     *
+     * @param operation The name of the operation, e.g. RemoveCharacter
+     * @param userId    The user the call is for, may be null
+     * @param call      The call to run
+     */
+    public static void run(String operation, String userId, Runnable call) {
+        record(operation, userId, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
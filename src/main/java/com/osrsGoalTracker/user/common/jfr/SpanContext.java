@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+/**
+ * Per-thread state shared by the nested spans of one request: the user the request is for and
+ * the number of DynamoDB retries made on the thread so far. A service span sets the user so the
+ * DynamoDB calls below it carry the user's hash, and each span reports the retries made while
+ * it was open as the difference of the counter. The state is only touched by spans whose event
+ * is enabled, so it costs nothing while no recording is running.
+ */
+final class SpanContext {
+    private static final ThreadLocal<SpanContext> CURRENT = ThreadLocal.withInitial(SpanContext::new);
+
+    private String userId;
+    private int retryCount;
+
+    private SpanContext() {
+    }
+
+    /**
+     * Gets the user of the innermost open span on the current thread.
+     *
+     * @return The user ID, or null if no open span names a user
+     */
+    static String userId() {
+        return CURRENT.get().userId;
+    }
+
+    /**
+     * Replaces the user of the current thread.
+     *
+     * @param userId The user ID, may be null
+     * @return The user ID it replaced, to be restored when the span closes
+     */
+    static String swapUserId(String userId) {
+        SpanContext context = CURRENT.get();
+        String previous = context.userId;
+        context.userId = userId;
+        return previous;
+    }
+
+    /**
+     * Gets the number of DynamoDB retries made on the current thread so far.
+     *
+     * @return The retry counter
+     */
+    static int retryCount() {
+        return CURRENT.get().retryCount;
+    }
+
+    /**
+     * Adds the retries of a finished DynamoDB call to the current thread's counter.
+     *
+     * @param retries The number of retries of the call
+     */
+    static void addRetries(int retries) {
+        CURRENT.get().retryCount += retries;
+    }
+}
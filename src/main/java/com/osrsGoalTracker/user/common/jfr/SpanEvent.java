@@ -0,0 +1,136 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the JFR events that time a span of work of a request: a handler invocation, a
+ * service call or a DynamoDB call. The span's latency is the event's duration, and the thread
+ * and time range let a recording line it up with GC pauses and lock stalls.
+ * Nothing but the enabled check is done while the event is disabled, and the user ID is only
+ * hashed when the event is actually committed.
+ */
+@Category({"OSRS Goal Tracker", "User Service"})
+@StackTrace(false)
+public abstract class SpanEvent extends Event {
+    /**
+     * The outcome of a span that completed normally.
+     */
+    public static final String SUCCESS = "SUCCESS";
+
+    private static final int USER_ID_HASH_BYTES = 8;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User ID Hash")
+    @Description("The first 8 bytes of the SHA-256 hash of the user ID, in hex")
+    String userIdHash;
+
+    @Label("Retry Count")
+    @Description("The number of DynamoDB retries made on the thread while the span was open")
+    int retryCount;
+
+    @Label("Outcome")
+    @Description("SUCCESS, the HTTP status code or the simple name of the exception that ended the span")
+    String outcome;
+
+    private transient boolean open;
+    private transient int retriesAtOpen;
+    private transient String previousUserId;
+
+    /**
+     * Opens the span if the event is enabled, and makes the user the current thread's user
+     * until the span is closed.
+     *
+     * @param spanOperation The name of the operation
+     * @param userId        The user the operation is for, may be null
+     */
+    final void open(String spanOperation, String userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        open = true;
+        operation = spanOperation;
+        retriesAtOpen = SpanContext.retryCount();
+        previousUserId = SpanContext.swapUserId(userId);
+        begin();
+    }
+
+    /**
+     * Sets the user of an open span once it is known, e.g. after parsing the request.
+     *
+     * @param userId The user the operation is for
+     */
+    public final void userId(String userId) {
+        if (open) {
+            SpanContext.swapUserId(userId);
+        }
+    }
+
+    /**
+     * Closes the span, restores the previous user of the thread and commits the event if it is
+     * over its threshold. Does nothing if the span was never opened.
+     *
+     * @param spanOutcome The outcome of the span
+     */
+    final void close(String spanOutcome) {
+        if (!open) {
+            return;
+        }
+        open = false;
+        end();
+        String userId = SpanContext.swapUserId(previousUserId);
+        if (shouldCommit()) {
+            retryCount = SpanContext.retryCount() - retriesAtOpen;
+            userIdHash = hashUserId(userId);
+            outcome = spanOutcome;
+            commit();
+        }
+    }
+
+    /**
+     * Whether the span was opened and not closed yet.
+     *
+     * @return true if the span is open
+     */
+    final boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Gets the outcome to record for a span ended by an exception.
+     *
+     * @param e The exception
+     * @return The simple name of the exception's class
+     */
+    public static String outcomeOf(Throwable e) {
+        return e.getClass().getSimpleName();
+    }
+
+    /**
+     * Hashes a user ID so spans of the same user can be grouped without recording the ID.
+     *
+     * @param userId The user ID, may be null
+     * @return The hex of the first 8 bytes of the ID's SHA-256 hash, or null for a null ID
+     */
+    static String hashUserId(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(userId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, USER_ID_HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.user.common.metrics;
+
+/**
+ * Units supported for recorded metrics, named as CloudWatch expects them.
+ */
+public enum MetricUnit {
+    COUNT("Count"),
+    MILLISECONDS("Milliseconds"),
+    PERCENT("Percent"),
+    NONE("None");
+
+    private final String cloudWatchName;
+
+    MetricUnit(String cloudWatchName) {
+        this.cloudWatchName = cloudWatchName;
+    }
+
+    /**
+     * Gets the unit name as understood by CloudWatch.
+     *
+     * @return The CloudWatch unit name
+     */
+    public String getCloudWatchName() {
+        return cloudWatchName;
+    }
+}
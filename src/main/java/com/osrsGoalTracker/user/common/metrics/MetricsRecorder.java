@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.user.common.metrics;
+
+/**
+ * Records operational metrics emitted by any layer of the service.
+ */
+public interface MetricsRecorder {
+    /**
+     * Records a single metric value.
+     *
+     * @param name  The metric name
+     * @param value The metric value
+     * @param unit  The unit of the value
+     */
+    void record(String name, double value, MetricUnit unit);
+
+    /**
+     * Increments a counter metric by one.
+     *
+     * @param name The metric name
+     */
+    default void increment(String name) {
+        record(name, 1, MetricUnit.COUNT);
+    }
+}
@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.user.common.metrics.impl;
+
+import java.io.PrintStream;
+import java.time.Clock;
+
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+
+/**
+ * Metrics recorder that writes CloudWatch Embedded Metric Format (EMF) lines to stdout.
+ * Lambda forwards stdout to CloudWatch Logs, which extracts the metrics asynchronously,
+ * so recording a metric never makes a network call on the request path.
+ */
+public class EmbeddedMetricsRecorder implements MetricsRecorder {
+    private static final String DEFAULT_NAMESPACE = "UserService";
+    private static final String NAMESPACE = System.getenv("METRICS_NAMESPACE");
+
+    private final String namespace;
+    private final PrintStream out;
+    private final Clock clock;
+
+    /**
+     * Creates a recorder that writes to stdout in the configured namespace.
+     */
+    public EmbeddedMetricsRecorder() {
+        this(NAMESPACE == null || NAMESPACE.trim().isEmpty() ? DEFAULT_NAMESPACE : NAMESPACE.trim(),
+                System.out, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a recorder with an explicit namespace, output stream and clock.
+     *
+     * @param namespace The CloudWatch namespace for all metrics
+     * @param out       The stream EMF lines are written to
+     * @param clock     The clock used for metric timestamps
+     */
+    EmbeddedMetricsRecorder(String namespace, PrintStream out, Clock clock) {
+        this.namespace = namespace;
+        this.out = out;
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(String name, double value, MetricUnit unit) {
+        out.println(String.format(
+                "{\"_aws\":{\"Timestamp\":%d,\"CloudWatchMetrics\":[{\"Namespace\":\"%s\",\"Dimensions\":[[]],"
+                        + "\"Metrics\":[{\"Name\":\"%s\",\"Unit\":\"%s\"}]}]},\"%s\":%s}",
+                clock.millis(), namespace, name, unit.getCloudWatchName(), name, value));
+    }
+}
@@ -0,0 +1,127 @@
+package com.osrsGoalTracker.user.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter whose rate adapts with additive-increase/multiplicative-decrease (AIMD).
+ * Every successful call raises the rate by a fixed step up to the maximum. Every throttled call
+ * halves it down to the minimum and drains the bucket, so a container that is being throttled
+ * backs off immediately instead of letting retries pile up.
+ */
+public class AdaptiveRateLimiter {
+    private static final double ADDITIVE_INCREASE = 1.0;
+    private static final double MULTIPLICATIVE_DECREASE = 0.5;
+
+    private final double minRate;
+    private final double maxRate;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a limiter that starts at the maximum rate.
+     *
+     * @param minRate The lowest rate the limiter backs off to, in permits per second
+     * @param maxRate The highest rate the limiter grows to, in permits per second
+     */
+    public AdaptiveRateLimiter(double minRate, double maxRate) {
+        this(minRate, maxRate, System::nanoTime);
+    }
+
+    /**
+     * Creates a limiter with an explicit clock.
+     *
+     * @param minRate   The lowest rate the limiter backs off to, in permits per second
+     * @param maxRate   The highest rate the limiter grows to, in permits per second
+     * @param nanoClock The monotonic clock, in nanoseconds
+     */
+    public AdaptiveRateLimiter(double minRate, double maxRate, LongSupplier nanoClock) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < minRate <= maxRate");
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.nanoClock = nanoClock;
+        this.rate = maxRate;
+        this.tokens = maxRate;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves a permit if one becomes available within the given wait.
+     *
+     * @param maxWaitMillis The longest time the caller is willing to wait
+     * @return The time to wait before using the permit, in milliseconds, or -1 if no permit
+     *         is available within maxWaitMillis (nothing is reserved in that case)
+     */
+    public synchronized long reserve(long maxWaitMillis) {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitMillis = (long) Math.ceil((1 - tokens) / rate * 1000);
+        if (waitMillis > maxWaitMillis) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitMillis;
+    }
+
+    /**
+     * Acquires a permit, waiting up to the given time for one to become available.
+     *
+     * @param maxWaitMillis The longest time to wait
+     * @return true if a permit was acquired
+     */
+    public boolean tryAcquire(long maxWaitMillis) {
+        long waitMillis = reserve(maxWaitMillis);
+        if (waitMillis < 0) {
+            return false;
+        }
+        if (waitMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a call that completed without being throttled.
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + ADDITIVE_INCREASE);
+    }
+
+    /**
+     * Records a call that was throttled by the downstream service.
+     */
+    public synchronized void onThrottle() {
+        refill();
+        rate = Math.max(minRate, rate * MULTIPLICATIVE_DECREASE);
+        tokens = Math.min(tokens, 0);
+    }
+
+    /**
+     * Gets the current rate.
+     *
+     * @return The current rate, in permits per second
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = now;
+        tokens = Math.min(rate, tokens + elapsedSeconds * rate);
+    }
+}
@@ -0,0 +1,159 @@
+package com.osrsGoalTracker.user.common.resilience;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * The breaker opens after a number of consecutive failures and rejects calls while open.
+ * Once the open duration has passed it lets a single trial call through (half-open): a success
+ * closes the breaker again, a failure re-opens it for another open duration.
+ */
+public class CircuitBreaker {
+    /**
+     * States of the breaker.
+     */
+    public enum State {
+        /**
+         * Calls are allowed.
+         */
+        CLOSED,
+
+        /**
+         * A single trial call is allowed to probe whether the dependency has recovered.
+         */
+        HALF_OPEN,
+
+        /**
+         * Calls are rejected.
+         */
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+    private final Consumer<State> transitionListener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    /**
+     * Creates a closed breaker.
+     *
+     * @param failureThreshold   The number of consecutive failures that opens the breaker
+     * @param openDuration       How long the breaker stays open before allowing a trial call
+     * @param transitionListener Called with the new state whenever the state changes
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Consumer<State> transitionListener) {
+        this(failureThreshold, openDuration, transitionListener, System::nanoTime);
+    }
+
+    /**
+     * Creates a closed breaker with an explicit clock.
+     *
+     * @param failureThreshold   The number of consecutive failures that opens the breaker
+     * @param openDuration       How long the breaker stays open before allowing a trial call
+     * @param transitionListener Called with the new state whenever the state changes
+     * @param nanoClock          The monotonic clock, in nanoseconds
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Consumer<State> transitionListener,
+            LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.transitionListener = transitionListener;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Checks whether a call may proceed. Every permitted call must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+     *
+     * @return true if the call may proceed
+     */
+    public boolean tryAcquire() {
+        State newState;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            newState = transitionTo(State.HALF_OPEN);
+        }
+        notifyTransition(newState);
+        return true;
+    }
+
+    /**
+     * Records a call that succeeded.
+     */
+    public void onSuccess() {
+        State newState;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            newState = transitionTo(State.CLOSED);
+        }
+        notifyTransition(newState);
+    }
+
+    /**
+     * Records a call that failed.
+     */
+    public void onFailure() {
+        State newState = null;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                trialInFlight = false;
+                openedAtNanos = nanoClock.getAsLong();
+                newState = transitionTo(State.OPEN);
+            }
+        }
+        notifyTransition(newState);
+    }
+
+    /**
+     * Records a call whose outcome says nothing about the dependency's health, such as a call
+     * shed before it was made. The state is unchanged, and a half-open breaker lets the next
+     * call through as its trial.
+     */
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Gets the current state.
+     *
+     * @return The current state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private State transitionTo(State target) {
+        if (state == target) {
+            return null;
+        }
+        state = target;
+        return target;
+    }
+
+    private void notifyTransition(State newState) {
+        if (newState != null) {
+            transitionListener.accept(newState);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.user.common.resilience;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Keeps the most recent latency samples of an operation in a ring buffer and reports
+ * percentiles over them.
+ */
+public class LatencyTracker {
+    private final long[] samples;
+    private final int minSamples;
+    private int next;
+    private int count;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param capacity   The number of most recent samples to keep
+     * @param minSamples The number of samples needed before percentiles are reported
+     */
+    public LatencyTracker(int capacity, int minSamples) {
+        if (capacity < 1 || minSamples < 1 || minSamples > capacity) {
+            throw new IllegalArgumentException("Sizes must satisfy 1 <= minSamples <= capacity");
+        }
+        this.samples = new long[capacity];
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Records a latency sample.
+     *
+     * @param latencyMillis The observed latency, in milliseconds
+     */
+    public synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * Gets a percentile of the recorded samples.
+     *
+     * @param percentile The percentile to compute, between 0 and 1 (e.g. 0.95)
+     * @return The latency at the percentile in milliseconds, or empty if too few samples were recorded
+     */
+    public OptionalLong percentile(double percentile) {
+        long[] snapshot;
+        synchronized (this) {
+            if (count < minSamples) {
+                return OptionalLong.empty();
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return OptionalLong.of(snapshot[Math.max(0, Math.min(index, snapshot.length - 1))]);
+    }
+}
@@ -0,0 +1,141 @@
+package com.osrsGoalTracker.user.common.resilience;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+
+/**
+ * Runs idempotent reads with hedging: when the first attempt has not completed after the
+ * tracked p95 latency, a second identical attempt is started and whichever finishes first wins.
+ * The losing attempt is cancelled. Until enough latencies have been observed, the maximum
+ * hedge delay is used. The current request deadline is carried over to both attempts.
+ */
+public class RequestHedger {
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    private final String metricPrefix;
+    private final MetricsRecorder metricsRecorder;
+    private final ExecutorService executor;
+    private final LatencyTracker latencyTracker;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Creates a hedger. Hedges are counted in the {@code <metricPrefix>.Hedges} metric and hedges
+     * that finished first in {@code <metricPrefix>.HedgeWins}.
+     *
+     * @param metricPrefix    The prefix of the hedging metrics
+     * @param metricsRecorder The recorder for hedging metrics
+     * @param executor        The executor that runs the attempts
+     * @param latencyTracker  The tracker of the operation's latencies
+     * @param minDelayMillis  The shortest delay before a hedge is sent
+     * @param maxDelayMillis  The longest delay before a hedge is sent
+     */
+    public RequestHedger(String metricPrefix, MetricsRecorder metricsRecorder, ExecutorService executor,
+            LatencyTracker latencyTracker, long minDelayMillis, long maxDelayMillis) {
+        this.metricPrefix = metricPrefix;
+        this.metricsRecorder = metricsRecorder;
+        this.executor = executor;
+        this.latencyTracker = latencyTracker;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Runs a call with hedging. The call must be safe to run twice.
+     *
+     * @param call The call to run
+     * @param <T>  The call's result type
+     * @return The result of the first attempt to succeed
+     * @throws RuntimeException The first attempt's error, if every attempt failed
+     */
+    public <T> T execute(Supplier<T> call) {
+        long startNanos = System.nanoTime();
+        OptionalLong remainingMillis = RequestDeadline.remainingMillis();
+        long deadlineMillis = remainingMillis.isPresent()
+                ? System.currentTimeMillis() + remainingMillis.getAsLong()
+                : 0L;
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        Future<T> primary = completionService.submit(() -> callWithDeadline(call, deadlineMillis));
+        Future<T> hedge = null;
+        try {
+            Future<T> first = completionService.poll(hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                metricsRecorder.increment(metricPrefix + ".Hedges");
+                hedge = completionService.submit(() -> callWithDeadline(call, deadlineMillis));
+                first = completionService.take();
+            }
+
+            int outstanding = hedge == null ? 0 : 1;
+            Future<T> completed = first;
+            RuntimeException firstError = null;
+            while (true) {
+                try {
+                    T result = completed.get();
+                    latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    if (completed == hedge) {
+                        metricsRecorder.increment(metricPrefix + ".HedgeWins");
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (firstError == null) {
+                        firstError = unwrap(e);
+                    }
+                    if (outstanding == 0) {
+                        throw firstError;
+                    }
+                    outstanding--;
+                    completed = completionService.take();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a hedged call", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private long hedgeDelayMillis() {
+        OptionalLong p95 = latencyTracker.percentile(HEDGE_PERCENTILE);
+        if (p95.isEmpty()) {
+            return maxDelayMillis;
+        }
+        return Math.max(minDelayMillis, Math.min(maxDelayMillis, p95.getAsLong()));
+    }
+
+    private static <T> T callWithDeadline(Supplier<T> call, long deadlineMillis) {
+        if (deadlineMillis > 0) {
+            // A deadline that has already passed must stay set so the call is still shed.
+            RequestDeadline.start(Math.max(1L, deadlineMillis - System.currentTimeMillis()));
+        }
+        try {
+            return call.get();
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Hedged call failed", cause);
+    }
+}
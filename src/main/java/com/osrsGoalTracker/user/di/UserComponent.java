@@ -0,0 +1,337 @@
+package com.osrsGoalTracker.user.di;
+
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.metrics.impl.EmbeddedMetricsRecorder;
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.external.impl.EventBridgeEventPublisher;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
+import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.impl.CharacterRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.DynamoDbCallGuard;
+import com.osrsGoalTracker.user.repository.impl.EmailFilter;
+import com.osrsGoalTracker.user.repository.impl.GoalProgressRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.IdempotencyRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.InMemoryCharacterRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryIdempotencyRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryJobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryNotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryUserRepository;
+import com.osrsGoalTracker.user.repository.impl.JobCheckpointRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.NotificationChannelRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.OutboxRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.UserRepositoryImpl;
+import com.osrsGoalTracker.user.service.OutboxService;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
+import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.impl.OutboxServiceImpl;
+import com.osrsGoalTracker.user.service.impl.TieredUserRepository;
+import com.osrsGoalTracker.user.service.impl.UserCacheSyncServiceImpl;
+import com.osrsGoalTracker.user.service.impl.UserServiceImpl;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+
+/**
+ * Hand-written factory for the object graph bound by {@link UserModule}.
+ * Lambda handlers use it instead of Guice so that cold starts skip module analysis, reflection
+ * and bytecode generation. Each accessor mirrors one binding in the module: singleton bindings
+ * are created once per component on first use, unscoped bindings are created on every call, and
+ * clients are built by the module's own provider methods. UserComponentTest checks that every
+ * binding in the module has a matching accessor here.
+ */
+public final class UserComponent {
+    private final UserModule module;
+
+    private DynamoDbClient dynamoDbClient;
+    private EventBridgeClient eventBridgeClient;
+    private UserCache userCache;
+    private UserIdGenerator userIdGenerator;
+    private MetricsRecorder metricsRecorder;
+    private DynamoDbCallGuard dynamoDbCallGuard;
+    private EmailFilter emailFilter;
+    private UserRepository userRepositoryDelegate;
+    private UserRepository userRepository;
+    private IdempotencyRepository idempotencyRepository;
+    private InMemoryCharacterRepository inMemoryCharacterRepository;
+    private InMemoryNotificationChannelRepository inMemoryChannelRepository;
+    private InMemoryGoalProgressRepository inMemoryProgressRepository;
+    private JobCheckpointRepository inMemoryCheckpointRepository;
+    private EventPublisher eventPublisher;
+
+    /**
+     * Creates a component for the given module's storage backend and providers.
+     *
+     * @param module The module whose bindings this component mirrors
+     */
+    UserComponent(UserModule module) {
+        this.module = module;
+    }
+
+    /**
+     * Creates a component for the storage backend configured by USER_STORAGE_BACKEND.
+     *
+     * @return A new component
+     */
+    public static UserComponent create() {
+        return new UserComponent(new UserModule());
+    }
+
+    /**
+     * Gets the DynamoDB client (singleton).
+     *
+     * @return The DynamoDB client
+     */
+    public synchronized DynamoDbClient dynamoDbClient() {
+        if (dynamoDbClient == null) {
+            dynamoDbClient = module.provideDynamoDbClient();
+        }
+        return dynamoDbClient;
+    }
+
+    /**
+     * Gets the EventBridge client (singleton).
+     *
+     * @return The EventBridge client
+     */
+    public synchronized EventBridgeClient eventBridgeClient() {
+        if (eventBridgeClient == null) {
+            eventBridgeClient = module.provideEventBridgeClient();
+        }
+        return eventBridgeClient;
+    }
+
+    /**
+     * Gets the shared user cache (singleton).
+     *
+     * @return The shared user cache
+     */
+    public synchronized UserCache userCache() {
+        if (userCache == null) {
+            userCache = module.provideUserCache();
+        }
+        return userCache;
+    }
+
+    /**
+     * Gets the user ID generator (singleton).
+     *
+     * @return The user ID generator
+     */
+    public synchronized UserIdGenerator userIdGenerator() {
+        if (userIdGenerator == null) {
+            userIdGenerator = module.provideUserIdGenerator();
+        }
+        return userIdGenerator;
+    }
+
+    /**
+     * Gets the metrics recorder (singleton).
+     *
+     * @return The metrics recorder
+     */
+    public synchronized MetricsRecorder metricsRecorder() {
+        if (metricsRecorder == null) {
+            metricsRecorder = new EmbeddedMetricsRecorder();
+        }
+        return metricsRecorder;
+    }
+
+    /**
+     * Gets the DynamoDB call guard (singleton).
+     *
+     * @return The DynamoDB call guard
+     */
+    public synchronized DynamoDbCallGuard dynamoDbCallGuard() {
+        if (dynamoDbCallGuard == null) {
+            dynamoDbCallGuard = new DynamoDbCallGuard(metricsRecorder());
+        }
+        return dynamoDbCallGuard;
+    }
+
+    /**
+     * Gets the email-existence filter (singleton).
+     *
+     * @return The email filter
+     */
+    public synchronized EmailFilter emailFilter() {
+        if (emailFilter == null) {
+            emailFilter = new EmailFilter(metricsRecorder());
+        }
+        return emailFilter;
+    }
+
+    /**
+     * Gets the repository that reads and writes the configured storage backend, behind the
+     * caches. Bound unscoped for DynamoDB, but it is only ever injected into the singleton
+     * {@link TieredUserRepository}, so one instance is kept.
+     *
+     * @return The storage-backed user repository
+     */
+    public synchronized UserRepository userRepositoryDelegate() {
+        if (userRepositoryDelegate == null) {
+            userRepositoryDelegate = module.getStorageBackend() == UserStorageBackend.MEMORY
+                    ? new InMemoryUserRepository(userIdGenerator(), idempotencyRepository(),
+                            inMemoryCharacterRepository(), inMemoryChannelRepository(),
+                            inMemoryProgressRepository())
+                    : new UserRepositoryImpl(dynamoDbClient(), metricsRecorder(), dynamoDbCallGuard(),
+                            emailFilter(), userIdGenerator());
+        }
+        return userRepositoryDelegate;
+    }
+
+    /**
+     * Gets the cached user repository (singleton).
+     *
+     * @return The user repository
+     */
+    public synchronized UserRepository userRepository() {
+        if (userRepository == null) {
+            userRepository = new TieredUserRepository(userRepositoryDelegate(), userCache(), metricsRecorder());
+        }
+        return userRepository;
+    }
+
+    /**
+     * Gets the idempotency repository (singleton).
+     *
+     * @return The idempotency repository
+     */
+    public synchronized IdempotencyRepository idempotencyRepository() {
+        if (idempotencyRepository == null) {
+            idempotencyRepository = module.getStorageBackend() == UserStorageBackend.MEMORY
+                    ? new InMemoryIdempotencyRepository()
+                    : new IdempotencyRepositoryImpl(dynamoDbClient(), dynamoDbCallGuard());
+        }
+        return idempotencyRepository;
+    }
+
+    /**
+     * Gets the character repository. The in-memory repository is a singleton, shared with the
+     * in-memory user repository that purges from it; the DynamoDB repository is unscoped.
+     *
+     * @return The character repository
+     */
+    public CharacterRepository characterRepository() {
+        return module.getStorageBackend() == UserStorageBackend.MEMORY
+                ? inMemoryCharacterRepository()
+                : new CharacterRepositoryImpl(dynamoDbClient(), dynamoDbCallGuard());
+    }
+
+    private synchronized InMemoryCharacterRepository inMemoryCharacterRepository() {
+        if (inMemoryCharacterRepository == null) {
+            inMemoryCharacterRepository = new InMemoryCharacterRepository();
+        }
+        return inMemoryCharacterRepository;
+    }
+
+    /**
+     * Gets the notification channel repository. The in-memory repository is a singleton, shared
+     * with the in-memory user repository that purges from it; the DynamoDB repository is unscoped.
+     *
+     * @return The notification channel repository
+     */
+    public NotificationChannelRepository notificationChannelRepository() {
+        return module.getStorageBackend() == UserStorageBackend.MEMORY
+                ? inMemoryChannelRepository()
+                : new NotificationChannelRepositoryImpl(dynamoDbClient(), dynamoDbCallGuard());
+    }
+
+    private synchronized InMemoryNotificationChannelRepository inMemoryChannelRepository() {
+        if (inMemoryChannelRepository == null) {
+            inMemoryChannelRepository = new InMemoryNotificationChannelRepository();
+        }
+        return inMemoryChannelRepository;
+    }
+
+    /**
+     * Gets the goal progress repository. The in-memory repository is a singleton, shared with
+     * the in-memory user repository that purges from it; the DynamoDB repository is unscoped.
+     *
+     * @return The goal progress repository
+     */
+    public GoalProgressRepository goalProgressRepository() {
+        return module.getStorageBackend() == UserStorageBackend.MEMORY
+                ? inMemoryProgressRepository()
+                : new GoalProgressRepositoryImpl(dynamoDbClient(), dynamoDbCallGuard());
+    }
+
+    private synchronized InMemoryGoalProgressRepository inMemoryProgressRepository() {
+        if (inMemoryProgressRepository == null) {
+            inMemoryProgressRepository = new InMemoryGoalProgressRepository();
+        }
+        return inMemoryProgressRepository;
+    }
+
+    /**
+     * Gets the job checkpoint repository. The in-memory repository is a singleton; the DynamoDB
+     * repository is unscoped.
+     *
+     * @return The job checkpoint repository
+     */
+    public synchronized JobCheckpointRepository jobCheckpointRepository() {
+        if (module.getStorageBackend() != UserStorageBackend.MEMORY) {
+            return new JobCheckpointRepositoryImpl(dynamoDbClient(), dynamoDbCallGuard());
+        }
+        if (inMemoryCheckpointRepository == null) {
+            inMemoryCheckpointRepository = new InMemoryJobCheckpointRepository();
+        }
+        return inMemoryCheckpointRepository;
+    }
+
+    /**
+     * Gets the event publisher (singleton).
+     *
+     * @return The event publisher
+     */
+    public synchronized EventPublisher eventPublisher() {
+        if (eventPublisher == null) {
+            eventPublisher = new EventBridgeEventPublisher(eventBridgeClient());
+        }
+        return eventPublisher;
+    }
+
+    /**
+     * Creates an outbox repository.
+     *
+     * @return A new outbox repository
+     */
+    public OutboxRepository outboxRepository() {
+        return new OutboxRepositoryImpl(dynamoDbClient());
+    }
+
+    /**
+     * Creates a user service.
+     *
+     * @return A new user service
+     */
+    public UserService userService() {
+        return new UserServiceImpl(userRepository(), idempotencyRepository(), characterRepository(),
+                notificationChannelRepository(), goalProgressRepository(), jobCheckpointRepository());
+    }
+
+    /**
+     * Creates an outbox service.
+     *
+     * @return A new outbox service
+     */
+    public OutboxService outboxService() {
+        return new OutboxServiceImpl(eventPublisher(), outboxRepository());
+    }
+
+    /**
+     * Creates a user cache sync service.
+     *
+     * @return A new user cache sync service
+     */
+    public UserCacheSyncService userCacheSyncService() {
+        return new UserCacheSyncServiceImpl(userCache());
+    }
+}
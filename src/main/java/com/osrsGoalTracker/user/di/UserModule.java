@@ -1,32 +1,200 @@
 package com.osrsGoalTracker.user.di;
 
+import java.net.URI;
+
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.google.inject.name.Names;
+import com.osrsGoalTracker.user.common.id.UserIdFormat;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.metrics.impl.EmbeddedMetricsRecorder;
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.external.impl.EventBridgeEventPublisher;
+import com.osrsGoalTracker.user.external.impl.InMemoryUserCache;
+import com.osrsGoalTracker.user.external.impl.RedisUserCache;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.impl.CharacterRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.DynamoDbCallEventInterceptor;
+import com.osrsGoalTracker.user.repository.impl.DynamoDbCallGuard;
+import com.osrsGoalTracker.user.repository.impl.EmailFilter;
+import com.osrsGoalTracker.user.repository.impl.GoalProgressRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.IdempotencyRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.InMemoryCharacterRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryIdempotencyRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryJobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryNotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.impl.InMemoryUserRepository;
+import com.osrsGoalTracker.user.repository.impl.JobCheckpointRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.NotificationChannelRepositoryImpl;
+import com.osrsGoalTracker.user.repository.impl.OutboxRepositoryImpl;
 import com.osrsGoalTracker.user.repository.impl.UserRepositoryImpl;
+import com.osrsGoalTracker.user.service.OutboxService;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
 import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.impl.OutboxServiceImpl;
+import com.osrsGoalTracker.user.service.impl.TieredUserRepository;
+import com.osrsGoalTracker.user.service.impl.UserCacheSyncServiceImpl;
 import com.osrsGoalTracker.user.service.impl.UserServiceImpl;
 
+import redis.clients.jedis.JedisPooled;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 
 
 /**
  * Guice module for user-related bindings.
+ * The storage backend is selected by the USER_STORAGE_BACKEND environment variable.
+ * These bindings are the source of truth for the object graph: {@link UserComponent} wires the
+ * same graph without Guice for Lambda cold starts and must be kept in step with this module.
  */
 public class UserModule extends AbstractModule {
+    private static final int DEFAULT_DYNAMODB_MAX_RETRIES = 2;
+    private static final String DEFAULT_LOCAL_REGION = "us-east-1";
+
+    private final UserStorageBackend storageBackend;
+
+    /**
+     * Creates the module for the storage backend configured by USER_STORAGE_BACKEND.
+     */
+    public UserModule() {
+        this(UserStorageBackend.fromValue(System.getenv("USER_STORAGE_BACKEND")));
+    }
+
+    /**
+     * Creates the module for an explicit storage backend.
+     *
+     * @param storageBackend The storage backend to wire repositories against
+     */
+    public UserModule(UserStorageBackend storageBackend) {
+        this.storageBackend = storageBackend;
+    }
+
+    /**
+     * Gets the storage backend repositories are wired against.
+     *
+     * @return The storage backend
+     */
+    UserStorageBackend getStorageBackend() {
+        return storageBackend;
+    }
+
     @Override
     protected void configure() {
-        bind(UserRepository.class).to(UserRepositoryImpl.class);
+        if (storageBackend == UserStorageBackend.MEMORY) {
+            bind(UserRepository.class).annotatedWith(Names.named(TieredUserRepository.DELEGATE))
+                    .to(InMemoryUserRepository.class).in(Singleton.class);
+            bind(IdempotencyRepository.class).to(InMemoryIdempotencyRepository.class).in(Singleton.class);
+            bind(CharacterRepository.class).to(InMemoryCharacterRepository.class).in(Singleton.class);
+            bind(NotificationChannelRepository.class).to(InMemoryNotificationChannelRepository.class)
+                    .in(Singleton.class);
+            bind(GoalProgressRepository.class).to(InMemoryGoalProgressRepository.class).in(Singleton.class);
+            bind(JobCheckpointRepository.class).to(InMemoryJobCheckpointRepository.class).in(Singleton.class);
+        } else {
+            bind(UserRepository.class).annotatedWith(Names.named(TieredUserRepository.DELEGATE))
+                    .to(UserRepositoryImpl.class);
+            bind(IdempotencyRepository.class).to(IdempotencyRepositoryImpl.class).in(Singleton.class);
+            bind(CharacterRepository.class).to(CharacterRepositoryImpl.class);
+            bind(NotificationChannelRepository.class).to(NotificationChannelRepositoryImpl.class);
+            bind(GoalProgressRepository.class).to(GoalProgressRepositoryImpl.class);
+            bind(JobCheckpointRepository.class).to(JobCheckpointRepositoryImpl.class);
+        }
+        bind(UserRepository.class).to(TieredUserRepository.class).in(Singleton.class);
         bind(UserService.class).to(UserServiceImpl.class);
+        bind(MetricsRecorder.class).to(EmbeddedMetricsRecorder.class).in(Singleton.class);
+        bind(OutboxRepository.class).to(OutboxRepositoryImpl.class);
+        bind(OutboxService.class).to(OutboxServiceImpl.class);
+        bind(EventPublisher.class).to(EventBridgeEventPublisher.class).in(Singleton.class);
+        bind(UserCacheSyncService.class).to(UserCacheSyncServiceImpl.class);
+        bind(DynamoDbCallGuard.class).in(Singleton.class);
+        bind(EmailFilter.class).in(Singleton.class);
     }
 
+    /**
+     * Provides the DynamoDB client. SDK retries are capped by DYNAMODB_MAX_RETRIES (default 2)
+     * so throttled calls fail back to the load-shedding guard instead of piling up retries
+     * inside one invocation. Setting DYNAMODB_ENDPOINT (e.g. http://localhost:8000) points the
+     * client at DynamoDB Local. The URL connection HTTP client is used because it starts faster
+     * than the Apache client and is the only one packaged. Every call emits a JFR
+     * {@link DynamoDbCallEventInterceptor DynamoDB call event} while a recording enables it.
+     *
+     * @return The DynamoDB client
+     */
     @Provides
     @Singleton
     DynamoDbClient provideDynamoDbClient() {
-        return DynamoDbClient.builder()
+        String maxRetries = System.getenv("DYNAMODB_MAX_RETRIES");
+        String endpoint = System.getenv("DYNAMODB_ENDPOINT");
+        DynamoDbClientBuilder builder = DynamoDbClient.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder());
+        if (endpoint != null && !endpoint.trim().isEmpty()) {
+            String region = System.getenv("AWS_REGION");
+            builder.endpointOverride(URI.create(endpoint.trim()))
+                    .region(Region.of(region == null ? DEFAULT_LOCAL_REGION : region));
+        } else {
+            builder.region(Region.of(System.getenv("AWS_REGION")));
+        }
+        return builder
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.builder(RetryMode.STANDARD)
+                                .numRetries(maxRetries == null || maxRetries.trim().isEmpty()
+                                        ? DEFAULT_DYNAMODB_MAX_RETRIES
+                                        : Integer.parseInt(maxRetries.trim()))
+                                .build())
+                        .addExecutionInterceptor(new DynamoDbCallEventInterceptor())
+                        .build())
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    EventBridgeClient provideEventBridgeClient() {
+        return EventBridgeClient.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
                 .region(Region.of(System.getenv("AWS_REGION")))
                 .build();
     }
+
+    /**
+     * Provides the generator for new user IDs. USER_ID_FORMAT selects time-ordered UUIDv7 IDs
+     * (UUID_V7, the default) or random UUIDv4 IDs (UUID_V4).
+     *
+     * @return The user ID generator
+     */
+    @Provides
+    @Singleton
+    UserIdGenerator provideUserIdGenerator() {
+        return UserIdFormat.fromValue(System.getenv("USER_ID_FORMAT")).createGenerator();
+    }
+
+    /**
+     * Provides the shared user cache. Uses Redis when USER_CACHE_REDIS_URL is set
+     * (e.g. rediss://my-cache.example.com:6379) and an in-process stand-in otherwise.
+     *
+     * @return The shared user cache
+     */
+    @Provides
+    @Singleton
+    UserCache provideUserCache() {
+        String redisUrl = System.getenv("USER_CACHE_REDIS_URL");
+        if (redisUrl == null || redisUrl.trim().isEmpty()) {
+            return new InMemoryUserCache();
+        }
+        return new RedisUserCache(new JedisPooled(URI.create(redisUrl.trim())));
+    }
 }
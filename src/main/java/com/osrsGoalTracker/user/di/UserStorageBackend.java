@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.user.di;
+
+/**
+ * Storage backends the user service can be wired against.
+ */
+public enum UserStorageBackend {
+    /**
+     * The DynamoDB user table. Point DYNAMODB_ENDPOINT at DynamoDB Local to run against it locally.
+     */
+    DYNAMODB,
+
+    /**
+     * In-process repositories that keep users in memory, for local runs and benchmarks.
+     */
+    MEMORY;
+
+    /**
+     * Resolves a storage backend from its configured name.
+     * Falls back to {@link #DYNAMODB} when no value is configured.
+     *
+     * @param value The configured backend name (case-insensitive), may be null
+     * @return The matching storage backend
+     * @throws IllegalArgumentException if the value does not match a known backend
+     */
+    public static UserStorageBackend fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DYNAMODB;
+        }
+        for (UserStorageBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(value.trim())) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("Unknown storage backend: " + value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.user.external;
+
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+/**
+ * Interface for publishing domain events to the event bus.
+ */
+public interface EventPublisher {
+    /**
+     * The maximum number of events accepted by a single {@link #publish(List)} call.
+     */
+    int MAX_BATCH_SIZE = 10;
+
+    /**
+     * Publishes a batch of events in a single call to the event bus.
+     *
+     * @param events The events to publish, at most {@link #MAX_BATCH_SIZE}
+     * @return The IDs of the events that could not be published; empty if all succeeded
+     * @throws IllegalArgumentException if more than {@link #MAX_BATCH_SIZE} events are given
+     */
+    List<String> publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.user.external;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.user.model.User;
+
+/**
+ * Interface for a user cache shared by all service containers.
+ * Implementations should treat their own failures as cache misses rather than errors,
+ * so that an unavailable cache degrades to reading from the table.
+ */
+public interface UserCache {
+    /**
+     * Gets a cached user.
+     *
+     * @param userId The unique identifier of the user
+     * @return The cached user, or empty if the user is not cached
+     */
+    Optional<User> get(String userId);
+
+    /**
+     * Gets several cached users in one round trip.
+     *
+     * @param userIds The unique identifiers of the users
+     * @return The cached users keyed by user ID; users that are not cached are absent
+     */
+    Map<String, User> multiGet(Collection<String> userIds);
+
+    /**
+     * Caches a user. A cached user with a higher version is never replaced by an older one.
+     *
+     * @param user The user to cache
+     * @param ttl  How long the user stays cached
+     */
+    void put(User user, Duration ttl);
+
+    /**
+     * Removes a user from the cache.
+     *
+     * @param userId The unique identifier of the user
+     */
+    void invalidate(String userId);
+
+    /**
+     * Removes a deleted user from the cache and leaves a short-lived tombstone in its place.
+     * While the tombstone lives, puts of the user at or below the deleted version are refused,
+     * so a read that started before the deletion cannot cache the user again.
+     *
+     * @param userId         The unique identifier of the user
+     * @param deletedVersion The version the user was deleted at, or {@link Long#MAX_VALUE} if it is
+     *                       not known
+     */
+    void remove(String userId, long deletedVersion);
+}
@@ -0,0 +1,102 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * EventBridge implementation of the EventPublisher interface.
+ * Each batch is sent with one PutEvents call to the bus named by the EVENT_BUS_NAME
+ * environment variable, or the account's default bus when it is not set.
+ */
+@Log4j2
+public class EventBridgeEventPublisher implements EventPublisher {
+    private static final String EVENT_SOURCE = "com.osrsGoalTracker.user";
+    private static final String DEFAULT_EVENT_BUS_NAME = "default";
+    private static final String EVENT_BUS_NAME = System.getenv("EVENT_BUS_NAME");
+
+    private final EventBridgeClient eventBridgeClient;
+    private final String eventBusName;
+
+    /**
+     * Constructor for EventBridgeEventPublisher.
+     *
+     * @param eventBridgeClient The AWS EventBridge client
+     */
+    @Inject
+    public EventBridgeEventPublisher(EventBridgeClient eventBridgeClient) {
+        this(eventBridgeClient, EVENT_BUS_NAME == null || EVENT_BUS_NAME.trim().isEmpty()
+                ? DEFAULT_EVENT_BUS_NAME
+                : EVENT_BUS_NAME.trim());
+    }
+
+    /**
+     * Constructor for EventBridgeEventPublisher with an explicit event bus.
+     *
+     * @param eventBridgeClient The AWS EventBridge client
+     * @param eventBusName      The name of the event bus to publish to
+     */
+    EventBridgeEventPublisher(EventBridgeClient eventBridgeClient, String eventBusName) {
+        this.eventBridgeClient = eventBridgeClient;
+        this.eventBusName = eventBusName;
+    }
+
+    @Override
+    public List<String> publish(List<OutboxEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot publish more than " + MAX_BATCH_SIZE + " events per batch");
+        }
+
+        List<PutEventsRequestEntry> entries = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            entries.add(PutEventsRequestEntry.builder()
+                    .eventBusName(eventBusName)
+                    .source(EVENT_SOURCE)
+                    .detailType(event.getEventType())
+                    .detail(event.getDetail())
+                    .time(event.getOccurredAt())
+                    .build());
+        }
+
+        PutEventsResponse response;
+        try {
+            response = eventBridgeClient.putEvents(PutEventsRequest.builder().entries(entries).build());
+        } catch (SdkException e) {
+            log.error("Failed to publish batch of {} events", events.size(), e);
+            return events.stream().map(OutboxEvent::getEventId).toList();
+        }
+
+        if (response.failedEntryCount() == null || response.failedEntryCount() == 0) {
+            log.debug("Published batch of {} events", events.size());
+            return List.of();
+        }
+
+        // Result entries are returned in the same order as the request entries.
+        List<String> failedEventIds = new ArrayList<>();
+        List<PutEventsResultEntry> results = response.entries();
+        for (int i = 0; i < events.size(); i++) {
+            PutEventsResultEntry result = i < results.size() ? results.get(i) : null;
+            if (result == null || result.errorCode() != null) {
+                log.warn("Failed to publish event {}: {}", events.get(i).getEventId(),
+                        result == null ? "missing result" : result.errorMessage());
+                failedEventIds.add(events.get(i).getEventId());
+            }
+        }
+        return failedEventIds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+/**
+ * In-memory implementation of the EventPublisher interface for tests and local runs.
+ * Published events are kept in memory so they can be inspected.
+ */
+public class InMemoryEventPublisher implements EventPublisher {
+    private final List<OutboxEvent> publishedEvents = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public List<String> publish(List<OutboxEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot publish more than " + MAX_BATCH_SIZE + " events per batch");
+        }
+        publishedEvents.addAll(events);
+        batchSizes.add(events.size());
+        return List.of();
+    }
+
+    /**
+     * Gets all events published so far, in publish order.
+     *
+     * @return An immutable copy of the published events
+     */
+    public List<OutboxEvent> getPublishedEvents() {
+        return List.copyOf(publishedEvents);
+    }
+
+    /**
+     * Gets the size of each batch published so far, in publish order.
+     *
+     * @return An immutable copy of the batch sizes
+     */
+    public List<Integer> getBatchSizes() {
+        return List.copyOf(batchSizes);
+    }
+
+    /**
+     * Discards all recorded events and batches.
+     */
+    public void clear() {
+        publishedEvents.clear();
+        batchSizes.clear();
+    }
+}
@@ -0,0 +1,81 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.user.common.cache.LocalCache;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.model.User;
+
+/**
+ * In-memory implementation of the UserCache interface for tests and local runs.
+ * It stands in for the shared cache tier within a single process, including the tombstones left
+ * by deleted users.
+ */
+public class InMemoryUserCache implements UserCache {
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(5);
+
+    private final LocalCache<String, User> cache;
+    private final LocalCache<String, Long> tombstones;
+
+    /**
+     * Constructor for InMemoryUserCache.
+     */
+    public InMemoryUserCache() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for InMemoryUserCache with an explicit clock.
+     *
+     * @param clock The clock used to expire entries
+     */
+    InMemoryUserCache(Clock clock) {
+        this.cache = new LocalCache<>(MAX_SIZE, DEFAULT_TTL, clock);
+        this.tombstones = new LocalCache<>(MAX_SIZE, TOMBSTONE_TTL, clock);
+    }
+
+    @Override
+    public Optional<User> get(String userId) {
+        return cache.get(userId);
+    }
+
+    @Override
+    public Map<String, User> multiGet(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        for (String userId : userIds) {
+            cache.get(userId).ifPresent(user -> users.put(userId, user));
+        }
+        return users;
+    }
+
+    @Override
+    public synchronized void put(User user, Duration ttl) {
+        Optional<Long> deletedVersion = tombstones.get(user.getUserId());
+        if (deletedVersion.isPresent() && deletedVersion.get() >= user.getVersion()) {
+            return;
+        }
+        Optional<User> cached = cache.get(user.getUserId());
+        if (cached.isPresent() && cached.get().getVersion() > user.getVersion()) {
+            return;
+        }
+        cache.put(user.getUserId(), user, ttl);
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public synchronized void remove(String userId, long deletedVersion) {
+        cache.invalidate(userId);
+        tombstones.put(userId, deletedVersion);
+    }
+}
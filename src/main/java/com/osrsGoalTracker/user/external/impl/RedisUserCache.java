@@ -0,0 +1,150 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.model.User;
+
+import lombok.extern.log4j.Log4j2;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.SetParams;
+
+/**
+ * Redis implementation of the UserCache interface, compatible with ElastiCache for Redis and Valkey.
+ * Users are stored as JSON strings under user:userId keys. Writes go through a small script that
+ * compares versions on the server, so an older user never replaces a newer one. A deleted user is
+ * replaced by a tombstone that the script also refuses to overwrite, and that reads as a miss.
+ * Redis errors are logged and reported as cache misses.
+ */
+@Log4j2
+public class RedisUserCache implements UserCache {
+    private static final String KEY_PREFIX = "user:";
+    private static final String TOMBSTONE_PREFIX = "{\"deleted\":true,";
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Sets KEYS[1] to ARGV[1] with a TTL of ARGV[3] milliseconds unless the stored user has a
+     * version greater than ARGV[2], or the stored value is a tombstone at or above version ARGV[2].
+     */
+    private static final String PUT_IF_NOT_OLDER_SCRIPT = String.join("\n",
+            "local current = redis.call('GET', KEYS[1])",
+            "if current then",
+            "  local ok, decoded = pcall(cjson.decode, current)",
+            "  if ok and decoded.version then",
+            "    local stored = tonumber(decoded.version)",
+            "    local incoming = tonumber(ARGV[2])",
+            "    if stored > incoming or (decoded.deleted and stored >= incoming) then",
+            "      return 0",
+            "    end",
+            "  end",
+            "end",
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])",
+            "return 1");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final UnifiedJedis jedis;
+
+    /**
+     * Constructor for RedisUserCache.
+     *
+     * @param jedis The Redis client, typically a pooled client shared by the container
+     */
+    public RedisUserCache(UnifiedJedis jedis) {
+        this.jedis = jedis;
+    }
+
+    @Override
+    public Optional<User> get(String userId) {
+        try {
+            return Optional.ofNullable(deserialize(jedis.get(KEY_PREFIX + userId)));
+        } catch (JedisException e) {
+            log.warn("Failed to read user {} from Redis", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<String, User> multiGet(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return users;
+        }
+
+        List<String> orderedIds = new ArrayList<>(userIds);
+        String[] keys = orderedIds.stream().map(userId -> KEY_PREFIX + userId).toArray(String[]::new);
+        List<String> values;
+        try {
+            values = jedis.mget(keys);
+        } catch (JedisException e) {
+            log.warn("Failed to read {} users from Redis", keys.length, e);
+            return users;
+        }
+
+        for (int i = 0; i < orderedIds.size() && i < values.size(); i++) {
+            User user = deserialize(values.get(i));
+            if (user != null) {
+                users.put(orderedIds.get(i), user);
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public void put(User user, Duration ttl) {
+        try {
+            jedis.eval(PUT_IF_NOT_OLDER_SCRIPT, List.of(KEY_PREFIX + user.getUserId()), List.of(
+                    OBJECT_MAPPER.writeValueAsString(user),
+                    Long.toString(user.getVersion()),
+                    Long.toString(ttl.toMillis())));
+        } catch (JsonProcessingException | JedisException e) {
+            log.warn("Failed to write user {} to Redis", user.getUserId(), e);
+        }
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        try {
+            jedis.del(KEY_PREFIX + userId);
+        } catch (JedisException e) {
+            log.warn("Failed to invalidate user {} in Redis", userId, e);
+        }
+    }
+
+    @Override
+    public void remove(String userId, long deletedVersion) {
+        try {
+            jedis.set(KEY_PREFIX + userId, TOMBSTONE_PREFIX + "\"version\":" + deletedVersion + "}",
+                    SetParams.setParams().px(TOMBSTONE_TTL.toMillis()));
+        } catch (JedisException e) {
+            log.warn("Failed to remove user {} from Redis", userId, e);
+        }
+    }
+
+    private User deserialize(String value) {
+        if (value == null || value.startsWith(TOMBSTONE_PREFIX)) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(value, User.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable cached user", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.time.Duration;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.request.CompactProgressRequest;
+import com.osrsGoalTracker.user.handler.response.CompactProgressResponse;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for rolling old goal progress up into weekly or monthly buckets.
+ * This handler is invoked directly (not through API Gateway) as a scheduled background job.
+ * A run stops starting new pages of users shortly before the invocation times out and the
+ * next run resumes from the saved checkpoint.
+ */
+@Log4j2
+public class CompactProgressHandler implements RequestHandler<CompactProgressRequest, CompactProgressResponse> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    private static final int DEFAULT_RETENTION_DAYS = 90;
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMinutes(10);
+    private static final Duration TIMEOUT_MARGIN = Duration.ofMinutes(2);
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public CompactProgressHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for the compaction
+     */
+    @Inject
+    CompactProgressHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public CompactProgressResponse handleRequest(CompactProgressRequest input, Context context) {
+        log.info("Received request to compact goal progress");
+        CompactProgressRequest request = input == null ? new CompactProgressRequest() : input;
+        ProgressCompaction compaction = userService.compactProgress(
+                request.getMaxConcurrency() == null ? DEFAULT_MAX_CONCURRENCY : request.getMaxConcurrency(),
+                request.getGranularity() == null ? RollupGranularity.WEEK
+                        : RollupGranularity.fromValue(request.getGranularity()),
+                request.getRetentionDays() == null ? DEFAULT_RETENTION_DAYS : request.getRetentionDays(),
+                timeBudget(context));
+        return createResponse(compaction);
+    }
+
+    private static Duration timeBudget(Context context) {
+        if (context == null) {
+            return DEFAULT_TIME_BUDGET;
+        }
+        Duration remaining = Duration.ofMillis(context.getRemainingTimeInMillis()).minus(TIMEOUT_MARGIN);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private CompactProgressResponse createResponse(ProgressCompaction compaction) {
+        log.info("Compacted progress of {} users, complete: {}", compaction.getUsersProcessed(),
+                compaction.isComplete());
+        return CompactProgressResponse.builder()
+                .usersProcessed(compaction.getUsersProcessed())
+                .pointsCompacted(compaction.getPointsCompacted())
+                .rollupsWritten(compaction.getRollupsWritten())
+                .complete(compaction.isComplete())
+                .build();
+    }
+}
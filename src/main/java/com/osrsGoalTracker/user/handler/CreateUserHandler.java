@@ -1,41 +1,57 @@
 package com.osrsGoalTracker.user.handler;
 
+import java.util.Map;
+
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.google.inject.Guice;
 import com.google.inject.Inject;
-import com.google.inject.Injector;
-import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.jfr.HandlerSpanEvent;
+import com.osrsGoalTracker.user.di.UserComponent;
 import com.osrsGoalTracker.user.handler.request.CreateUserRequest;
+import com.osrsGoalTracker.user.handler.util.HeaderUtil;
 import com.osrsGoalTracker.user.model.User;
 import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.exception.IdempotencyConflictException;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Lambda handler for creating a new user.
  * This handler processes API Gateway events to create new users.
+ * Requests carrying an Idempotency-Key header are executed at most once per key;
+ * replays receive the stored result of the first request.
+ * Requests shed by load shedding are answered with 429 (with Retry-After) when throttled
+ * and 503 when the invocation is about to run out of time.
+ * Each invocation is recorded as a JFR {@link HandlerSpanEvent} with the response status code.
  */
 @Log4j2
 public class CreateUserHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final String OPERATION = "CreateUser";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule());
     private static final int HTTP_OK = 200;
     private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_CONFLICT = 409;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
     private static final int HTTP_SERVER_ERROR = 500;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final UserService userService;
 
     /**
      * Default constructor for AWS Lambda.
-     * This constructor is required by AWS Lambda to instantiate the handler.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
      */
     public CreateUserHandler() {
-        Injector injector = Guice.createInjector(new UserModule());
-        this.userService = injector.getInstance(UserService.class);
+        this.userService = UserComponent.create().userService();
     }
 
     /**
@@ -51,16 +67,40 @@ public class CreateUserHandler implements RequestHandler<APIGatewayProxyRequestE
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        HandlerSpanEvent span = HandlerSpanEvent.start(OPERATION);
+        APIGatewayProxyResponseEvent response = null;
+        try {
+            response = handle(input, context, span);
+            return response;
+        } finally {
+            span.finish(response == null ? HTTP_SERVER_ERROR : response.getStatusCode());
+        }
+    }
+
+    private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent input, Context context,
+            HandlerSpanEvent span) {
         log.info("Received request to create user");
+        RequestDeadline.start(context == null ? 0 : context.getRemainingTimeInMillis());
         try {
             CreateUserRequest request = parseAndValidateInput(input);
-            User user = executeRequest(request);
+            User user = executeRequest(request, HeaderUtil.getHeader(input.getHeaders(), IDEMPOTENCY_KEY_HEADER));
+            span.userId(user.getUserId());
             return createSuccessResponse(user);
         } catch (IllegalArgumentException e) {
             return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (IdempotencyConflictException e) {
+            return createErrorResponse(HTTP_CONFLICT, e.getMessage());
+        } catch (RateLimitedException e) {
+            return createErrorResponse(HTTP_TOO_MANY_REQUESTS, e.getMessage())
+                    .withHeaders(Map.of(HeaderUtil.RETRY_AFTER_HEADER,
+                            HeaderUtil.formatRetryAfter(e.getRetryAfterMillis())));
+        } catch (ServiceUnavailableException e) {
+            return createErrorResponse(HTTP_SERVICE_UNAVAILABLE, e.getMessage());
         } catch (Exception e) {
             log.error("Error processing request", e);
             return createErrorResponse(HTTP_SERVER_ERROR, "Error processing request: " + e.getMessage());
+        } finally {
+            RequestDeadline.clear();
         }
     }
 
@@ -82,9 +122,12 @@ public class CreateUserHandler implements RequestHandler<APIGatewayProxyRequestE
         return request;
     }
 
-    private User executeRequest(CreateUserRequest request) {
+    private User executeRequest(CreateUserRequest request, String idempotencyKey) {
         log.info("Creating user with email: {}", request.getEmail());
-        return userService.createUser(request.getEmail().trim());
+        if (idempotencyKey == null) {
+            return userService.createUser(request.getEmail().trim());
+        }
+        return userService.createUser(request.getEmail().trim(), idempotencyKey.trim());
     }
 
     private APIGatewayProxyResponseEvent createSuccessResponse(User user) throws Exception {
@@ -0,0 +1,140 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.response.GetGoalProgressResponse;
+import com.osrsGoalTracker.user.handler.util.HeaderUtil;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+/**
+ * Lambda handler for reading a goal's progress as a chart-ready series. This handler processes
+ * API Gateway events for GET /users/{userId}/characters/{characterName}/goals/{goalId}/progress.
+ * Query parameters:
+ * <ul>
+ *     <li>from: the start of the range as an ISO-8601 instant (default one year before to)</li>
+ *     <li>to: the end of the range as an ISO-8601 instant (default now)</li>
+ *     <li>resolution: raw, hour, day, week or month (default day)</li>
+ * </ul>
+ * The series is returned as two columns, timestamps and values, instead of an object per point.
+ */
+@Log4j2
+public class GetGoalProgressHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String FROM_PARAMETER = "from";
+    private static final String TO_PARAMETER = "to";
+    private static final String RESOLUTION_PARAMETER = "resolution";
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(365);
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public GetGoalProgressHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for reading progress
+     */
+    @Inject
+    GetGoalProgressHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        log.info("Received request to get goal progress");
+        RequestDeadline.start(context == null ? 0 : context.getRemainingTimeInMillis());
+        try {
+            if (input == null || input.getPathParameters() == null) {
+                throw new IllegalArgumentException("Path parameters cannot be null");
+            }
+            Map<String, String> pathParameters = input.getPathParameters();
+            Map<String, String> queryParameters = input.getQueryStringParameters() == null
+                    ? Map.of()
+                    : input.getQueryStringParameters();
+            Instant to = parseInstant(queryParameters.get(TO_PARAMETER), Instant.now());
+            Instant from = parseInstant(queryParameters.get(FROM_PARAMETER), to.minus(DEFAULT_RANGE));
+            ProgressResolution resolution = queryParameters.get(RESOLUTION_PARAMETER) == null
+                    ? ProgressResolution.DAY
+                    : ProgressResolution.fromValue(queryParameters.get(RESOLUTION_PARAMETER));
+            ProgressSeries series = userService.getGoalProgress(pathParameters.get("userId"),
+                    pathParameters.get("characterName"), pathParameters.get("goalId"), from, to, resolution);
+            return createSuccessResponse(series);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (RateLimitedException e) {
+            return createErrorResponse(HTTP_TOO_MANY_REQUESTS, e.getMessage())
+                    .withHeaders(Map.of(HeaderUtil.RETRY_AFTER_HEADER,
+                            HeaderUtil.formatRetryAfter(e.getRetryAfterMillis())));
+        } catch (ServiceUnavailableException e) {
+            return createErrorResponse(HTTP_UNAVAILABLE, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing request", e);
+            return createErrorResponse(HTTP_INTERNAL_ERROR, "Error processing request: " + e.getMessage());
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static Instant parseInstant(String value, Instant defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Time must be an ISO-8601 instant: " + value);
+        }
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(ProgressSeries series) throws Exception {
+        log.info("Returning {} progress points", series.getTimestamps().length);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(OBJECT_MAPPER.writeValueAsString(GetGoalProgressResponse.builder()
+                        .characterName(series.getCharacterName())
+                        .goalId(series.getGoalId())
+                        .resolution(series.getResolution().name())
+                        .timestamps(series.getTimestamps())
+                        .values(series.getValues())
+                        .build()));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+}
@@ -1,5 +1,6 @@
 package com.osrsGoalTracker.user.handler;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import com.amazonaws.services.lambda.runtime.Context;
@@ -8,10 +9,15 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.google.inject.Guice;
 import com.google.inject.Inject;
-import com.google.inject.Injector;
-import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.jfr.HandlerSpanEvent;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.util.ConditionalRequestUtil;
+import com.osrsGoalTracker.user.handler.util.HeaderUtil;
+import com.osrsGoalTracker.user.model.ReadConsistency;
 import com.osrsGoalTracker.user.model.User;
 import com.osrsGoalTracker.user.service.UserService;
 
@@ -19,26 +25,36 @@ import lombok.extern.log4j.Log4j2;
 
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 
 /**
  * Lambda handler for retrieving user metadata.
  * This handler processes API Gateway events to retrieve user information.
+ * Responses carry ETag and Last-Modified validators derived from the user's updatedAt,
+ * and conditional requests for an unchanged user are answered with 304 Not Modified.
+ * Requests shed by load shedding are answered with 429 (with Retry-After) when throttled
+ * and 503 when the invocation is about to run out of time.
+ * Each invocation is recorded as a JFR {@link HandlerSpanEvent} with the response status code.
  */
 @Log4j2
 public class GetUserHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final String OPERATION = "GetUser";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule());
+    private static final String CONSISTENCY_PARAMETER = "consistency";
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
 
     private final UserService userService;
 
     /**
      * Default constructor for AWS Lambda.
-     * This constructor is required by AWS Lambda to instantiate the handler.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
      */
     public GetUserHandler() {
-        Injector injector = Guice.createInjector(new UserModule());
-        this.userService = injector.getInstance(UserService.class);
+        this.userService = UserComponent.create().userService();
     }
 
     /**
@@ -54,16 +70,38 @@ public class GetUserHandler implements RequestHandler<APIGatewayProxyRequestEven
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        HandlerSpanEvent span = HandlerSpanEvent.start(OPERATION);
+        APIGatewayProxyResponseEvent response = null;
+        try {
+            response = handle(input, context, span);
+            return response;
+        } finally {
+            span.finish(response == null ? HTTP_INTERNAL_ERROR : response.getStatusCode());
+        }
+    }
+
+    private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent input, Context context,
+            HandlerSpanEvent span) {
         log.info("Received request to get user");
+        RequestDeadline.start(context == null ? 0 : context.getRemainingTimeInMillis());
         try {
             String userId = parseAndValidateInput(input);
-            User user = getUser(userId);
-            return createSuccessResponse(user);
+            span.userId(userId);
+            User user = getUser(userId, parseReadConsistency(input));
+            return createSuccessResponse(user, input.getHeaders());
         } catch (IllegalArgumentException e) {
             return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (RateLimitedException e) {
+            return createErrorResponse(HTTP_TOO_MANY_REQUESTS, e.getMessage())
+                    .withHeaders(Map.of(HeaderUtil.RETRY_AFTER_HEADER,
+                            HeaderUtil.formatRetryAfter(e.getRetryAfterMillis())));
+        } catch (ServiceUnavailableException e) {
+            return createErrorResponse(HTTP_UNAVAILABLE, e.getMessage());
         } catch (Exception e) {
             log.error("Error processing request", e);
             return createErrorResponse(HTTP_INTERNAL_ERROR, "Error processing request: " + e.getMessage());
+        } finally {
+            RequestDeadline.clear();
         }
     }
 
@@ -85,14 +123,39 @@ public class GetUserHandler implements RequestHandler<APIGatewayProxyRequestEven
         return userId.trim();
     }
 
-    private User getUser(String userId) {
+    private ReadConsistency parseReadConsistency(APIGatewayProxyRequestEvent input) {
+        Map<String, String> queryParameters = input.getQueryStringParameters();
+        if (queryParameters == null || queryParameters.get(CONSISTENCY_PARAMETER) == null) {
+            return null;
+        }
+        return ReadConsistency.fromValue(queryParameters.get(CONSISTENCY_PARAMETER));
+    }
+
+    private User getUser(String userId, ReadConsistency readConsistency) {
         log.info("Getting user with ID: {}", userId);
-        return userService.getUser(userId);
+        if (readConsistency == null) {
+            return userService.getUser(userId);
+        }
+        return userService.getUser(userId, readConsistency);
     }
 
-    private APIGatewayProxyResponseEvent createSuccessResponse(User user) throws Exception {
+    private APIGatewayProxyResponseEvent createSuccessResponse(User user, Map<String, String> requestHeaders)
+            throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ConditionalRequestUtil.ETAG_HEADER, ConditionalRequestUtil.buildETag(user.getUpdatedAt()));
+        headers.put(ConditionalRequestUtil.LAST_MODIFIED_HEADER,
+                ConditionalRequestUtil.formatHttpDate(user.getUpdatedAt()));
+
+        if (ConditionalRequestUtil.isNotModified(requestHeaders, user.getUpdatedAt())) {
+            log.debug("User {} not modified, returning 304", user.getUserId());
+            return new APIGatewayProxyResponseEvent()
+                    .withStatusCode(HTTP_NOT_MODIFIED)
+                    .withHeaders(headers);
+        }
+
         return new APIGatewayProxyResponseEvent()
                 .withStatusCode(HTTP_OK)
+                .withHeaders(headers)
                 .withBody(OBJECT_MAPPER.writeValueAsString(user));
     }
 
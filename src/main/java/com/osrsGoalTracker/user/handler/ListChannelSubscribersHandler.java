@@ -0,0 +1,82 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.request.ListChannelSubscribersRequest;
+import com.osrsGoalTracker.user.handler.response.ListChannelSubscribersResponse;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.SubscriberPage;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for listing the users subscribed to a notification channel type.
+ * This handler is invoked directly (not through API Gateway) by the notifier's sweep, which
+ * reads every segment of the channel index in parallel and pages through each one.
+ */
+@Log4j2
+public class ListChannelSubscribersHandler
+        implements RequestHandler<ListChannelSubscribersRequest, ListChannelSubscribersResponse> {
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public ListChannelSubscribersHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for listing subscribers
+     */
+    @Inject
+    ListChannelSubscribersHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public ListChannelSubscribersResponse handleRequest(ListChannelSubscribersRequest input, Context context) {
+        if (input == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+        NotificationChannelType channelType = NotificationChannelType.fromValue(input.getChannelType());
+        int segment = input.getSegment() == null ? 0 : input.getSegment();
+        int pageSize = input.getLimit() == null ? DEFAULT_PAGE_SIZE : input.getLimit();
+        log.info("Received request to list {} subscribers in segment {}", channelType, segment);
+
+        SubscriberPage page = userService.listSubscribers(channelType, segment, pageSize, input.getCursor());
+        return createResponse(channelType, segment, page);
+    }
+
+    private ListChannelSubscribersResponse createResponse(NotificationChannelType channelType, int segment,
+            SubscriberPage page) {
+        List<ListChannelSubscribersResponse.Subscriber> subscribers = new ArrayList<>(page.getChannels().size());
+        for (NotificationChannel channel : page.getChannels()) {
+            subscribers.add(ListChannelSubscribersResponse.Subscriber.builder()
+                    .userId(channel.getUserId())
+                    .identifier(channel.getIdentifier())
+                    .build());
+        }
+        return ListChannelSubscribersResponse.builder()
+                .channelType(channelType.name())
+                .segment(segment)
+                .totalSegments(page.getTotalSegments())
+                .subscribers(subscribers)
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+}
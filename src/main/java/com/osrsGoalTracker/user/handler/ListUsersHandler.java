@@ -0,0 +1,162 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.response.ListUsersResponse;
+import com.osrsGoalTracker.user.handler.util.HeaderUtil;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+/**
+ * Lambda handler for listing users ordered by creation time, for admin tooling and
+ * reconciliation jobs. This handler processes API Gateway events for GET /users.
+ * Query parameters:
+ * <ul>
+ *     <li>limit: the page size, up to 100 (default USER_LIST_PAGE_SIZE, or 25)</li>
+ *     <li>cursor: the nextCursor of the previous page; omit it for the first page</li>
+ *     <li>fields: comma-separated fields to return, e.g. email,createdAt; userId is always returned</li>
+ * </ul>
+ */
+@Log4j2
+public class ListUsersHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+    private static final TypeReference<Map<String, Object>> USER_FIELDS_TYPE = new TypeReference<>() {
+    };
+    private static final String LIMIT_PARAMETER = "limit";
+    private static final String CURSOR_PARAMETER = "cursor";
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final String PAGE_SIZE = System.getenv("USER_LIST_PAGE_SIZE");
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public ListUsersHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for listing users
+     */
+    @Inject
+    ListUsersHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        log.info("Received request to list users");
+        RequestDeadline.start(context == null ? 0 : context.getRemainingTimeInMillis());
+        try {
+            Map<String, String> queryParameters = input == null || input.getQueryStringParameters() == null
+                    ? Map.of()
+                    : input.getQueryStringParameters();
+            Set<UserField> fields = parseFields(queryParameters.get(FIELDS_PARAMETER));
+            UserPage page = userService.listUsers(parsePageSize(queryParameters.get(LIMIT_PARAMETER)),
+                    queryParameters.get(CURSOR_PARAMETER), fields);
+            return createSuccessResponse(page, fields);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (RateLimitedException e) {
+            return createErrorResponse(HTTP_TOO_MANY_REQUESTS, e.getMessage())
+                    .withHeaders(Map.of(HeaderUtil.RETRY_AFTER_HEADER,
+                            HeaderUtil.formatRetryAfter(e.getRetryAfterMillis())));
+        } catch (ServiceUnavailableException e) {
+            return createErrorResponse(HTTP_UNAVAILABLE, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing request", e);
+            return createErrorResponse(HTTP_INTERNAL_ERROR, "Error processing request: " + e.getMessage());
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static int parsePageSize(String limit) {
+        String value = limit == null || limit.trim().isEmpty() ? PAGE_SIZE : limit;
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Limit must be a number: " + value);
+        }
+    }
+
+    private static Set<UserField> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return Set.of();
+        }
+        Set<UserField> parsed = EnumSet.noneOf(UserField.class);
+        for (String field : fields.split(",")) {
+            parsed.add(UserField.fromValue(field));
+        }
+        return parsed;
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(UserPage page, Set<UserField> fields)
+            throws Exception {
+        Set<String> fieldNames = new HashSet<>();
+        fieldNames.add(UserField.USER_ID.getFieldName());
+        fields.forEach(field -> fieldNames.add(field.getFieldName()));
+
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (User user : page.getUsers()) {
+            Map<String, Object> values = OBJECT_MAPPER.convertValue(user, USER_FIELDS_TYPE);
+            if (!fields.isEmpty()) {
+                values.keySet().retainAll(fieldNames);
+            }
+            users.add(values);
+        }
+        log.info("Listed {} users, more available: {}", users.size(), page.getNextCursor() != null);
+
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(OBJECT_MAPPER.writeValueAsString(ListUsersResponse.builder()
+                        .users(users)
+                        .nextCursor(page.getNextCursor())
+                        .build()));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+}
@@ -0,0 +1,68 @@
+package com.osrsGoalTracker.user.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.request.MigrateTimestampsRequest;
+import com.osrsGoalTracker.user.handler.response.MigrateTimestampsResponse;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for migrating stored user timestamps into the configured storage format.
+ * This handler is invoked directly (not through API Gateway) as a background job.
+ */
+@Log4j2
+public class MigrateTimestampsHandler implements RequestHandler<MigrateTimestampsRequest, MigrateTimestampsResponse> {
+    private static final int DEFAULT_TOTAL_SEGMENTS = 4;
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public MigrateTimestampsHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for the migration
+     */
+    @Inject
+    MigrateTimestampsHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public MigrateTimestampsResponse handleRequest(MigrateTimestampsRequest input, Context context) {
+        log.info("Received request to migrate user timestamps");
+        int totalSegments = parseAndValidateInput(input);
+        long migratedCount = userService.migrateTimestamps(totalSegments);
+        return createResponse(totalSegments, migratedCount);
+    }
+
+    private int parseAndValidateInput(MigrateTimestampsRequest input) {
+        if (input == null || input.getTotalSegments() == null) {
+            return DEFAULT_TOTAL_SEGMENTS;
+        }
+        if (input.getTotalSegments() < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+        return input.getTotalSegments();
+    }
+
+    private MigrateTimestampsResponse createResponse(int totalSegments, long migratedCount) {
+        log.info("Migrated timestamps for {} users using {} segments", migratedCount, totalSegments);
+        return MigrateTimestampsResponse.builder()
+                .totalSegments(totalSegments)
+                .migratedCount(migratedCount)
+                .build();
+    }
+}
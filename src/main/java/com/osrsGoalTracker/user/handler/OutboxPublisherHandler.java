@@ -0,0 +1,104 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.util.StreamImageUtil;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.service.OutboxService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler that publishes transactional outbox events from the user table's DynamoDB stream.
+ * Only newly inserted OUTBOX# items are published; all other stream records are ignored.
+ * Records whose events could not be published are reported as batch item failures so that
+ * Lambda retries them without blocking the user requests that produced them.
+ */
+@Log4j2
+public class OutboxPublisherHandler implements RequestHandler<DynamodbEvent, StreamsEventResponse> {
+    private static final String INSERT_EVENT = "INSERT";
+    private static final String OUTBOX_PREFIX = "OUTBOX#";
+
+    private final OutboxService outboxService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public OutboxPublisherHandler() {
+        this.outboxService = UserComponent.create().outboxService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param outboxService The OutboxService instance to publish events with
+     */
+    @Inject
+    OutboxPublisherHandler(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Override
+    public StreamsEventResponse handleRequest(DynamodbEvent input, Context context) {
+        Map<String, String> sequenceNumbersByEventId = new LinkedHashMap<>();
+        List<OutboxEvent> events = parseInput(input, sequenceNumbersByEventId);
+        log.info("Received {} outbox events to publish", events.size());
+
+        List<String> failedEventIds = outboxService.publishEvents(events);
+        return createResponse(failedEventIds, sequenceNumbersByEventId);
+    }
+
+    private List<OutboxEvent> parseInput(DynamodbEvent input, Map<String, String> sequenceNumbersByEventId) {
+        List<OutboxEvent> events = new ArrayList<>();
+        if (input == null || input.getRecords() == null) {
+            return events;
+        }
+        for (DynamodbStreamRecord record : input.getRecords()) {
+            if (!INSERT_EVENT.equalsIgnoreCase(record.getEventName()) || record.getDynamodb() == null) {
+                continue;
+            }
+            Map<String, AttributeValue> image = record.getDynamodb().getNewImage();
+            String pk = StreamImageUtil.getString(image, "pk");
+            if (pk == null || !pk.startsWith(OUTBOX_PREFIX)) {
+                continue;
+            }
+            OutboxEvent event = OutboxEvent.builder()
+                    .eventId(StreamImageUtil.getString(image, "eventId"))
+                    .eventType(StreamImageUtil.getString(image, "eventType"))
+                    .detail(StreamImageUtil.getString(image, "detail"))
+                    .occurredAt(StreamImageUtil.getInstant(image, "occurredAt"))
+                    .build();
+            events.add(event);
+            sequenceNumbersByEventId.put(event.getEventId(), record.getDynamodb().getSequenceNumber());
+        }
+        return events;
+    }
+
+    private StreamsEventResponse createResponse(List<String> failedEventIds,
+            Map<String, String> sequenceNumbersByEventId) {
+        List<StreamsEventResponse.BatchItemFailure> failures = new ArrayList<>();
+        for (String eventId : failedEventIds) {
+            failures.add(StreamsEventResponse.BatchItemFailure.builder()
+                    .withItemIdentifier(sequenceNumbersByEventId.get(eventId))
+                    .build());
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Failed to publish {} outbox events; reporting them for retry", failures.size());
+        }
+        return StreamsEventResponse.builder().withBatchItemFailures(failures).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.time.Duration;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.request.PurgeUserRequest;
+import com.osrsGoalTracker.user.handler.response.PurgeUserResponse;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for erasing a user and every item stored under the user, e.g. for a GDPR
+ * erasure request. This handler is invoked directly (not through API Gateway). A run stops
+ * starting new pages of deletes shortly before the invocation times out, and invoking it
+ * again for the same user resumes with the remaining items.
+ */
+@Log4j2
+public class PurgeUserHandler implements RequestHandler<PurgeUserRequest, PurgeUserResponse> {
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 16;
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMinutes(10);
+    private static final Duration TIMEOUT_MARGIN = Duration.ofSeconds(30);
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public PurgeUserHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for the purge
+     */
+    @Inject
+    PurgeUserHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public PurgeUserResponse handleRequest(PurgeUserRequest input, Context context) {
+        log.info("Received request to purge a user");
+        PurgeUserRequest request = input == null ? new PurgeUserRequest() : input;
+        UserPurge purge = userService.purgeUser(request.getUserId(),
+                request.getMaxInFlightBatches() == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES
+                        : request.getMaxInFlightBatches(),
+                timeBudget(context));
+        return createResponse(purge);
+    }
+
+    private static Duration timeBudget(Context context) {
+        if (context == null) {
+            return DEFAULT_TIME_BUDGET;
+        }
+        Duration remaining = Duration.ofMillis(context.getRemainingTimeInMillis()).minus(TIMEOUT_MARGIN);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private PurgeUserResponse createResponse(UserPurge purge) {
+        log.info("Deleted {} items of user {}, complete: {}", purge.getItemsDeleted(), purge.getUserId(),
+                purge.isComplete());
+        return PurgeUserResponse.builder()
+                .userId(purge.getUserId())
+                .itemsDeleted(purge.getItemsDeleted())
+                .complete(purge.isComplete())
+                .build();
+    }
+}
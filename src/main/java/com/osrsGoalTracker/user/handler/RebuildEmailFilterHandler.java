@@ -0,0 +1,69 @@
+package com.osrsGoalTracker.user.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.request.RebuildEmailFilterRequest;
+import com.osrsGoalTracker.user.handler.response.RebuildEmailFilterResponse;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for rebuilding the email-existence filter from a scan of all users.
+ * This handler is invoked directly (not through API Gateway) as a scheduled background job.
+ */
+@Log4j2
+public class RebuildEmailFilterHandler
+        implements RequestHandler<RebuildEmailFilterRequest, RebuildEmailFilterResponse> {
+    private static final int DEFAULT_TOTAL_SEGMENTS = 4;
+
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public RebuildEmailFilterHandler() {
+        this.userService = UserComponent.create().userService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for the rebuild
+     */
+    @Inject
+    RebuildEmailFilterHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public RebuildEmailFilterResponse handleRequest(RebuildEmailFilterRequest input, Context context) {
+        log.info("Received request to rebuild the email filter");
+        int totalSegments = parseAndValidateInput(input);
+        long emailCount = userService.rebuildEmailFilter(totalSegments);
+        return createResponse(totalSegments, emailCount);
+    }
+
+    private int parseAndValidateInput(RebuildEmailFilterRequest input) {
+        if (input == null || input.getTotalSegments() == null) {
+            return DEFAULT_TOTAL_SEGMENTS;
+        }
+        if (input.getTotalSegments() < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+        return input.getTotalSegments();
+    }
+
+    private RebuildEmailFilterResponse createResponse(int totalSegments, long emailCount) {
+        log.info("Rebuilt email filter with {} emails using {} segments", emailCount, totalSegments);
+        return RebuildEmailFilterResponse.builder()
+                .totalSegments(totalSegments)
+                .emailCount(emailCount)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.di.UserComponent;
+import com.osrsGoalTracker.user.handler.util.StreamImageUtil;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserChange;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler that keeps the shared user cache coherent with the user table's DynamoDB stream.
+ * Only USER#/METADATA records are processed. Inserts and modifications push the new user into the
+ * cache when the stream carries new images, and streams without new images invalidate it. Removals
+ * leave a tombstone at the version of the old image, or one that refuses every put when the stream
+ * does not carry old images.
+ * A failed batch is retried as a whole, which is safe because applying a change is idempotent.
+ */
+@Log4j2
+public class UserCacheSyncHandler implements RequestHandler<DynamodbEvent, Integer> {
+    private static final String REMOVE_EVENT = "REMOVE";
+    private static final String USER_PREFIX = "USER#";
+    private static final String METADATA_SORT_KEY = "METADATA";
+
+    private final UserCacheSyncService userCacheSyncService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler. Dependencies are
+     * wired by {@link UserComponent} rather than Guice to keep cold starts short.
+     */
+    public UserCacheSyncHandler() {
+        this.userCacheSyncService = UserComponent.create().userCacheSyncService();
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userCacheSyncService The UserCacheSyncService instance to apply changes with
+     */
+    @Inject
+    UserCacheSyncHandler(UserCacheSyncService userCacheSyncService) {
+        this.userCacheSyncService = userCacheSyncService;
+    }
+
+    @Override
+    public Integer handleRequest(DynamodbEvent input, Context context) {
+        List<UserChange> changes = parseInput(input);
+        log.info("Received {} user metadata changes", changes.size());
+        return userCacheSyncService.applyChanges(changes);
+    }
+
+    private List<UserChange> parseInput(DynamodbEvent input) {
+        List<UserChange> changes = new ArrayList<>();
+        if (input == null || input.getRecords() == null) {
+            return changes;
+        }
+        for (DynamodbStreamRecord record : input.getRecords()) {
+            if (record.getDynamodb() == null) {
+                continue;
+            }
+            Map<String, AttributeValue> keys = record.getDynamodb().getKeys();
+            String pk = StreamImageUtil.getString(keys, "pk");
+            if (pk == null || !pk.startsWith(USER_PREFIX)
+                    || !METADATA_SORT_KEY.equalsIgnoreCase(StreamImageUtil.getString(keys, "sk"))) {
+                continue;
+            }
+
+            String userId = pk.substring(USER_PREFIX.length());
+            Map<String, AttributeValue> newImage = record.getDynamodb().getNewImage();
+            boolean removed = REMOVE_EVENT.equalsIgnoreCase(record.getEventName());
+            Map<String, AttributeValue> oldImage = record.getDynamodb().getOldImage();
+            changes.add(UserChange.builder()
+                    .userId(userId)
+                    .user(removed || newImage == null ? null : toUser(userId, newImage))
+                    .deleted(removed)
+                    .deletedVersion(removed && oldImage != null
+                            ? StreamImageUtil.getLong(oldImage, "version", 0L)
+                            : Long.MAX_VALUE)
+                    .build());
+        }
+        return changes;
+    }
+
+    private User toUser(String userId, Map<String, AttributeValue> image) {
+        return User.builder()
+                .userId(userId)
+                .email(StreamImageUtil.getString(image, "email"))
+                .createdAt(StreamImageUtil.getInstant(image, "createdAt"))
+                .updatedAt(StreamImageUtil.getInstant(image, "updatedAt"))
+                .version(StreamImageUtil.getLong(image, "version", 0L))
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for rolling old goal progress up into coarser buckets.
+ */
+@Data
+@NoArgsConstructor
+public class CompactProgressRequest {
+    /**
+     * The maximum number of users compacted at once. Optional.
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * The size of the buckets, WEEK or MONTH. Optional.
+     */
+    private String granularity;
+
+    /**
+     * The number of days raw progress points are kept before they are rolled up. Optional.
+     */
+    private Integer retentionDays;
+}
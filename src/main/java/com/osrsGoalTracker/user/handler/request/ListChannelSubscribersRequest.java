@@ -0,0 +1,31 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for listing one page of the subscribers of a notification channel type.
+ */
+@Data
+@NoArgsConstructor
+public class ListChannelSubscribersRequest {
+    /**
+     * The channel type to list subscribers of, e.g. DISCORD.
+     */
+    private String channelType;
+
+    /**
+     * The segment of the channel index to read. Optional, defaults to 0.
+     */
+    private Integer segment;
+
+    /**
+     * The maximum number of subscribers to return. Optional.
+     */
+    private Integer limit;
+
+    /**
+     * The nextCursor of the previous page of the same segment. Optional.
+     */
+    private String cursor;
+}
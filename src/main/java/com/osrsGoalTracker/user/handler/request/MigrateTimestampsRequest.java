@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for migrating stored user timestamps.
+ */
+@Data
+@NoArgsConstructor
+public class MigrateTimestampsRequest {
+    /**
+     * The number of parallel scan segments to use. Optional.
+     */
+    private Integer totalSegments;
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for erasing a user and everything stored under the user.
+ */
+@Data
+@NoArgsConstructor
+public class PurgeUserRequest {
+    /**
+     * The unique identifier of the user to erase.
+     */
+    private String userId;
+
+    /**
+     * The maximum number of delete batches in flight at once. Optional.
+     */
+    private Integer maxInFlightBatches;
+}
@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for rebuilding the email-existence filter.
+ */
+@Data
+@NoArgsConstructor
+public class RebuildEmailFilterRequest {
+    /**
+     * The number of parallel scan segments to use. Optional.
+     */
+    private Integer totalSegments;
+}
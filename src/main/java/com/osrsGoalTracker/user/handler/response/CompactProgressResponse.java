@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response object describing the outcome of a progress compaction run.
+ */
+@Value
+@Builder
+public class CompactProgressResponse {
+    /**
+     * The number of users whose progress was compacted.
+     */
+    private final long usersProcessed;
+
+    /**
+     * The number of raw progress points that were rolled up and marked to expire.
+     */
+    private final long pointsCompacted;
+
+    /**
+     * The number of rollup items that were written.
+     */
+    private final long rollupsWritten;
+
+    /**
+     * Whether every user was processed. When false, invoking the job again resumes from
+     * its checkpoint.
+     */
+    private final boolean complete;
+}
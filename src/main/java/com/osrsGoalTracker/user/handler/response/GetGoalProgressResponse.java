@@ -0,0 +1,37 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response body of a goal's progress series, in columns: the value at index i was observed at
+ * the timestamp at index i.
+ */
+@Value
+@Builder
+public class GetGoalProgressResponse {
+    /**
+     * The in-game name of the character the goal belongs to.
+     */
+    private final String characterName;
+
+    /**
+     * The unique identifier of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The resolution the series was downsampled to.
+     */
+    private final String resolution;
+
+    /**
+     * The timestamps in epoch millis, ascending.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The progress values.
+     */
+    private final long[] values;
+}
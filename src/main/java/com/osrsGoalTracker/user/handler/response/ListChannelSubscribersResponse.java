@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response object holding one page of the subscribers of a notification channel type.
+ */
+@Value
+@Builder
+public class ListChannelSubscribersResponse {
+    /**
+     * The channel type the subscribers were listed for.
+     */
+    private final String channelType;
+
+    /**
+     * The segment of the channel index that was read.
+     */
+    private final int segment;
+
+    /**
+     * The number of segments of the channel index.
+     */
+    private final int totalSegments;
+
+    /**
+     * The subscribers on this page.
+     */
+    private final List<Subscriber> subscribers;
+
+    /**
+     * The cursor of the segment's next page, or null if this is the segment's last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * A user subscribed to the channel type and the address to notify them at.
+     */
+    @Value
+    @Builder
+    public static class Subscriber {
+        /**
+         * The unique identifier of the user.
+         */
+        private final String userId;
+
+        /**
+         * The address notifications are sent to.
+         */
+        private final String identifier;
+    }
+}
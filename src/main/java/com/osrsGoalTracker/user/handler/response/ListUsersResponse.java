@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response body of a page of the user listing.
+ */
+@Value
+@Builder
+public class ListUsersResponse {
+    /**
+     * The users on the page, oldest first, with only the requested fields.
+     */
+    private final List<Map<String, Object>> users;
+
+    /**
+     * The cursor to send to get the next page, or null if this is the last page.
+     */
+    private final String nextCursor;
+}
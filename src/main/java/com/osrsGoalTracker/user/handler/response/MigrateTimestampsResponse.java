@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response object describing the outcome of a timestamp migration run.
+ */
+@Value
+@Builder
+public class MigrateTimestampsResponse {
+    /**
+     * The number of parallel scan segments that were used.
+     */
+    private final int totalSegments;
+
+    /**
+     * The number of user items that were rewritten.
+     */
+    private final long migratedCount;
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response object describing the outcome of a user purge.
+ */
+@Value
+@Builder
+public class PurgeUserResponse {
+    /**
+     * The unique identifier of the purged user.
+     */
+    private final String userId;
+
+    /**
+     * The number of items deleted by this run.
+     */
+    private final long itemsDeleted;
+
+    /**
+     * Whether every item of the user was deleted. When false, invoking the handler again for
+     * the same user resumes with the remaining items.
+     */
+    private final boolean complete;
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.user.handler.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response object describing the outcome of an email filter rebuild.
+ */
+@Value
+@Builder
+public class RebuildEmailFilterResponse {
+    /**
+     * The number of parallel scan segments that were used.
+     */
+    private final int totalSegments;
+
+    /**
+     * The number of emails added to the filter.
+     */
+    private final long emailCount;
+}
@@ -0,0 +1,275 @@
+package com.osrsGoalTracker.user.handler.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.handler.CreateUserHandler;
+import com.osrsGoalTracker.user.handler.GetUserHandler;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Long-lived HTTP entry point for running the user service outside Lambda.
+ * Requests are translated into API Gateway proxy events and passed to the same handlers the
+ * Lambda functions use, so validation, error mapping and serialization are shared:
+ * <ul>
+ *     <li>GET /users/{userId} is served by {@link GetUserHandler}</li>
+ *     <li>POST /users is served by {@link CreateUserHandler}</li>
+ * </ul>
+ * Each exchange runs on its own virtual thread and connections are kept alive between requests.
+ * A bounded number of requests are processed at once; requests that cannot get a slot within
+ * a short wait are rejected with 503 so that overload turns into fast failures instead of queueing.
+ * Bodies are only read once a slot is held, and bodies larger than 16 KB are rejected with 413
+ * without being buffered.
+ */
+@Log4j2
+public class UserHttpServer {
+    private static final String USERS_PATH = "/users";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_MAX_CONCURRENCY = 256;
+    private static final long DEFAULT_QUEUE_TIMEOUT_MILLIS = 50L;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int HTTP_PAYLOAD_TOO_LARGE = 413;
+    private static final int HTTP_UNAVAILABLE = 503;
+    private static final int NO_RESPONSE_BODY = -1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long queueTimeoutMillis;
+    private final GetUserHandler getUserHandler;
+    private final CreateUserHandler createUserHandler;
+
+    /**
+     * Creates a server bound to the given port. The server does not accept requests until
+     * {@link #start()} is called.
+     *
+     * @param injector           The injector that provides the handlers
+     * @param port               The port to listen on, or 0 for any free port
+     * @param maxConcurrency     The maximum number of requests processed at once
+     * @param queueTimeoutMillis How long a request may wait for a processing slot before it is rejected
+     * @throws IOException If the server cannot bind to the port
+     */
+    public UserHttpServer(Injector injector, int port, int maxConcurrency, long queueTimeoutMillis)
+            throws IOException {
+        this.getUserHandler = injector.getInstance(GetUserHandler.class);
+        this.createUserHandler = injector.getInstance(CreateUserHandler.class);
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(USERS_PATH, this::handle);
+    }
+
+    /**
+     * Starts the server with settings from the SERVER_PORT, SERVER_MAX_CONCURRENCY and
+     * SERVER_QUEUE_TIMEOUT_MILLIS environment variables, wired by {@link UserModule}.
+     *
+     * @param args Unused
+     * @throws IOException If the server cannot bind to the port
+     */
+    public static void main(String[] args) throws IOException {
+        UserHttpServer userHttpServer = new UserHttpServer(Guice.createInjector(new UserModule()),
+                (int) parseLong(System.getenv("SERVER_PORT"), DEFAULT_PORT),
+                (int) parseLong(System.getenv("SERVER_MAX_CONCURRENCY"), DEFAULT_MAX_CONCURRENCY),
+                parseLong(System.getenv("SERVER_QUEUE_TIMEOUT_MILLIS"), DEFAULT_QUEUE_TIMEOUT_MILLIS));
+        Runtime.getRuntime().addShutdownHook(new Thread(userHttpServer::stop));
+        userHttpServer.start();
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        log.info("User HTTP server listening on port {}", getPort());
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for in-flight requests to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        log.info("User HTTP server stopped");
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!acquirePermit()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, new APIGatewayProxyResponseEvent()
+                        .withStatusCode(HTTP_UNAVAILABLE)
+                        .withBody("{\"message\":\"Server is at capacity, please retry later\"}"));
+                return;
+            }
+            try {
+                // Reading the whole body lets the connection be reused for the next request.
+                String body = isDeclaredTooLarge(exchange) ? null : readBody(exchange.getRequestBody());
+                if (body == null) {
+                    // The rest of the body is not read, so the connection cannot be reused.
+                    exchange.getResponseHeaders().set("Connection", "close");
+                    send(exchange, new APIGatewayProxyResponseEvent()
+                            .withStatusCode(HTTP_PAYLOAD_TOO_LARGE)
+                            .withBody("{\"message\":\"Request body is too large\"}"));
+                    return;
+                }
+                send(exchange, route(exchange, body));
+            } finally {
+                permits.release();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private APIGatewayProxyResponseEvent route(HttpExchange exchange, String body) {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if (path.equalsIgnoreCase(USERS_PATH) || path.equalsIgnoreCase(USERS_PATH + "/")) {
+            if (!"POST".equalsIgnoreCase(method)) {
+                return methodNotAllowed(exchange, "POST");
+            }
+            return createUserHandler.handleRequest(toRequestEvent(exchange, body, null), null);
+        }
+
+        String userId = path.startsWith(USERS_PATH + "/") ? path.substring(USERS_PATH.length() + 1) : "";
+        if (userId.isEmpty() || userId.contains("/")) {
+            return new APIGatewayProxyResponseEvent()
+                    .withStatusCode(HTTP_NOT_FOUND)
+                    .withBody("{\"message\":\"Not found\"}");
+        }
+        if (!"GET".equalsIgnoreCase(method)) {
+            return methodNotAllowed(exchange, "GET");
+        }
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", userId);
+        return getUserHandler.handleRequest(toRequestEvent(exchange, body, pathParameters), null);
+    }
+
+    private static APIGatewayProxyResponseEvent methodNotAllowed(HttpExchange exchange, String allowedMethod) {
+        exchange.getResponseHeaders().set("Allow", allowedMethod);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_BAD_METHOD)
+                .withBody("{\"message\":\"Method not allowed\"}");
+    }
+
+    private static APIGatewayProxyRequestEvent toRequestEvent(HttpExchange exchange, String body,
+            Map<String, String> pathParameters) {
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            headers.put(header.getKey(), String.join(",", header.getValue()));
+        }
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod(exchange.getRequestMethod())
+                .withPath(exchange.getRequestURI().getPath())
+                .withHeaders(headers)
+                .withPathParameters(pathParameters)
+                .withQueryStringParameters(parseQuery(exchange.getRequestURI().getRawQuery()))
+                .withBody(body.isEmpty() ? null : body);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static boolean isDeclaredTooLarge(HttpExchange exchange) {
+        String contentLength = exchange.getRequestHeaders().getFirst(CONTENT_LENGTH_HEADER);
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) > MAX_BODY_BYTES;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Reads the request body, or returns null if it is larger than {@link #MAX_BODY_BYTES}.
+     * At most one byte more than the limit is read, whatever the client sends.
+     */
+    private static String readBody(InputStream requestBody) throws IOException {
+        byte[] bytes = requestBody.readNBytes(MAX_BODY_BYTES + 1);
+        if (bytes.length > MAX_BODY_BYTES) {
+            return null;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, APIGatewayProxyResponseEvent response) throws IOException {
+        if (response.getHeaders() != null) {
+            response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        }
+        String body = response.getBody();
+        if (body == null || response.getStatusCode() == HTTP_NOT_MODIFIED) {
+            exchange.sendResponseHeaders(response.getStatusCode(), NO_RESPONSE_BODY);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(response.getStatusCode(), bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+}
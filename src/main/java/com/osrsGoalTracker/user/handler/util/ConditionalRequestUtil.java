@@ -0,0 +1,100 @@
+package com.osrsGoalTracker.user.handler.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Utility class for HTTP conditional requests (ETag / Last-Modified validators).
+ * Validators are derived from a resource's last modification time.
+ */
+public final class ConditionalRequestUtil {
+    public static final String ETAG_HEADER = "ETag";
+    public static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    public static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+    private static final DateTimeFormatter IMF_FIXDATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private ConditionalRequestUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Builds a strong entity tag from a last modification time.
+     *
+     * @param lastModified The time the resource was last modified
+     * @return The quoted entity tag
+     */
+    public static String buildETag(Instant lastModified) {
+        return "\"" + Long.toHexString(lastModified.toEpochMilli()) + "\"";
+    }
+
+    /**
+     * Formats a last modification time as an HTTP date in the IMF-fixdate form required by
+     * RFC 9110, with a zero-padded day (e.g. Mon, 05 Jan 2026 10:00:00 GMT).
+     *
+     * @param lastModified The time the resource was last modified
+     * @return The IMF-fixdate formatted date
+     */
+    public static String formatHttpDate(Instant lastModified) {
+        return IMF_FIXDATE.format(lastModified);
+    }
+
+    /**
+     * Determines whether the client's cached representation is still current.
+     * If-None-Match takes precedence over If-Modified-Since, as required by RFC 9110.
+     *
+     * @param headers      The request headers, may be null
+     * @param lastModified The time the resource was last modified
+     * @return true if a 304 Not Modified response should be returned
+     */
+    public static boolean isNotModified(Map<String, String> headers, Instant lastModified) {
+        String ifNoneMatch = HeaderUtil.getHeader(headers, IF_NONE_MATCH_HEADER);
+        if (ifNoneMatch != null) {
+            return matchesETag(ifNoneMatch, buildETag(lastModified));
+        }
+
+        String ifModifiedSince = HeaderUtil.getHeader(headers, IF_MODIFIED_SINCE_HEADER);
+        if (ifModifiedSince != null) {
+            return isNotModifiedSince(ifModifiedSince, lastModified);
+        }
+        return false;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY_ETAG)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotModifiedSince(String ifModifiedSince, Instant lastModified) {
+        try {
+            Instant since = DateTimeFormatter.RFC_1123_DATE_TIME.parse(ifModifiedSince.trim(), Instant::from);
+            return !lastModified.truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.user.handler.util;
+
+import java.util.Map;
+
+/**
+ * Utility class for reading HTTP headers from API Gateway events.
+ */
+public final class HeaderUtil {
+    /**
+     * Name of the header telling clients how many seconds to wait before retrying.
+     */
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private HeaderUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets a header value by name, ignoring the case of the header name.
+     *
+     * @param headers The request headers, may be null
+     * @param name    The header name
+     * @return The header value, or null if not present
+     */
+    public static String getHeader(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey() != null && header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Formats a retry delay as a Retry-After header value.
+     * The delay is rounded up to whole seconds, with a minimum of one second.
+     *
+     * @param retryAfterMillis The retry delay in milliseconds
+     * @return The delay in seconds
+     */
+    public static String formatRetryAfter(long retryAfterMillis) {
+        return Long.toString(Math.max(1L, (retryAfterMillis + 999L) / 1000L));
+    }
+}
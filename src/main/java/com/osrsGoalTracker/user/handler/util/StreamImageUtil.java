@@ -0,0 +1,67 @@
+package com.osrsGoalTracker.user.handler.util;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+
+/**
+ * Utility class for reading attributes from DynamoDB stream record images.
+ */
+public final class StreamImageUtil {
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private StreamImageUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets a string attribute from an image.
+     *
+     * @param image The stream record image, may be null
+     * @param name  The attribute name
+     * @return The string value, or null if the attribute is absent or not a string
+     */
+    public static String getString(Map<String, AttributeValue> image, String name) {
+        if (image == null || image.get(name) == null) {
+            return null;
+        }
+        return image.get(name).getS();
+    }
+
+    /**
+     * Gets a number attribute from an image as a long.
+     *
+     * @param image        The stream record image, may be null
+     * @param name         The attribute name
+     * @param defaultValue The value to return if the attribute is absent
+     * @return The numeric value, or defaultValue if the attribute is absent or not a number
+     */
+    public static long getLong(Map<String, AttributeValue> image, String name, long defaultValue) {
+        if (image == null || image.get(name) == null || image.get(name).getN() == null) {
+            return defaultValue;
+        }
+        return Long.parseLong(image.get(name).getN());
+    }
+
+    /**
+     * Gets a timestamp attribute from an image. Both epoch-millis numbers and ISO-8601 strings
+     * are accepted, matching the formats the user table may contain.
+     *
+     * @param image The stream record image, may be null
+     * @param name  The attribute name
+     * @return The timestamp, or null if the attribute is absent
+     */
+    public static Instant getInstant(Map<String, AttributeValue> image, String name) {
+        if (image == null || image.get(name) == null) {
+            return null;
+        }
+        AttributeValue value = image.get(name);
+        if (value.getN() != null) {
+            return Instant.ofEpochMilli(Long.parseLong(value.getN()));
+        }
+        return value.getS() == null ? null : Instant.parse(value.getS());
+    }
+}
@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Model representing one progress point of a character's goal, e.g. the character's
+ * experience in a skill at a point in time.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class GoalProgress {
+    /**
+     * The in-game name of the character the goal belongs to.
+     */
+    private final String characterName;
+
+    /**
+     * The unique identifier of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The time the progress was observed, with millisecond precision.
+     */
+    private final Instant timestamp;
+
+    /**
+     * The progress value at that time.
+     */
+    private final long progressValue;
+}
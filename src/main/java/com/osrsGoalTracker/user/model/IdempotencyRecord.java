@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing the stored outcome of a request made with an idempotency key.
+ */
+@Value
+@Builder
+public class IdempotencyRecord {
+    /**
+     * The client-supplied idempotency key.
+     */
+    private final String idempotencyKey;
+
+    /**
+     * The state of the request that first used the key.
+     */
+    private final IdempotencyStatus status;
+
+    /**
+     * A fingerprint of the original request, used to reject key reuse with a different payload.
+     */
+    private final String requestFingerprint;
+
+    /**
+     * The user returned by the original request. Only set once the record is completed.
+     */
+    private final User user;
+
+    /**
+     * The time after which the record is no longer honoured.
+     */
+    private final Instant expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.user.model;
+
+/**
+ * Lifecycle states of an idempotency record.
+ */
+public enum IdempotencyStatus {
+    /**
+     * The first request carrying the key is still executing.
+     */
+    IN_PROGRESS,
+
+    /**
+     * The first request carrying the key completed and its result is stored.
+     */
+    COMPLETED
+}
@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Model representing a channel a user receives goal notifications on.
+ * A user has at most one channel of each type.
+ */
+@Value
+@Builder
+@Jacksonized
+public class NotificationChannel {
+    /**
+     * The unique identifier of the user the channel belongs to.
+     */
+    private final String userId;
+
+    /**
+     * The type of the channel.
+     */
+    private final NotificationChannelType channelType;
+
+    /**
+     * The address notifications are sent to, e.g. a Discord webhook URL or a phone number.
+     */
+    private final String identifier;
+
+    /**
+     * The timestamp when the channel was last set.
+     */
+    private final Instant updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.osrsGoalTracker.user.model;
+
+/**
+ * Types of channels a user can receive goal notifications on.
+ */
+public enum NotificationChannelType {
+    /**
+     * A Discord user or webhook.
+     */
+    DISCORD,
+
+    /**
+     * A phone number that receives text messages.
+     */
+    SMS;
+
+    /**
+     * Resolves a channel type from its name.
+     *
+     * @param value The channel type name (case-insensitive)
+     * @return The matching channel type
+     * @throws IllegalArgumentException if the value is empty or does not match a known type
+     */
+    public static NotificationChannelType fromValue(String value) {
+        if (value != null) {
+            for (NotificationChannelType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown notification channel type: " + value);
+    }
+}
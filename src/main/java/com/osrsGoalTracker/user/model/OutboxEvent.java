@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing a domain event stored in the transactional outbox until it is published.
+ */
+@Value
+@Builder
+public class OutboxEvent {
+    /**
+     * The unique identifier of the event. Consumers can use it to discard redeliveries.
+     */
+    private final String eventId;
+
+    /**
+     * The type of the event (e.g. "UserCreated").
+     */
+    private final String eventType;
+
+    /**
+     * The JSON-encoded event payload.
+     */
+    private final String detail;
+
+    /**
+     * The time at which the event occurred.
+     */
+    private final Instant occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.user.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of rolling up the old progress points of one or more users.
+ */
+@Value
+@Builder
+public class ProgressCompaction {
+    /**
+     * The number of users whose progress was compacted.
+     */
+    private final long usersProcessed;
+
+    /**
+     * The number of raw progress points that were rolled up and marked to expire.
+     */
+    private final long pointsCompacted;
+
+    /**
+     * The number of rollup items that were written.
+     */
+    private final long rollupsWritten;
+
+    /**
+     * Whether every user was processed. False when the run stopped early and left a checkpoint
+     * for the next run to resume from.
+     */
+    private final boolean complete;
+}
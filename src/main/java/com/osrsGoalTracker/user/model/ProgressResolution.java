@@ -0,0 +1,75 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.LocalDate;
+
+/**
+ * Resolutions a goal's progress series can be downsampled to. Every resolution but RAW keeps
+ * one point per bucket, aligned to calendar boundaries in UTC.
+ */
+public enum ProgressResolution {
+    /**
+     * Every stored point.
+     */
+    RAW,
+
+    /**
+     * One point per hour.
+     */
+    HOUR,
+
+    /**
+     * One point per day.
+     */
+    DAY,
+
+    /**
+     * One point per week, starting on Monday.
+     */
+    WEEK,
+
+    /**
+     * One point per calendar month.
+     */
+    MONTH;
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int EPOCH_DAY_OF_WEEK_OFFSET = 3;
+
+    /**
+     * Gets the start of the bucket that contains a timestamp.
+     *
+     * @param epochMillis The timestamp in epoch millis
+     * @return The start of the bucket in epoch millis, or the timestamp itself for RAW
+     */
+    public long bucketStart(long epochMillis) {
+        long epochDay = Math.floorDiv(epochMillis, DAY_MILLIS);
+        return switch (this) {
+            case RAW -> epochMillis;
+            case HOUR -> Math.floorDiv(epochMillis, HOUR_MILLIS) * HOUR_MILLIS;
+            case DAY -> epochDay * DAY_MILLIS;
+            // 1970-01-01 was a Thursday, three days after a Monday
+            case WEEK -> (epochDay - Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK_OFFSET, DAYS_PER_WEEK)) * DAY_MILLIS;
+            case MONTH -> LocalDate.ofEpochDay(epochDay).withDayOfMonth(1).toEpochDay() * DAY_MILLIS;
+        };
+    }
+
+    /**
+     * Resolves a resolution from its name.
+     *
+     * @param value The resolution name (case-insensitive)
+     * @return The matching resolution
+     * @throws IllegalArgumentException if the value is empty or does not match a known resolution
+     */
+    public static ProgressResolution fromValue(String value) {
+        if (value != null) {
+            for (ProgressResolution resolution : values()) {
+                if (resolution.name().equalsIgnoreCase(value.trim())) {
+                    return resolution;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown progress resolution: " + value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.user.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A goal's progress over a time range, as two parallel columns rather than one object per
+ * point: the value at index i was observed at the timestamp at index i.
+ */
+@Value
+@Builder
+public class ProgressSeries {
+    /**
+     * The in-game name of the character the goal belongs to.
+     */
+    private final String characterName;
+
+    /**
+     * The unique identifier of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The resolution the series was downsampled to.
+     */
+    private final ProgressResolution resolution;
+
+    /**
+     * The timestamps in epoch millis, ascending. Below RAW resolution each is the start of
+     * its bucket.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The progress values. Below RAW resolution each is the last value observed in its bucket.
+     */
+    private final long[] values;
+}
@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.user.model;
+
+/**
+ * Read consistency levels that callers can request when reading user data.
+ */
+public enum ReadConsistency {
+    /**
+     * Eventually consistent read. Costs half the read capacity of a strong read
+     * but may not reflect writes made in the last second.
+     */
+    EVENTUAL,
+
+    /**
+     * Strongly consistent read. Always reflects all successful prior writes,
+     * e.g. for read-after-create flows.
+     */
+    STRONG;
+
+    /**
+     * Resolves a read consistency level from its configured name.
+     * Falls back to {@link #EVENTUAL} when no value is configured.
+     *
+     * @param value The configured level name (case-insensitive), may be null
+     * @return The matching read consistency level
+     * @throws IllegalArgumentException if the value does not match a known level
+     */
+    public static ReadConsistency fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return EVENTUAL;
+        }
+        for (ReadConsistency consistency : values()) {
+            if (consistency.name().equalsIgnoreCase(value.trim())) {
+                return consistency;
+            }
+        }
+        throw new IllegalArgumentException("Unknown read consistency: " + value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Sizes of the buckets that old progress points are rolled up into. Buckets are aligned to
+ * calendar boundaries in UTC.
+ */
+public enum RollupGranularity {
+    /**
+     * A week starting on Monday.
+     */
+    WEEK,
+
+    /**
+     * A calendar month.
+     */
+    MONTH;
+
+    /**
+     * Gets the start of the bucket that contains a timestamp.
+     *
+     * @param timestamp The timestamp
+     * @return Midnight UTC on the first day of the bucket
+     */
+    public Instant bucketStart(Instant timestamp) {
+        LocalDate date = LocalDate.ofInstant(timestamp, ZoneOffset.UTC);
+        LocalDate start = this == WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+        return start.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Resolves a granularity from its name.
+     *
+     * @param value The granularity name (case-insensitive)
+     * @return The matching granularity
+     * @throws IllegalArgumentException if the value is empty or does not match a known granularity
+     */
+    public static RollupGranularity fromValue(String value) {
+        if (value != null) {
+            for (RollupGranularity granularity : values()) {
+                if (granularity.name().equalsIgnoreCase(value.trim())) {
+                    return granularity;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown rollup granularity: " + value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.osrsGoalTracker.user.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of the users subscribed to a notification channel type, read from one segment of
+ * the channel index.
+ */
+@Value
+@Builder
+public class SubscriberPage {
+    /**
+     * The subscribed channels on this page, ordered by user ID within the segment.
+     */
+    private final List<NotificationChannel> channels;
+
+    /**
+     * The opaque cursor to pass to get the next page of the same segment, or null if this is
+     * the segment's last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * The number of segments the channel index is split into. Reading every segment from 0 to
+     * totalSegments - 1 visits every subscriber once.
+     */
+    private final int totalSegments;
+}
@@ -4,12 +4,14 @@ import java.time.Instant;
 
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * Model representing a user in the system.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class User {
     /**
      * The unique identifier of the user.
@@ -30,4 +32,10 @@ public class User {
      * The timestamp when the user was last updated.
      */
     private final Instant updatedAt;
+
+    /**
+     * The version number of the user, incremented on every update.
+     * Users written before versioning was introduced have version 0.
+     */
+    private final long version;
 }
@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.user.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing a change to a stored user, as observed on the user table's stream.
+ */
+@Value
+@Builder
+public class UserChange {
+    /**
+     * The unique identifier of the changed user.
+     */
+    private final String userId;
+
+    /**
+     * The user after the change, or null if the user was deleted or the new state is not known.
+     */
+    private final User user;
+
+    /**
+     * Whether the user was deleted.
+     */
+    private final boolean deleted;
+
+    /**
+     * The version the user was deleted at, or {@link Long#MAX_VALUE} if it is not known.
+     * Only meaningful when the user was deleted.
+     */
+    private final long deletedVersion;
+}
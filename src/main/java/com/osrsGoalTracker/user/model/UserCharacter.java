@@ -0,0 +1,30 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Model representing a game character registered to a user.
+ */
+@Value
+@Builder
+@Jacksonized
+public class UserCharacter {
+    /**
+     * The unique identifier of the user the character belongs to.
+     */
+    private final String userId;
+
+    /**
+     * The character's in-game name.
+     */
+    private final String characterName;
+
+    /**
+     * The timestamp when the character was last added to the user.
+     */
+    private final Instant addedAt;
+}
@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.user.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain event payload published when a new user is created.
+ */
+@Value
+@Builder
+public class UserCreatedEvent {
+    /**
+     * The event type under which this payload is published.
+     */
+    public static final String EVENT_TYPE = "UserCreated";
+
+    /**
+     * The unique identifier of the created user.
+     */
+    private final String userId;
+
+    /**
+     * The email address of the created user.
+     */
+    private final String email;
+
+    /**
+     * The timestamp when the user was created.
+     */
+    private final Instant createdAt;
+}
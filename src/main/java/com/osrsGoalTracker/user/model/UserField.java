@@ -0,0 +1,64 @@
+package com.osrsGoalTracker.user.model;
+
+/**
+ * Fields of a {@link User} that a listing can be projected to. The user ID is always returned.
+ */
+public enum UserField {
+    /**
+     * The user's ID.
+     */
+    USER_ID("userId"),
+
+    /**
+     * The user's email address.
+     */
+    EMAIL("email"),
+
+    /**
+     * When the user was created.
+     */
+    CREATED_AT("createdAt"),
+
+    /**
+     * When the user was last updated.
+     */
+    UPDATED_AT("updatedAt"),
+
+    /**
+     * The user's version.
+     */
+    VERSION("version");
+
+    private final String fieldName;
+
+    UserField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Gets the name of the field, as used in JSON and in the table.
+     *
+     * @return The field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Resolves a field from its name.
+     *
+     * @param value The field name (case-insensitive), e.g. createdAt
+     * @return The matching field
+     * @throws IllegalArgumentException if the value does not match a known field
+     */
+    public static UserField fromValue(String value) {
+        if (value != null) {
+            for (UserField field : values()) {
+                if (field.fieldName.equalsIgnoreCase(value.trim())) {
+                    return field;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown user field: " + value);
+    }
+}
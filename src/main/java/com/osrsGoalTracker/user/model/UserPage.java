@@ -0,0 +1,23 @@
+package com.osrsGoalTracker.user.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of users from a listing ordered by creation time.
+ */
+@Value
+@Builder
+public class UserPage {
+    /**
+     * The users on this page, oldest first.
+     */
+    private final List<User> users;
+
+    /**
+     * The opaque cursor to pass to get the next page, or null if this is the last page.
+     */
+    private final String nextCursor;
+}
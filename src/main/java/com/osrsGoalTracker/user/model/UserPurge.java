@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.user.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of erasing every item stored under a user's partition.
+ */
+@Value
+@Builder
+public class UserPurge {
+    /**
+     * The unique identifier of the purged user.
+     */
+    private final String userId;
+
+    /**
+     * The number of items deleted by this run.
+     */
+    private final long itemsDeleted;
+
+    /**
+     * Whether the partition is now empty. False when the run stopped at its time budget; the
+     * user's metadata is kept until the end, so purging again resumes with the remaining items.
+     */
+    private final boolean complete;
+}
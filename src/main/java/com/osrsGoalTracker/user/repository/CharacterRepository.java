@@ -0,0 +1,37 @@
+package com.osrsGoalTracker.user.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.UserCharacter;
+
+/**
+ * Repository interface for the characters registered to users.
+ */
+public interface CharacterRepository {
+    /**
+     * Registers characters to a user. Characters that are already registered are kept, with
+     * their added time refreshed.
+     *
+     * @param userId         The unique identifier of the user
+     * @param characterNames The names of the characters to add
+     * @return The added characters
+     */
+    List<UserCharacter> addCharacters(String userId, Collection<String> characterNames);
+
+    /**
+     * Removes a character from a user.
+     *
+     * @param userId        The unique identifier of the user
+     * @param characterName The name of the character to remove
+     */
+    void removeCharacter(String userId, String characterName);
+
+    /**
+     * Lists all characters registered to a user, ordered by name. Reads are eventually consistent.
+     *
+     * @param userId The unique identifier of the user
+     * @return The user's characters, empty if none are registered
+     */
+    List<UserCharacter> listCharacters(String userId);
+}
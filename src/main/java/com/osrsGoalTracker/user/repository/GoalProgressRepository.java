@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.user.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+
+/**
+ * Repository interface for the progress time series of users' goals.
+ */
+public interface GoalProgressRepository {
+    /**
+     * Appends progress points of a user's goals and moves each goal's LATEST and EARLIEST
+     * pointers if a point is newer or older than the one they hold. Points with the same
+     * character, goal and millisecond are written once, with the value of the last of them.
+     *
+     * @param userId The unique identifier of the user
+     * @param points The progress points, across any number of goals
+     * @return The number of distinct points written
+     */
+    int ingestProgress(String userId, Collection<GoalProgress> points);
+
+    /**
+     * Reads a goal's progress over a time range from its raw points and rollups, downsampled
+     * to the given resolution.
+     *
+     * @param userId        The unique identifier of the user
+     * @param characterName The name of the character the goal belongs to
+     * @param goalId        The ID of the goal
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @param resolution    The resolution to downsample to
+     * @return The series, empty if the goal has no progress in the range
+     */
+    ProgressSeries getGoalProgress(String userId, String characterName, String goalId, Instant from, Instant to,
+            ProgressResolution resolution);
+
+    /**
+     * Rolls a user's progress points from before the cutoff up into one packed item per goal
+     * and bucket, and marks the rolled-up points to expire. Points that arrive later for a
+     * bucket that was already rolled up are merged into its rollup on the next run.
+     *
+     * @param userId      The unique identifier of the user
+     * @param cutoff      Points before this time are rolled up
+     * @param granularity The size of the buckets
+     * @param expiresAt   The time at which rolled-up points are removed
+     * @return The number of points rolled up and rollups written, for one user
+     */
+    ProgressCompaction compactProgress(String userId, Instant cutoff, RollupGranularity granularity,
+            Instant expiresAt);
+}
@@ -0,0 +1,44 @@
+package com.osrsGoalTracker.user.repository;
+
+import java.util.Optional;
+
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.User;
+
+/**
+ * Repository interface for storing the outcome of requests made with an idempotency key.
+ */
+public interface IdempotencyRepository {
+    /**
+     * Retrieves the unexpired record stored for an idempotency key.
+     *
+     * @param idempotencyKey The idempotency key
+     * @return The stored record, or empty if none exists or it has expired
+     */
+    Optional<IdempotencyRecord> getRecord(String idempotencyKey);
+
+    /**
+     * Claims an idempotency key for a request that is about to execute.
+     *
+     * @param idempotencyKey     The idempotency key
+     * @param requestFingerprint A fingerprint of the request payload
+     * @return true if the key was claimed, false if another request already holds it
+     */
+    boolean claim(String idempotencyKey, String requestFingerprint);
+
+    /**
+     * Stores the result of a completed request under its idempotency key.
+     *
+     * @param idempotencyKey     The idempotency key
+     * @param requestFingerprint A fingerprint of the request payload
+     * @param user               The user returned by the request
+     */
+    void complete(String idempotencyKey, String requestFingerprint, User user);
+
+    /**
+     * Releases a claimed key after the request failed, so that a retry can execute again.
+     *
+     * @param idempotencyKey The idempotency key
+     */
+    void release(String idempotencyKey);
+}
@@ -0,0 +1,22 @@
+package com.osrsGoalTracker.user.repository;
+
+/**
+ * Repository interface for the cursors background jobs resume from.
+ */
+public interface JobCheckpointRepository {
+    /**
+     * Retrieves the cursor a background job saved to resume from.
+     *
+     * @param jobName The name of the job
+     * @return The saved cursor, or null if the job has no checkpoint
+     */
+    String getJobCheckpoint(String jobName);
+
+    /**
+     * Saves the cursor a background job should resume from, or clears it.
+     *
+     * @param jobName The name of the job
+     * @param cursor  The cursor to resume from, or null to clear the checkpoint once the job is done
+     */
+    void saveJobCheckpoint(String jobName, String cursor);
+}
@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.user.repository;
+
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.SubscriberPage;
+
+/**
+ * Repository interface for the notification channels of users and the subscribers of each
+ * channel type.
+ */
+public interface NotificationChannelRepository {
+    /**
+     * Sets a user's notification channel of the given type, replacing any existing channel of
+     * that type.
+     *
+     * @param userId      The unique identifier of the user
+     * @param channelType The type of the channel
+     * @param identifier  The address notifications are sent to
+     * @return The stored channel
+     */
+    NotificationChannel putNotificationChannel(String userId, NotificationChannelType channelType,
+            String identifier);
+
+    /**
+     * Lists all notification channels of a user. Reads are eventually consistent.
+     *
+     * @param userId The unique identifier of the user
+     * @return The user's channels, empty if none are set
+     */
+    List<NotificationChannel> listNotificationChannels(String userId);
+
+    /**
+     * Removes a user's notification channel of the given type.
+     *
+     * @param userId      The unique identifier of the user
+     * @param channelType The type of the channel to remove
+     */
+    void removeNotificationChannel(String userId, NotificationChannelType channelType);
+
+    /**
+     * Lists one page of the channels of a type from one segment of the channel index.
+     * Segments are disjoint and can be read in parallel. Reads are eventually consistent.
+     *
+     * @param channelType The type of channel to list subscribers of
+     * @param segment     The segment to read, from 0 to the page's totalSegments - 1
+     * @param pageSize    The maximum number of channels to return
+     * @param cursor      The cursor of the previous page of this segment, or null for the first page
+     * @return The page of channels and the cursor of the segment's next page
+     */
+    SubscriberPage listSubscribers(NotificationChannelType channelType, int segment, int pageSize, String cursor);
+}
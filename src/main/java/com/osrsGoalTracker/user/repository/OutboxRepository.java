@@ -0,0 +1,18 @@
+package com.osrsGoalTracker.user.repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing transactional outbox items.
+ * Outbox items are written together with the change that produced them;
+ * this repository removes them once they have been published.
+ */
+public interface OutboxRepository {
+    /**
+     * Deletes the outbox items for the given events.
+     *
+     * @param eventIds The IDs of the events whose outbox items should be deleted
+     * @return The number of outbox items that could not be deleted
+     */
+    int deleteEvents(List<String> eventIds);
+}
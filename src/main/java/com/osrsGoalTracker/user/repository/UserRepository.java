@@ -1,6 +1,15 @@
 package com.osrsGoalTracker.user.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.osrsGoalTracker.user.model.ReadConsistency;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
 
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
@@ -9,7 +18,7 @@ import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
  */
 public interface UserRepository {
     /**
-     * Retrieves a user by their unique identifier.
+     * Retrieves a user by their unique identifier using the configured default read consistency.
      *
      * @param userId The unique identifier of the user to retrieve
      * @return The user with the specified ID
@@ -17,6 +26,36 @@ public interface UserRepository {
      */
     User getUser(String userId) throws ResourceNotFoundException;
 
+    /**
+     * Retrieves a user by their unique identifier with the given read consistency.
+     *
+     * @param userId          The unique identifier of the user to retrieve
+     * @param readConsistency The read consistency to use
+     * @return The user with the specified ID
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    User getUser(String userId, ReadConsistency readConsistency) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves several users by their unique identifiers in as few round trips as possible.
+     * Reads are eventually consistent.
+     *
+     * @param userIds The unique identifiers of the users to retrieve
+     * @return The users that exist, keyed by user ID; missing users are absent
+     */
+    Map<String, User> getUsers(Collection<String> userIds);
+
+    /**
+     * Lists users ordered by creation time, oldest first, one page at a time.
+     * Reads are eventually consistent.
+     *
+     * @param pageSize The maximum number of users to return
+     * @param cursor   The cursor of the previous page, or null for the first page
+     * @param fields   The fields to return; the user ID is always returned, and an empty set returns all fields
+     * @return The page of users and the cursor of the next page
+     */
+    UserPage listUsers(int pageSize, String cursor, Set<UserField> fields);
+
     /**
      * Creates a new user with the given email address.
      *
@@ -24,4 +63,63 @@ public interface UserRepository {
      * @return The created User object
      */
     User createUser(String email);
+
+    /**
+     * Creates a new user and, atomically with it, stores the user as the completed result of an
+     * idempotency key the caller has claimed, with the email as the request fingerprint.
+     *
+     * @param email          The email address for the new user
+     * @param idempotencyKey The idempotency key the caller has claimed
+     * @return The created User object
+     */
+    User createUser(String email, String idempotencyKey);
+
+    /**
+     * Changes the email of a user, provided the user has not been modified since the given
+     * snapshot was read.
+     *
+     * @param currentUser The user as last read by the caller, including its version
+     * @param email       The new email address
+     * @return The updated user, with its version incremented
+     */
+    User updateUser(User currentUser, String email);
+
+    /**
+     * Deletes a user, provided the user is still at the expected version.
+     *
+     * @param userId          The unique identifier of the user to delete
+     * @param expectedVersion The version the caller expects the user to be at
+     * @return The user as it was before deletion
+     */
+    User deleteUser(String userId, long expectedVersion);
+
+    /**
+     * Rewrites the createdAt and updatedAt attributes of existing user metadata items
+     * into the configured timestamp write format.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of items that were rewritten
+     */
+    long migrateTimestamps(int totalSegments);
+
+    /**
+     * Rebuilds the email-existence filter from the emails of all user metadata items and
+     * saves it for new containers to load.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of emails added to the filter
+     */
+    long rebuildEmailFilter(int totalSegments);
+
+    /**
+     * Deletes every item stored under a user: metadata, characters, notification channels and
+     * goal progress. The metadata is deleted last, so a purge that stops early can be resumed
+     * by purging the user again.
+     *
+     * @param userId             The unique identifier of the user
+     * @param maxInFlightBatches The maximum number of delete batches in flight at once
+     * @param deadline           The time after which no new page of deletes is started
+     * @return The number of items deleted and whether the user is fully erased
+     */
+    UserPurge purgeUser(String userId, int maxInFlightBatches, Instant deadline);
 }
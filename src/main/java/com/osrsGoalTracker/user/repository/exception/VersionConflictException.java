@@ -0,0 +1,17 @@
+package com.osrsGoalTracker.user.repository.exception;
+
+/**
+ * Exception thrown when a conditional write fails because the stored version of a user
+ * no longer matches the version the caller expected.
+ */
+public class VersionConflictException extends RuntimeException {
+    /**
+     * Constructs a new VersionConflictException with the specified detail message.
+     *
+     * @param message the detail message. The detail message is saved for later
+     *                retrieval by the {@link #getMessage()} method.
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes batches of up to 25 puts or deletes to one table with BatchWriteItem, shared by the
+ * repositories that write many items of a user's partition at once. Unprocessed items are
+ * retried with a short backoff; if some are still unprocessed the write fails, and since every
+ * write is a plain put or delete the whole batch can be retried.
+ */
+@Log4j2
+final class BatchWriter {
+    /**
+     * The maximum number of writes in one batch.
+     */
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 50L;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+    private final String tableName;
+
+    /**
+     * Constructor for BatchWriter.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard the batches go through
+     * @param tableName      The name of the table to write to
+     */
+    BatchWriter(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard, String tableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Writes one batch.
+     *
+     * @param writes The puts and deletes, at most {@link #MAX_BATCH_SIZE}
+     * @throws RateLimitedException If some items are still unprocessed after retrying
+     */
+    void write(List<WriteRequest> writes) {
+        List<WriteRequest> pending = writes;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                sleepBeforeRetry(attempt);
+            }
+            BatchWriteItemRequest batchWriteItemRequest = BatchWriteItemRequest.builder()
+                    .requestItems(Collections.singletonMap(tableName, pending))
+                    .build();
+            BatchWriteItemResponse response = callGuard.execute(
+                    () -> dynamoDbClient.batchWriteItem(batchWriteItemRequest));
+            pending = response.hasUnprocessedItems()
+                    ? response.unprocessedItems().getOrDefault(tableName, List.of())
+                    : List.of();
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Gave up on {} unprocessed writes after {} attempts", pending.size(), MAX_ATTEMPTS);
+            throw new RateLimitedException("Too many requests, please retry later",
+                    BACKOFF_MILLIS << (MAX_ATTEMPTS - 1));
+        }
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(BACKOFF_MILLIS << (attempt - 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
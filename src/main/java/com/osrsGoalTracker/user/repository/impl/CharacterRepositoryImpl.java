@@ -0,0 +1,207 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampAttributeUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * DynamoDB implementation of the CharacterRepository interface.
+ * Each character is a CHARACTER#name item in its user's partition of the user table, so a
+ * roster is read with one Query and purged along with the user. Every call goes through the
+ * {@link DynamoDbCallGuard}.
+ */
+@Log4j2
+public class CharacterRepositoryImpl implements CharacterRepository {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_PREFIX = "USER#";
+
+    private static final String USER_ID = "userId";
+    private static final String CHARACTER_NAME = "characterName";
+    private static final String ADDED_AT = "addedAt";
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+    private static final String TIMESTAMP_FORMAT = System.getenv("USER_TIMESTAMP_FORMAT");
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+    private final BatchWriter batchWriter;
+    private final TimestampFormat timestampFormat;
+
+    /**
+     * Constructor for CharacterRepositoryImpl.
+     * Timestamps are written in the format configured by the USER_TIMESTAMP_FORMAT environment variable.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for request-path DynamoDB calls
+     */
+    @Inject
+    public CharacterRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+        this.batchWriter = new BatchWriter(dynamoDbClient, callGuard, TABLE_NAME);
+        this.timestampFormat = TimestampFormat.fromValue(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Registers characters to a user with BatchWriteItem, in chunks of up to 25 items.
+     * Adding a character that is already registered just replaces its item. Every write is a
+     * plain put, so the whole call can be retried.
+     *
+     * @param userId         The ID of the user
+     * @param characterNames The names of the characters to add
+     * @return The added characters
+     * @throws IllegalArgumentException If userId is null or empty, or no character names are given
+     * @throws RateLimitedException     If some items are still unprocessed after retrying
+     */
+    @Override
+    public List<UserCharacter> addCharacters(String userId, Collection<String> characterNames) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (characterNames == null || characterNames.isEmpty()) {
+            throw new IllegalArgumentException("Character names cannot be null or empty");
+        }
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<String> distinctNames = characterNames.stream().distinct().toList();
+        log.info("Adding {} characters to user {}", distinctNames.size(), userId);
+        List<UserCharacter> added = new ArrayList<>();
+        for (int start = 0; start < distinctNames.size(); start += BatchWriter.MAX_BATCH_SIZE) {
+            List<WriteRequest> writes = new ArrayList<>();
+            for (String characterName : distinctNames.subList(start, Math.min(start + BatchWriter.MAX_BATCH_SIZE,
+                    distinctNames.size()))) {
+                writes.add(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(createCharacterItem(userId, characterName, now)).build())
+                        .build());
+                added.add(UserCharacter.builder()
+                        .userId(userId)
+                        .characterName(characterName)
+                        .addedAt(now)
+                        .build());
+            }
+            batchWriter.write(writes);
+        }
+        return added;
+    }
+
+    /**
+     * Removes a character from a user.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character to remove
+     * @throws IllegalArgumentException  If userId or characterName is null or empty
+     * @throws ResourceNotFoundException If the character is not registered to the user
+     */
+    @Override
+    public void removeCharacter(String userId, String characterName) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (characterName == null || characterName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Character name cannot be null or empty");
+        }
+
+        log.info("Removing character {} from user {}", characterName, userId);
+        DeleteItemRequest deleteItemRequest = DeleteItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(characterKey(userId, characterName))
+                .conditionExpression("attribute_exists(#pk)")
+                .expressionAttributeNames(Map.of("#pk", PK))
+                .build();
+        try {
+            callGuard.execute(() -> dynamoDbClient.deleteItem(deleteItemRequest));
+        } catch (ConditionalCheckFailedException e) {
+            log.warn("Character {} not found for user {}", characterName, userId);
+            throw new ResourceNotFoundException(String.format(
+                    "Character %s not found for user %s", characterName, userId));
+        }
+    }
+
+    /**
+     * Lists the characters of a user with a single begins_with Query on the user's partition.
+     * A roster larger than one 1 MB query page is read page by page.
+     *
+     * @param userId The ID of the user
+     * @return The user's characters, ordered by name
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    @Override
+    public List<UserCharacter> listCharacters(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        List<UserCharacter> characters = new ArrayList<>();
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            QueryRequest queryRequest = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .keyConditionExpression("#pk = :pk AND begins_with(#sk, :prefix)")
+                    .expressionAttributeNames(Map.of(
+                            "#pk", PK,
+                            "#sk", SK))
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.builder().s(USER_PREFIX + userId).build(),
+                            ":prefix", AttributeValue.builder().s(SortKeyUtil.CHARACTER_METADATA_PREFIX).build()))
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .build();
+            QueryResponse response = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+            for (Map<String, AttributeValue> item : response.items()) {
+                characters.add(toCharacter(item));
+            }
+            exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        log.debug("Found {} characters for user {}", characters.size(), userId);
+        return characters;
+    }
+
+    private Map<String, AttributeValue> characterKey(String userId, String characterName) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getCharacterMetadataSortKey(characterName)).build());
+        return key;
+    }
+
+    private Map<String, AttributeValue> createCharacterItem(String userId, String characterName, Instant timestamp) {
+        Map<String, AttributeValue> item = characterKey(userId, characterName);
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(CHARACTER_NAME, AttributeValue.builder().s(characterName).build());
+        item.put(ADDED_AT, TimestampAttributeUtil.toAttributeValue(timestamp, timestampFormat));
+        return item;
+    }
+
+    private static UserCharacter toCharacter(Map<String, AttributeValue> item) {
+        AttributeValue addedAt = item.get(ADDED_AT);
+        return UserCharacter.builder()
+                .userId(item.get(USER_ID).s())
+                .characterName(item.get(CHARACTER_NAME).s())
+                .addedAt(addedAt == null ? null : TimestampAttributeUtil.fromAttributeValue(addedAt))
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import com.osrsGoalTracker.user.common.jfr.DynamoDbCallEvent;
+import com.osrsGoalTracker.user.common.jfr.SpanEvent;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * SDK interceptor that emits a {@link DynamoDbCallEvent} for every call made by the DynamoDB
+ * client, with the operation, the number of retries and the outcome. Every attempt passes
+ * through {@link #beforeTransmission}, so retries are counted without touching the retry policy.
+ * While the event is disabled nothing is stored in the execution attributes.
+ */
+public class DynamoDbCallEventInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<DynamoDbCallEvent> SPAN = new ExecutionAttribute<>("DynamoDbCallEvent");
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        DynamoDbCallEvent span = DynamoDbCallEvent.start(
+                executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        if (span.isEnabled()) {
+            executionAttributes.putAttribute(SPAN, span);
+        }
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        DynamoDbCallEvent span = executionAttributes.getAttribute(SPAN);
+        if (span != null) {
+            span.attempt();
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        DynamoDbCallEvent span = executionAttributes.getAttribute(SPAN);
+        if (span != null) {
+            span.finish(SpanEvent.SUCCESS);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        DynamoDbCallEvent span = executionAttributes.getAttribute(SPAN);
+        if (span != null) {
+            span.finish(SpanEvent.outcomeOf(context.exception()));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.ratelimit.AdaptiveRateLimiter;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Guards DynamoDB calls made on the request path with client-side load shedding.
+ * Each call first checks the current request's deadline and is shed with a
+ * {@link ServiceUnavailableException} when too little time is left for it to finish.
+ * It then takes a permit from an adaptive rate limiter that backs off whenever DynamoDB
+ * throttles, and is shed with a {@link RateLimitedException} when no permit is available in time.
+ * Throttling errors from DynamoDB are reported to the limiter and surfaced as
+ * {@link RateLimitedException} as well, with the throttling error as the cause.
+ */
+@Log4j2
+public class DynamoDbCallGuard {
+    private static final String MIN_REQUEST_RATE = System.getenv("DYNAMODB_MIN_REQUEST_RATE");
+    private static final String MAX_REQUEST_RATE = System.getenv("DYNAMODB_MAX_REQUEST_RATE");
+    private static final String MIN_REMAINING_MILLIS = System.getenv("LOAD_SHEDDING_MIN_REMAINING_MILLIS");
+    private static final double DEFAULT_MIN_REQUEST_RATE = 5;
+    private static final double DEFAULT_MAX_REQUEST_RATE = 500;
+    private static final long DEFAULT_MIN_REMAINING_MILLIS = 200L;
+    private static final long MAX_PERMIT_WAIT_MILLIS = 100L;
+    private static final long MIN_RETRY_AFTER_MILLIS = 1000L;
+
+    private static final String THROTTLES_METRIC = "DynamoDb.Throttles";
+    private static final String RATE_LIMITED_METRIC = "LoadShedding.RateLimited";
+    private static final String DEADLINE_EXCEEDED_METRIC = "LoadShedding.DeadlineExceeded";
+    private static final String ALLOWED_RATE_METRIC = "DynamoDb.AllowedRequestRate";
+
+    private final MetricsRecorder metricsRecorder;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final long minRemainingMillis;
+
+    /**
+     * Constructor for DynamoDbCallGuard.
+     * The limiter's bounds are read from the DYNAMODB_MIN_REQUEST_RATE and DYNAMODB_MAX_REQUEST_RATE
+     * environment variables (requests per second per container), and the time a request must have
+     * left to start a call from LOAD_SHEDDING_MIN_REMAINING_MILLIS.
+     *
+     * @param metricsRecorder The recorder for shedding and throttling metrics
+     */
+    @Inject
+    public DynamoDbCallGuard(MetricsRecorder metricsRecorder) {
+        this(metricsRecorder,
+                new AdaptiveRateLimiter(parseDouble(MIN_REQUEST_RATE, DEFAULT_MIN_REQUEST_RATE),
+                        parseDouble(MAX_REQUEST_RATE, DEFAULT_MAX_REQUEST_RATE)),
+                parseLong(MIN_REMAINING_MILLIS, DEFAULT_MIN_REMAINING_MILLIS));
+    }
+
+    /**
+     * Constructor for DynamoDbCallGuard with an explicit limiter and deadline budget.
+     *
+     * @param metricsRecorder    The recorder for shedding and throttling metrics
+     * @param rateLimiter        The limiter that paces calls
+     * @param minRemainingMillis The time a request must have left for a call to be started
+     */
+    DynamoDbCallGuard(MetricsRecorder metricsRecorder, AdaptiveRateLimiter rateLimiter, long minRemainingMillis) {
+        this.metricsRecorder = metricsRecorder;
+        this.rateLimiter = rateLimiter;
+        this.minRemainingMillis = minRemainingMillis;
+    }
+
+    /**
+     * Runs a DynamoDB call under the guard.
+     * Errors other than throttling are rethrown unchanged.
+     *
+     * @param call The call to run
+     * @param <T>  The call's result type
+     * @return The call's result
+     * @throws ServiceUnavailableException If the current request does not have enough time left
+     * @throws RateLimitedException        If no permit is available in time or DynamoDB throttled the call
+     */
+    public <T> T execute(Supplier<T> call) {
+        long maxWaitMillis = MAX_PERMIT_WAIT_MILLIS;
+        OptionalLong remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis.isPresent()) {
+            long budget = remainingMillis.getAsLong() - minRemainingMillis;
+            if (budget <= 0) {
+                metricsRecorder.increment(DEADLINE_EXCEEDED_METRIC);
+                log.warn("Shedding DynamoDB call with {} ms left before the request deadline",
+                        remainingMillis.getAsLong());
+                throw new ServiceUnavailableException("Not enough time left to complete the request");
+            }
+            maxWaitMillis = Math.min(maxWaitMillis, budget);
+        }
+
+        if (!rateLimiter.tryAcquire(maxWaitMillis)) {
+            metricsRecorder.increment(RATE_LIMITED_METRIC);
+            log.warn("Shedding DynamoDB call, allowed rate is {} requests per second", rateLimiter.getRate());
+            throw new RateLimitedException("Too many requests, please retry later", retryAfterMillis());
+        }
+
+        try {
+            T result = call.get();
+            rateLimiter.onSuccess();
+            return result;
+        } catch (DynamoDbException e) {
+            if (!isThrottling(e)) {
+                throw e;
+            }
+            rateLimiter.onThrottle();
+            metricsRecorder.increment(THROTTLES_METRIC);
+            metricsRecorder.record(ALLOWED_RATE_METRIC, rateLimiter.getRate(), MetricUnit.COUNT);
+            log.warn("DynamoDB throttled the request, backing off to {} requests per second",
+                    rateLimiter.getRate());
+            throw new RateLimitedException("Too many requests, please retry later", retryAfterMillis(), e);
+        }
+    }
+
+    private long retryAfterMillis() {
+        return Math.max(MIN_RETRY_AFTER_MILLIS, (long) Math.ceil(1000 / rateLimiter.getRate()));
+    }
+
+    private static boolean isThrottling(DynamoDbException e) {
+        if (e instanceof ProvisionedThroughputExceededException || e instanceof RequestLimitExceededException
+                || e.isThrottlingException()) {
+            return true;
+        }
+        if (e instanceof TransactionCanceledException canceled && canceled.hasCancellationReasons()) {
+            for (CancellationReason reason : canceled.cancellationReasons()) {
+                if (reason != null && ("ThrottlingError".equalsIgnoreCase(reason.code())
+                        || "ProvisionedThroughputExceeded".equalsIgnoreCase(reason.code()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double parseDouble(String value, double defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value.trim());
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+}
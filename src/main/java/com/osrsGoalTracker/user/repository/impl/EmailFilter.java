@@ -0,0 +1,195 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.filter.BloomFilter;
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Email-existence pre-check in front of the email-sk-index query.
+ * The filter is a {@link BloomFilter} of normalized emails, loaded from the file named by
+ * EMAIL_FILTER_PATH (e.g. on an EFS mount) when the container starts and updated in memory
+ * as this container creates users. An email the filter has never seen cannot belong to a
+ * user in the snapshot, so the index query is skipped for it. Emails created elsewhere since
+ * the snapshot are still caught by the conditional write on the email's uniqueness item.
+ * Without EMAIL_FILTER_PATH, or when the file cannot be read, the filter is disabled and
+ * every email is reported as possibly present.
+ */
+@Log4j2
+public class EmailFilter {
+    static final String QUERIES_AVOIDED_METRIC = "EmailFilter.QueriesAvoided";
+    static final String FALSE_POSITIVES_METRIC = "EmailFilter.FalsePositives";
+    static final String TRUE_POSITIVES_METRIC = "EmailFilter.TruePositives";
+    static final String EXPECTED_FALSE_POSITIVE_RATE_METRIC = "EmailFilter.ExpectedFalsePositiveRate";
+
+    private static final String FILTER_PATH = System.getenv("EMAIL_FILTER_PATH");
+    private static final String EXPECTED_EMAILS = System.getenv("EMAIL_FILTER_EXPECTED_EMAILS");
+    private static final String FALSE_POSITIVE_RATE = System.getenv("EMAIL_FILTER_FALSE_POSITIVE_RATE");
+    private static final long DEFAULT_EXPECTED_EMAILS = 1_000_000L;
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private final MetricsRecorder metricsRecorder;
+    private final Path path;
+    private final long expectedEmails;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+
+    /**
+     * Creates the filter from the file named by EMAIL_FILTER_PATH. Rebuilt filters are sized for
+     * EMAIL_FILTER_EXPECTED_EMAILS emails (default 1,000,000) at a false positive rate of
+     * EMAIL_FILTER_FALSE_POSITIVE_RATE (default 0.01).
+     *
+     * @param metricsRecorder The recorder for filter metrics
+     */
+    @Inject
+    public EmailFilter(MetricsRecorder metricsRecorder) {
+        this(metricsRecorder,
+                FILTER_PATH == null || FILTER_PATH.trim().isEmpty() ? null : Path.of(FILTER_PATH.trim()),
+                EXPECTED_EMAILS == null || EXPECTED_EMAILS.trim().isEmpty()
+                        ? DEFAULT_EXPECTED_EMAILS
+                        : Long.parseLong(EXPECTED_EMAILS.trim()),
+                FALSE_POSITIVE_RATE == null || FALSE_POSITIVE_RATE.trim().isEmpty()
+                        ? DEFAULT_FALSE_POSITIVE_RATE
+                        : Double.parseDouble(FALSE_POSITIVE_RATE.trim()));
+    }
+
+    /**
+     * Creates the filter from an explicit file and sizing.
+     *
+     * @param metricsRecorder   The recorder for filter metrics
+     * @param path              The file the filter is loaded from and saved to, or null to disable the filter
+     * @param expectedEmails    The number of emails a rebuilt filter is sized for
+     * @param falsePositiveRate The target false positive rate of a rebuilt filter
+     */
+    EmailFilter(MetricsRecorder metricsRecorder, Path path, long expectedEmails, double falsePositiveRate) {
+        this.metricsRecorder = metricsRecorder;
+        this.path = path;
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = path == null ? null : load(path);
+    }
+
+    private BloomFilter load(Path source) {
+        try (InputStream in = Files.newInputStream(source)) {
+            BloomFilter loaded = BloomFilter.readFrom(in);
+            recordExpectedFalsePositiveRate(loaded);
+            log.info("Loaded email filter from {} ({} bits, {} hash functions)", source, loaded.bitSize(),
+                    loaded.hashFunctions());
+            return loaded;
+        } catch (NoSuchFileException e) {
+            log.warn("No email filter at {}, every email will be looked up", source);
+            return null;
+        } catch (IOException e) {
+            log.warn("Could not load email filter from {}, every email will be looked up", source, e);
+            return null;
+        }
+    }
+
+    /**
+     * Tests whether a user with the email may exist. A false answer is counted as an avoided
+     * index query.
+     *
+     * @param email The email to test
+     * @return false if no user had the email when the filter was built or since, in this container
+     */
+    public boolean mightExist(String email) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(normalize(email))) {
+            return true;
+        }
+        metricsRecorder.increment(QUERIES_AVOIDED_METRIC);
+        return false;
+    }
+
+    /**
+     * Records the outcome of an index query made after {@link #mightExist(String)} returned true,
+     * so the observed false positive rate is the ratio of false positives to all positives.
+     *
+     * @param found Whether the query found a user with the email
+     */
+    public void recordLookup(boolean found) {
+        if (filter != null) {
+            metricsRecorder.increment(found ? TRUE_POSITIVES_METRIC : FALSE_POSITIVES_METRIC);
+        }
+    }
+
+    /**
+     * Adds an email that now belongs to a user.
+     *
+     * @param email The email to add
+     */
+    public void add(String email) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(normalize(email));
+        }
+    }
+
+    /**
+     * Creates an empty filter with the configured sizing, to be filled and passed to
+     * {@link #replace(BloomFilter)}.
+     *
+     * @return An empty filter
+     * @throws IllegalStateException If EMAIL_FILTER_PATH is not set
+     */
+    public BloomFilter newFilter() {
+        if (path == null) {
+            throw new IllegalStateException("EMAIL_FILTER_PATH is not set");
+        }
+        return BloomFilter.create(expectedEmails, falsePositiveRate);
+    }
+
+    /**
+     * Writes a rebuilt filter to the filter file and starts using it. The file is written to a
+     * temporary sibling first and moved into place, so readers never see a partial filter.
+     *
+     * @param rebuilt The filter to save and use
+     * @throws IllegalStateException If EMAIL_FILTER_PATH is not set
+     * @throws UncheckedIOException  If the file cannot be written
+     */
+    public void replace(BloomFilter rebuilt) {
+        if (path == null) {
+            throw new IllegalStateException("EMAIL_FILTER_PATH is not set");
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                rebuilt.writeTo(out);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save email filter to " + path, e);
+        }
+        filter = rebuilt;
+        recordExpectedFalsePositiveRate(rebuilt);
+        log.info("Saved email filter to {} ({} bits, {} hash functions)", path, rebuilt.bitSize(),
+                rebuilt.hashFunctions());
+    }
+
+    /**
+     * Normalizes an email the same way the email uniqueness item key does.
+     *
+     * @param email The email to normalize
+     * @return The trimmed, lower-cased email
+     */
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void recordExpectedFalsePositiveRate(BloomFilter bloomFilter) {
+        metricsRecorder.record(EXPECTED_FALSE_POSITIVE_RATE_METRIC,
+                bloomFilter.expectedFalsePositiveRate() * 100, MetricUnit.PERCENT);
+    }
+}
@@ -0,0 +1,482 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.util.ProgressPackUtil;
+import com.osrsGoalTracker.user.repository.util.ProgressSeriesBuilder;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * DynamoDB implementation of the GoalProgressRepository interface.
+ * Raw points, each goal's LATEST and EARLIEST pointers and the packed weekly and monthly
+ * rollups are items under the character's sort key range in its user's partition of the user
+ * table, so they are purged along with the user. Every call goes through the
+ * {@link DynamoDbCallGuard}.
+ */
+@Log4j2
+public class GoalProgressRepositoryImpl implements GoalProgressRepository {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_PREFIX = "USER#";
+
+    private static final String USER_ID = "userId";
+    private static final String CHARACTER_NAME = "characterName";
+    private static final String GOAL_ID = "goalId";
+    private static final String TIMESTAMP = "timestamp";
+    private static final String PROGRESS_VALUE = "progressValue";
+    private static final String GRANULARITY = "granularity";
+    private static final String BUCKET_START = "bucketStart";
+    private static final String POINT_COUNT = "pointCount";
+    private static final String FIRST_VALUE = "firstValue";
+    private static final String LAST_VALUE = "lastValue";
+    private static final String POINTS = "points";
+    private static final String EXPIRES_AT = "expiresAt";
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+    private final BatchWriter batchWriter;
+
+    /**
+     * Constructor for GoalProgressRepositoryImpl.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for DynamoDB calls
+     */
+    @Inject
+    public GoalProgressRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+        this.batchWriter = new BatchWriter(dynamoDbClient, callGuard, TABLE_NAME);
+    }
+
+    /**
+     * Appends progress points without reading anything first. Duplicates are dropped in memory,
+     * since a BatchWriteItem request may not hold the same key twice, and the time-series items
+     * are written with BatchWriteItem in chunks of up to 25. Then each goal's LATEST and EARLIEST
+     * pointers are offered the batch's newest and oldest point with a conditional UpdateItem that
+     * only succeeds if the pointer is missing or holds an older (or newer) point, so concurrent
+     * writers cannot move a pointer backwards. Every write is idempotent, so a failed call can be
+     * retried as a whole.
+     *
+     * @param userId The ID of the user
+     * @param points The progress points
+     * @return The number of distinct points written
+     * @throws IllegalArgumentException If userId is null or empty, or no points are given
+     * @throws RateLimitedException     If some time-series items are still unprocessed after retrying
+     */
+    @Override
+    public int ingestProgress(String userId, Collection<GoalProgress> points) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (points == null || points.isEmpty()) {
+            throw new IllegalArgumentException("Progress points cannot be null or empty");
+        }
+
+        Map<String, GoalProgress> distinctPoints = new LinkedHashMap<>();
+        Map<String, GoalProgress> latestPoints = new LinkedHashMap<>();
+        Map<String, GoalProgress> earliestPoints = new LinkedHashMap<>();
+        for (GoalProgress point : points) {
+            GoalProgress truncated = point.toBuilder()
+                    .timestamp(point.getTimestamp().truncatedTo(ChronoUnit.MILLIS))
+                    .build();
+            distinctPoints.put(SortKeyUtil.buildGoalProgressSortKey(truncated.getCharacterName(),
+                    truncated.getGoalId(), truncated.getTimestamp()), truncated);
+        }
+        for (GoalProgress point : distinctPoints.values()) {
+            latestPoints.merge(SortKeyUtil.buildGoalLatestSortKey(point.getCharacterName(), point.getGoalId()),
+                    point, (current, candidate) -> candidate.getTimestamp().isAfter(current.getTimestamp())
+                            ? candidate : current);
+            earliestPoints.merge(SortKeyUtil.buildGoalEarliestSortKey(point.getCharacterName(), point.getGoalId()),
+                    point, (current, candidate) -> candidate.getTimestamp().isBefore(current.getTimestamp())
+                            ? candidate : current);
+        }
+
+        log.info("Ingesting {} progress points for {} goals of user {}", distinctPoints.size(),
+                latestPoints.size(), userId);
+        List<WriteRequest> writes = new ArrayList<>();
+        for (Map.Entry<String, GoalProgress> point : distinctPoints.entrySet()) {
+            writes.add(WriteRequest.builder()
+                    .putRequest(PutRequest.builder()
+                            .item(createProgressItem(userId, point.getKey(), point.getValue()))
+                            .build())
+                    .build());
+            if (writes.size() == BatchWriter.MAX_BATCH_SIZE) {
+                batchWriter.write(writes);
+                writes = new ArrayList<>();
+            }
+        }
+        if (!writes.isEmpty()) {
+            batchWriter.write(writes);
+        }
+
+        latestPoints.forEach((sortKey, point) -> offerProgressPointer(userId, sortKey, point, "<="));
+        earliestPoints.forEach((sortKey, point) -> offerProgressPointer(userId, sortKey, point, ">="));
+        return distinctPoints.size();
+    }
+
+    /**
+     * Moves a LATEST or EARLIEST pointer to the point if the pointer is missing or the stored
+     * timestamp compares to the point's as given (e.g. "<=" for LATEST). A failed condition
+     * means the pointer already holds a newer (or older) point and is not an error.
+     */
+    private void offerProgressPointer(String userId, String sortKey, GoalProgress point, String comparison) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(sortKey).build());
+        UpdateItemRequest updateItemRequest = UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key)
+                .updateExpression("SET #userId = :userId, #characterName = :characterName, #goalId = :goalId, "
+                        + "#timestamp = :timestamp, #progressValue = :progressValue")
+                .conditionExpression("attribute_not_exists(#timestamp) OR #timestamp " + comparison + " :timestamp")
+                .expressionAttributeNames(Map.of(
+                        "#userId", USER_ID,
+                        "#characterName", CHARACTER_NAME,
+                        "#goalId", GOAL_ID,
+                        "#timestamp", TIMESTAMP,
+                        "#progressValue", PROGRESS_VALUE))
+                .expressionAttributeValues(Map.of(
+                        ":userId", AttributeValue.builder().s(userId).build(),
+                        ":characterName", AttributeValue.builder().s(point.getCharacterName()).build(),
+                        ":goalId", AttributeValue.builder().s(point.getGoalId()).build(),
+                        ":timestamp", numberValue(point.getTimestamp().toEpochMilli()),
+                        ":progressValue", numberValue(point.getProgressValue())))
+                .build();
+        try {
+            callGuard.execute(() -> dynamoDbClient.updateItem(updateItemRequest));
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Progress pointer {} of user {} already holds a point past {}", sortKey, userId,
+                    point.getTimestamp());
+        }
+    }
+
+    /**
+     * Builds a time-series progress item. The timestamp is always stored as epoch millis so it
+     * can be compared with the timestamps of the LATEST and EARLIEST pointers.
+     */
+    private static Map<String, AttributeValue> createProgressItem(String userId, String sortKey, GoalProgress point) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        item.put(SK, AttributeValue.builder().s(sortKey).build());
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(CHARACTER_NAME, AttributeValue.builder().s(point.getCharacterName()).build());
+        item.put(GOAL_ID, AttributeValue.builder().s(point.getGoalId()).build());
+        item.put(TIMESTAMP, numberValue(point.getTimestamp().toEpochMilli()));
+        item.put(PROGRESS_VALUE, numberValue(point.getProgressValue()));
+        return item;
+    }
+
+    /**
+     * Reads a goal's progress with BETWEEN-range Queries, so only items inside the range are
+     * read. The rollups of each granularity overlapping the range are read first and unpacked
+     * into primitive columns, one rollup item per week or month. The raw points in the range
+     * are then read page by page and merged with the rollups in timestamp order straight into
+     * the downsampled series; a raw point and a rolled-up copy of it that has not expired yet
+     * share a timestamp, so the raw point replaces the copy.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @param resolution    The resolution to downsample to
+     * @return The series
+     */
+    @Override
+    public ProgressSeries getGoalProgress(String userId, String characterName, String goalId, Instant from,
+            Instant to, ProgressResolution resolution) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<ProgressSeriesBuilder> rollups = new ArrayList<>();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            ProgressSeriesBuilder rolledUp = new ProgressSeriesBuilder(ProgressResolution.RAW);
+            queryProgressRange(userId, SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, granularity,
+                    granularity.bucketStart(from)), SortKeyUtil.buildGoalRollupSortKey(characterName, goalId,
+                    granularity, granularity.bucketStart(to)), List.of(POINTS), item -> ProgressPackUtil.unpack(
+                    item.get(POINTS).b().asByteArray(), (timestamp, value) -> {
+                        if (timestamp >= fromMillis && timestamp <= toMillis) {
+                            rolledUp.add(timestamp, value);
+                        }
+                    }));
+            if (rolledUp.size() > 0) {
+                rollups.add(rolledUp);
+            }
+        }
+
+        ProgressSeriesBuilder series = new ProgressSeriesBuilder(resolution);
+        int[] positions = new int[rollups.size()];
+        queryProgressRange(userId, SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, from),
+                SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, to), List.of(TIMESTAMP, PROGRESS_VALUE),
+                item -> {
+                    long timestamp = Long.parseLong(item.get(TIMESTAMP).n());
+                    addRollupsUpTo(rollups, positions, timestamp, series);
+                    series.add(timestamp, Long.parseLong(item.get(PROGRESS_VALUE).n()));
+                });
+        addRollupsUpTo(rollups, positions, Long.MAX_VALUE, series);
+        log.debug("Read {} progress points of goal {} of user {}", series.size(), goalId, userId);
+        return series.build(characterName, goalId);
+    }
+
+    private void queryProgressRange(String userId, String fromSortKey, String toSortKey, List<String> attributes,
+            Consumer<Map<String, AttributeValue>> consumer) {
+        Map<String, String> expressionAttributeNames = new LinkedHashMap<>();
+        expressionAttributeNames.put("#pk", PK);
+        expressionAttributeNames.put("#sk", SK);
+        List<String> projection = new ArrayList<>();
+        for (String attribute : attributes) {
+            projection.add("#" + attribute);
+            expressionAttributeNames.put("#" + attribute, attribute);
+        }
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            QueryRequest queryRequest = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .keyConditionExpression("#pk = :pk AND #sk BETWEEN :from AND :to")
+                    .projectionExpression(String.join(", ", projection))
+                    .expressionAttributeNames(expressionAttributeNames)
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.builder().s(USER_PREFIX + userId).build(),
+                            ":from", AttributeValue.builder().s(fromSortKey).build(),
+                            ":to", AttributeValue.builder().s(toSortKey).build()))
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .build();
+            QueryResponse page = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+            page.items().forEach(consumer);
+            exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                    ? page.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+    }
+
+    /**
+     * Adds the rolled-up points up to and including a timestamp to the series, smallest
+     * timestamp first across all granularities.
+     */
+    private static void addRollupsUpTo(List<ProgressSeriesBuilder> rollups, int[] positions, long timestamp,
+            ProgressSeriesBuilder series) {
+        while (true) {
+            int next = -1;
+            for (int i = 0; i < rollups.size(); i++) {
+                if (positions[i] < rollups.get(i).size()
+                        && rollups.get(i).timestampAt(positions[i]) <= timestamp
+                        && (next < 0 || rollups.get(i).timestampAt(positions[i])
+                                < rollups.get(next).timestampAt(positions[next]))) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                return;
+            }
+            series.add(rollups.get(next).timestampAt(positions[next]), rollups.get(next).valueAt(positions[next]));
+            positions[next]++;
+        }
+    }
+
+    /**
+     * Rolls a user's old progress points up with one Query over the user's character range,
+     * read page by page. The filter keeps only raw points before the cutoff that are not yet
+     * marked to expire; a goal's points come back in sort key order, so each bucket's points
+     * are contiguous and only one bucket is held in memory at a time. For each bucket the
+     * points are merged into the bucket's rollup item (a packed series, see
+     * {@link ProgressPackUtil}), which is written before the raw points are re-put with
+     * expiresAt set, so a run that fails part-way only rolls the same points up again. The
+     * table's TTL then removes the raw points without consuming write capacity. A point
+     * re-ingested between the read and the re-put keeps the value the rollup holds.
+     *
+     * @param userId      The ID of the user
+     * @param cutoff      Points before this time are rolled up
+     * @param granularity The size of the buckets
+     * @param expiresAt   The time at which rolled-up points are removed
+     * @return The number of points rolled up and rollups written
+     * @throws IllegalArgumentException If userId is null or empty, or another argument is null
+     * @throws RateLimitedException     If some marked points are still unprocessed after retrying
+     */
+    @Override
+    public ProgressCompaction compactProgress(String userId, Instant cutoff, RollupGranularity granularity,
+            Instant expiresAt) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (cutoff == null || granularity == null || expiresAt == null) {
+            throw new IllegalArgumentException("Cutoff, granularity and expiry cannot be null");
+        }
+
+        long pointsCompacted = 0;
+        long rollupsWritten = 0;
+        RollupBucket bucket = null;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            QueryRequest queryRequest = createCompactionQueryRequest(userId, cutoff, exclusiveStartKey);
+            QueryResponse page = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+            for (Map<String, AttributeValue> item : page.items()) {
+                String characterName = item.get(CHARACTER_NAME).s();
+                String goalId = item.get(GOAL_ID).s();
+                String sortKey = item.get(SK).s();
+                if (sortKey.equals(SortKeyUtil.buildGoalLatestSortKey(characterName, goalId))
+                        || sortKey.equals(SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId))) {
+                    continue;
+                }
+                Instant timestamp = Instant.ofEpochMilli(Long.parseLong(item.get(TIMESTAMP).n()));
+                Instant bucketStart = granularity.bucketStart(timestamp);
+                String rollupSortKey = SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, granularity,
+                        bucketStart);
+                if (bucket == null || !bucket.sortKey.equals(rollupSortKey)) {
+                    if (bucket != null) {
+                        pointsCompacted += writeRollup(userId, bucket, granularity, expiresAt);
+                        rollupsWritten++;
+                    }
+                    bucket = new RollupBucket(rollupSortKey, characterName, goalId, bucketStart);
+                }
+                bucket.points.put(timestamp.toEpochMilli(), Long.parseLong(item.get(PROGRESS_VALUE).n()));
+                bucket.items.add(item);
+            }
+            exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                    ? page.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        if (bucket != null) {
+            pointsCompacted += writeRollup(userId, bucket, granularity, expiresAt);
+            rollupsWritten++;
+        }
+
+        log.debug("Rolled {} progress points of user {} up into {} rollups", pointsCompacted, userId, rollupsWritten);
+        return ProgressCompaction.builder()
+                .usersProcessed(1)
+                .pointsCompacted(pointsCompacted)
+                .rollupsWritten(rollupsWritten)
+                .complete(true)
+                .build();
+    }
+
+    private QueryRequest createCompactionQueryRequest(String userId, Instant cutoff,
+            Map<String, AttributeValue> exclusiveStartKey) {
+        return QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression("#pk = :pk AND begins_with(#sk, :prefix)")
+                .filterExpression("attribute_exists(#progressValue) AND attribute_not_exists(#expiresAt) "
+                        + "AND #timestamp < :cutoff")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#sk", SK,
+                        "#progressValue", PROGRESS_VALUE,
+                        "#expiresAt", EXPIRES_AT,
+                        "#timestamp", TIMESTAMP))
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(USER_PREFIX + userId).build(),
+                        ":prefix", AttributeValue.builder().s(SortKeyUtil.CHARACTER_PREFIX).build(),
+                        ":cutoff", numberValue(cutoff.toEpochMilli())))
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+    }
+
+    /**
+     * Merges a bucket's points into its rollup item and marks the points to expire.
+     *
+     * @return The number of points marked
+     */
+    private int writeRollup(String userId, RollupBucket bucket, RollupGranularity granularity, Instant expiresAt) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(bucket.sortKey).build());
+        GetItemRequest getItemRequest = GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key)
+                .consistentRead(true)
+                .projectionExpression("#points")
+                .expressionAttributeNames(Map.of("#points", POINTS))
+                .build();
+        GetItemResponse existing = callGuard.execute(() -> dynamoDbClient.getItem(getItemRequest));
+        NavigableMap<Long, Long> points = existing.hasItem() && existing.item().containsKey(POINTS)
+                ? ProgressPackUtil.unpack(existing.item().get(POINTS).b().asByteArray())
+                : new TreeMap<>();
+        points.putAll(bucket.points);
+
+        Map<String, AttributeValue> rollup = new LinkedHashMap<>(key);
+        rollup.put(USER_ID, AttributeValue.builder().s(userId).build());
+        rollup.put(CHARACTER_NAME, AttributeValue.builder().s(bucket.characterName).build());
+        rollup.put(GOAL_ID, AttributeValue.builder().s(bucket.goalId).build());
+        rollup.put(GRANULARITY, AttributeValue.builder().s(granularity.name()).build());
+        rollup.put(BUCKET_START, numberValue(bucket.bucketStart.toEpochMilli()));
+        rollup.put(POINT_COUNT, numberValue(points.size()));
+        rollup.put(FIRST_VALUE, numberValue(points.firstEntry().getValue()));
+        rollup.put(LAST_VALUE, numberValue(points.lastEntry().getValue()));
+        rollup.put(POINTS, AttributeValue.builder().b(SdkBytes.fromByteArray(ProgressPackUtil.pack(points))).build());
+        PutItemRequest putItemRequest = PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(rollup)
+                .build();
+        callGuard.execute(() -> dynamoDbClient.putItem(putItemRequest));
+
+        AttributeValue expiry = numberValue(expiresAt.getEpochSecond());
+        for (int start = 0; start < bucket.items.size(); start += BatchWriter.MAX_BATCH_SIZE) {
+            List<WriteRequest> writes = new ArrayList<>();
+            for (Map<String, AttributeValue> item : bucket.items.subList(start,
+                    Math.min(start + BatchWriter.MAX_BATCH_SIZE, bucket.items.size()))) {
+                Map<String, AttributeValue> marked = new LinkedHashMap<>(item);
+                marked.put(EXPIRES_AT, expiry);
+                writes.add(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(marked).build())
+                        .build());
+            }
+            batchWriter.write(writes);
+        }
+        return bucket.items.size();
+    }
+
+    private static AttributeValue numberValue(long value) {
+        return AttributeValue.builder().n(Long.toString(value)).build();
+    }
+
+    /**
+     * The raw points of one goal and bucket that a compaction run has read so far.
+     */
+    private static final class RollupBucket {
+        private final String sortKey;
+        private final String characterName;
+        private final String goalId;
+        private final Instant bucketStart;
+        private final NavigableMap<Long, Long> points = new TreeMap<>();
+        private final List<Map<String, AttributeValue>> items = new ArrayList<>();
+
+        RollupBucket(String sortKey, String characterName, String goalId, Instant bucketStart) {
+            this.sortKey = sortKey;
+            this.characterName = characterName;
+            this.goalId = goalId;
+            this.bucketStart = bucketStart;
+        }
+    }
+}
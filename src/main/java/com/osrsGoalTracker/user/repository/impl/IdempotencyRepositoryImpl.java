@@ -0,0 +1,279 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.cache.LocalCache;
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.IdempotencyStatus;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampAttributeUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * DynamoDB implementation of the IdempotencyRepository interface.
+ * Records are stored as IDEMPOTENCY#key items in the user table and expire through
+ * the table's TTL attribute. Completed records are also kept in a per-container cache
+ * so that replays landing on a warm container need no read at all. Every call goes through the
+ * {@link DynamoDbCallGuard}, like the user table calls on the request path. The completed record
+ * of a created user is written by the user repository in the same transaction as the user, see
+ * {@link #createCompletedWrite(String, String, User)}. An IN_PROGRESS claim is
+ * held until the claiming invocation's deadline plus a margin, so a retry cannot take it over
+ * while the first create may still be running.
+ */
+@Log4j2
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String IDEMPOTENCY_PREFIX = "IDEMPOTENCY#";
+
+    private static final String STATUS = "status";
+    private static final String REQUEST_FINGERPRINT = "requestFingerprint";
+    private static final String USER_ID = "userId";
+    private static final String EMAIL = "email";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String EXPIRES_AT = "expiresAt";
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+    private static final String TTL_SECONDS = System.getenv("IDEMPOTENCY_TTL_SECONDS");
+
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    private static final Duration CONFIGURED_TTL = TTL_SECONDS == null
+            ? DEFAULT_TTL
+            : Duration.ofSeconds(Long.parseLong(TTL_SECONDS));
+    private static final Duration MAX_INVOCATION_TIME = Duration.ofMinutes(15);
+    private static final Duration IN_PROGRESS_MARGIN = Duration.ofSeconds(30);
+    private static final int LOCAL_CACHE_SIZE = 1_000;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+    private final LocalCache<String, IdempotencyRecord> localCache;
+    private final Duration ttl;
+    private final Clock clock;
+
+    /**
+     * Constructor for IdempotencyRepositoryImpl.
+     * Completed records are kept for IDEMPOTENCY_TTL_SECONDS, 24 hours by default.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for request-path DynamoDB calls
+     */
+    @Inject
+    public IdempotencyRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard) {
+        this(dynamoDbClient, callGuard, CONFIGURED_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for IdempotencyRepositoryImpl with an explicit TTL and clock.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for request-path DynamoDB calls
+     * @param ttl            How long completed records are honoured
+     * @param clock          The clock used to compute expiry
+     */
+    IdempotencyRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard, Duration ttl,
+            Clock clock) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.localCache = new LocalCache<>(LOCAL_CACHE_SIZE, ttl, clock);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> getRecord(String idempotencyKey) {
+        Optional<IdempotencyRecord> cached = localCache.get(idempotencyKey);
+        if (cached.isPresent()) {
+            log.debug("Idempotency record found in local cache for key: {}", idempotencyKey);
+            return cached;
+        }
+
+        GetItemRequest getItemRequest = GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(createKey(idempotencyKey))
+                .consistentRead(true)
+                .build();
+        GetItemResponse response = callGuard.execute(() -> dynamoDbClient.getItem(getItemRequest));
+        if (!response.hasItem()) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecord record = toRecord(idempotencyKey, response.item());
+        if (!record.getExpiresAt().isAfter(clock.instant())) {
+            log.debug("Ignoring expired idempotency record for key: {}", idempotencyKey);
+            return Optional.empty();
+        }
+        if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+            localCache.put(idempotencyKey, record);
+        }
+        return Optional.of(record);
+    }
+
+    @Override
+    public boolean claim(String idempotencyKey, String requestFingerprint) {
+        Instant now = clock.instant();
+        Map<String, AttributeValue> item = createKey(idempotencyKey);
+        item.put(STATUS, AttributeValue.builder().s(IdempotencyStatus.IN_PROGRESS.name()).build());
+        item.put(REQUEST_FINGERPRINT, AttributeValue.builder().s(requestFingerprint).build());
+        item.put(EXPIRES_AT, toEpochSecondsAttribute(now.plus(inProgressTtl())));
+
+        PutItemRequest putItemRequest = PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(item)
+                .conditionExpression("attribute_not_exists(#pk) OR #expiresAt < :now")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#expiresAt", EXPIRES_AT))
+                .expressionAttributeValues(Map.of(":now", toEpochSecondsAttribute(now)))
+                .build();
+        try {
+            callGuard.execute(() -> dynamoDbClient.putItem(putItemRequest));
+            log.debug("Claimed idempotency key: {}", idempotencyKey);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.info("Idempotency key already claimed: {}", idempotencyKey);
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String requestFingerprint, User user) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        PutItemRequest putItemRequest = PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(createCompletedItem(idempotencyKey, requestFingerprint, user, expiresAt))
+                .build();
+        callGuard.execute(() -> dynamoDbClient.putItem(putItemRequest));
+        localCache.put(idempotencyKey, IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(IdempotencyStatus.COMPLETED)
+                .requestFingerprint(requestFingerprint)
+                .user(user)
+                .expiresAt(expiresAt)
+                .build());
+        log.debug("Stored completed idempotency record for key: {}", idempotencyKey);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        DeleteItemRequest deleteItemRequest = DeleteItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(createKey(idempotencyKey))
+                .conditionExpression("#status = :inProgress")
+                .expressionAttributeNames(Map.of("#status", STATUS))
+                .expressionAttributeValues(Map.of(":inProgress",
+                        AttributeValue.builder().s(IdempotencyStatus.IN_PROGRESS.name()).build()))
+                .build();
+        try {
+            callGuard.execute(() -> dynamoDbClient.deleteItem(deleteItemRequest));
+            log.debug("Released idempotency key: {}", idempotencyKey);
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Idempotency key {} was not in progress, nothing to release", idempotencyKey);
+        }
+    }
+
+    /**
+     * Gets how long an IN_PROGRESS claim is held: the time the current request has left, or the
+     * longest a Lambda invocation can run when no deadline is set, plus a margin for calls still
+     * in flight at the deadline.
+     */
+    private static Duration inProgressTtl() {
+        OptionalLong remainingMillis = RequestDeadline.remainingMillis();
+        Duration invocationTime = remainingMillis.isPresent()
+                ? Duration.ofMillis(Math.max(0L, remainingMillis.getAsLong()))
+                : MAX_INVOCATION_TIME;
+        return invocationTime.plus(IN_PROGRESS_MARGIN);
+    }
+
+    /**
+     * Builds the write that stores the completed record of a claimed key, to be made in the same
+     * transaction as the user it records. The write is conditioned on the claim still being in
+     * progress for the same request, and the record expires after IDEMPOTENCY_TTL_SECONDS.
+     *
+     * @param idempotencyKey     The claimed key
+     * @param requestFingerprint The fingerprint the key was claimed with
+     * @param user               The created user
+     * @return The transaction item
+     */
+    static TransactWriteItem createCompletedWrite(String idempotencyKey, String requestFingerprint, User user) {
+        return TransactWriteItem.builder().put(Put.builder()
+                .tableName(TABLE_NAME)
+                .item(createCompletedItem(idempotencyKey, requestFingerprint, user,
+                        Instant.now().plus(CONFIGURED_TTL)))
+                .conditionExpression("#status = :inProgress AND #requestFingerprint = :requestFingerprint")
+                .expressionAttributeNames(Map.of(
+                        "#status", STATUS,
+                        "#requestFingerprint", REQUEST_FINGERPRINT))
+                .expressionAttributeValues(Map.of(
+                        ":inProgress", AttributeValue.builder().s(IdempotencyStatus.IN_PROGRESS.name()).build(),
+                        ":requestFingerprint", AttributeValue.builder().s(requestFingerprint).build()))
+                .build()).build();
+    }
+
+    private static Map<String, AttributeValue> createCompletedItem(String idempotencyKey, String requestFingerprint,
+            User user, Instant expiresAt) {
+        Map<String, AttributeValue> item = createKey(idempotencyKey);
+        item.put(STATUS, AttributeValue.builder().s(IdempotencyStatus.COMPLETED.name()).build());
+        item.put(REQUEST_FINGERPRINT, AttributeValue.builder().s(requestFingerprint).build());
+        item.put(USER_ID, AttributeValue.builder().s(user.getUserId()).build());
+        item.put(EMAIL, AttributeValue.builder().s(user.getEmail()).build());
+        item.put(CREATED_AT, TimestampAttributeUtil.toAttributeValue(user.getCreatedAt(),
+                TimestampFormat.EPOCH_MILLIS));
+        item.put(UPDATED_AT, TimestampAttributeUtil.toAttributeValue(user.getUpdatedAt(),
+                TimestampFormat.EPOCH_MILLIS));
+        item.put(EXPIRES_AT, toEpochSecondsAttribute(expiresAt));
+        return item;
+    }
+
+    private static Map<String, AttributeValue> createKey(String idempotencyKey) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(IDEMPOTENCY_PREFIX + idempotencyKey).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getIdempotencySortKey()).build());
+        return key;
+    }
+
+    private static AttributeValue toEpochSecondsAttribute(Instant instant) {
+        return AttributeValue.builder().n(Long.toString(instant.getEpochSecond())).build();
+    }
+
+    private IdempotencyRecord toRecord(String idempotencyKey, Map<String, AttributeValue> item) {
+        IdempotencyStatus status = IdempotencyStatus.valueOf(item.get(STATUS).s());
+        User user = null;
+        if (status == IdempotencyStatus.COMPLETED) {
+            user = User.builder()
+                    .userId(item.get(USER_ID).s())
+                    .email(item.get(EMAIL).s())
+                    .createdAt(TimestampAttributeUtil.fromAttributeValue(item.get(CREATED_AT)))
+                    .updatedAt(TimestampAttributeUtil.fromAttributeValue(item.get(UPDATED_AT)))
+                    .build();
+        }
+        return IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(status)
+                .requestFingerprint(item.get(REQUEST_FINGERPRINT).s())
+                .user(user)
+                .expiresAt(Instant.ofEpochSecond(Long.parseLong(item.get(EXPIRES_AT).n())))
+                .build();
+    }
+}
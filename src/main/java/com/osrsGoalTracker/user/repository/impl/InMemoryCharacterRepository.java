@@ -0,0 +1,75 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+
+/**
+ * In-process implementation of the CharacterRepository interface for running the service
+ * locally without DynamoDB. It is a singleton so that {@link InMemoryUserRepository} purges the
+ * same characters the service registers.
+ */
+@Singleton
+public class InMemoryCharacterRepository implements CharacterRepository {
+    private final Map<String, Map<String, UserCharacter>> charactersByUserId = new HashMap<>();
+
+    @Override
+    public synchronized List<UserCharacter> addCharacters(String userId, Collection<String> characterNames) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (characterNames == null || characterNames.isEmpty()) {
+            throw new IllegalArgumentException("Character names cannot be null or empty");
+        }
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<String, UserCharacter> characters = charactersByUserId.computeIfAbsent(userId, id -> new TreeMap<>());
+        List<UserCharacter> added = new ArrayList<>();
+        for (String characterName : characterNames.stream().distinct().toList()) {
+            UserCharacter character = UserCharacter.builder()
+                    .userId(userId)
+                    .characterName(characterName)
+                    .addedAt(now)
+                    .build();
+            characters.put(characterName, character);
+            added.add(character);
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized void removeCharacter(String userId, String characterName) {
+        Map<String, UserCharacter> characters = charactersByUserId.get(userId);
+        if (characters == null || characters.remove(characterName) == null) {
+            throw new ResourceNotFoundException(String.format(
+                    "Character %s not found for user %s", characterName, userId));
+        }
+    }
+
+    @Override
+    public synchronized List<UserCharacter> listCharacters(String userId) {
+        Map<String, UserCharacter> characters = charactersByUserId.get(userId);
+        return characters == null ? List.of() : List.copyOf(characters.values());
+    }
+
+    /**
+     * Removes all characters of a purged user.
+     *
+     * @param userId The ID of the user
+     * @return The number of characters removed
+     */
+    synchronized int removeAll(String userId) {
+        Map<String, UserCharacter> characters = charactersByUserId.remove(userId);
+        return characters == null ? 0 : characters.size();
+    }
+}
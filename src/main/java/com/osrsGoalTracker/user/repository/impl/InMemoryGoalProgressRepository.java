@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.util.ProgressSeriesBuilder;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+
+/**
+ * In-process implementation of the GoalProgressRepository interface for running the service
+ * locally without DynamoDB. It is a singleton so that {@link InMemoryUserRepository} purges the
+ * same progress the service ingests.
+ */
+@Singleton
+public class InMemoryGoalProgressRepository implements GoalProgressRepository {
+    private final Map<String, NavigableMap<String, GoalProgress>> progressByUserId = new HashMap<>();
+
+    /**
+     * Stores progress points and their goals' LATEST and EARLIEST pointers under the same sort
+     * keys as the table, in one sorted map per user.
+     *
+     * @param userId The ID of the user
+     * @param points The progress points
+     * @return The number of distinct points written
+     */
+    @Override
+    public synchronized int ingestProgress(String userId, Collection<GoalProgress> points) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (points == null || points.isEmpty()) {
+            throw new IllegalArgumentException("Progress points cannot be null or empty");
+        }
+
+        NavigableMap<String, GoalProgress> items = progressByUserId.computeIfAbsent(userId, id -> new TreeMap<>());
+        Set<String> written = new HashSet<>();
+        for (GoalProgress point : points) {
+            GoalProgress truncated = point.toBuilder()
+                    .timestamp(point.getTimestamp().truncatedTo(ChronoUnit.MILLIS))
+                    .build();
+            String sortKey = SortKeyUtil.buildGoalProgressSortKey(truncated.getCharacterName(),
+                    truncated.getGoalId(), truncated.getTimestamp());
+            items.put(sortKey, truncated);
+            written.add(sortKey);
+            items.merge(SortKeyUtil.buildGoalLatestSortKey(truncated.getCharacterName(), truncated.getGoalId()),
+                    truncated, (current, candidate) -> candidate.getTimestamp().isBefore(current.getTimestamp())
+                            ? current : candidate);
+            items.merge(SortKeyUtil.buildGoalEarliestSortKey(truncated.getCharacterName(), truncated.getGoalId()),
+                    truncated, (current, candidate) -> candidate.getTimestamp().isAfter(current.getTimestamp())
+                            ? current : candidate);
+        }
+        return written.size();
+    }
+
+    /**
+     * Reads the goal's points between the sort keys of the range bounds from the user's sorted
+     * map. Points are never rolled up here, so there are no rollups to merge.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @param resolution    The resolution to downsample to
+     * @return The series
+     */
+    @Override
+    public synchronized ProgressSeries getGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, ProgressResolution resolution) {
+        ProgressSeriesBuilder series = new ProgressSeriesBuilder(resolution);
+        NavigableMap<String, GoalProgress> items = progressByUserId.get(userId);
+        if (items != null) {
+            items.subMap(
+                    SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, from), true,
+                    SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, to), true)
+                    .values()
+                    .forEach(point -> series.add(point.getTimestamp().toEpochMilli(), point.getProgressValue()));
+        }
+        return series.build(characterName, goalId);
+    }
+
+    /**
+     * Nothing is persisted across restarts, so progress points are kept as they are rather than
+     * rolled up.
+     *
+     * @param userId      The ID of the user
+     * @param cutoff      The cutoff, ignored
+     * @param granularity The bucket size, ignored
+     * @param expiresAt   The expiry time, ignored
+     * @return A compaction of one user that rolled up nothing
+     */
+    @Override
+    public ProgressCompaction compactProgress(String userId, Instant cutoff, RollupGranularity granularity,
+            Instant expiresAt) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        return ProgressCompaction.builder()
+                .usersProcessed(1)
+                .complete(true)
+                .build();
+    }
+
+    /**
+     * Removes all progress of a purged user.
+     *
+     * @param userId The ID of the user
+     * @return The number of progress entries removed
+     */
+    synchronized int removeAll(String userId) {
+        NavigableMap<String, GoalProgress> progress = progressByUserId.remove(userId);
+        return progress == null ? 0 : progress.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.IdempotencyStatus;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+
+/**
+ * In-process implementation of the IdempotencyRepository interface for running the service
+ * locally without DynamoDB. Claims and completed records expire like their table counterparts.
+ */
+public class InMemoryIdempotencyRepository implements IdempotencyRepository {
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
+    private static final Duration IN_PROGRESS_TTL = Duration.ofMinutes(1);
+
+    private final Map<String, IdempotencyRecord> records = new HashMap<>();
+    private final Clock clock = Clock.systemUTC();
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> getRecord(String idempotencyKey) {
+        IdempotencyRecord record = records.get(idempotencyKey);
+        if (record == null || !record.getExpiresAt().isAfter(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(record);
+    }
+
+    @Override
+    public synchronized boolean claim(String idempotencyKey, String requestFingerprint) {
+        Instant now = clock.instant();
+        if (getRecord(idempotencyKey).isPresent()) {
+            return false;
+        }
+        records.put(idempotencyKey, IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .requestFingerprint(requestFingerprint)
+                .expiresAt(now.plus(IN_PROGRESS_TTL))
+                .build());
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String idempotencyKey, String requestFingerprint, User user) {
+        records.put(idempotencyKey, IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(IdempotencyStatus.COMPLETED)
+                .requestFingerprint(requestFingerprint)
+                .user(user)
+                .expiresAt(clock.instant().plus(COMPLETED_TTL))
+                .build());
+    }
+
+    @Override
+    public synchronized void release(String idempotencyKey) {
+        records.remove(idempotencyKey);
+    }
+}
@@ -0,0 +1,28 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+
+/**
+ * In-process implementation of the JobCheckpointRepository interface for running the service
+ * locally without DynamoDB.
+ */
+public class InMemoryJobCheckpointRepository implements JobCheckpointRepository {
+    private final Map<String, String> checkpointsByJobName = new HashMap<>();
+
+    @Override
+    public synchronized String getJobCheckpoint(String jobName) {
+        return checkpointsByJobName.get(jobName);
+    }
+
+    @Override
+    public synchronized void saveJobCheckpoint(String jobName, String cursor) {
+        if (cursor == null) {
+            checkpointsByJobName.remove(jobName);
+        } else {
+            checkpointsByJobName.put(jobName, cursor);
+        }
+    }
+}
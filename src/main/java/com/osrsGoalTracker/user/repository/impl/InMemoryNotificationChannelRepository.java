@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.SubscriberPage;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.util.ChannelIndexKeyUtil;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * In-process implementation of the NotificationChannelRepository interface for running the
+ * service locally without DynamoDB. It is a singleton so that {@link InMemoryUserRepository}
+ * purges the same channels the service sets.
+ */
+@Singleton
+public class InMemoryNotificationChannelRepository implements NotificationChannelRepository {
+    private static final String CURSOR_USER_ID = "userId";
+
+    private final Map<String, Map<NotificationChannelType, NotificationChannel>> channelsByUserId = new HashMap<>();
+
+    @Override
+    public synchronized NotificationChannel putNotificationChannel(String userId,
+            NotificationChannelType channelType, String identifier) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+        if (identifier == null || identifier.trim().isEmpty()) {
+            throw new IllegalArgumentException("Channel identifier cannot be null or empty");
+        }
+
+        NotificationChannel channel = NotificationChannel.builder()
+                .userId(userId)
+                .channelType(channelType)
+                .identifier(identifier)
+                .updatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+        channelsByUserId.computeIfAbsent(userId, id -> new EnumMap<>(NotificationChannelType.class))
+                .put(channelType, channel);
+        return channel;
+    }
+
+    @Override
+    public synchronized List<NotificationChannel> listNotificationChannels(String userId) {
+        Map<NotificationChannelType, NotificationChannel> channels = channelsByUserId.get(userId);
+        return channels == null ? List.of() : List.copyOf(channels.values());
+    }
+
+    @Override
+    public synchronized void removeNotificationChannel(String userId, NotificationChannelType channelType) {
+        Map<NotificationChannelType, NotificationChannel> channels = channelsByUserId.get(userId);
+        if (channels == null || channels.remove(channelType) == null) {
+            throw new ResourceNotFoundException(String.format(
+                    "No %s notification channel for user %s", channelType, userId));
+        }
+    }
+
+    /**
+     * Lists subscribers using the same segments as the table's channel index. The cursor holds
+     * the ID of the last user on the previous page.
+     *
+     * @param channelType The type of channel to list subscribers of
+     * @param segment     The segment to read
+     * @param pageSize    The maximum number of channels to return
+     * @param cursor      The cursor of the previous page of this segment, or null for the first page
+     * @return The page of channels and the cursor of the segment's next page
+     */
+    @Override
+    public synchronized SubscriberPage listSubscribers(NotificationChannelType channelType, int segment,
+            int pageSize, String cursor) {
+        if (segment < 0 || segment >= ChannelIndexKeyUtil.SEGMENTS) {
+            throw new IllegalArgumentException(
+                    "Segment must be between 0 and " + (ChannelIndexKeyUtil.SEGMENTS - 1));
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Map<String, AttributeValue> after = PageCursorUtil.decode(cursor);
+        if (after != null && !after.keySet().equals(Set.of(CURSOR_USER_ID))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String lastUserId = after == null ? null : after.get(CURSOR_USER_ID).s();
+
+        List<NotificationChannel> subscribers = channelsByUserId.values().stream()
+                .map(channels -> channels.get(channelType))
+                .filter(channel -> channel != null
+                        && ChannelIndexKeyUtil.getSegment(channel.getUserId()) == segment
+                        && (lastUserId == null || channel.getUserId().compareTo(lastUserId) > 0))
+                .sorted(Comparator.comparing(NotificationChannel::getUserId))
+                .toList();
+        List<NotificationChannel> page = subscribers.subList(0, Math.min(pageSize, subscribers.size()));
+        String nextCursor = subscribers.size() > pageSize
+                ? PageCursorUtil.encode(Map.of(CURSOR_USER_ID,
+                        AttributeValue.builder().s(page.get(page.size() - 1).getUserId()).build()))
+                : null;
+        return SubscriberPage.builder()
+                .channels(List.copyOf(page))
+                .nextCursor(nextCursor)
+                .totalSegments(ChannelIndexKeyUtil.SEGMENTS)
+                .build();
+    }
+
+    /**
+     * Removes all channels of a purged user.
+     *
+     * @param userId The ID of the user
+     * @return The number of channels removed
+     */
+    synchronized int removeAll(String userId) {
+        Map<NotificationChannelType, NotificationChannel> channels = channelsByUserId.remove(userId);
+        return channels == null ? 0 : channels.size();
+    }
+}
@@ -0,0 +1,306 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.exception.DuplicateUserException;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.exception.VersionConflictException;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * In-process implementation of the UserRepository interface for running the service locally
+ * without DynamoDB. It enforces the same email uniqueness and version checks as the table
+ * implementation. All reads are strongly consistent and nothing is persisted across restarts.
+ */
+@Log4j2
+public class InMemoryUserRepository implements UserRepository {
+    private static final long INITIAL_VERSION = 1L;
+    private static final String CURSOR_CREATED_AT = "createdAt";
+    private static final String CURSOR_USER_ID = "userId";
+    private static final Comparator<User> CREATION_ORDER = Comparator.comparing(User::getCreatedAt)
+            .thenComparing(User::getUserId);
+
+    private final Map<String, User> usersById = new HashMap<>();
+    private final Map<String, String> userIdsByEmail = new HashMap<>();
+    private final UserIdGenerator userIdGenerator;
+    private final IdempotencyRepository idempotencyRepository;
+    private final InMemoryCharacterRepository characterRepository;
+    private final InMemoryNotificationChannelRepository channelRepository;
+    private final InMemoryGoalProgressRepository progressRepository;
+
+    /**
+     * Creates an empty repository.
+     *
+     * @param userIdGenerator       The generator for the IDs of new users
+     * @param idempotencyRepository The repository that completed idempotency records are stored in
+     * @param characterRepository   The repository whose characters are removed when a user is purged
+     * @param channelRepository     The repository whose channels are removed when a user is purged
+     * @param progressRepository    The repository whose goal progress is removed when a user is purged
+     */
+    @Inject
+    public InMemoryUserRepository(UserIdGenerator userIdGenerator, IdempotencyRepository idempotencyRepository,
+            InMemoryCharacterRepository characterRepository, InMemoryNotificationChannelRepository channelRepository,
+            InMemoryGoalProgressRepository progressRepository) {
+        this.userIdGenerator = userIdGenerator;
+        this.idempotencyRepository = idempotencyRepository;
+        this.characterRepository = characterRepository;
+        this.channelRepository = channelRepository;
+        this.progressRepository = progressRepository;
+    }
+
+    @Override
+    public User getUser(String userId) {
+        return getUser(userId, ReadConsistency.STRONG);
+    }
+
+    @Override
+    public synchronized User getUser(String userId, ReadConsistency readConsistency) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        User user = usersById.get(userId);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+        return user;
+    }
+
+    @Override
+    public synchronized Map<String, User> getUsers(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        if (userIds == null) {
+            return users;
+        }
+        for (String userId : userIds) {
+            User user = usersById.get(userId);
+            if (user != null) {
+                users.put(userId, user);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Lists users in creation order. The cursor holds the creation time and ID of the last user
+     * on the previous page, so users deleted in between do not shift later pages.
+     *
+     * @param pageSize The maximum number of users to return
+     * @param cursor   The cursor of the previous page, or null for the first page
+     * @param fields   The fields to return; the user ID is always returned, and an empty set returns all fields
+     * @return The page of users and the cursor of the next page
+     */
+    @Override
+    public synchronized UserPage listUsers(int pageSize, String cursor, Set<UserField> fields) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Map<String, AttributeValue> after = PageCursorUtil.decode(cursor);
+        if (after != null && !after.keySet().equals(Set.of(CURSOR_CREATED_AT, CURSOR_USER_ID))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        User last = after == null ? null : User.builder()
+                .createdAt(Instant.ofEpochMilli(Long.parseLong(after.get(CURSOR_CREATED_AT).n())))
+                .userId(after.get(CURSOR_USER_ID).s())
+                .build();
+
+        List<User> ordered = usersById.values().stream()
+                .filter(user -> last == null || CREATION_ORDER.compare(user, last) > 0)
+                .sorted(CREATION_ORDER)
+                .toList();
+        List<User> users = new ArrayList<>();
+        for (User user : ordered.subList(0, Math.min(pageSize, ordered.size()))) {
+            users.add(project(user, fields));
+        }
+        String nextCursor = null;
+        if (ordered.size() > pageSize) {
+            User lastOnPage = ordered.get(pageSize - 1);
+            Map<String, AttributeValue> key = new HashMap<>();
+            key.put(CURSOR_CREATED_AT, AttributeValue.builder()
+                    .n(Long.toString(lastOnPage.getCreatedAt().toEpochMilli())).build());
+            key.put(CURSOR_USER_ID, AttributeValue.builder().s(lastOnPage.getUserId()).build());
+            nextCursor = PageCursorUtil.encode(key);
+        }
+        return UserPage.builder()
+                .users(users)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static User project(User user, Set<UserField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return user;
+        }
+        return User.builder()
+                .userId(user.getUserId())
+                .email(fields.contains(UserField.EMAIL) ? user.getEmail() : null)
+                .createdAt(fields.contains(UserField.CREATED_AT) ? user.getCreatedAt() : null)
+                .updatedAt(fields.contains(UserField.UPDATED_AT) ? user.getUpdatedAt() : null)
+                .version(fields.contains(UserField.VERSION) ? user.getVersion() : 0L)
+                .build();
+    }
+
+    @Override
+    public synchronized User createUser(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+        if (userIdsByEmail.containsKey(normalizeEmail(email))) {
+            throw new DuplicateUserException("User already exists with email: " + email);
+        }
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        User user = User.builder()
+                .userId(userIdGenerator.generate())
+                .email(email)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(INITIAL_VERSION)
+                .build();
+        usersById.put(user.getUserId(), user);
+        userIdsByEmail.put(normalizeEmail(email), user.getUserId());
+        log.debug("Created in-memory user {}", user.getUserId());
+        return user;
+    }
+
+    @Override
+    public synchronized User createUser(String email, String idempotencyKey) {
+        User user = createUser(email);
+        idempotencyRepository.complete(idempotencyKey, email, user);
+        return user;
+    }
+
+    @Override
+    public synchronized User updateUser(User currentUser, String email) {
+        if (currentUser == null || currentUser.getUserId() == null || currentUser.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+
+        User storedUser = getCurrentVersion(currentUser.getUserId(), currentUser.getVersion());
+        String owner = userIdsByEmail.get(normalizeEmail(email));
+        if (owner != null && !owner.equals(storedUser.getUserId())) {
+            throw new DuplicateUserException("User already exists with email: " + email);
+        }
+
+        User updatedUser = storedUser.toBuilder()
+                .email(email)
+                .updatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .version(storedUser.getVersion() + 1)
+                .build();
+        userIdsByEmail.remove(normalizeEmail(storedUser.getEmail()));
+        userIdsByEmail.put(normalizeEmail(email), storedUser.getUserId());
+        usersById.put(storedUser.getUserId(), updatedUser);
+        return updatedUser;
+    }
+
+    @Override
+    public synchronized User deleteUser(String userId, long expectedVersion) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        User storedUser = getCurrentVersion(userId, expectedVersion);
+        usersById.remove(userId);
+        userIdsByEmail.remove(normalizeEmail(storedUser.getEmail()));
+        return storedUser;
+    }
+
+    /**
+     * Timestamps are held as instants, so there is nothing to migrate.
+     *
+     * @param totalSegments The number of parallel scan segments, ignored
+     * @return Always 0
+     */
+    @Override
+    public long migrateTimestamps(int totalSegments) {
+        if (totalSegments < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+        return 0;
+    }
+
+    /**
+     * Emails are looked up in a map, so there is no filter to rebuild.
+     *
+     * @param totalSegments The number of parallel scan segments, ignored
+     * @return Always 0
+     */
+    @Override
+    public long rebuildEmailFilter(int totalSegments) {
+        if (totalSegments < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the user and everything stored under the user in one step, so the purge always
+     * completes.
+     *
+     * @param userId             The ID of the user to purge
+     * @param maxInFlightBatches The maximum number of batches in flight, ignored
+     * @param deadline           The deadline, ignored
+     * @return The number of entries removed
+     */
+    @Override
+    public synchronized UserPurge purgeUser(String userId, int maxInFlightBatches, Instant deadline) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        long itemsDeleted = 0;
+        User storedUser = usersById.remove(userId);
+        if (storedUser != null) {
+            userIdsByEmail.remove(normalizeEmail(storedUser.getEmail()), userId);
+            itemsDeleted++;
+        }
+        itemsDeleted += characterRepository.removeAll(userId);
+        itemsDeleted += channelRepository.removeAll(userId);
+        itemsDeleted += progressRepository.removeAll(userId);
+        return UserPurge.builder()
+                .userId(userId)
+                .itemsDeleted(itemsDeleted)
+                .complete(true)
+                .build();
+    }
+
+    private User getCurrentVersion(String userId, long expectedVersion) {
+        User storedUser = usersById.get(userId);
+        if (storedUser == null) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+        if (storedUser.getVersion() != expectedVersion) {
+            throw new VersionConflictException(String.format(
+                    "User %s has been modified since version %d", userId, expectedVersion));
+        }
+        return storedUser;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
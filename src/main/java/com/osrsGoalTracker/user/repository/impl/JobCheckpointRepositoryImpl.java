@@ -0,0 +1,98 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+/**
+ * DynamoDB implementation of the JobCheckpointRepository interface.
+ * Each job's checkpoint is one item in the job's own JOB#name partition of the user table.
+ * Every call goes through the {@link DynamoDbCallGuard}.
+ */
+public class JobCheckpointRepositoryImpl implements JobCheckpointRepository {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String JOB_PREFIX = "JOB#";
+
+    private static final String CURSOR = "cursor";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+
+    /**
+     * Constructor for JobCheckpointRepositoryImpl.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for DynamoDB calls
+     */
+    @Inject
+    public JobCheckpointRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+    }
+
+    /**
+     * Retrieves a job checkpoint with a strongly consistent read, so a run that starts right
+     * after the previous one stopped resumes from where it stopped.
+     *
+     * @param jobName The name of the job
+     * @return The saved cursor, or null if the job has no checkpoint
+     */
+    @Override
+    public String getJobCheckpoint(String jobName) {
+        GetItemRequest getItemRequest = GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(jobCheckpointKey(jobName))
+                .consistentRead(true)
+                .build();
+        GetItemResponse response = callGuard.execute(() -> dynamoDbClient.getItem(getItemRequest));
+        return response.hasItem() && response.item().containsKey(CURSOR) ? response.item().get(CURSOR).s() : null;
+    }
+
+    /**
+     * Saves a job checkpoint as one item in the job's own partition, or deletes the item when
+     * the cursor is null.
+     *
+     * @param jobName The name of the job
+     * @param cursor  The cursor to resume from, or null to clear the checkpoint
+     */
+    @Override
+    public void saveJobCheckpoint(String jobName, String cursor) {
+        if (cursor == null) {
+            DeleteItemRequest deleteItemRequest = DeleteItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(jobCheckpointKey(jobName))
+                    .build();
+            callGuard.execute(() -> dynamoDbClient.deleteItem(deleteItemRequest));
+            return;
+        }
+        Map<String, AttributeValue> item = new LinkedHashMap<>(jobCheckpointKey(jobName));
+        item.put(CURSOR, AttributeValue.builder().s(cursor).build());
+        item.put(UPDATED_AT, AttributeValue.builder().n(Long.toString(Instant.now().toEpochMilli())).build());
+        PutItemRequest putItemRequest = PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(item)
+                .build();
+        callGuard.execute(() -> dynamoDbClient.putItem(putItemRequest));
+    }
+
+    private static Map<String, AttributeValue> jobCheckpointKey(String jobName) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(JOB_PREFIX + jobName).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getJobCheckpointSortKey()).build());
+        return key;
+    }
+}
@@ -0,0 +1,256 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.SubscriberPage;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.util.ChannelIndexKeyUtil;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampAttributeUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * DynamoDB implementation of the NotificationChannelRepository interface.
+ * Each channel is a NOTIFICATION#type item in its user's partition of the user table, so it is
+ * purged along with the user. Channel items also carry the keys of the sparse
+ * notification-channel-index, which is what subscriber listings read. Every call goes through
+ * the {@link DynamoDbCallGuard}.
+ */
+@Log4j2
+public class NotificationChannelRepositoryImpl implements NotificationChannelRepository {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_PREFIX = "USER#";
+
+    private static final String USER_ID = "userId";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String CHANNEL_TYPE = "channelType";
+    private static final String IDENTIFIER = "identifier";
+    private static final String CHANNEL_PK = "channelPk";
+    private static final String CHANNEL_SK = "channelSk";
+    private static final String CHANNEL_INDEX = "notification-channel-index";
+    private static final Set<String> CHANNEL_CURSOR_KEYS = Set.of(PK, SK, CHANNEL_PK, CHANNEL_SK);
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+    private static final String TIMESTAMP_FORMAT = System.getenv("USER_TIMESTAMP_FORMAT");
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbCallGuard callGuard;
+    private final TimestampFormat timestampFormat;
+
+    /**
+     * Constructor for NotificationChannelRepositoryImpl.
+     * Timestamps are written in the format configured by the USER_TIMESTAMP_FORMAT environment variable.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param callGuard      The load-shedding guard for request-path DynamoDB calls
+     */
+    @Inject
+    public NotificationChannelRepositoryImpl(DynamoDbClient dynamoDbClient, DynamoDbCallGuard callGuard) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.callGuard = callGuard;
+        this.timestampFormat = TimestampFormat.fromValue(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Sets a user's notification channel of a type with a single PutItem. The item also carries
+     * the keys of the sparse channel index: the partition is the channel type's segment for the
+     * user, and the sort key is the user ID.
+     *
+     * @param userId      The ID of the user
+     * @param channelType The type of the channel
+     * @param identifier  The address notifications are sent to
+     * @return The stored channel
+     * @throws IllegalArgumentException If any argument is null or empty
+     */
+    @Override
+    public NotificationChannel putNotificationChannel(String userId, NotificationChannelType channelType,
+            String identifier) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+        if (identifier == null || identifier.trim().isEmpty()) {
+            throw new IllegalArgumentException("Channel identifier cannot be null or empty");
+        }
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<String, AttributeValue> item = channelKey(userId, channelType);
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(CHANNEL_TYPE, AttributeValue.builder().s(channelType.name()).build());
+        item.put(IDENTIFIER, AttributeValue.builder().s(identifier).build());
+        item.put(UPDATED_AT, TimestampAttributeUtil.toAttributeValue(now, timestampFormat));
+        item.put(CHANNEL_PK, AttributeValue.builder().s(ChannelIndexKeyUtil.getPartitionKey(channelType,
+                ChannelIndexKeyUtil.getSegment(userId))).build());
+        item.put(CHANNEL_SK, AttributeValue.builder().s(userId).build());
+
+        log.info("Setting {} notification channel of user {}", channelType, userId);
+        PutItemRequest putItemRequest = PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(item)
+                .build();
+        callGuard.execute(() -> dynamoDbClient.putItem(putItemRequest));
+        return NotificationChannel.builder()
+                .userId(userId)
+                .channelType(channelType)
+                .identifier(identifier)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Lists the notification channels of a user with a single begins_with Query on the user's partition.
+     *
+     * @param userId The ID of the user
+     * @return The user's channels, ordered by type
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    @Override
+    public List<NotificationChannel> listNotificationChannels(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        QueryRequest queryRequest = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression("#pk = :pk AND begins_with(#sk, :prefix)")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#sk", SK))
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(USER_PREFIX + userId).build(),
+                        ":prefix", AttributeValue.builder().s(SortKeyUtil.NOTIFICATION_PREFIX).build()))
+                .build();
+        QueryResponse response = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+        List<NotificationChannel> channels = new ArrayList<>();
+        for (Map<String, AttributeValue> item : response.items()) {
+            channels.add(toNotificationChannel(item));
+        }
+        return channels;
+    }
+
+    /**
+     * Removes a user's notification channel of a type, which also removes it from the channel index.
+     *
+     * @param userId      The ID of the user
+     * @param channelType The type of the channel to remove
+     * @throws IllegalArgumentException  If userId is null or empty, or channelType is null
+     * @throws ResourceNotFoundException If the user has no channel of the type
+     */
+    @Override
+    public void removeNotificationChannel(String userId, NotificationChannelType channelType) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+
+        log.info("Removing {} notification channel of user {}", channelType, userId);
+        DeleteItemRequest deleteItemRequest = DeleteItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(channelKey(userId, channelType))
+                .conditionExpression("attribute_exists(#pk)")
+                .expressionAttributeNames(Map.of("#pk", PK))
+                .build();
+        try {
+            callGuard.execute(() -> dynamoDbClient.deleteItem(deleteItemRequest));
+        } catch (ConditionalCheckFailedException e) {
+            log.warn("No {} notification channel for user {}", channelType, userId);
+            throw new ResourceNotFoundException(String.format(
+                    "No %s notification channel for user %s", channelType, userId));
+        }
+    }
+
+    /**
+     * Lists one page of a segment of the channel index. Only channel items carry the index keys,
+     * so each page reads at most pageSize subscribers and nothing else, however large the table is.
+     *
+     * @param channelType The type of channel to list subscribers of
+     * @param segment     The segment to read
+     * @param pageSize    The maximum number of channels to return
+     * @param cursor      The cursor of the previous page of this segment, or null for the first page
+     * @return The page of channels and the cursor of the segment's next page
+     * @throws IllegalArgumentException If the segment or page size is out of range, or the cursor is invalid
+     */
+    @Override
+    public SubscriberPage listSubscribers(NotificationChannelType channelType, int segment, int pageSize,
+            String cursor) {
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+        if (segment < 0 || segment >= ChannelIndexKeyUtil.SEGMENTS) {
+            throw new IllegalArgumentException(
+                    "Segment must be between 0 and " + (ChannelIndexKeyUtil.SEGMENTS - 1));
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Map<String, AttributeValue> exclusiveStartKey = PageCursorUtil.decode(cursor);
+        if (exclusiveStartKey != null && !exclusiveStartKey.keySet().equals(CHANNEL_CURSOR_KEYS)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        QueryRequest queryRequest = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .indexName(CHANNEL_INDEX)
+                .keyConditionExpression("#channelPk = :channelPk")
+                .expressionAttributeNames(Map.of("#channelPk", CHANNEL_PK))
+                .expressionAttributeValues(Map.of(":channelPk", AttributeValue.builder()
+                        .s(ChannelIndexKeyUtil.getPartitionKey(channelType, segment)).build()))
+                .limit(pageSize)
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+
+        log.debug("Listing up to {} {} subscribers in segment {}", pageSize, channelType, segment);
+        QueryResponse response = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+        List<NotificationChannel> channels = new ArrayList<>();
+        for (Map<String, AttributeValue> item : response.items()) {
+            channels.add(toNotificationChannel(item));
+        }
+        return SubscriberPage.builder()
+                .channels(channels)
+                .nextCursor(PageCursorUtil.encode(response.lastEvaluatedKey()))
+                .totalSegments(ChannelIndexKeyUtil.SEGMENTS)
+                .build();
+    }
+
+    private Map<String, AttributeValue> channelKey(String userId, NotificationChannelType channelType) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getNotificationChannelSortKey(channelType.name())).build());
+        return key;
+    }
+
+    private static NotificationChannel toNotificationChannel(Map<String, AttributeValue> item) {
+        AttributeValue updatedAt = item.get(UPDATED_AT);
+        return NotificationChannel.builder()
+                .userId(item.get(USER_ID).s())
+                .channelType(NotificationChannelType.fromValue(item.get(CHANNEL_TYPE).s()))
+                .identifier(item.get(IDENTIFIER).s())
+                .updatedAt(updatedAt == null ? null : TimestampAttributeUtil.fromAttributeValue(updatedAt))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * DynamoDB implementation of the OutboxRepository interface.
+ * Outbox items are stored as OUTBOX#eventId items in the user table. They are picked up
+ * from the table's stream and expire through the TTL attribute if they are never deleted.
+ */
+@Log4j2
+public class OutboxRepositoryImpl implements OutboxRepository {
+    static final String OUTBOX_PREFIX = "OUTBOX#";
+
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String EVENT_ID = "eventId";
+    private static final String EVENT_TYPE = "eventType";
+    private static final String DETAIL = "detail";
+    private static final String OCCURRED_AT = "occurredAt";
+    private static final String EXPIRES_AT = "expiresAt";
+    private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+
+    private static final Duration OUTBOX_TTL = Duration.ofDays(7);
+    private static final int MAX_BATCH_WRITE_SIZE = 25;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 50L;
+
+    private final DynamoDbClient dynamoDbClient;
+
+    /**
+     * Constructor for OutboxRepositoryImpl.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     */
+    @Inject
+    public OutboxRepositoryImpl(DynamoDbClient dynamoDbClient) {
+        this.dynamoDbClient = dynamoDbClient;
+    }
+
+    /**
+     * Builds the outbox item for an event, to be written in the same transaction as the change
+     * that produced it.
+     *
+     * @param event The event to store
+     * @return The outbox item attributes
+     */
+    static Map<String, AttributeValue> createOutboxItem(OutboxEvent event) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>(outboxKey(event.getEventId()));
+        item.put(EVENT_ID, AttributeValue.builder().s(event.getEventId()).build());
+        item.put(EVENT_TYPE, AttributeValue.builder().s(event.getEventType()).build());
+        item.put(DETAIL, AttributeValue.builder().s(event.getDetail()).build());
+        item.put(OCCURRED_AT, AttributeValue.builder()
+                .n(Long.toString(event.getOccurredAt().toEpochMilli())).build());
+        item.put(EXPIRES_AT, AttributeValue.builder()
+                .n(Long.toString(event.getOccurredAt().plus(OUTBOX_TTL).getEpochSecond())).build());
+        return item;
+    }
+
+    private static Map<String, AttributeValue> outboxKey(String eventId) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(OUTBOX_PREFIX + eventId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getOutboxSortKey()).build());
+        return key;
+    }
+
+    @Override
+    public int deleteEvents(List<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return 0;
+        }
+
+        int failed = 0;
+        for (int start = 0; start < eventIds.size(); start += MAX_BATCH_WRITE_SIZE) {
+            List<WriteRequest> writeRequests = new ArrayList<>();
+            for (String eventId : eventIds.subList(start, Math.min(start + MAX_BATCH_WRITE_SIZE, eventIds.size()))) {
+                writeRequests.add(WriteRequest.builder()
+                        .deleteRequest(DeleteRequest.builder().key(outboxKey(eventId)).build())
+                        .build());
+            }
+            failed += deleteBatch(writeRequests);
+        }
+
+        if (failed > 0) {
+            log.warn("Failed to delete {} outbox items; they will expire through TTL", failed);
+        }
+        return failed;
+    }
+
+    private int deleteBatch(List<WriteRequest> writeRequests) {
+        List<WriteRequest> pending = writeRequests;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                backoff(attempt);
+            }
+            BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(Collections.singletonMap(TABLE_NAME, pending))
+                    .build());
+            pending = response.hasUnprocessedItems()
+                    ? response.unprocessedItems().getOrDefault(TABLE_NAME, List.of())
+                    : List.of();
+        }
+        return pending.size();
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(BASE_BACKOFF_MILLIS << (attempt - 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,53 +1,204 @@
 package com.osrsGoalTracker.user.repository.impl;
 
-import com.osrsGoalTracker.user.dao.entity.UserEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.filter.BloomFilter;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.resilience.LatencyTracker;
+import com.osrsGoalTracker.user.common.resilience.RequestHedger;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.model.ReadConsistency;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.model.UserCreatedEvent;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.entity.UserEntity;
 import com.osrsGoalTracker.user.repository.exception.DuplicateUserException;
 import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.exception.VersionConflictException;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
 import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampAttributeUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+import com.osrsGoalTracker.user.repository.util.UserListIndexKeyUtil;
 
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import lombok.extern.log4j.Log4j2;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import com.google.inject.Inject;
 
 /**
  * Default implementation of the UserRepository interface.
+ * Request-path calls go through a {@link DynamoDbCallGuard}, so they are shed instead of
+ * queued when DynamoDB is throttling or the request is about to run out of time.
+ * The timestamp migration and email filter rebuild are background jobs and are not guarded.
+ * Email lookups are skipped when the {@link EmailFilter} knows the email is not in use.
  */
 @Log4j2
 public class UserRepositoryImpl implements UserRepository {
     private static final String PK = "pk";
     private static final String SK = "sk";
     private static final String USER_PREFIX = "USER#";
+    private static final String EMAIL_PREFIX = "EMAIL#";
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
 
     private static final String USER_ID = "userId";
     private static final String EMAIL = "email";
     private static final String CREATED_AT = "createdAt";
     private static final String UPDATED_AT = "updatedAt";
+    private static final String VERSION = "version";
+    private static final String LIST_PK = "listPk";
+    private static final String LIST_SK = "listSk";
+    private static final String LEGACY_LIST_PARTITION = "USER";
+    private static final String LIST_INDEX = "user-list-index";
+    private static final Set<String> LIST_CURSOR_KEYS = Set.of(PK, SK, LIST_SK);
+    private static final String LIST_CURSOR_END = "end";
+    private static final long INITIAL_VERSION = 1L;
+    private static final int IDEMPOTENCY_WRITE_INDEX = 3;
+    private static final int MAX_BATCH_GET_SIZE = 100;
+    private static final int MAX_BATCH_GET_ATTEMPTS = 3;
+    private static final long BATCH_GET_BACKOFF_MILLIS = 50L;
     private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
+    private static final String TIMESTAMP_FORMAT = System.getenv("USER_TIMESTAMP_FORMAT");
+    private static final String READ_CONSISTENCY = System.getenv("USER_READ_CONSISTENCY");
+    private static final String HEDGED_READS = System.getenv("USER_HEDGED_READS");
+    private static final String HEDGE_MIN_DELAY_MILLIS = System.getenv("USER_HEDGE_MIN_DELAY_MILLIS");
+    private static final String HEDGE_MAX_DELAY_MILLIS = System.getenv("USER_HEDGE_MAX_DELAY_MILLIS");
+    private static final long DEFAULT_HEDGE_MIN_DELAY_MILLIS = 5L;
+    private static final long DEFAULT_HEDGE_MAX_DELAY_MILLIS = 200L;
+    private static final int LATENCY_SAMPLES = 512;
+    private static final int MIN_LATENCY_SAMPLES = 50;
+
+    private static final ObjectMapper EVENT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final String STRONG_READS_METRIC = "GetUser.StrongReads";
+    private static final String EVENTUAL_READS_METRIC = "GetUser.EventualReads";
+    private static final String STRONG_READ_CAPACITY_METRIC = "GetUser.StrongReadCapacityUnits";
+    private static final String EVENTUAL_READ_CAPACITY_METRIC = "GetUser.EventualReadCapacityUnits";
+    private static final String HEDGE_METRIC_PREFIX = "GetUser";
 
     private final DynamoDbClient dynamoDbClient;
+    private final MetricsRecorder metricsRecorder;
+    private final DynamoDbCallGuard callGuard;
+    private final EmailFilter emailFilter;
+    private final BatchWriter batchWriter;
+    private final UserIdGenerator userIdGenerator;
+    private final TimestampFormat timestampFormat;
+    private final ReadConsistency defaultReadConsistency;
+    private final RequestHedger getItemHedger;
 
     /**
      * Constructor for UserRepositoryImpl.
+     * Timestamps are written in the format configured by the USER_TIMESTAMP_FORMAT environment variable,
+     * and reads without an explicit consistency use the USER_READ_CONSISTENCY environment variable.
+     * Setting USER_HEDGED_READS to true hedges getUser reads after the observed p95 latency,
+     * bounded by USER_HEDGE_MIN_DELAY_MILLIS and USER_HEDGE_MAX_DELAY_MILLIS.
      *
-     * @param dynamoDbClient The AWS DynamoDB client
+     * @param dynamoDbClient  The AWS DynamoDB client
+     * @param metricsRecorder The recorder for read consistency metrics
+     * @param callGuard       The load-shedding guard for request-path DynamoDB calls
+     * @param emailFilter     The email-existence pre-check for email lookups
+     * @param userIdGenerator The generator for the IDs of new users
      */
     @Inject
-    public UserRepositoryImpl(DynamoDbClient dynamoDbClient) {
+    public UserRepositoryImpl(DynamoDbClient dynamoDbClient, MetricsRecorder metricsRecorder,
+            DynamoDbCallGuard callGuard, EmailFilter emailFilter, UserIdGenerator userIdGenerator) {
+        this(dynamoDbClient, metricsRecorder, callGuard, emailFilter, userIdGenerator,
+                TimestampFormat.fromValue(TIMESTAMP_FORMAT),
+                ReadConsistency.fromValue(READ_CONSISTENCY),
+                Boolean.parseBoolean(HEDGED_READS) ? createGetItemHedger(metricsRecorder) : null);
+    }
+
+    /**
+     * Constructor for UserRepositoryImpl with explicit storage and read settings.
+     *
+     * @param dynamoDbClient         The AWS DynamoDB client
+     * @param metricsRecorder        The recorder for read consistency metrics
+     * @param callGuard              The load-shedding guard for request-path DynamoDB calls
+     * @param emailFilter            The email-existence pre-check for email lookups
+     * @param userIdGenerator        The generator for the IDs of new users
+     * @param timestampFormat        The format used when writing timestamp attributes
+     * @param defaultReadConsistency The consistency used when a read does not specify one
+     * @param getItemHedger          The hedger for getUser reads, or null to read without hedging
+     */
+    UserRepositoryImpl(DynamoDbClient dynamoDbClient, MetricsRecorder metricsRecorder, DynamoDbCallGuard callGuard,
+            EmailFilter emailFilter, UserIdGenerator userIdGenerator, TimestampFormat timestampFormat,
+            ReadConsistency defaultReadConsistency, RequestHedger getItemHedger) {
         this.dynamoDbClient = dynamoDbClient;
+        this.metricsRecorder = metricsRecorder;
+        this.callGuard = callGuard;
+        this.emailFilter = emailFilter;
+        this.batchWriter = new BatchWriter(dynamoDbClient, callGuard, TABLE_NAME);
+        this.userIdGenerator = userIdGenerator;
+        this.timestampFormat = timestampFormat;
+        this.defaultReadConsistency = defaultReadConsistency;
+        this.getItemHedger = getItemHedger;
+    }
+
+    private static RequestHedger createGetItemHedger(MetricsRecorder metricsRecorder) {
+        return new RequestHedger(HEDGE_METRIC_PREFIX, metricsRecorder, Executors.newVirtualThreadPerTaskExecutor(),
+                new LatencyTracker(LATENCY_SAMPLES, MIN_LATENCY_SAMPLES),
+                parseMillis(HEDGE_MIN_DELAY_MILLIS, DEFAULT_HEDGE_MIN_DELAY_MILLIS),
+                parseMillis(HEDGE_MAX_DELAY_MILLIS, DEFAULT_HEDGE_MAX_DELAY_MILLIS));
+    }
+
+    private static long parseMillis(String value, long defaultMillis) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultMillis;
+        }
+        return Long.parseLong(value.trim());
     }
 
     private void validateUserEntity(UserEntity user) {
@@ -62,6 +213,11 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     private Map<String, AttributeValue> checkIfUserExists(String email) {
+        if (!emailFilter.mightExist(email)) {
+            log.debug("Email filter has never seen {}, skipping index query", email);
+            return null;
+        }
+
         Map<String, AttributeValue> expressionAttributeValues = Map.of(
                 ":email", AttributeValue.builder().s(email).build(),
                 ":sk", AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
@@ -73,7 +229,8 @@ public class UserRepositoryImpl implements UserRepository {
                 .indexName("email-sk-index")
                 .build();
 
-        QueryResponse queryResponse = dynamoDbClient.query(queryRequest);
+        QueryResponse queryResponse = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+        emailFilter.recordLookup(!queryResponse.items().isEmpty());
 
         if (!queryResponse.items().isEmpty()) {
             return queryResponse.items().get(0);
@@ -82,7 +239,7 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     private String generateNewUserId() {
-        return UUID.randomUUID().toString();
+        return userIdGenerator.generate();
     }
 
     private Map<String, AttributeValue> createNewUserItem(String userId, String email, Instant timestamp) {
@@ -91,13 +248,119 @@ public class UserRepositoryImpl implements UserRepository {
         item.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
         item.put(USER_ID, AttributeValue.builder().s(userId).build());
         item.put(EMAIL, AttributeValue.builder().s(email).build());
-        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
-        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        item.put(CREATED_AT, TimestampAttributeUtil.toAttributeValue(timestamp, timestampFormat));
+        item.put(UPDATED_AT, TimestampAttributeUtil.toAttributeValue(timestamp, timestampFormat));
+        item.put(VERSION, numberValue(INITIAL_VERSION));
+        item.putAll(listKey(userId, timestamp));
+        return item;
+    }
+
+    private Map<String, AttributeValue> createEmailItem(String userId, String email) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>(emailKey(email));
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
         return item;
     }
 
+    private OutboxEvent createUserCreatedEvent(String userId, String email, Instant timestamp) {
+        UserCreatedEvent payload = UserCreatedEvent.builder()
+                .userId(userId)
+                .email(email)
+                .createdAt(timestamp)
+                .build();
+        try {
+            return OutboxEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType(UserCreatedEvent.EVENT_TYPE)
+                    .detail(EVENT_MAPPER.writeValueAsString(payload))
+                    .occurredAt(timestamp)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize UserCreated event", e);
+        }
+    }
+
+    private Map<String, AttributeValue> userKey(String userId) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+        return key;
+    }
+
+    /**
+     * Builds the key of a user metadata item in the sparse user list index. Only metadata items
+     * carry these attributes, so the index holds exactly one entry per user, in the user's segment
+     * and ordered by creation time within it.
+     */
+    private static Map<String, AttributeValue> listKey(String userId, Instant createdAt) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(LIST_PK, AttributeValue.builder()
+                .s(UserListIndexKeyUtil.getPartitionKey(UserListIndexKeyUtil.getSegment(userId))).build());
+        key.put(LIST_SK, numberValue(createdAt.toEpochMilli()));
+        return key;
+    }
+
+    private Map<String, AttributeValue> emailKey(String email) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(EMAIL_PREFIX + normalizeEmail(email)).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getEmailUniquenessSortKey()).build());
+        return key;
+    }
+
+    private static String normalizeEmail(String email) {
+        return EmailFilter.normalize(email);
+    }
+
+    private static AttributeValue numberValue(long value) {
+        return AttributeValue.builder().n(Long.toString(value)).build();
+    }
+
+    private User toUser(Map<String, AttributeValue> item) {
+        AttributeValue email = item.get(EMAIL);
+        AttributeValue createdAt = item.get(CREATED_AT);
+        AttributeValue updatedAt = item.get(UPDATED_AT);
+        AttributeValue version = item.get(VERSION);
+        return User.builder()
+                .userId(item.get(USER_ID).s())
+                .email(email == null ? null : email.s())
+                .createdAt(createdAt == null ? null : TimestampAttributeUtil.fromAttributeValue(createdAt))
+                .updatedAt(updatedAt == null ? null : TimestampAttributeUtil.fromAttributeValue(updatedAt))
+                .version(version == null ? 0L : Long.parseLong(version.n()))
+                .build();
+    }
+
+    /**
+     * Builds the condition that a user metadata item exists and still has the expected version.
+     * Items written before versioning was introduced have no version attribute and match version 0.
+     */
+    private static String versionCondition(long expectedVersion) {
+        return expectedVersion == 0
+                ? "attribute_exists(#pk) AND attribute_not_exists(#version)"
+                : "attribute_exists(#pk) AND #version = :expectedVersion";
+    }
+
+    private static Map<String, AttributeValue> versionConditionValues(long expectedVersion) {
+        return expectedVersion == 0 ? Map.of() : Map.of(":expectedVersion", numberValue(expectedVersion));
+    }
+
+    private RuntimeException conditionFailure(String userId, long expectedVersion,
+            Map<String, AttributeValue> currentItem) {
+        if (currentItem == null || currentItem.isEmpty()) {
+            log.warn("User not found with ID: {}", userId);
+            return new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+        log.warn("Version conflict for user {}: expected version {}", userId, expectedVersion);
+        return new VersionConflictException(String.format(
+                "User %s has been modified since version %d", userId, expectedVersion));
+    }
+
+    private static boolean isConditionalCheckFailure(CancellationReason reason) {
+        return reason != null && CONDITIONAL_CHECK_FAILED.equalsIgnoreCase(reason.code());
+    }
+
     /**
      * Creates a new user in the database.
+     * The user's metadata, its email claim and a UserCreated outbox event are written in one
+     * transaction, so the event is recorded if and only if the user is created.
      *
      * @param email The email of the user to create
      * @return The created user entity with generated ID and timestamps
@@ -106,6 +369,30 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public User createUser(String email) {
+        return insertUser(email, null);
+    }
+
+    /**
+     * Creates a new user in the database and completes the idempotency key the caller claimed for
+     * the request. The completed idempotency record is written in the same transaction as the
+     * user, so a created user is always replayed to retries of the request.
+     *
+     * @param email          The email of the user to create, also the request fingerprint
+     * @param idempotencyKey The idempotency key the caller has claimed
+     * @return The created user entity with generated ID and timestamps
+     * @throws IllegalArgumentException If email is null/empty
+     * @throws DuplicateUserException   If a user with the same email already exists
+     * @throws IllegalStateException    If the claim expired or was taken over before the user was created
+     */
+    @Override
+    public User createUser(String email, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or empty");
+        }
+        return insertUser(email, idempotencyKey);
+    }
+
+    private User insertUser(String email, String idempotencyKey) {
         UserEntity userEntity = UserEntity.builder()
                 .email(email)
                 .build();
@@ -122,38 +409,68 @@ public class UserRepositoryImpl implements UserRepository {
         }
 
         String newUserId = generateNewUserId();
-        Instant now = Instant.now();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
         Map<String, AttributeValue> item = createNewUserItem(newUserId, userEntity.getEmail(), now);
+        User user = User.builder()
+                .userId(newUserId)
+                .email(email)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(INITIAL_VERSION)
+                .build();
 
-        try {
-            PutItemRequest putItemRequest = PutItemRequest.builder()
-                    .tableName(TABLE_NAME)
-                    .item(item)
-                    .conditionExpression("attribute_not_exists(#pk) AND attribute_not_exists(#sk)")
-                    .expressionAttributeNames(Map.of(
-                            "#pk", PK,
-                            "#sk", SK))
-                    .build();
+        List<TransactWriteItem> transactItems = new ArrayList<>(List.of(
+                TransactWriteItem.builder().put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(item)
+                        .conditionExpression("attribute_not_exists(#pk) AND attribute_not_exists(#sk)")
+                        .expressionAttributeNames(Map.of(
+                                "#pk", PK,
+                                "#sk", SK))
+                        .build()).build(),
+                TransactWriteItem.builder().put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(createEmailItem(newUserId, userEntity.getEmail()))
+                        .conditionExpression("attribute_not_exists(#pk)")
+                        .expressionAttributeNames(Map.of("#pk", PK))
+                        .build()).build(),
+                TransactWriteItem.builder().put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(OutboxRepositoryImpl.createOutboxItem(
+                                createUserCreatedEvent(newUserId, userEntity.getEmail(), now)))
+                        .build()).build()));
+        if (idempotencyKey != null) {
+            transactItems.add(IdempotencyRepositoryImpl.createCompletedWrite(idempotencyKey, email, user));
+        }
+        TransactWriteItemsRequest transactWriteItemsRequest = TransactWriteItemsRequest.builder()
+                .transactItems(transactItems)
+                .build();
 
-            log.debug("Putting new user item in DynamoDB with ID: {}", newUserId);
-            dynamoDbClient.putItem(putItemRequest);
+        try {
+            log.debug("Writing new user, email and outbox items in DynamoDB with ID: {}", newUserId);
+            callGuard.execute(() -> dynamoDbClient.transactWriteItems(transactWriteItemsRequest));
             log.info("Successfully created new user with ID: {} and email: {}", newUserId, userEntity.getEmail());
-        } catch (ConditionalCheckFailedException e) {
+            emailFilter.add(userEntity.getEmail());
+        } catch (TransactionCanceledException e) {
+            List<CancellationReason> reasons = e.cancellationReasons();
+            if (idempotencyKey != null && reasons.size() > IDEMPOTENCY_WRITE_INDEX
+                    && isConditionalCheckFailure(reasons.get(IDEMPOTENCY_WRITE_INDEX))) {
+                log.warn("Idempotency claim {} was lost before creating user with email: {}", idempotencyKey,
+                        userEntity.getEmail());
+                throw new IllegalStateException("Idempotency claim expired before the user was created", e);
+            }
+            if (reasons.stream().noneMatch(UserRepositoryImpl::isConditionalCheckFailure)) {
+                throw e;
+            }
             log.warn("Concurrent attempt to create user with email: {}", userEntity.getEmail());
             throw new DuplicateUserException("User already exists with email: " + userEntity.getEmail());
         }
-
-        return User.builder()
-                .userId(newUserId)
-                .email(email)
-                .createdAt(now)
-                .updatedAt(now)
-                .build();
+        return user;
     }
 
     /**
-     * Retrieves a user from the database.
+     * Retrieves a user from the database using the configured default read consistency.
      *
      * @param userId The ID of the user to retrieve
      * @return The user entity
@@ -162,35 +479,867 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public User getUser(String userId) {
+        return getUser(userId, defaultReadConsistency);
+    }
+
+    /**
+     * Retrieves a user from the database with the given read consistency.
+     * When hedged reads are enabled, a second GetItem is sent if the first one is slower than
+     * the observed p95 latency, and whichever answers first is used.
+     *
+     * @param userId          The ID of the user to retrieve
+     * @param readConsistency The read consistency to use
+     * @return The user entity
+     * @throws IllegalArgumentException  If userId is null or empty, or readConsistency is null
+     * @throws ResourceNotFoundException If user is not found
+     */
+    @Override
+    public User getUser(String userId, ReadConsistency readConsistency) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        if (readConsistency == null) {
+            throw new IllegalArgumentException("Read consistency cannot be null");
+        }
 
-        log.info("Getting user with ID: {}", userId);
-
-        Map<String, AttributeValue> key = new LinkedHashMap<>();
-        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
-        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+        log.info("Getting user with ID: {} ({} read)", userId, readConsistency);
 
+        boolean strongRead = readConsistency == ReadConsistency.STRONG;
         GetItemRequest getItemRequest = GetItemRequest.builder()
                 .tableName(TABLE_NAME)
-                .key(key)
+                .key(userKey(userId))
+                .consistentRead(strongRead)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
                 .build();
 
         log.debug("Getting user item from DynamoDB with ID: {}", userId);
-        GetItemResponse response = dynamoDbClient.getItem(getItemRequest);
+        GetItemResponse response = getItemHedger == null
+                ? callGuard.execute(() -> dynamoDbClient.getItem(getItemRequest))
+                : getItemHedger.execute(() -> callGuard.execute(() -> dynamoDbClient.getItem(getItemRequest)));
+        recordReadMetrics(strongRead, response);
 
         if (!response.hasItem()) {
             log.warn("User not found with ID: {}", userId);
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
 
-        Map<String, AttributeValue> item = response.item();
-        return User.builder()
-                .userId(item.get(USER_ID).s())
-                .email(item.get(EMAIL).s())
-                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
-                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
+        return toUser(response.item());
+    }
+
+    /**
+     * Changes the email of a user, conditioned on the user still being at the version of the
+     * given snapshot.
+     * When the email is unchanged apart from case, the user is returned from the new item values of
+     * the update. Otherwise the metadata update, the claim on the new email and the release of
+     * the old email are applied in one transaction, which cannot return item values, so the
+     * updated user is derived from the snapshot. Only the snapshot's version is checked, so such
+     * a user must not be cached as the stored item.
+     *
+     * @param currentUser The user as last read by the caller, including its version
+     * @param email       The new email address
+     * @return The updated user
+     * @throws IllegalArgumentException  If the user or email is null or empty
+     * @throws DuplicateUserException    If another user already has the new email
+     * @throws VersionConflictException  If the user was modified since the snapshot was read
+     * @throws ResourceNotFoundException If the user does not exist
+     */
+    @Override
+    public User updateUser(User currentUser, String email) {
+        if (currentUser == null || currentUser.getUserId() == null || currentUser.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+
+        String userId = currentUser.getUserId();
+        long expectedVersion = currentUser.getVersion();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        log.info("Updating user {} at version {}", userId, expectedVersion);
+
+        if (currentUser.getEmail() != null && normalizeEmail(currentUser.getEmail()).equals(normalizeEmail(email))) {
+            return updateMetadata(userId, email, expectedVersion, now);
+        }
+
+        if (checkIfUserExists(email) != null) {
+            log.warn("Attempted to change email of user {} to existing email: {}", userId, email);
+            throw new DuplicateUserException("User already exists with email: " + email);
+        }
+
+        List<TransactWriteItem> transactItems = new ArrayList<>();
+        transactItems.add(TransactWriteItem.builder().update(Update.builder()
+                .tableName(TABLE_NAME)
+                .key(userKey(userId))
+                .updateExpression("SET #email = :email, #updatedAt = :updatedAt, #version = :nextVersion")
+                .conditionExpression(versionCondition(expectedVersion))
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#email", EMAIL,
+                        "#updatedAt", UPDATED_AT,
+                        "#version", VERSION))
+                .expressionAttributeValues(updateValues(email, now, expectedVersion))
+                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                .build()).build());
+        transactItems.add(TransactWriteItem.builder().put(Put.builder()
+                .tableName(TABLE_NAME)
+                .item(createEmailItem(userId, email))
+                .conditionExpression("attribute_not_exists(#pk) OR #userId = :userId")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#userId", USER_ID))
+                .expressionAttributeValues(Map.of(":userId", AttributeValue.builder().s(userId).build()))
+                .build()).build());
+        if (currentUser.getEmail() != null) {
+            transactItems.add(TransactWriteItem.builder().delete(releaseEmail(userId, currentUser.getEmail())).build());
+        }
+
+        try {
+            callGuard.execute(() -> dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build()));
+        } catch (TransactionCanceledException e) {
+            List<CancellationReason> reasons = e.cancellationReasons();
+            if (!reasons.isEmpty() && isConditionalCheckFailure(reasons.get(0))) {
+                throw conditionFailure(userId, expectedVersion, reasons.get(0).item());
+            }
+            if (reasons.size() > 1 && isConditionalCheckFailure(reasons.get(1))) {
+                log.warn("Email {} was claimed concurrently by another user", email);
+                throw new DuplicateUserException("User already exists with email: " + email);
+            }
+            throw e;
+        }
+
+        emailFilter.add(email);
+        log.info("Successfully changed email of user {}", userId);
+        return currentUser.toBuilder()
+                .email(email)
+                .updatedAt(now)
+                .version(expectedVersion + 1)
+                .build();
+    }
+
+    private User updateMetadata(String userId, String email, long expectedVersion, Instant now) {
+        UpdateItemRequest updateItemRequest = UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(userKey(userId))
+                .updateExpression("SET #email = :email, #updatedAt = :updatedAt, #version = :nextVersion")
+                .conditionExpression(versionCondition(expectedVersion))
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#email", EMAIL,
+                        "#updatedAt", UPDATED_AT,
+                        "#version", VERSION))
+                .expressionAttributeValues(updateValues(email, now, expectedVersion))
+                .returnValues(ReturnValue.ALL_NEW)
+                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                .build();
+
+        try {
+            UpdateItemResponse response = callGuard.execute(() -> dynamoDbClient.updateItem(updateItemRequest));
+            log.info("Successfully updated user {}", userId);
+            return toUser(response.attributes());
+        } catch (ConditionalCheckFailedException e) {
+            throw conditionFailure(userId, expectedVersion, e.item());
+        }
+    }
+
+    private Map<String, AttributeValue> updateValues(String email, Instant now, long expectedVersion) {
+        Map<String, AttributeValue> values = new LinkedHashMap<>(versionConditionValues(expectedVersion));
+        values.put(":email", AttributeValue.builder().s(email).build());
+        values.put(":updatedAt", TimestampAttributeUtil.toAttributeValue(now, timestampFormat));
+        values.put(":nextVersion", numberValue(expectedVersion + 1));
+        return values;
+    }
+
+    private Delete releaseEmail(String userId, String email) {
+        return Delete.builder()
+                .tableName(TABLE_NAME)
+                .key(emailKey(email))
+                .conditionExpression("attribute_not_exists(#pk) OR #userId = :userId")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#userId", USER_ID))
+                .expressionAttributeValues(Map.of(":userId", AttributeValue.builder().s(userId).build()))
+                .build();
+    }
+
+    /**
+     * Deletes a user, conditioned on the user still being at the expected version.
+     * The user is read with a strongly consistent GetItem to learn its email, and the metadata
+     * delete and the release of the email uniqueness item are then written in one transaction.
+     * The version condition on the metadata delete guarantees that the email read is the one
+     * being released, and the email can never stay claimed by a user that no longer exists.
+     *
+     * @param userId          The ID of the user to delete
+     * @param expectedVersion The version the caller expects the user to be at
+     * @return The user as it was before deletion
+     * @throws IllegalArgumentException  If userId is null or empty
+     * @throws VersionConflictException  If the user was modified since the expected version
+     * @throws ResourceNotFoundException If the user does not exist
+     */
+    @Override
+    public User deleteUser(String userId, long expectedVersion) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        log.info("Deleting user {} at version {}", userId, expectedVersion);
+        User deletedUser = getUser(userId, ReadConsistency.STRONG);
+
+        Map<String, AttributeValue> conditionValues = versionConditionValues(expectedVersion);
+        List<TransactWriteItem> transactItems = new ArrayList<>();
+        transactItems.add(TransactWriteItem.builder().delete(Delete.builder()
+                .tableName(TABLE_NAME)
+                .key(userKey(userId))
+                .conditionExpression(versionCondition(expectedVersion))
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#version", VERSION))
+                .expressionAttributeValues(conditionValues.isEmpty() ? null : conditionValues)
+                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                .build()).build());
+        if (deletedUser.getEmail() != null) {
+            transactItems.add(TransactWriteItem.builder().delete(releaseEmail(userId, deletedUser.getEmail())).build());
+        }
+
+        try {
+            callGuard.execute(() -> dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build()));
+        } catch (TransactionCanceledException e) {
+            List<CancellationReason> reasons = e.cancellationReasons();
+            if (!reasons.isEmpty() && isConditionalCheckFailure(reasons.get(0))) {
+                throw conditionFailure(userId, expectedVersion, reasons.get(0).item());
+            }
+            throw e;
+        }
+
+        log.info("Successfully deleted user {}", userId);
+        return deletedUser;
+    }
+
+    /**
+     * Retrieves several users with BatchGetItem, in chunks of up to 100 keys.
+     * Unprocessed keys are retried with a short backoff; users that still cannot be read
+     * are left out of the result, just like users that do not exist.
+     *
+     * @param userIds The IDs of the users to retrieve
+     * @return The users found, keyed by user ID
+     */
+    @Override
+    public Map<String, User> getUsers(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return users;
+        }
+
+        List<String> distinctIds = userIds.stream().distinct().toList();
+        for (int start = 0; start < distinctIds.size(); start += MAX_BATCH_GET_SIZE) {
+            List<Map<String, AttributeValue>> keys = new ArrayList<>();
+            for (String userId : distinctIds.subList(start, Math.min(start + MAX_BATCH_GET_SIZE,
+                    distinctIds.size()))) {
+                keys.add(userKey(userId));
+            }
+            batchGetUsers(keys, users);
+        }
+        log.debug("Batch read {} of {} users", users.size(), distinctIds.size());
+        return users;
+    }
+
+    /**
+     * Lists users in creation order by merging one Query per segment of the sparse user list index.
+     * Each segment is read from where the previous page left it and at most pageSize entries are
+     * read per segment, so the cost of a page does not depend on the table size. The cursor holds,
+     * for each segment, the index key of the last user returned from it, or that it has been read
+     * to the end.
+     *
+     * @param pageSize The maximum number of users to return
+     * @param cursor   The cursor of the previous page, or null for the first page
+     * @param fields   The fields to read; the user ID is always read, and an empty set reads all fields
+     * @return The page of users and the cursor of the next page
+     * @throws IllegalArgumentException If pageSize is less than 1 or the cursor is invalid
+     */
+    @Override
+    public UserPage listUsers(int pageSize, String cursor, Set<UserField> fields) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Map<Integer, Map<String, AttributeValue>> positions = decodeListCursor(cursor);
+
+        Map<String, String> expressionAttributeNames = new LinkedHashMap<>();
+        expressionAttributeNames.put("#listPk", LIST_PK);
+        String projectionExpression = null;
+        if (fields != null && !fields.isEmpty()) {
+            List<String> projection = new ArrayList<>();
+            projection.add("#" + USER_ID);
+            expressionAttributeNames.put("#" + USER_ID, USER_ID);
+            for (UserField field : fields) {
+                if (field != UserField.USER_ID) {
+                    projection.add("#" + field.getFieldName());
+                    expressionAttributeNames.put("#" + field.getFieldName(), field.getFieldName());
+                }
+            }
+            // The merge orders entries by listSk and the cursor needs the key of each segment's last entry
+            for (String keyAttribute : List.of(PK, SK, LIST_SK)) {
+                projection.add("#" + keyAttribute);
+                expressionAttributeNames.put("#" + keyAttribute, keyAttribute);
+            }
+            projectionExpression = String.join(", ", projection);
+        }
+
+        log.debug("Listing up to {} users", pageSize);
+        PriorityQueue<ListSegment> heads = new PriorityQueue<>();
+        List<ListSegment> segments = new ArrayList<>();
+        for (int segment = 0; segment < UserListIndexKeyUtil.SEGMENTS; segment++) {
+            Map<String, AttributeValue> position = positions.get(segment);
+            if (position != null && position.isEmpty()) {
+                continue;
+            }
+            QueryRequest queryRequest = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .indexName(LIST_INDEX)
+                    .keyConditionExpression("#listPk = :listPk")
+                    .expressionAttributeNames(expressionAttributeNames)
+                    .expressionAttributeValues(Map.of(":listPk", AttributeValue.builder()
+                            .s(UserListIndexKeyUtil.getPartitionKey(segment)).build()))
+                    .projectionExpression(projectionExpression)
+                    .limit(pageSize)
+                    .exclusiveStartKey(position)
+                    .build();
+            QueryResponse response = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+            ListSegment listSegment = new ListSegment(segment, position, response);
+            segments.add(listSegment);
+            if (listSegment.hasNext()) {
+                heads.add(listSegment);
+            }
+        }
+
+        List<User> users = new ArrayList<>();
+        while (users.size() < pageSize && !heads.isEmpty()) {
+            ListSegment segment = heads.poll();
+            users.add(toUser(segment.next()));
+            if (segment.hasNext()) {
+                heads.add(segment);
+            }
+        }
+        for (ListSegment segment : segments) {
+            positions.put(segment.segment, segment.nextPosition());
+        }
+        return UserPage.builder()
+                .users(users)
+                .nextCursor(encodeListCursor(positions))
                 .build();
     }
+
+    /**
+     * Decodes a user list cursor into the position of each segment. A segment that is absent is
+     * read from the start, and one mapped to an empty key has been read to the end.
+     */
+    private static Map<Integer, Map<String, AttributeValue>> decodeListCursor(String cursor) {
+        Map<String, AttributeValue> decoded = PageCursorUtil.decode(cursor);
+        Map<Integer, Map<String, AttributeValue>> positions = new HashMap<>();
+        if (decoded == null) {
+            return positions;
+        }
+        for (Map.Entry<String, AttributeValue> attribute : decoded.entrySet()) {
+            String name = attribute.getKey();
+            int separator = name.indexOf('.');
+            int segment;
+            try {
+                segment = separator < 0 ? -1 : Integer.parseInt(name.substring(0, separator));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+            if (segment < 0 || segment >= UserListIndexKeyUtil.SEGMENTS) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            positions.computeIfAbsent(segment, s -> new LinkedHashMap<>())
+                    .put(name.substring(separator + 1), attribute.getValue());
+        }
+        for (Map.Entry<Integer, Map<String, AttributeValue>> position : positions.entrySet()) {
+            Map<String, AttributeValue> key = position.getValue();
+            if (key.keySet().equals(Set.of(LIST_CURSOR_END))) {
+                position.setValue(Map.of());
+            } else if (key.keySet().equals(LIST_CURSOR_KEYS) && key.get(PK).s() != null
+                    && key.get(SK).s() != null && key.get(LIST_SK).n() != null) {
+                key.put(LIST_PK, AttributeValue.builder()
+                        .s(UserListIndexKeyUtil.getPartitionKey(position.getKey())).build());
+            } else {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Encodes the position of each segment as a user list cursor, or returns null once every
+     * segment has been read to the end.
+     */
+    private static String encodeListCursor(Map<Integer, Map<String, AttributeValue>> positions) {
+        Map<String, AttributeValue> cursor = new LinkedHashMap<>();
+        int ended = 0;
+        for (int segment = 0; segment < UserListIndexKeyUtil.SEGMENTS; segment++) {
+            Map<String, AttributeValue> position = positions.get(segment);
+            if (position == null) {
+                continue;
+            }
+            if (position.isEmpty()) {
+                cursor.put(segment + "." + LIST_CURSOR_END, numberValue(1L));
+                ended++;
+                continue;
+            }
+            for (String keyAttribute : List.of(PK, SK, LIST_SK)) {
+                cursor.put(segment + "." + keyAttribute, position.get(keyAttribute));
+            }
+        }
+        return ended == UserListIndexKeyUtil.SEGMENTS ? null : PageCursorUtil.encode(cursor);
+    }
+
+    private void batchGetUsers(List<Map<String, AttributeValue>> keys, Map<String, User> users) {
+        List<Map<String, AttributeValue>> pending = keys;
+        for (int attempt = 1; attempt <= MAX_BATCH_GET_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                sleepBeforeRetry(attempt);
+            }
+            BatchGetItemRequest batchGetItemRequest = BatchGetItemRequest.builder()
+                    .requestItems(Collections.singletonMap(TABLE_NAME,
+                            KeysAndAttributes.builder().keys(pending).build()))
+                    .build();
+            BatchGetItemResponse response = callGuard.execute(() -> dynamoDbClient.batchGetItem(batchGetItemRequest));
+            if (response.hasResponses()) {
+                for (Map<String, AttributeValue> item : response.responses().getOrDefault(TABLE_NAME, List.of())) {
+                    User user = toUser(item);
+                    users.put(user.getUserId(), user);
+                }
+            }
+            KeysAndAttributes unprocessed = response.hasUnprocessedKeys()
+                    ? response.unprocessedKeys().get(TABLE_NAME)
+                    : null;
+            pending = unprocessed == null ? List.of() : unprocessed.keys();
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Gave up on {} unprocessed keys after {} attempts", pending.size(), MAX_BATCH_GET_ATTEMPTS);
+        }
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(BATCH_GET_BACKOFF_MILLIS << (attempt - 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordReadMetrics(boolean strongRead, GetItemResponse response) {
+        metricsRecorder.increment(strongRead ? STRONG_READS_METRIC : EVENTUAL_READS_METRIC);
+        if (response.consumedCapacity() != null && response.consumedCapacity().capacityUnits() != null) {
+            metricsRecorder.record(strongRead ? STRONG_READ_CAPACITY_METRIC : EVENTUAL_READ_CAPACITY_METRIC,
+                    response.consumedCapacity().capacityUnits(), MetricUnit.COUNT);
+        }
+    }
+
+    /**
+     * Rewrites the timestamps of all user metadata items into the configured write format, and
+     * adds the user list index key to items written before the index existed.
+     * The table is scanned in parallel segments and each page is migrated as one batch.
+     * Items modified concurrently are skipped; they can be picked up by a later run.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of items that were rewritten
+     * @throws IllegalArgumentException If totalSegments is less than 1
+     */
+    @Override
+    public long migrateTimestamps(int totalSegments) {
+        if (totalSegments < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+
+        log.info("Migrating user timestamps to {} using {} segments", timestampFormat, totalSegments);
+        ExecutorService executor = Executors.newFixedThreadPool(totalSegments);
+        try {
+            List<Future<Long>> segments = new ArrayList<>();
+            for (int segment = 0; segment < totalSegments; segment++) {
+                int currentSegment = segment;
+                segments.add(executor.submit(() -> migrateSegment(currentSegment, totalSegments)));
+            }
+
+            long migrated = 0;
+            for (Future<Long> segment : segments) {
+                migrated += segment.get();
+            }
+            log.info("Migrated timestamps for {} user items", migrated);
+            return migrated;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Timestamp migration was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Timestamp migration failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long migrateSegment(int segment, int totalSegments) {
+        long migrated = 0;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            ScanResponse page = dynamoDbClient.scan(createMigrationScanRequest(segment, totalSegments,
+                    exclusiveStartKey));
+            for (Map<String, AttributeValue> item : page.items()) {
+                if (rewriteTimestamps(item)) {
+                    migrated++;
+                }
+            }
+            log.debug("Segment {} migrated {} items so far", segment, migrated);
+            exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                    ? page.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        return migrated;
+    }
+
+    private ScanRequest createMigrationScanRequest(int segment, int totalSegments,
+            Map<String, AttributeValue> exclusiveStartKey) {
+        return ScanRequest.builder()
+                .tableName(TABLE_NAME)
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .filterExpression("#sk = :sk AND (NOT attribute_type(#createdAt, :type) "
+                        + "OR NOT attribute_type(#updatedAt, :type) OR attribute_not_exists(#listPk) "
+                        + "OR #listPk = :legacyListPk)")
+                .projectionExpression("#pk, #sk, #createdAt, #updatedAt")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#sk", SK,
+                        "#createdAt", CREATED_AT,
+                        "#updatedAt", UPDATED_AT,
+                        "#listPk", LIST_PK))
+                .expressionAttributeValues(Map.of(
+                        ":sk", AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build(),
+                        ":type", AttributeValue.builder()
+                                .s(TimestampAttributeUtil.getAttributeType(timestampFormat)).build(),
+                        ":legacyListPk", AttributeValue.builder().s(LEGACY_LIST_PARTITION).build()))
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+    }
+
+    private boolean rewriteTimestamps(Map<String, AttributeValue> item) {
+        AttributeValue previousUpdatedAt = item.get(UPDATED_AT);
+        Instant createdAt = TimestampAttributeUtil.fromAttributeValue(item.get(CREATED_AT));
+        Instant updatedAt = TimestampAttributeUtil.fromAttributeValue(previousUpdatedAt);
+        Map<String, AttributeValue> listKey = listKey(item.get(PK).s().substring(USER_PREFIX.length()), createdAt);
+
+        UpdateItemRequest updateItemRequest = UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of(PK, item.get(PK), SK, item.get(SK)))
+                .updateExpression("SET #createdAt = :createdAt, #updatedAt = :updatedAt, "
+                        + "#listPk = :listPk, #listSk = :listSk")
+                .conditionExpression("#updatedAt = :previousUpdatedAt")
+                .expressionAttributeNames(Map.of(
+                        "#createdAt", CREATED_AT,
+                        "#updatedAt", UPDATED_AT,
+                        "#listPk", LIST_PK,
+                        "#listSk", LIST_SK))
+                .expressionAttributeValues(Map.of(
+                        ":createdAt", TimestampAttributeUtil.toAttributeValue(createdAt, timestampFormat),
+                        ":updatedAt", TimestampAttributeUtil.toAttributeValue(updatedAt, timestampFormat),
+                        ":listPk", listKey.get(LIST_PK),
+                        ":listSk", listKey.get(LIST_SK),
+                        ":previousUpdatedAt", previousUpdatedAt))
+                .build();
+
+        try {
+            dynamoDbClient.updateItem(updateItemRequest);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Skipping concurrently modified item: {}", item.get(PK).s());
+            return false;
+        }
+    }
+
+    /**
+     * Rebuilds the email filter from a parallel scan of all user metadata items and saves it to
+     * the filter file. The filter is filled from all segments at once and only replaces the
+     * current one once every segment has been scanned.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of emails added to the filter
+     * @throws IllegalArgumentException If totalSegments is less than 1
+     * @throws IllegalStateException    If EMAIL_FILTER_PATH is not set or the scan fails
+     */
+    @Override
+    public long rebuildEmailFilter(int totalSegments) {
+        if (totalSegments < 1) {
+            throw new IllegalArgumentException("Total segments must be at least 1");
+        }
+
+        BloomFilter rebuilt = emailFilter.newFilter();
+        log.info("Rebuilding email filter using {} segments", totalSegments);
+        ExecutorService executor = Executors.newFixedThreadPool(totalSegments);
+        try {
+            List<Future<Long>> segments = new ArrayList<>();
+            for (int segment = 0; segment < totalSegments; segment++) {
+                int currentSegment = segment;
+                segments.add(executor.submit(() -> scanEmailSegment(currentSegment, totalSegments, rebuilt)));
+            }
+
+            long emails = 0;
+            for (Future<Long> segment : segments) {
+                emails += segment.get();
+            }
+            emailFilter.replace(rebuilt);
+            log.info("Rebuilt email filter with {} emails", emails);
+            return emails;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Email filter rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Email filter rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long scanEmailSegment(int segment, int totalSegments, BloomFilter rebuilt) {
+        long emails = 0;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            ScanResponse page = dynamoDbClient.scan(ScanRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .segment(segment)
+                    .totalSegments(totalSegments)
+                    .filterExpression("#sk = :sk AND attribute_exists(#email)")
+                    .projectionExpression("#email")
+                    .expressionAttributeNames(Map.of(
+                            "#sk", SK,
+                            "#email", EMAIL))
+                    .expressionAttributeValues(Map.of(
+                            ":sk", AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build()))
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .build());
+            for (Map<String, AttributeValue> item : page.items()) {
+                rebuilt.put(normalizeEmail(item.get(EMAIL).s()));
+                emails++;
+            }
+            exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                    ? page.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        log.debug("Segment {} added {} emails", segment, emails);
+        return emails;
+    }
+
+    /**
+     * Deletes every item in a user's partition. The partition is read with a keys-only query,
+     * page by page, and each page is deleted in batches of 25 on a fixed pool, with at most
+     * maxInFlightBatches batches submitted at once so the query never runs far ahead of the
+     * deletes. The user's metadata is deleted last, after the email uniqueness item has been
+     * released: a run that stops at the deadline or fails part-way leaves the user readable,
+     * and purging again simply queries what is left.
+     *
+     * @param userId             The ID of the user to purge
+     * @param maxInFlightBatches The maximum number of delete batches in flight at once
+     * @param deadline           The time after which no new page of deletes is started
+     * @return The number of items deleted and whether the partition is now empty
+     * @throws IllegalArgumentException If userId is null or empty, maxInFlightBatches is less than 1
+     *                                  or deadline is null
+     * @throws RateLimitedException     If a delete batch is throttled or shed
+     * @throws IllegalStateException    If a delete batch fails with a checked exception or the purge
+     *                                  is interrupted
+     */
+    @Override
+    public UserPurge purgeUser(String userId, int maxInFlightBatches, Instant deadline) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("Max in-flight batches must be at least 1");
+        }
+        if (deadline == null) {
+            throw new IllegalArgumentException("Deadline cannot be null");
+        }
+
+        log.info("Purging user {} with up to {} delete batches in flight", userId, maxInFlightBatches);
+        GetItemRequest metadataRequest = GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(userKey(userId))
+                .projectionExpression("#email")
+                .expressionAttributeNames(Map.of("#email", EMAIL))
+                .consistentRead(true)
+                .build();
+        GetItemResponse metadata = callGuard.execute(() -> dynamoDbClient.getItem(metadataRequest));
+
+        long itemsDeleted = 0;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        ExecutorService executor = Executors.newFixedThreadPool(maxInFlightBatches);
+        Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        try {
+            List<Future<Integer>> batches = new ArrayList<>();
+            do {
+                QueryRequest queryRequest = createPurgeQueryRequest(userId, exclusiveStartKey);
+                QueryResponse page = callGuard.execute(() -> dynamoDbClient.query(queryRequest));
+                List<WriteRequest> deletes = new ArrayList<>(BatchWriter.MAX_BATCH_SIZE);
+                for (Map<String, AttributeValue> item : page.items()) {
+                    if (SortKeyUtil.getUserMetadataSortKey().equals(item.get(SK).s())) {
+                        continue;
+                    }
+                    deletes.add(WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder()
+                                    .key(Map.of(PK, item.get(PK), SK, item.get(SK)))
+                                    .build())
+                            .build());
+                    if (deletes.size() == BatchWriter.MAX_BATCH_SIZE) {
+                        batches.add(submitDeleteBatch(executor, inFlight, deletes));
+                        deletes = new ArrayList<>(BatchWriter.MAX_BATCH_SIZE);
+                    }
+                }
+                if (!deletes.isEmpty()) {
+                    batches.add(submitDeleteBatch(executor, inFlight, deletes));
+                }
+                exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                        ? page.lastEvaluatedKey()
+                        : null;
+            } while (exclusiveStartKey != null && Instant.now().isBefore(deadline));
+
+            for (Future<Integer> batch : batches) {
+                itemsDeleted += batch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User purge was interrupted", e);
+        } catch (ExecutionException e) {
+            // Rethrow runtime failures as they are, so throttling still surfaces as RateLimitedException.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("User purge failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        boolean complete = exclusiveStartKey == null;
+        if (complete && metadata.hasItem() && !metadata.item().isEmpty()) {
+            deleteUserMetadata(userId, metadata.item().get(EMAIL));
+            itemsDeleted++;
+        }
+
+        log.info("Deleted {} items of user {}{}", itemsDeleted, userId,
+                complete ? "" : ", stopping at the deadline");
+        return UserPurge.builder()
+                .userId(userId)
+                .itemsDeleted(itemsDeleted)
+                .complete(complete)
+                .build();
+    }
+
+    private QueryRequest createPurgeQueryRequest(String userId, Map<String, AttributeValue> exclusiveStartKey) {
+        return QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression("#pk = :pk")
+                .projectionExpression("#pk, #sk")
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#sk", SK))
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.builder().s(USER_PREFIX + userId).build()))
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+    }
+
+    /**
+     * Submits one batch of deletes once fewer than the maximum number of batches are in flight.
+     */
+    private Future<Integer> submitDeleteBatch(ExecutorService executor, Semaphore inFlight,
+            List<WriteRequest> deletes) throws InterruptedException {
+        inFlight.acquire();
+        return executor.submit(() -> {
+            try {
+                batchWriter.write(deletes);
+                return deletes.size();
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Releases the email uniqueness item of a purged user, if the user still owns it, and then
+     * deletes the user's metadata.
+     */
+    private void deleteUserMetadata(String userId, AttributeValue email) {
+        if (email != null && email.s() != null) {
+            DeleteItemRequest releaseRequest = DeleteItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(emailKey(email.s()))
+                    .conditionExpression("#userId = :userId")
+                    .expressionAttributeNames(Map.of("#userId", USER_ID))
+                    .expressionAttributeValues(Map.of(":userId", AttributeValue.builder().s(userId).build()))
+                    .build();
+            try {
+                callGuard.execute(() -> dynamoDbClient.deleteItem(releaseRequest));
+            } catch (ConditionalCheckFailedException e) {
+                log.debug("No email item owned by user {} to release", userId);
+            }
+        }
+        DeleteItemRequest deleteItemRequest = DeleteItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(userKey(userId))
+                .build();
+        callGuard.execute(() -> dynamoDbClient.deleteItem(deleteItemRequest));
+    }
+
+    /**
+     * One page of a segment of the user list index being merged into a page of users. Segments
+     * are ordered by the creation time of their next entry, then by its key.
+     */
+    private static final class ListSegment implements Comparable<ListSegment> {
+        private final int segment;
+        private final List<Map<String, AttributeValue>> items;
+        private final Map<String, AttributeValue> lastEvaluatedKey;
+        private Map<String, AttributeValue> position;
+        private int next;
+
+        ListSegment(int segment, Map<String, AttributeValue> position, QueryResponse response) {
+            this.segment = segment;
+            this.position = position;
+            this.items = response.items();
+            this.lastEvaluatedKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        }
+
+        boolean hasNext() {
+            return next < items.size();
+        }
+
+        Map<String, AttributeValue> next() {
+            Map<String, AttributeValue> item = items.get(next++);
+            position = new LinkedHashMap<>();
+            position.put(PK, item.get(PK));
+            position.put(SK, item.get(SK));
+            position.put(LIST_PK, AttributeValue.builder().s(UserListIndexKeyUtil.getPartitionKey(segment)).build());
+            position.put(LIST_SK, item.get(LIST_SK));
+            return item;
+        }
+
+        /**
+         * Gets where the next page starts reading this segment: after the last entry returned,
+         * after the last entry read once every entry read has been returned, or nowhere (an empty
+         * key) once the segment has been read to the end.
+         */
+        Map<String, AttributeValue> nextPosition() {
+            if (hasNext()) {
+                return position;
+            }
+            return lastEvaluatedKey == null ? Map.of() : lastEvaluatedKey;
+        }
+
+        @Override
+        public int compareTo(ListSegment other) {
+            Map<String, AttributeValue> head = items.get(next);
+            Map<String, AttributeValue> otherHead = other.items.get(other.next);
+            int byCreation = Long.compare(Long.parseLong(head.get(LIST_SK).n()),
+                    Long.parseLong(otherHead.get(LIST_SK).n()));
+            return byCreation != 0 ? byCreation : head.get(PK).s().compareTo(otherHead.get(PK).s());
+        }
+    }
 }
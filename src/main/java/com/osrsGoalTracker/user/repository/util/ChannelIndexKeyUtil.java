@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+
+/**
+ * Utility class for generating keys of the notification channel index.
+ * The index is partitioned by channel type, and each type is write-sharded over a fixed number
+ * of segments so that a popular type is not limited to the throughput of a single partition.
+ * A user's channel always lands in the same segment, derived from the user ID.
+ */
+public final class ChannelIndexKeyUtil {
+    /**
+     * The number of segments each channel type is spread over. Changing it moves existing
+     * channels to other segments, so every channel must be rewritten afterwards.
+     */
+    public static final int SEGMENTS = 10;
+
+    private static final String CHANNEL = "CHANNEL";
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private ChannelIndexKeyUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the segment a user's channels are stored in.
+     *
+     * @param userId The ID of the user
+     * @return The segment, from 0 to {@link #SEGMENTS} - 1
+     */
+    public static int getSegment(String userId) {
+        return Math.floorMod(userId.hashCode(), SEGMENTS);
+    }
+
+    /**
+     * Gets the index partition key of a channel type's segment.
+     * Format: CHANNEL#channel_type#segment
+     *
+     * @param channelType The type of channel
+     * @param segment     The segment
+     * @return The index partition key
+     */
+    public static String getPartitionKey(NotificationChannelType channelType, int segment) {
+        return String.format("%s#%s#%d", CHANNEL, channelType.name(), segment);
+    }
+}
@@ -0,0 +1,100 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Utility class for turning the LastEvaluatedKey of a query into an opaque page cursor and back.
+ * The cursor is the key in DynamoDB JSON (e.g. {"pk":{"S":"USER#1"}}), base64url-encoded
+ * without padding so it can be passed in a query string. Only string and number key
+ * attributes are supported, which covers every key in the user table.
+ */
+public final class PageCursorUtil {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Map<String, String>>> CURSOR_TYPE = new TypeReference<>() {
+    };
+    private static final String STRING_TYPE = "S";
+    private static final String NUMBER_TYPE = "N";
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private PageCursorUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes a LastEvaluatedKey as a cursor.
+     *
+     * @param lastEvaluatedKey The key to encode, may be null or empty
+     * @return The cursor, or null if there is no key and so no next page
+     * @throws IllegalArgumentException If a key attribute is neither a string nor a number
+     */
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, String>> cursor = new LinkedHashMap<>();
+        for (Map.Entry<String, AttributeValue> attribute : lastEvaluatedKey.entrySet()) {
+            AttributeValue value = attribute.getValue();
+            if (value.s() != null) {
+                cursor.put(attribute.getKey(), Map.of(STRING_TYPE, value.s()));
+            } else if (value.n() != null) {
+                cursor.put(attribute.getKey(), Map.of(NUMBER_TYPE, value.n()));
+            } else {
+                throw new IllegalArgumentException("Unsupported key attribute type: " + attribute.getKey());
+            }
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(cursor));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor into the ExclusiveStartKey of the next query.
+     *
+     * @param cursor The cursor from a previous page, may be null or empty for the first page
+     * @return The key to start after, or null for the first page
+     * @throws IllegalArgumentException If the cursor was not produced by {@link #encode(Map)}
+     */
+    public static Map<String, AttributeValue> decode(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, String>> decoded;
+        try {
+            decoded = MAPPER.readValue(new String(Base64.getUrlDecoder().decode(cursor.trim()),
+                    StandardCharsets.UTF_8), CURSOR_TYPE);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (decoded == null || decoded.isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> attribute : decoded.entrySet()) {
+            Map<String, String> value = attribute.getValue();
+            if (value == null || value.size() != 1 || value.containsValue(null)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if (value.containsKey(STRING_TYPE)) {
+                key.put(attribute.getKey(), AttributeValue.builder().s(value.get(STRING_TYPE)).build());
+            } else if (value.containsKey(NUMBER_TYPE)) {
+                key.put(attribute.getKey(), AttributeValue.builder().n(value.get(NUMBER_TYPE)).build());
+            } else {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,132 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Utility class for packing a series of progress points into the binary attribute of a rollup
+ * item and back. The format is a version byte and the number of points, followed by each
+ * point's timestamp (epoch millis) and value as the difference to the previous point's, all
+ * written as zig-zag variable-length integers. Progress points of a goal are usually close in
+ * time and value, so most points take three to six bytes instead of a separate item each.
+ */
+public final class ProgressPackUtil {
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private ProgressPackUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Packs progress points.
+     *
+     * @param points The progress values by timestamp in epoch millis
+     * @return The packed points
+     */
+    public static byte[] pack(NavigableMap<Long, Long> points) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + points.size() * 6);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, points.size());
+        long previousTimestamp = 0;
+        long previousValue = 0;
+        for (Map.Entry<Long, Long> point : points.entrySet()) {
+            writeVarLong(out, zigZag(point.getKey() - previousTimestamp));
+            writeVarLong(out, zigZag(point.getValue() - previousValue));
+            previousTimestamp = point.getKey();
+            previousValue = point.getValue();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Unpacks progress points written by {@link #pack(NavigableMap)}.
+     *
+     * @param packed The packed points
+     * @return The progress values by timestamp in epoch millis, in timestamp order
+     * @throws IllegalArgumentException If the bytes are not packed points in a supported format
+     */
+    public static NavigableMap<Long, Long> unpack(byte[] packed) {
+        NavigableMap<Long, Long> points = new TreeMap<>();
+        unpack(packed, points::put);
+        return points;
+    }
+
+    /**
+     * Unpacks progress points written by {@link #pack(NavigableMap)} without creating an object
+     * per point.
+     *
+     * @param packed   The packed points
+     * @param consumer Receives each point, in timestamp order
+     * @throws IllegalArgumentException If the bytes are not packed points in a supported format
+     */
+    public static void unpack(byte[] packed, PointConsumer consumer) {
+        int[] position = {0};
+        long version = readVarLong(packed, position);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported packed progress format version: " + version);
+        }
+        long count = readVarLong(packed, position);
+        long timestamp = 0;
+        long value = 0;
+        for (long i = 0; i < count; i++) {
+            timestamp += unZigZag(readVarLong(packed, position));
+            value += unZigZag(readVarLong(packed, position));
+            consumer.accept(timestamp, value);
+        }
+        if (position[0] != packed.length) {
+            throw new IllegalArgumentException("Trailing bytes after packed progress points");
+        }
+    }
+
+    /**
+     * Receives unpacked progress points as primitives.
+     */
+    @FunctionalInterface
+    public interface PointConsumer {
+        /**
+         * Accepts one point.
+         *
+         * @param timestamp The timestamp in epoch millis
+         * @param value     The progress value
+         */
+        void accept(long timestamp, long value);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(byte[] packed, int[] position) {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            if (position[0] >= packed.length) {
+                throw new IllegalArgumentException("Truncated packed progress points");
+            }
+            byte b = packed[position[0]++];
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed packed progress points");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
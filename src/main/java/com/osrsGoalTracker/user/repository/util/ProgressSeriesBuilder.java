@@ -0,0 +1,103 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import java.util.Arrays;
+
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+
+/**
+ * Downsamples a stream of progress points into the two columns of a {@link ProgressSeries}
+ * as the points are read, holding only primitive arrays that grow as needed. Points must be
+ * added in timestamp order; each bucket of the resolution keeps the last point added to it,
+ * so at RAW resolution a later point with the same timestamp replaces an earlier one.
+ */
+public final class ProgressSeriesBuilder {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ProgressResolution resolution;
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Creates an empty builder.
+     *
+     * @param resolution The resolution to downsample to
+     */
+    public ProgressSeriesBuilder(ProgressResolution resolution) {
+        this.resolution = resolution;
+    }
+
+    /**
+     * Adds a point.
+     *
+     * @param timestamp The timestamp in epoch millis, not before the previous point's
+     * @param value     The progress value
+     * @throws IllegalArgumentException If the timestamp is before the previous point's
+     */
+    public void add(long timestamp, long value) {
+        if (timestamp < lastTimestamp) {
+            throw new IllegalArgumentException("Progress points must be added in timestamp order");
+        }
+        lastTimestamp = timestamp;
+        long bucket = resolution.bucketStart(timestamp);
+        if (size > 0 && timestamps[size - 1] == bucket) {
+            values[size - 1] = value;
+            return;
+        }
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        timestamps[size] = bucket;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * Gets the number of points in the series so far.
+     *
+     * @return The number of points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the timestamp of a point in the series so far.
+     *
+     * @param index The index of the point
+     * @return The timestamp in epoch millis
+     */
+    public long timestampAt(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * Gets the value of a point in the series so far.
+     *
+     * @param index The index of the point
+     * @return The progress value
+     */
+    public long valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Builds the series from the points added so far.
+     *
+     * @param characterName The name of the character the goal belongs to
+     * @param goalId        The ID of the goal
+     * @return The series
+     */
+    public ProgressSeries build(String characterName, String goalId) {
+        return ProgressSeries.builder()
+                .characterName(characterName)
+                .goalId(goalId)
+                .resolution(resolution)
+                .timestamps(Arrays.copyOf(timestamps, size))
+                .values(Arrays.copyOf(values, size))
+                .build();
+    }
+}
@@ -1,6 +1,12 @@
 package com.osrsGoalTracker.user.repository.util;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Set;
+
+import com.osrsGoalTracker.user.model.RollupGranularity;
 
 /**
  * Utility class for generating sort keys for DynamoDB items.
@@ -12,8 +18,27 @@ public final class SortKeyUtil {
     private static final String GOAL = "GOAL";
     private static final String LATEST = "LATEST";
     private static final String EARLIEST = "EARLIEST";
+    private static final String ROLLUP = "ROLLUP";
+    private static final String IDEMPOTENCY = "IDEMPOTENCY";
+    private static final String EMAIL = "EMAIL";
+    private static final String OUTBOX = "OUTBOX";
+    private static final String CHECKPOINT = "CHECKPOINT";
+    private static final DateTimeFormatter PROGRESS_TIMESTAMP_FORMAT = DateTimeFormatter
+            .ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter ROLLUP_BUCKET_FORMAT = DateTimeFormatter
+            .ofPattern("uuuu-MM-dd")
+            .withZone(ZoneOffset.UTC);
 
+    public static final String CHARACTER_PREFIX = CHARACTER + "#";
     public static final String CHARACTER_METADATA_PREFIX = CHARACTER + "#" + METADATA + "#";
+    public static final String NOTIFICATION_PREFIX = NOTIFICATION + "#";
+
+    /**
+     * Fixed segments of the sort keys under a user. A character name or goal ID equal to one of
+     * them would make its keys match the prefix of another item type.
+     */
+    private static final Set<String> RESERVED_TOKENS = Set.of(METADATA, GOAL, LATEST, EARLIEST, ROLLUP);
 
     /**
      * Default constructor to prevent instantiation.
@@ -22,6 +47,17 @@ public final class SortKeyUtil {
         // Prevent instantiation
     }
 
+    /**
+     * Checks whether a value is a fixed segment of the sort keys under a user, ignoring case.
+     * Character names and goal IDs are embedded in sort keys and must not be reserved tokens.
+     *
+     * @param value The value to check
+     * @return True if the value is a reserved token
+     */
+    public static boolean isReservedToken(String value) {
+        return value != null && RESERVED_TOKENS.contains(value.toUpperCase(Locale.ROOT));
+    }
+
     /**
      * Gets the sort key for user metadata.
      *
@@ -31,6 +67,42 @@ public final class SortKeyUtil {
         return METADATA;
     }
 
+    /**
+     * Gets the sort key for idempotency records.
+     *
+     * @return The sort key for idempotency records
+     */
+    public static String getIdempotencySortKey() {
+        return IDEMPOTENCY;
+    }
+
+    /**
+     * Gets the sort key for email uniqueness items.
+     *
+     * @return The sort key for email uniqueness items
+     */
+    public static String getEmailUniquenessSortKey() {
+        return EMAIL;
+    }
+
+    /**
+     * Gets the sort key for outbox items.
+     *
+     * @return The sort key for outbox items
+     */
+    public static String getOutboxSortKey() {
+        return OUTBOX;
+    }
+
+    /**
+     * Gets the sort key for background job checkpoints.
+     *
+     * @return The sort key for background job checkpoints
+     */
+    public static String getJobCheckpointSortKey() {
+        return CHECKPOINT;
+    }
+
     /**
      * Gets the sort key for goal metadata.
      *
@@ -111,6 +183,8 @@ public final class SortKeyUtil {
     /**
      * Builds the sort key for a goal progress record.
      * Format: CHARACTER#character_name#GOAL#goal_id#timestamp
+     * The timestamp is written as ISO-8601 in UTC with exactly three fractional digits, so keys
+     * of the same goal sort chronologically. Sub-millisecond precision is dropped.
      *
      * @param characterName The name of the character
      * @param goalId        The ID of the goal
@@ -118,7 +192,8 @@ public final class SortKeyUtil {
      * @return The sort key for the goal progress record
      */
     public static String buildGoalProgressSortKey(String characterName, String goalId, Instant timestamp) {
-        return String.format("CHARACTER#%s#GOAL#%s#%s", characterName, goalId, timestamp.toString());
+        return String.format("CHARACTER#%s#GOAL#%s#%s", characterName, goalId,
+                PROGRESS_TIMESTAMP_FORMAT.format(timestamp));
     }
 
     /**
@@ -132,4 +207,22 @@ public final class SortKeyUtil {
     public static String buildGoalLatestSortKey(String characterName, String goalId) {
         return String.format("CHARACTER#%s#GOAL#%s#LATEST", characterName, goalId);
     }
+
+    /**
+     * Builds the sort key for a goal's rollup of the progress records in one bucket.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#granularity#bucket_start
+     * The bucket start is written as an ISO-8601 date in UTC, so rollups of the same goal and
+     * granularity sort chronologically, after the goal's progress records and pointers.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param granularity   The size of the bucket
+     * @param bucketStart   The start of the bucket
+     * @return The sort key for the goal's rollup record
+     */
+    public static String buildGoalRollupSortKey(String characterName, String goalId, RollupGranularity granularity,
+            Instant bucketStart) {
+        return String.format("CHARACTER#%s#GOAL#%s#%s#%s#%s", characterName, goalId, ROLLUP, granularity.name(),
+                ROLLUP_BUCKET_FORMAT.format(bucketStart));
+    }
 }
@@ -0,0 +1,65 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import java.time.Instant;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Utility class for converting timestamps to and from DynamoDB attribute values.
+ * Reads accept both the legacy ISO-8601 string format and the epoch-millis number format
+ * so that items written by either version of the service can be decoded.
+ */
+public final class TimestampAttributeUtil {
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private TimestampAttributeUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes a timestamp as an attribute value in the given format.
+     *
+     * @param timestamp The timestamp to encode
+     * @param format    The storage format to use
+     * @return The encoded attribute value
+     */
+    public static AttributeValue toAttributeValue(Instant timestamp, TimestampFormat format) {
+        if (format == TimestampFormat.EPOCH_MILLIS) {
+            return AttributeValue.builder().n(Long.toString(timestamp.toEpochMilli())).build();
+        }
+        return AttributeValue.builder().s(timestamp.toString()).build();
+    }
+
+    /**
+     * Decodes a timestamp attribute value stored in either supported format.
+     *
+     * @param value The attribute value to decode
+     * @return The decoded timestamp
+     * @throws IllegalArgumentException if the value is null or holds neither a string nor a number
+     */
+    public static Instant fromAttributeValue(AttributeValue value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Timestamp attribute cannot be null");
+        }
+        if (value.n() != null) {
+            return Instant.ofEpochMilli(Long.parseLong(value.n()));
+        }
+        if (value.s() != null) {
+            return Instant.parse(value.s());
+        }
+        throw new IllegalArgumentException("Timestamp attribute must be a string or a number");
+    }
+
+    /**
+     * Gets the DynamoDB attribute type descriptor used by the given format.
+     * Suitable for use with the attribute_type condition function.
+     *
+     * @param format The storage format
+     * @return "N" for epoch millis, "S" for ISO-8601
+     */
+    public static String getAttributeType(TimestampFormat format) {
+        return format == TimestampFormat.EPOCH_MILLIS ? "N" : "S";
+    }
+}
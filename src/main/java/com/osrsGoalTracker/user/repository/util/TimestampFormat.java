@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.user.repository.util;
+
+/**
+ * Storage formats supported for timestamp attributes such as createdAt and updatedAt.
+ */
+public enum TimestampFormat {
+    /**
+     * ISO-8601 string attribute (e.g. "2025-01-01T00:00:00Z"). This is the legacy format.
+     */
+    ISO_8601,
+
+    /**
+     * Number attribute holding milliseconds since the epoch.
+     */
+    EPOCH_MILLIS;
+
+    /**
+     * Resolves a timestamp format from its configured name.
+     * Falls back to {@link #ISO_8601} when no value is configured.
+     *
+     * @param value The configured format name (case-insensitive), may be null
+     * @return The matching timestamp format
+     * @throws IllegalArgumentException if the value does not match a known format
+     */
+    public static TimestampFormat fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return ISO_8601;
+        }
+        for (TimestampFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown timestamp format: " + value);
+    }
+}
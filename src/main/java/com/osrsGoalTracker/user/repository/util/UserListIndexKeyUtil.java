@@ -0,0 +1,45 @@
+package com.osrsGoalTracker.user.repository.util;
+
+/**
+ * Utility class for generating keys of the user list index.
+ * The index is write-sharded over a fixed number of segments so that a burst of sign-ups is not
+ * limited to the write throughput of a single index partition. A user always lands in the same
+ * segment, derived from the user ID, and listing merges the segments back into creation order.
+ */
+public final class UserListIndexKeyUtil {
+    /**
+     * The number of segments users are spread over. Changing it moves existing users to other
+     * segments, so every user metadata item must be rewritten afterwards.
+     */
+    public static final int SEGMENTS = 10;
+
+    private static final String USER = "USER";
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private UserListIndexKeyUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the segment a user is listed in.
+     *
+     * @param userId The ID of the user
+     * @return The segment, from 0 to {@link #SEGMENTS} - 1
+     */
+    public static int getSegment(String userId) {
+        return Math.floorMod(userId.hashCode(), SEGMENTS);
+    }
+
+    /**
+     * Gets the index partition key of a segment.
+     * Format: USER#segment
+     *
+     * @param segment The segment
+     * @return The index partition key
+     */
+    public static String getPartitionKey(int segment) {
+        return String.format("%s#%d", USER, segment);
+    }
+}
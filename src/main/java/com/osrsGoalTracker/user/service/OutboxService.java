@@ -0,0 +1,20 @@
+package com.osrsGoalTracker.user.service;
+
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+/**
+ * Service interface for publishing domain events recorded in the transactional outbox.
+ */
+public interface OutboxService {
+    /**
+     * Publishes the given outbox events to the event bus in batches and removes the outbox
+     * items of the events that were published. Delivery is at-least-once: consumers should
+     * discard events whose ID they have already seen.
+     *
+     * @param events The outbox events to publish
+     * @return The IDs of the events that could not be published and should be retried
+     */
+    List<String> publishEvents(List<OutboxEvent> events);
+}
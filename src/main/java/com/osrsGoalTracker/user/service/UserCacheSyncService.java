@@ -0,0 +1,20 @@
+package com.osrsGoalTracker.user.service;
+
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.UserChange;
+
+/**
+ * Service interface for keeping the shared user cache coherent with the user table.
+ */
+public interface UserCacheSyncService {
+    /**
+     * Applies a batch of user changes to the shared cache. Changes are coalesced per user so
+     * that only the last change for each user in the batch is applied: a changed user is
+     * written to the cache, and a deleted user (or one whose new state is unknown) is invalidated.
+     *
+     * @param changes The user changes, in stream order
+     * @return The number of cache entries that were written or invalidated
+     */
+    int applyChanges(List<UserChange> changes);
+}
@@ -1,6 +1,26 @@
 package com.osrsGoalTracker.user.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.model.SubscriberPage;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.service.exception.IdempotencyConflictException;
 
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
@@ -10,7 +30,7 @@ import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
  */
 public interface UserService {
     /**
-     * Retrieves a user by their ID.
+     * Retrieves a user by their ID using the configured default read consistency.
      *
      * @param userId The unique identifier of the user
      * @return User object containing user data
@@ -18,6 +38,37 @@ public interface UserService {
      */
     User getUser(String userId);
 
+    /**
+     * Retrieves a user by their ID with the given read consistency.
+     * Callers that just created the user should request {@link ReadConsistency#STRONG}.
+     *
+     * @param userId          The unique identifier of the user
+     * @param readConsistency The read consistency to use
+     * @return User object containing user data
+     * @throws ResourceNotFoundException if user doesn't exist
+     */
+    User getUser(String userId, ReadConsistency readConsistency);
+
+    /**
+     * Retrieves several users by their IDs in one batch. Reads are eventually consistent.
+     *
+     * @param userIds The unique identifiers of the users
+     * @return The users that exist, keyed by user ID; missing users are absent
+     */
+    Map<String, User> getUsers(List<String> userIds);
+
+    /**
+     * Lists users ordered by creation time, oldest first, one page at a time.
+     * Reads are eventually consistent.
+     *
+     * @param pageSize The maximum number of users to return, at most 100
+     * @param cursor   The opaque cursor returned with the previous page, or null for the first page
+     * @param fields   The fields to return; the user ID is always returned, and an empty set returns all fields
+     * @return The page of users and the cursor of the next page
+     * @throws IllegalArgumentException if the page size is out of range or the cursor is invalid
+     */
+    UserPage listUsers(int pageSize, String cursor, Set<UserField> fields);
+
     /**
      * Creates a new user with the given email address.
      *
@@ -25,4 +76,207 @@ public interface UserService {
      * @return The created User object
      */
     User createUser(String email);
+
+    /**
+     * Creates a new user with the given email address, at most once per idempotency key.
+     * A repeated call with the same key returns the stored result of the first call
+     * without creating the user again.
+     *
+     * @param email          The email address for the new user
+     * @param idempotencyKey The client-supplied idempotency key, or null to create without one
+     * @return The created User object, or the user created by the first call with this key
+     * @throws IdempotencyConflictException if the first call with this key is still in progress
+     * @throws IllegalArgumentException     if the key was already used with a different email
+     */
+    User createUser(String email, String idempotencyKey);
+
+    /**
+     * Changes the email of a user. The update only succeeds if the user is still at the
+     * version of the given snapshot, so concurrent writers cannot overwrite each other.
+     *
+     * @param currentUser The user as last read by the caller, including its version
+     * @param email       The new email address
+     * @return The updated user, with its version incremented
+     * @throws com.osrsGoalTracker.user.repository.exception.VersionConflictException
+     *         if the user was modified since the snapshot was read
+     * @throws com.osrsGoalTracker.user.repository.exception.DuplicateUserException
+     *         if another user already has the new email
+     */
+    User updateUser(User currentUser, String email);
+
+    /**
+     * Deletes a user, provided the user is still at the expected version.
+     *
+     * @param userId          The unique identifier of the user
+     * @param expectedVersion The version the caller expects the user to be at
+     * @return The user as it was before deletion
+     * @throws com.osrsGoalTracker.user.repository.exception.VersionConflictException
+     *         if the user was modified since the expected version
+     */
+    User deleteUser(String userId, long expectedVersion);
+
+    /**
+     * Migrates the stored timestamps of all users into the configured storage format.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of user items that were rewritten
+     */
+    long migrateTimestamps(int totalSegments);
+
+    /**
+     * Rebuilds the filter used to skip email lookups for emails that are not in use.
+     *
+     * @param totalSegments The number of parallel scan segments to use
+     * @return The number of emails added to the filter
+     */
+    long rebuildEmailFilter(int totalSegments);
+
+    /**
+     * Registers a character to a user.
+     *
+     * @param userId        The unique identifier of the user
+     * @param characterName The character's in-game name
+     * @return The registered character
+     * @throws com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException
+     *         if the user does not exist
+     */
+    UserCharacter addCharacter(String userId, String characterName);
+
+    /**
+     * Registers several characters to a user in as few writes as possible. Characters that
+     * are already registered are kept.
+     *
+     * @param userId         The unique identifier of the user
+     * @param characterNames The characters' in-game names, at most 100
+     * @return The registered characters
+     * @throws com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException
+     *         if the user does not exist
+     */
+    List<UserCharacter> addCharacters(String userId, List<String> characterNames);
+
+    /**
+     * Removes a character from a user.
+     *
+     * @param userId        The unique identifier of the user
+     * @param characterName The character's in-game name
+     * @throws com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException
+     *         if the character is not registered to the user
+     */
+    void removeCharacter(String userId, String characterName);
+
+    /**
+     * Lists all characters registered to a user, ordered by name, in a single query.
+     * Reads are eventually consistent.
+     *
+     * @param userId The unique identifier of the user
+     * @return The user's characters, empty if none are registered
+     */
+    List<UserCharacter> listCharacters(String userId);
+
+    /**
+     * Sets a user's notification channel of the given type, replacing any existing channel of
+     * that type.
+     *
+     * @param userId      The unique identifier of the user
+     * @param channelType The type of the channel
+     * @param identifier  The address notifications are sent to, e.g. a Discord webhook URL
+     * @return The stored channel
+     * @throws com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException
+     *         if the user does not exist
+     */
+    NotificationChannel putNotificationChannel(String userId, NotificationChannelType channelType,
+            String identifier);
+
+    /**
+     * Lists all notification channels of a user. Reads are eventually consistent.
+     *
+     * @param userId The unique identifier of the user
+     * @return The user's channels, empty if none are set
+     */
+    List<NotificationChannel> listNotificationChannels(String userId);
+
+    /**
+     * Removes a user's notification channel of the given type.
+     *
+     * @param userId      The unique identifier of the user
+     * @param channelType The type of the channel to remove
+     * @throws com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException
+     *         if the user has no channel of the type
+     */
+    void removeNotificationChannel(String userId, NotificationChannelType channelType);
+
+    /**
+     * Lists one page of the users subscribed to a channel type, from one segment of the channel
+     * index. A notification sweep reads every segment, in parallel if it likes, and pages through
+     * each until its cursor is null. Reads are eventually consistent.
+     *
+     * @param channelType The type of channel to list subscribers of
+     * @param segment     The segment to read, from 0 to the page's totalSegments - 1
+     * @param pageSize    The maximum number of channels to return, at most 1000
+     * @param cursor      The cursor of the previous page of this segment, or null for the first page
+     * @return The page of channels and the cursor of the segment's next page
+     * @throws IllegalArgumentException if the segment or page size is out of range or the cursor is invalid
+     */
+    SubscriberPage listSubscribers(NotificationChannelType channelType, int segment, int pageSize, String cursor);
+
+    /**
+     * Records progress points for any number of a user's goals. The points are appended to each
+     * goal's time series and each goal's latest and earliest progress is updated, without
+     * reading anything first. Points with the same character, goal and millisecond are stored
+     * once, with the value of the last of them. Recording the same points again is harmless.
+     *
+     * @param userId The unique identifier of the user
+     * @param points The progress points, at most 1000
+     * @return The number of distinct points recorded
+     * @throws IllegalArgumentException if a point has an invalid character name, goal ID or timestamp
+     */
+    int ingestProgress(String userId, List<GoalProgress> points);
+
+    /**
+     * Gets a goal's progress over a time range, downsampled for charting. Old progress is read
+     * from packed weekly or monthly rollups, so a long range costs one item per bucket rather
+     * than one per point.
+     *
+     * @param userId        The unique identifier of the user
+     * @param characterName The character's in-game name
+     * @param goalId        The ID of the goal
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @param resolution    The resolution to downsample to
+     * @return The series as timestamp and value columns, empty if there is no progress in the range
+     * @throws IllegalArgumentException if the character name, goal ID or range is invalid
+     */
+    ProgressSeries getGoalProgress(String userId, String characterName, String goalId, Instant from, Instant to,
+            ProgressResolution resolution);
+
+    /**
+     * Rolls the progress points of all users that are older than the retention period up into
+     * one packed item per goal and bucket, and marks the raw points to expire. Users are
+     * processed in pages, several at a time, and a checkpoint is saved after each page; a run
+     * that reaches its time budget stops after the current page and the next run resumes from
+     * the checkpoint.
+     *
+     * @param maxConcurrency The maximum number of users compacted at once
+     * @param granularity    The size of the buckets points are rolled up into
+     * @param retentionDays  The number of days raw points are kept before they are rolled up
+     * @param timeBudget     How long the run may keep starting new pages
+     * @return The totals of the run and whether every user was processed
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    ProgressCompaction compactProgress(int maxConcurrency, RollupGranularity granularity, int retentionDays,
+            Duration timeBudget);
+
+    /**
+     * Erases a user and every item stored under the user: metadata, characters, notification
+     * channels and goal progress. Items are deleted in concurrent batches; a purge that reaches
+     * its time budget stops and keeps the user's metadata, and purging the same user again
+     * resumes with the remaining items.
+     *
+     * @param userId             The unique identifier of the user
+     * @param maxInFlightBatches The maximum number of delete batches in flight at once
+     * @param timeBudget         How long the purge may keep starting new pages of deletes
+     * @return The number of items deleted and whether the user is fully erased
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    UserPurge purgeUser(String userId, int maxInFlightBatches, Duration timeBudget);
 }
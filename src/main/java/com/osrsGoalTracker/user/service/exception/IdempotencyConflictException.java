@@ -0,0 +1,17 @@
+package com.osrsGoalTracker.user.service.exception;
+
+/**
+ * Exception thrown when a request arrives while an earlier request with the same
+ * idempotency key is still in progress.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    /**
+     * Constructs a new IdempotencyConflictException with the specified detail message.
+     *
+     * @param message the detail message. The detail message is saved for later
+     *                retrieval by the {@link #getMessage()} method.
+     */
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
+import com.osrsGoalTracker.user.service.OutboxService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of the OutboxService interface.
+ */
+@Log4j2
+public class OutboxServiceImpl implements OutboxService {
+    private final EventPublisher eventPublisher;
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * Constructs a new OutboxServiceImpl.
+     *
+     * @param eventPublisher   The EventPublisher instance to publish events with
+     * @param outboxRepository The OutboxRepository instance to remove published events with
+     */
+    @Inject
+    public OutboxServiceImpl(EventPublisher eventPublisher, OutboxRepository outboxRepository) {
+        this.eventPublisher = eventPublisher;
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public List<String> publishEvents(List<OutboxEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> publishedEventIds = new ArrayList<>(events.size());
+        List<String> failedEventIds = new ArrayList<>();
+        for (int start = 0; start < events.size(); start += EventPublisher.MAX_BATCH_SIZE) {
+            List<OutboxEvent> batch = events.subList(start,
+                    Math.min(start + EventPublisher.MAX_BATCH_SIZE, events.size()));
+            Set<String> batchFailures = new HashSet<>(eventPublisher.publish(batch));
+            for (OutboxEvent event : batch) {
+                if (batchFailures.contains(event.getEventId())) {
+                    failedEventIds.add(event.getEventId());
+                } else {
+                    publishedEventIds.add(event.getEventId());
+                }
+            }
+        }
+
+        log.info("Published {} of {} outbox events", publishedEventIds.size(), events.size());
+        try {
+            outboxRepository.deleteEvents(publishedEventIds);
+        } catch (RuntimeException e) {
+            // The events are already published; leftover outbox items expire through TTL.
+            log.error("Failed to delete {} published outbox items", publishedEventIds.size(), e);
+        }
+        return failedEventIds;
+    }
+}
@@ -0,0 +1,367 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.user.common.cache.LocalCache;
+import com.osrsGoalTracker.user.common.exception.CircuitOpenException;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.resilience.CircuitBreaker;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.exception.VersionConflictException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * UserRepository decorator that serves eventually consistent reads from two cache tiers:
+ * an in-process cache per container (L1), then the shared UserCache (L2), then the table.
+ * Strongly consistent reads always go to the table and refresh both tiers. Writes update
+ * both tiers with the result returned by the table, and deletes invalidate them, leaving a
+ * tombstone in the shared tier so a concurrent read cannot cache the deleted user again. An email change
+ * returns a user derived from the caller's snapshot rather than the stored item, so it
+ * invalidates both tiers instead and the next read loads the stored item.
+ * The L2 tier is kept coherent with changes made elsewhere by the user cache stream handler;
+ * the L1 tier is not, so its TTL is kept short.
+ * Single-user table reads are protected by a circuit breaker. While it is open, or when a table
+ * read fails, eventually consistent reads fall back to an expired L1 entry if there is one;
+ * strongly consistent reads fail fast. Reads the call guard sheds before they reach the table
+ * do not count as failures.
+ */
+@Log4j2
+public class TieredUserRepository implements UserRepository {
+    /**
+     * Binding name of the repository that reads and writes the table.
+     */
+    public static final String DELEGATE = "tableUserRepository";
+
+    private static final String LOCAL_CACHE_TTL_SECONDS = System.getenv("USER_LOCAL_CACHE_TTL_SECONDS");
+    private static final String SHARED_CACHE_TTL_SECONDS = System.getenv("USER_CACHE_TTL_SECONDS");
+    private static final String READ_CONSISTENCY = System.getenv("USER_READ_CONSISTENCY");
+    private static final String CIRCUIT_FAILURE_THRESHOLD = System.getenv("USER_CIRCUIT_FAILURE_THRESHOLD");
+    private static final String CIRCUIT_OPEN_SECONDS = System.getenv("USER_CIRCUIT_OPEN_SECONDS");
+    private static final int DEFAULT_CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_CIRCUIT_OPEN_DURATION = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_LOCAL_CACHE_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_SHARED_CACHE_TTL = Duration.ofHours(1);
+    private static final int LOCAL_CACHE_SIZE = 10_000;
+
+    private static final String LOCAL_HITS_METRIC = "UserCache.LocalHits";
+    private static final String SHARED_HITS_METRIC = "UserCache.SharedHits";
+    private static final String MISSES_METRIC = "UserCache.Misses";
+    private static final String STALE_HITS_METRIC = "UserCache.StaleHits";
+    private static final String CIRCUIT_STATE_METRIC = "UserTable.CircuitState";
+    private static final String SHORT_CIRCUITED_METRIC = "UserTable.ShortCircuited";
+
+    private final UserRepository delegate;
+    private final UserCache sharedCache;
+    private final MetricsRecorder metricsRecorder;
+    private final LocalCache<String, User> localCache;
+    private final Duration sharedCacheTtl;
+    private final ReadConsistency defaultReadConsistency;
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Constructor for TieredUserRepository.
+     * Cache TTLs are configured by the USER_LOCAL_CACHE_TTL_SECONDS and USER_CACHE_TTL_SECONDS
+     * environment variables, and the circuit breaker by USER_CIRCUIT_FAILURE_THRESHOLD and
+     * USER_CIRCUIT_OPEN_SECONDS.
+     *
+     * @param delegate        The repository that reads and writes the table
+     * @param sharedCache     The shared L2 cache
+     * @param metricsRecorder The recorder for cache hit metrics
+     */
+    @Inject
+    public TieredUserRepository(@Named(DELEGATE) UserRepository delegate, UserCache sharedCache,
+            MetricsRecorder metricsRecorder) {
+        this(delegate, sharedCache, metricsRecorder,
+                new LocalCache<>(LOCAL_CACHE_SIZE, parseTtl(LOCAL_CACHE_TTL_SECONDS, DEFAULT_LOCAL_CACHE_TTL)),
+                parseTtl(SHARED_CACHE_TTL_SECONDS, DEFAULT_SHARED_CACHE_TTL),
+                ReadConsistency.fromValue(READ_CONSISTENCY),
+                CIRCUIT_FAILURE_THRESHOLD == null || CIRCUIT_FAILURE_THRESHOLD.trim().isEmpty()
+                        ? DEFAULT_CIRCUIT_FAILURE_THRESHOLD
+                        : Integer.parseInt(CIRCUIT_FAILURE_THRESHOLD.trim()),
+                parseTtl(CIRCUIT_OPEN_SECONDS, DEFAULT_CIRCUIT_OPEN_DURATION));
+    }
+
+    /**
+     * Constructor for TieredUserRepository with explicit cache and circuit breaker settings.
+     *
+     * @param delegate                The repository that reads and writes the table
+     * @param sharedCache             The shared L2 cache
+     * @param metricsRecorder         The recorder for cache hit metrics
+     * @param localCache              The in-process L1 cache
+     * @param sharedCacheTtl          How long users stay in the shared cache
+     * @param defaultReadConsistency  The consistency of reads that do not specify one
+     * @param circuitFailureThreshold The consecutive table read failures that open the circuit
+     * @param circuitOpenDuration     How long the circuit stays open before a trial read
+     */
+    TieredUserRepository(UserRepository delegate, UserCache sharedCache, MetricsRecorder metricsRecorder,
+            LocalCache<String, User> localCache, Duration sharedCacheTtl, ReadConsistency defaultReadConsistency,
+            int circuitFailureThreshold, Duration circuitOpenDuration) {
+        this.delegate = delegate;
+        this.sharedCache = sharedCache;
+        this.metricsRecorder = metricsRecorder;
+        this.localCache = localCache;
+        this.sharedCacheTtl = sharedCacheTtl;
+        this.defaultReadConsistency = defaultReadConsistency;
+        this.circuitBreaker = new CircuitBreaker(circuitFailureThreshold, circuitOpenDuration,
+                this::onCircuitTransition);
+    }
+
+    private static Duration parseTtl(String value, Duration defaultTtl) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultTtl;
+        }
+        return Duration.ofSeconds(Long.parseLong(value.trim()));
+    }
+
+    @Override
+    public User getUser(String userId) {
+        return getUser(userId, defaultReadConsistency);
+    }
+
+    @Override
+    public User getUser(String userId, ReadConsistency readConsistency) {
+        if (readConsistency == ReadConsistency.STRONG) {
+            return readFromTable(userId, readConsistency);
+        }
+
+        Optional<User> localUser = localCache.get(userId);
+        if (localUser.isPresent()) {
+            metricsRecorder.increment(LOCAL_HITS_METRIC);
+            return localUser.get();
+        }
+
+        Optional<User> sharedUser = sharedCache.get(userId);
+        if (sharedUser.isPresent()) {
+            metricsRecorder.increment(SHARED_HITS_METRIC);
+            localCache.put(userId, sharedUser.get());
+            return sharedUser.get();
+        }
+
+        metricsRecorder.increment(MISSES_METRIC);
+        return readFromTable(userId, readConsistency);
+    }
+
+    private User readFromTable(String userId, ReadConsistency readConsistency) {
+        if (!circuitBreaker.tryAcquire()) {
+            metricsRecorder.increment(SHORT_CIRCUITED_METRIC);
+            return serveStale(userId, readConsistency,
+                    new CircuitOpenException("User table is unavailable, please retry later"));
+        }
+
+        User user;
+        try {
+            user = delegate.getUser(userId, readConsistency);
+        } catch (ResourceNotFoundException | IllegalArgumentException e) {
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            if (isShedLocally(e)) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+            circuitBreaker.onFailure();
+            log.warn("Table read for user {} failed: {}", userId, e.getMessage());
+            return serveStale(userId, readConsistency, e);
+        }
+        circuitBreaker.onSuccess();
+        cache(user);
+        return user;
+    }
+
+    /**
+     * Checks whether a read was shed by the call guard before it reached the table, either to stay
+     * under the adaptive request rate or because the request's own deadline had passed. Throttling
+     * by DynamoDB itself carries the throttling error as its cause and still counts as a failure.
+     */
+    private static boolean isShedLocally(RuntimeException e) {
+        return e instanceof ServiceUnavailableException
+                || (e instanceof RateLimitedException && e.getCause() == null);
+    }
+
+    private User serveStale(String userId, ReadConsistency readConsistency, RuntimeException failure) {
+        if (readConsistency == ReadConsistency.EVENTUAL) {
+            Optional<User> staleUser = localCache.getStale(userId);
+            if (staleUser.isPresent()) {
+                metricsRecorder.increment(STALE_HITS_METRIC);
+                return staleUser.get();
+            }
+        }
+        throw failure;
+    }
+
+    private void onCircuitTransition(CircuitBreaker.State state) {
+        log.warn("User table circuit is now {}", state);
+        metricsRecorder.record(CIRCUIT_STATE_METRIC, state.ordinal(), MetricUnit.NONE);
+    }
+
+    /**
+     * Retrieves several users, looking each tier up in a single batch before falling back to
+     * the next: L1 first, then one multiGet on L2, then one batch read from the table.
+     *
+     * @param userIds The IDs of the users to retrieve
+     * @return The users found, keyed by user ID
+     */
+    @Override
+    public Map<String, User> getUsers(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        List<String> localMisses = new ArrayList<>();
+        for (String userId : userIds) {
+            Optional<User> localUser = localCache.get(userId);
+            if (localUser.isPresent()) {
+                users.put(userId, localUser.get());
+            } else {
+                localMisses.add(userId);
+            }
+        }
+        recordHits(LOCAL_HITS_METRIC, users.size());
+        if (localMisses.isEmpty()) {
+            return users;
+        }
+
+        Map<String, User> sharedUsers = sharedCache.multiGet(localMisses);
+        recordHits(SHARED_HITS_METRIC, sharedUsers.size());
+        List<String> sharedMisses = new ArrayList<>();
+        for (String userId : localMisses) {
+            User sharedUser = sharedUsers.get(userId);
+            if (sharedUser != null) {
+                localCache.put(userId, sharedUser);
+                users.put(userId, sharedUser);
+            } else {
+                sharedMisses.add(userId);
+            }
+        }
+        recordHits(MISSES_METRIC, sharedMisses.size());
+        if (sharedMisses.isEmpty()) {
+            return users;
+        }
+
+        Map<String, User> tableUsers = delegate.getUsers(sharedMisses);
+        for (User user : tableUsers.values()) {
+            cache(user);
+        }
+        users.putAll(tableUsers);
+        return users;
+    }
+
+    /**
+     * Lists users straight from the table. Pages are read in index order, so neither cache
+     * tier can serve them.
+     *
+     * @param pageSize The maximum number of users to return
+     * @param cursor   The cursor of the previous page, or null for the first page
+     * @param fields   The fields to return
+     * @return The page of users
+     */
+    @Override
+    public UserPage listUsers(int pageSize, String cursor, Set<UserField> fields) {
+        return delegate.listUsers(pageSize, cursor, fields);
+    }
+
+    @Override
+    public User createUser(String email) {
+        User user = delegate.createUser(email);
+        cache(user);
+        return user;
+    }
+
+    @Override
+    public User createUser(String email, String idempotencyKey) {
+        User user = delegate.createUser(email, idempotencyKey);
+        cache(user);
+        return user;
+    }
+
+    @Override
+    public User updateUser(User currentUser, String email) {
+        try {
+            User user = delegate.updateUser(currentUser, email);
+            if (isEmailChange(currentUser, email)) {
+                invalidate(user.getUserId());
+            } else {
+                cache(user);
+            }
+            return user;
+        } catch (VersionConflictException e) {
+            // The caller's snapshot may have come from a stale cache entry.
+            invalidate(currentUser.getUserId());
+            throw e;
+        }
+    }
+
+    @Override
+    public User deleteUser(String userId, long expectedVersion) {
+        User deletedUser;
+        try {
+            deletedUser = delegate.deleteUser(userId, expectedVersion);
+        } catch (RuntimeException e) {
+            invalidate(userId);
+            throw e;
+        }
+        localCache.invalidate(userId);
+        sharedCache.remove(userId, deletedUser.getVersion());
+        return deletedUser;
+    }
+
+    @Override
+    public long migrateTimestamps(int totalSegments) {
+        return delegate.migrateTimestamps(totalSegments);
+    }
+
+    @Override
+    public long rebuildEmailFilter(int totalSegments) {
+        return delegate.rebuildEmailFilter(totalSegments);
+    }
+
+    @Override
+    public UserPurge purgeUser(String userId, int maxInFlightBatches, Instant deadline) {
+        try {
+            return delegate.purgeUser(userId, maxInFlightBatches, deadline);
+        } finally {
+            invalidate(userId);
+        }
+    }
+
+    private static boolean isEmailChange(User currentUser, String email) {
+        return currentUser.getEmail() == null
+                || !currentUser.getEmail().trim().toLowerCase(Locale.ROOT)
+                        .equals(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private void cache(User user) {
+        localCache.put(user.getUserId(), user);
+        sharedCache.put(user, sharedCacheTtl);
+    }
+
+    private void invalidate(String userId) {
+        localCache.invalidate(userId);
+        sharedCache.invalidate(userId);
+    }
+
+    private void recordHits(String metric, int count) {
+        if (count > 0) {
+            metricsRecorder.record(metric, count, MetricUnit.COUNT);
+        }
+    }
+}
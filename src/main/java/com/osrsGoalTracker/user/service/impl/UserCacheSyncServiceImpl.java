@@ -0,0 +1,75 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.model.UserChange;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of the UserCacheSyncService interface.
+ * Cached users are written with the TTL configured by the USER_CACHE_TTL_SECONDS environment
+ * variable. Because every change is pushed to the cache, the TTL can be long. Deleted users are
+ * replaced by a tombstone, so a read-through that started before the deletion cannot cache them again.
+ */
+@Log4j2
+public class UserCacheSyncServiceImpl implements UserCacheSyncService {
+    private static final String CACHE_TTL_SECONDS = System.getenv("USER_CACHE_TTL_SECONDS");
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+
+    private final UserCache userCache;
+    private final Duration cacheTtl;
+
+    /**
+     * Constructs a new UserCacheSyncServiceImpl.
+     *
+     * @param userCache The shared UserCache instance to keep coherent
+     */
+    @Inject
+    public UserCacheSyncServiceImpl(UserCache userCache) {
+        this(userCache, CACHE_TTL_SECONDS == null || CACHE_TTL_SECONDS.trim().isEmpty()
+                ? DEFAULT_CACHE_TTL
+                : Duration.ofSeconds(Long.parseLong(CACHE_TTL_SECONDS.trim())));
+    }
+
+    /**
+     * Constructs a new UserCacheSyncServiceImpl with an explicit cache TTL.
+     *
+     * @param userCache The shared UserCache instance to keep coherent
+     * @param cacheTtl  How long pushed users stay cached
+     */
+    UserCacheSyncServiceImpl(UserCache userCache, Duration cacheTtl) {
+        this.userCache = userCache;
+        this.cacheTtl = cacheTtl;
+    }
+
+    @Override
+    public int applyChanges(List<UserChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, UserChange> latestChanges = new LinkedHashMap<>();
+        for (UserChange change : changes) {
+            latestChanges.put(change.getUserId(), change);
+        }
+
+        for (UserChange change : latestChanges.values()) {
+            if (change.isDeleted()) {
+                userCache.remove(change.getUserId(), change.getDeletedVersion());
+            } else if (change.getUser() == null) {
+                userCache.invalidate(change.getUserId());
+            } else {
+                userCache.put(change.getUser(), cacheTtl);
+            }
+        }
+        log.info("Applied {} user changes to the cache ({} coalesced)", latestChanges.size(), changes.size());
+        return latestChanges.size();
+    }
+}
@@ -1,27 +1,97 @@
 package com.osrsGoalTracker.user.service.impl;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
 import com.google.inject.Inject;
+import com.osrsGoalTracker.user.common.jfr.ServiceSpanEvent;
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.IdempotencyStatus;
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.model.SubscriberPage;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.util.SortKeyUtil;
 import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.exception.IdempotencyConflictException;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Default implementation of the UserService interface.
+ * Request-path operations run inside a JFR {@link ServiceSpanEvent}, which also makes their
+ * user the one the DynamoDB call events beneath them are attributed to.
  */
 @Log4j2
 public class UserServiceImpl implements UserService {
+    private static final int MAX_MIGRATION_SEGMENTS = 64;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final int MAX_BATCH_LOOKUP_SIZE = 1_000;
+    private static final int MAX_LIST_PAGE_SIZE = 100;
+    private static final int MAX_CHARACTERS_PER_REQUEST = 100;
+    private static final int MAX_CHANNEL_IDENTIFIER_LENGTH = 2_048;
+    private static final int MAX_SUBSCRIBER_PAGE_SIZE = 1_000;
+    private static final int MAX_PROGRESS_POINTS_PER_REQUEST = 1_000;
+    private static final int MAX_GOAL_ID_LENGTH = 64;
+    private static final int COMPACTION_PAGE_SIZE = 100;
+    private static final Duration RAW_PROGRESS_GRACE_PERIOD = Duration.ofDays(7);
+    private static final String PROGRESS_COMPACTION_JOB = "PROGRESS_COMPACTION";
+    private static final Pattern CHARACTER_NAME_PATTERN = Pattern.compile("[A-Za-z0-9 _-]{1,12}");
+
     private final UserRepository userRepository;
+    private final IdempotencyRepository idempotencyRepository;
+    private final CharacterRepository characterRepository;
+    private final NotificationChannelRepository channelRepository;
+    private final GoalProgressRepository progressRepository;
+    private final JobCheckpointRepository checkpointRepository;
 
     /**
      * Constructs a new DefaultUserService.
      *
-     * @param userRepository The UserRepository instance to use for data operations
+     * @param userRepository        The UserRepository instance to use for data operations
+     * @param idempotencyRepository The IdempotencyRepository instance to use for idempotent creates
+     * @param characterRepository   The CharacterRepository instance to use for character rosters
+     * @param channelRepository     The NotificationChannelRepository instance to use for notification channels
+     * @param progressRepository    The GoalProgressRepository instance to use for goal progress
+     * @param checkpointRepository  The JobCheckpointRepository instance to use for resuming background jobs
      */
     @Inject
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, IdempotencyRepository idempotencyRepository,
+            CharacterRepository characterRepository, NotificationChannelRepository channelRepository,
+            GoalProgressRepository progressRepository, JobCheckpointRepository checkpointRepository) {
         this.userRepository = userRepository;
+        this.idempotencyRepository = idempotencyRepository;
+        this.characterRepository = characterRepository;
+        this.channelRepository = channelRepository;
+        this.progressRepository = progressRepository;
+        this.checkpointRepository = checkpointRepository;
     }
 
     @Override
@@ -32,7 +102,91 @@ public class UserServiceImpl implements UserService {
 
         String trimmedEmail = email.trim();
         log.info("Creating user with email: {}", trimmedEmail);
-        return userRepository.createUser(trimmedEmail);
+        return ServiceSpanEvent.record("CreateUser", null, () -> userRepository.createUser(trimmedEmail));
+    }
+
+    @Override
+    public User createUser(String email, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createUser(email);
+        }
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+        if (idempotencyKey.trim().isEmpty() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        String trimmedEmail = email.trim();
+        return ServiceSpanEvent.record("CreateUser", null, () -> createUserOnce(trimmedEmail, idempotencyKey));
+    }
+
+    /**
+     * Creates a user unless the idempotency key already has a result, which is replayed instead.
+     * The result is stored in the same write as the user, so it cannot be lost once the user exists.
+     */
+    private User createUserOnce(String trimmedEmail, String idempotencyKey) {
+        Optional<IdempotencyRecord> existingRecord = idempotencyRepository.getRecord(idempotencyKey);
+        if (existingRecord.isPresent()) {
+            return replay(existingRecord.get(), trimmedEmail);
+        }
+
+        if (!idempotencyRepository.claim(idempotencyKey, trimmedEmail)) {
+            IdempotencyRecord claimedRecord = idempotencyRepository.getRecord(idempotencyKey)
+                    .orElseThrow(() -> new IdempotencyConflictException(
+                            "A request with this idempotency key is still in progress"));
+            return replay(claimedRecord, trimmedEmail);
+        }
+
+        try {
+            log.info("Creating user with email: {} (idempotency key: {})", trimmedEmail, idempotencyKey);
+            return userRepository.createUser(trimmedEmail, idempotencyKey);
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(idempotencyKey);
+            throw e;
+        }
+    }
+
+    private User replay(IdempotencyRecord record, String email) {
+        if (!record.getRequestFingerprint().equals(email)) {
+            throw new IllegalArgumentException("Idempotency key was already used with a different request");
+        }
+        if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+            throw new IdempotencyConflictException("A request with this idempotency key is still in progress");
+        }
+        log.info("Replaying stored result for idempotency key: {}", record.getIdempotencyKey());
+        return record.getUser();
+    }
+
+    @Override
+    public User updateUser(User currentUser, String email) {
+        if (currentUser == null || currentUser.getUserId() == null || currentUser.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+
+        String trimmedEmail = email.trim();
+        log.info("Updating user with ID: {} at version {}", currentUser.getUserId(), currentUser.getVersion());
+        return ServiceSpanEvent.record("UpdateUser", currentUser.getUserId(),
+                () -> userRepository.updateUser(currentUser, trimmedEmail));
+    }
+
+    @Override
+    public User deleteUser(String userId, long expectedVersion) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Deleting user with ID: {} at version {}", trimmedUserId, expectedVersion);
+        return ServiceSpanEvent.record("DeleteUser", trimmedUserId,
+                () -> userRepository.deleteUser(trimmedUserId, expectedVersion));
     }
 
     @Override
@@ -43,6 +197,376 @@ public class UserServiceImpl implements UserService {
 
         String trimmedUserId = userId.trim();
         log.info("Getting user with ID: {}", trimmedUserId);
-        return userRepository.getUser(trimmedUserId);
+        return ServiceSpanEvent.record("GetUser", trimmedUserId, () -> userRepository.getUser(trimmedUserId));
+    }
+
+    @Override
+    public User getUser(String userId, ReadConsistency readConsistency) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (readConsistency == null) {
+            throw new IllegalArgumentException("Read consistency cannot be null");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Getting user with ID: {} ({} read)", trimmedUserId, readConsistency);
+        return ServiceSpanEvent.record("GetUser", trimmedUserId,
+                () -> userRepository.getUser(trimmedUserId, readConsistency));
+    }
+
+    @Override
+    public Map<String, User> getUsers(List<String> userIds) {
+        if (userIds == null || userIds.size() > MAX_BATCH_LOOKUP_SIZE) {
+            throw new IllegalArgumentException(
+                    "User IDs must be provided, at most " + MAX_BATCH_LOOKUP_SIZE + " at a time");
+        }
+
+        List<String> trimmedUserIds = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            if (userId == null || userId.trim().isEmpty()) {
+                throw new IllegalArgumentException("User ID cannot be null or empty");
+            }
+            trimmedUserIds.add(userId.trim());
+        }
+
+        log.info("Getting {} users", trimmedUserIds.size());
+        return ServiceSpanEvent.record("GetUsers", null, () -> userRepository.getUsers(trimmedUserIds));
+    }
+
+    @Override
+    public UserPage listUsers(int pageSize, String cursor, Set<UserField> fields) {
+        if (pageSize < 1 || pageSize > MAX_LIST_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_LIST_PAGE_SIZE);
+        }
+
+        log.info("Listing up to {} users", pageSize);
+        Set<UserField> listedFields = fields == null ? Set.of() : fields;
+        return ServiceSpanEvent.record("ListUsers", null,
+                () -> userRepository.listUsers(pageSize, cursor, listedFields));
+    }
+
+    @Override
+    public long migrateTimestamps(int totalSegments) {
+        if (totalSegments < 1 || totalSegments > MAX_MIGRATION_SEGMENTS) {
+            throw new IllegalArgumentException(
+                    "Total segments must be between 1 and " + MAX_MIGRATION_SEGMENTS);
+        }
+
+        log.info("Migrating user timestamps with {} segments", totalSegments);
+        return userRepository.migrateTimestamps(totalSegments);
+    }
+
+    @Override
+    public long rebuildEmailFilter(int totalSegments) {
+        if (totalSegments < 1 || totalSegments > MAX_MIGRATION_SEGMENTS) {
+            throw new IllegalArgumentException(
+                    "Total segments must be between 1 and " + MAX_MIGRATION_SEGMENTS);
+        }
+
+        log.info("Rebuilding email filter with {} segments", totalSegments);
+        return userRepository.rebuildEmailFilter(totalSegments);
+    }
+
+    @Override
+    public UserCharacter addCharacter(String userId, String characterName) {
+        return addCharacters(userId, List.of(validateCharacterName(characterName))).get(0);
+    }
+
+    @Override
+    public List<UserCharacter> addCharacters(String userId, List<String> characterNames) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (characterNames == null || characterNames.isEmpty()
+                || characterNames.size() > MAX_CHARACTERS_PER_REQUEST) {
+            throw new IllegalArgumentException(
+                    "Between 1 and " + MAX_CHARACTERS_PER_REQUEST + " character names must be provided");
+        }
+
+        List<String> trimmedNames = new ArrayList<>(characterNames.size());
+        for (String characterName : characterNames) {
+            trimmedNames.add(validateCharacterName(characterName));
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Adding {} characters to user {}", trimmedNames.size(), trimmedUserId);
+        return ServiceSpanEvent.record("AddCharacters", trimmedUserId, () -> {
+            userRepository.getUser(trimmedUserId);
+            return characterRepository.addCharacters(trimmedUserId, trimmedNames);
+        });
+    }
+
+    @Override
+    public void removeCharacter(String userId, String characterName) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        String trimmedUserId = userId.trim();
+        String trimmedName = validateCharacterName(characterName);
+        log.info("Removing character {} from user {}", trimmedName, trimmedUserId);
+        ServiceSpanEvent.run("RemoveCharacter", trimmedUserId,
+                () -> characterRepository.removeCharacter(trimmedUserId, trimmedName));
+    }
+
+    @Override
+    public List<UserCharacter> listCharacters(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Listing characters of user {}", trimmedUserId);
+        return ServiceSpanEvent.record("ListCharacters", trimmedUserId,
+                () -> characterRepository.listCharacters(trimmedUserId));
+    }
+
+    @Override
+    public NotificationChannel putNotificationChannel(String userId, NotificationChannelType channelType,
+            String identifier) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+        if (identifier == null || identifier.trim().isEmpty()
+                || identifier.trim().length() > MAX_CHANNEL_IDENTIFIER_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Channel identifier must be between 1 and " + MAX_CHANNEL_IDENTIFIER_LENGTH + " characters");
+        }
+
+        String trimmedUserId = userId.trim();
+        String trimmedIdentifier = identifier.trim();
+        log.info("Setting {} notification channel of user {}", channelType, trimmedUserId);
+        return ServiceSpanEvent.record("PutNotificationChannel", trimmedUserId, () -> {
+            userRepository.getUser(trimmedUserId);
+            return channelRepository.putNotificationChannel(trimmedUserId, channelType, trimmedIdentifier);
+        });
+    }
+
+    @Override
+    public List<NotificationChannel> listNotificationChannels(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Listing notification channels of user {}", trimmedUserId);
+        return ServiceSpanEvent.record("ListNotificationChannels", trimmedUserId,
+                () -> channelRepository.listNotificationChannels(trimmedUserId));
+    }
+
+    @Override
+    public void removeNotificationChannel(String userId, NotificationChannelType channelType) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Removing {} notification channel of user {}", channelType, trimmedUserId);
+        ServiceSpanEvent.run("RemoveNotificationChannel", trimmedUserId,
+                () -> channelRepository.removeNotificationChannel(trimmedUserId, channelType));
+    }
+
+    @Override
+    public SubscriberPage listSubscribers(NotificationChannelType channelType, int segment, int pageSize,
+            String cursor) {
+        if (channelType == null) {
+            throw new IllegalArgumentException("Channel type cannot be null");
+        }
+        if (pageSize < 1 || pageSize > MAX_SUBSCRIBER_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SUBSCRIBER_PAGE_SIZE);
+        }
+
+        log.info("Listing up to {} {} subscribers in segment {}", pageSize, channelType, segment);
+        return ServiceSpanEvent.record("ListSubscribers", null,
+                () -> channelRepository.listSubscribers(channelType, segment, pageSize, cursor));
+    }
+
+    @Override
+    public int ingestProgress(String userId, List<GoalProgress> points) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (points == null || points.isEmpty() || points.size() > MAX_PROGRESS_POINTS_PER_REQUEST) {
+            throw new IllegalArgumentException(
+                    "Between 1 and " + MAX_PROGRESS_POINTS_PER_REQUEST + " progress points must be provided");
+        }
+
+        List<GoalProgress> validPoints = new ArrayList<>(points.size());
+        for (GoalProgress point : points) {
+            if (point == null || point.getTimestamp() == null) {
+                throw new IllegalArgumentException("Progress points must have a timestamp");
+            }
+            validPoints.add(point.toBuilder()
+                    .characterName(validateCharacterName(point.getCharacterName()))
+                    .goalId(validateGoalId(point.getGoalId()))
+                    .build());
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Ingesting {} progress points for user {}", validPoints.size(), trimmedUserId);
+        return ServiceSpanEvent.record("IngestProgress", trimmedUserId,
+                () -> progressRepository.ingestProgress(trimmedUserId, validPoints));
+    }
+
+    @Override
+    public ProgressSeries getGoalProgress(String userId, String characterName, String goalId, Instant from,
+            Instant to, ProgressResolution resolution) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("A time range with from not after to must be provided");
+        }
+        if (resolution == null) {
+            throw new IllegalArgumentException("Resolution cannot be null");
+        }
+
+        String validCharacterName = validateCharacterName(characterName);
+        String validGoalId = validateGoalId(goalId);
+        String trimmedUserId = userId.trim();
+        log.info("Getting {} progress of goal {} of user {} from {} to {}", resolution, validGoalId, trimmedUserId,
+                from, to);
+        return ServiceSpanEvent.record("GetGoalProgress", trimmedUserId, () -> progressRepository.getGoalProgress(
+                trimmedUserId, validCharacterName, validGoalId, from, to, resolution));
+    }
+
+    /**
+     * Compacts progress one page of users at a time from the user listing. The users of a page
+     * are compacted on a fixed pool of maxConcurrency threads and the page's cursor is saved as
+     * the checkpoint only once all of them are done, so a run that stops part-way repeats at
+     * most one page, and compacting a user again only merges the same points. The cutoff is
+     * aligned to the start of a bucket so only whole buckets are rolled up, and rolled-up points
+     * expire after a grace period of 7 days, during which they are still readable.
+     *
+     * @param maxConcurrency The maximum number of users compacted at once, between 1 and 64
+     * @param granularity    The size of the buckets points are rolled up into
+     * @param retentionDays  The number of days raw points are kept, at least 1
+     * @param timeBudget     How long the run may keep starting new pages
+     * @return The totals of the run and whether every user was processed
+     * @throws IllegalArgumentException if an argument is out of range
+     * @throws IllegalStateException    if compacting a user fails or the run is interrupted
+     */
+    @Override
+    public ProgressCompaction compactProgress(int maxConcurrency, RollupGranularity granularity, int retentionDays,
+            Duration timeBudget) {
+        if (maxConcurrency < 1 || maxConcurrency > MAX_MIGRATION_SEGMENTS) {
+            throw new IllegalArgumentException("Max concurrency must be between 1 and " + MAX_MIGRATION_SEGMENTS);
+        }
+        if (granularity == null) {
+            throw new IllegalArgumentException("Granularity cannot be null");
+        }
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("Retention days must be at least 1");
+        }
+        if (timeBudget == null || timeBudget.isNegative()) {
+            throw new IllegalArgumentException("Time budget cannot be null or negative");
+        }
+
+        Instant now = Instant.now();
+        Instant deadline = now.plus(timeBudget);
+        Instant cutoff = granularity.bucketStart(now.minus(Duration.ofDays(retentionDays)));
+        Instant expiresAt = now.plus(RAW_PROGRESS_GRACE_PERIOD);
+        String cursor = checkpointRepository.getJobCheckpoint(PROGRESS_COMPACTION_JOB);
+        log.info("Compacting progress before {} into {} rollups with {} threads, {}", cutoff, granularity,
+                maxConcurrency, cursor == null ? "from the start" : "resuming from the checkpoint");
+
+        long usersProcessed = 0;
+        long pointsCompacted = 0;
+        long rollupsWritten = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency);
+        try {
+            do {
+                UserPage page = userRepository.listUsers(COMPACTION_PAGE_SIZE, cursor, EnumSet.of(UserField.USER_ID));
+                List<Future<ProgressCompaction>> compactions = new ArrayList<>();
+                for (User user : page.getUsers()) {
+                    compactions.add(executor.submit(() -> progressRepository.compactProgress(user.getUserId(),
+                            cutoff, granularity, expiresAt)));
+                }
+                for (Future<ProgressCompaction> compaction : compactions) {
+                    ProgressCompaction result = compaction.get();
+                    usersProcessed += result.getUsersProcessed();
+                    pointsCompacted += result.getPointsCompacted();
+                    rollupsWritten += result.getRollupsWritten();
+                }
+                cursor = page.getNextCursor();
+                checkpointRepository.saveJobCheckpoint(PROGRESS_COMPACTION_JOB, cursor);
+            } while (cursor != null && Instant.now().isBefore(deadline));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Progress compaction was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Progress compaction failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Rolled {} progress points of {} users up into {} rollups{}", pointsCompacted, usersProcessed,
+                rollupsWritten, cursor == null ? "" : ", stopping at the time budget");
+        return ProgressCompaction.builder()
+                .usersProcessed(usersProcessed)
+                .pointsCompacted(pointsCompacted)
+                .rollupsWritten(rollupsWritten)
+                .complete(cursor == null)
+                .build();
+    }
+
+    @Override
+    public UserPurge purgeUser(String userId, int maxInFlightBatches, Duration timeBudget) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (maxInFlightBatches < 1 || maxInFlightBatches > MAX_MIGRATION_SEGMENTS) {
+            throw new IllegalArgumentException(
+                    "Max in-flight batches must be between 1 and " + MAX_MIGRATION_SEGMENTS);
+        }
+        if (timeBudget == null || timeBudget.isNegative()) {
+            throw new IllegalArgumentException("Time budget cannot be null or negative");
+        }
+
+        String trimmedUserId = userId.trim();
+        log.info("Purging user with ID: {}", trimmedUserId);
+        Instant deadline = Instant.now().plus(timeBudget);
+        return ServiceSpanEvent.record("PurgeUser", trimmedUserId,
+                () -> userRepository.purgeUser(trimmedUserId, maxInFlightBatches, deadline));
+    }
+
+    /**
+     * Checks that a goal ID is 1 to 64 characters without the key separator, and is not one of
+     * the fixed segments of the progress sort keys.
+     */
+    private static String validateGoalId(String goalId) {
+        String trimmed = goalId == null ? "" : goalId.trim();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_GOAL_ID_LENGTH || trimmed.contains("#")) {
+            throw new IllegalArgumentException(
+                    "Goal ID must be 1 to " + MAX_GOAL_ID_LENGTH + " characters without '#'");
+        }
+        if (SortKeyUtil.isReservedToken(trimmed)) {
+            throw new IllegalArgumentException("Goal ID is reserved: " + trimmed);
+        }
+        return trimmed;
+    }
+
+    /**
+     * Checks that a character name is a valid in-game name: 1 to 12 letters, digits, spaces,
+     * hyphens or underscores. This also keeps the key separator out of character sort keys, and
+     * names such as METADATA that would collide with the fixed segments of other sort keys are
+     * rejected.
+     */
+    private static String validateCharacterName(String characterName) {
+        if (characterName == null || !CHARACTER_NAME_PATTERN.matcher(characterName.trim()).matches()) {
+            throw new IllegalArgumentException(
+                    "Character name must be 1 to 12 letters, digits, spaces, hyphens or underscores");
+        }
+        if (SortKeyUtil.isReservedToken(characterName.trim())) {
+            throw new IllegalArgumentException("Character name is reserved: " + characterName.trim());
+        }
+        return characterName.trim();
     }
 }
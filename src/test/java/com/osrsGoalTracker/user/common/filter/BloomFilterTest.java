@@ -0,0 +1,96 @@
+package com.osrsGoalTracker.user.common.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+    private static final int ENTRIES = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void mightContain_AddedValues_AlwaysTrue() {
+        // Given
+        BloomFilter filter = BloomFilter.create(ENTRIES, FALSE_POSITIVE_RATE);
+
+        // When
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // Then
+        for (int i = 0; i < ENTRIES; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void mightContain_FilledToCapacity_StaysNearTargetFalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(ENTRIES, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double observedRate = (double) falsePositives / ENTRIES;
+        assertTrue(observedRate < FALSE_POSITIVE_RATE * 2, "Observed rate " + observedRate);
+        assertTrue(filter.expectedFalsePositiveRate() < FALSE_POSITIVE_RATE * 2,
+                "Expected rate " + filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void put_NewAndRepeatedValue_ReportsWhetherBitsChanged() {
+        // Given
+        BloomFilter filter = BloomFilter.create(ENTRIES, FALSE_POSITIVE_RATE);
+
+        // When/Then
+        assertTrue(filter.put("test@example.com"));
+        assertFalse(filter.put("test@example.com"));
+    }
+
+    @Test
+    void readFrom_WrittenFilter_AnswersTheSame() throws IOException {
+        // Given
+        BloomFilter filter = BloomFilter.create(ENTRIES, FALSE_POSITIVE_RATE);
+        filter.put("test@example.com");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        filter.writeTo(out);
+
+        // When
+        BloomFilter read = BloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertEquals(filter.bitSize(), read.bitSize());
+        assertEquals(filter.hashFunctions(), read.hashFunctions());
+        assertTrue(read.mightContain("test@example.com"));
+        assertFalse(read.mightContain("other@example.com"));
+    }
+
+    @Test
+    void readFrom_NotAFilter_ThrowsIOException() {
+        assertThrows(IOException.class,
+                () -> BloomFilter.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+    }
+
+    @Test
+    void create_InvalidFalsePositiveRate_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BloomFilter.create(ENTRIES, 1.0));
+    }
+}
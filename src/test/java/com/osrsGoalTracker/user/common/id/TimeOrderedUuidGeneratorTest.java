@@ -0,0 +1,86 @@
+package com.osrsGoalTracker.user.common.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+    private static final long NOW_MILLIS = 1_735_689_600_000L;
+
+    @Test
+    void generate_NewId_IsVersion7WithCurrentTimestamp() {
+        // Given
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> NOW_MILLIS);
+
+        // When
+        UUID id = UUID.fromString(generator.generate());
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW_MILLIS, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_SameMillisecond_IdsAreStrictlyIncreasing() {
+        // Given
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> NOW_MILLIS);
+
+        // When/Then
+        String previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0, next + " is not after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generate_ClockStepsBack_IdsKeepIncreasing() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW_MILLIS);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+        String first = generator.generate();
+
+        // When
+        clock.set(NOW_MILLIS - 1_000);
+        String second = generator.generate();
+
+        // Then
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void generate_ConcurrentThreads_IdsAreUnique() throws InterruptedException {
+        // Given
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        Set<String> ids = new HashSet<>();
+        Thread[] threads = new Thread[8];
+
+        // When
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                Set<String> generated = new HashSet<>();
+                for (int i = 0; i < 10_000; i++) {
+                    generated.add(generator.generate());
+                }
+                synchronized (ids) {
+                    ids.addAll(generated);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(80_000, ids.size());
+    }
+}
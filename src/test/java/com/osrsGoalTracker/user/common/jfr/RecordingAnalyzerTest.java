@@ -0,0 +1,104 @@
+package com.osrsGoalTracker.user.common.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordingAnalyzerTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void analyze_NestedSpans_SummarizesPerOperationWithRetriesAndDynamoDbTime() throws Exception {
+        // Given
+        Path file = record(() -> {
+            HandlerSpanEvent handler = HandlerSpanEvent.start("GetUser");
+            handler.userId("user123");
+            ServiceSpanEvent.record("GetUser", "user123", () -> {
+                DynamoDbCallEvent call = DynamoDbCallEvent.start("GetItem");
+                call.attempt();
+                call.attempt();
+                sleep(5);
+                call.finish(SpanEvent.SUCCESS);
+                return null;
+            });
+            handler.finish(200);
+        });
+
+        // When
+        List<RecordingAnalyzer.OperationSummary> summaries = RecordingAnalyzer.analyze(file);
+
+        // Then
+        assertEquals(3, summaries.size());
+        RecordingAnalyzer.OperationSummary handler = summaries.get(0);
+        assertEquals("Handler", handler.getType());
+        assertEquals("GetUser", handler.getOperation());
+        assertEquals(1, handler.getCount());
+        assertEquals(1, handler.getRetries());
+        assertEquals(0, handler.getErrors());
+        assertTrue(handler.getMeanDynamoDbMillis() >= 5, "DynamoDB ms " + handler.getMeanDynamoDbMillis());
+        RecordingAnalyzer.OperationSummary call = summaries.get(2);
+        assertEquals("DynamoDB", call.getType());
+        assertEquals("GetItem", call.getOperation());
+        assertEquals(1, call.getRetries());
+        assertTrue(RecordingAnalyzer.format(summaries).contains("GetItem"));
+    }
+
+    @Test
+    void record_ServiceSpan_AttributesDynamoDbCallsToItsUserOnly() throws Exception {
+        // Given
+        Path file = record(() -> {
+            ServiceSpanEvent.run("RemoveCharacter", "user123",
+                    () -> DynamoDbCallEvent.start("DeleteItem").finish("ConditionalCheckFailedException"));
+            DynamoDbCallEvent.start("Query").finish(SpanEvent.SUCCESS);
+        });
+
+        // When
+        List<RecordedEvent> calls = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> RecordingAnalyzer.DYNAMODB_EVENT.equals(event.getEventType().getName()))
+                .toList();
+
+        // Then
+        assertEquals(2, calls.size());
+        RecordedEvent delete = calls.stream().filter(e -> "DeleteItem".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals(SpanEvent.hashUserId("user123"), delete.getString("userIdHash"));
+        assertEquals("ConditionalCheckFailedException", delete.getString("outcome"));
+        RecordedEvent query = calls.stream().filter(e -> "Query".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertNull(query.getString("userIdHash"));
+    }
+
+    private Path record(Runnable spans) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HandlerSpanEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(ServiceSpanEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(DynamoDbCallEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            spans.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
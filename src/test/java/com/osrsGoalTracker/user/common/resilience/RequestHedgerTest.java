@@ -0,0 +1,118 @@
+package com.osrsGoalTracker.user.common.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RequestHedgerTest {
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private ExecutorService executor;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        hedger = new RequestHedger("GetUser", metricsRecorder, executor, new LatencyTracker(10, 1), 1L, 20L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_FastCall_DoesNotHedge() {
+        // When
+        String result = hedger.execute(() -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        verify(metricsRecorder, never()).increment("GetUser.Hedges");
+    }
+
+    @Test
+    void execute_SlowPrimary_HedgeWins() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                awaitQuietly(release);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result);
+        verify(metricsRecorder).increment("GetUser.Hedges");
+        verify(metricsRecorder).increment("GetUser.HedgeWins");
+        release.countDown();
+    }
+
+    @Test
+    void execute_PrimaryFailsAfterHedge_ReturnsHedgeResult() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleepQuietly(50L);
+                throw new IllegalStateException("primary failed");
+            }
+            sleepQuietly(100L);
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void execute_AllAttemptsFail_ThrowsFirstError() {
+        // When/Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals("failed", exception.getMessage());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
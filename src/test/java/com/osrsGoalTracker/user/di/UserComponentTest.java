@@ -0,0 +1,157 @@
+package com.osrsGoalTracker.user.di;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.google.inject.name.Names;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.external.UserCache;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
+import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.impl.DynamoDbCallGuard;
+import com.osrsGoalTracker.user.repository.impl.EmailFilter;
+import com.osrsGoalTracker.user.service.OutboxService;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
+import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.impl.TieredUserRepository;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+
+class UserComponentTest {
+
+    @Test
+    void component_MemoryBackend_MatchesModuleBindings() {
+        assertMatchesModule(UserStorageBackend.MEMORY);
+    }
+
+    @Test
+    void component_DynamoDbBackend_MatchesModuleBindings() {
+        assertMatchesModule(UserStorageBackend.DYNAMODB);
+    }
+
+    private void assertMatchesModule(UserStorageBackend storageBackend) {
+        // Given
+        UserComponent component = new UserComponent(new StubClientModule(storageBackend));
+        Map<Key<?>, Supplier<?>> accessors = accessors(component);
+
+        // When
+        int bindingCount = 0;
+        for (Element element : Elements.getElements(new UserModule(storageBackend))) {
+            if (!(element instanceof Binding<?> binding)) {
+                continue;
+            }
+            bindingCount++;
+
+            // Then
+            Supplier<?> accessor = accessors.get(binding.getKey());
+            assertNotNull(accessor, "UserComponent has no accessor for " + binding.getKey());
+            Object instance = accessor.get();
+            if (binding instanceof LinkedKeyBinding<?> linkedBinding) {
+                assertEquals(linkedBinding.getLinkedKey().getTypeLiteral().getRawType(), instance.getClass(),
+                        "Implementation differs for " + binding.getKey());
+            } else {
+                assertTrue(binding.getKey().getTypeLiteral().getRawType().isInstance(instance),
+                        "Wrong type for " + binding.getKey());
+            }
+            if (isSingleton(binding)) {
+                assertSame(instance, accessor.get(), "Expected a single instance of " + binding.getKey());
+            }
+        }
+        assertEquals(accessors.size(), bindingCount, "UserComponent has accessors the module does not bind");
+    }
+
+    private static Map<Key<?>, Supplier<?>> accessors(UserComponent component) {
+        Map<Key<?>, Supplier<?>> accessors = new HashMap<>();
+        accessors.put(Key.get(DynamoDbClient.class), component::dynamoDbClient);
+        accessors.put(Key.get(EventBridgeClient.class), component::eventBridgeClient);
+        accessors.put(Key.get(UserCache.class), component::userCache);
+        accessors.put(Key.get(UserIdGenerator.class), component::userIdGenerator);
+        accessors.put(Key.get(MetricsRecorder.class), component::metricsRecorder);
+        accessors.put(Key.get(DynamoDbCallGuard.class), component::dynamoDbCallGuard);
+        accessors.put(Key.get(EmailFilter.class), component::emailFilter);
+        accessors.put(Key.get(UserRepository.class, Names.named(TieredUserRepository.DELEGATE)),
+                component::userRepositoryDelegate);
+        accessors.put(Key.get(UserRepository.class), component::userRepository);
+        accessors.put(Key.get(IdempotencyRepository.class), component::idempotencyRepository);
+        accessors.put(Key.get(CharacterRepository.class), component::characterRepository);
+        accessors.put(Key.get(NotificationChannelRepository.class), component::notificationChannelRepository);
+        accessors.put(Key.get(GoalProgressRepository.class), component::goalProgressRepository);
+        accessors.put(Key.get(JobCheckpointRepository.class), component::jobCheckpointRepository);
+        accessors.put(Key.get(EventPublisher.class), component::eventPublisher);
+        accessors.put(Key.get(OutboxRepository.class), component::outboxRepository);
+        accessors.put(Key.get(UserService.class), component::userService);
+        accessors.put(Key.get(OutboxService.class), component::outboxService);
+        accessors.put(Key.get(UserCacheSyncService.class), component::userCacheSyncService);
+        return accessors;
+    }
+
+    private static boolean isSingleton(Binding<?> binding) {
+        return binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Boolean>() {
+            @Override
+            public Boolean visitEagerSingleton() {
+                return true;
+            }
+
+            @Override
+            public Boolean visitScope(Scope scope) {
+                return scope == Scopes.SINGLETON;
+            }
+
+            @Override
+            public Boolean visitScopeAnnotation(Class<? extends Annotation> scopeAnnotation) {
+                return scopeAnnotation == Singleton.class || scopeAnnotation == jakarta.inject.Singleton.class;
+            }
+
+            @Override
+            protected Boolean visitOther() {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Replaces the AWS clients so the graph can be built without credentials or a region.
+     */
+    private static final class StubClientModule extends UserModule {
+        StubClientModule(UserStorageBackend storageBackend) {
+            super(storageBackend);
+        }
+
+        @Override
+        DynamoDbClient provideDynamoDbClient() {
+            return mock(DynamoDbClient.class);
+        }
+
+        @Override
+        EventBridgeClient provideEventBridgeClient() {
+            return mock(EventBridgeClient.class);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+@ExtendWith(MockitoExtension.class)
+class EventBridgeEventPublisherTest {
+
+    @Mock
+    private EventBridgeClient eventBridgeClient;
+
+    private EventBridgeEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new EventBridgeEventPublisher(eventBridgeClient, "user-events");
+    }
+
+    @Test
+    void publish_AllSucceed_SendsOnePutEventsCall() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(0).build());
+
+        // When
+        List<String> failed = publisher.publish(createEvents(2));
+
+        // Then
+        assertTrue(failed.isEmpty());
+        ArgumentCaptor<PutEventsRequest> captor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridgeClient).putEvents(captor.capture());
+        assertEquals(2, captor.getValue().entries().size());
+        assertEquals("user-events", captor.getValue().entries().get(0).eventBusName());
+        assertEquals("UserCreated", captor.getValue().entries().get(0).detailType());
+    }
+
+    @Test
+    void publish_PartialFailure_ReturnsFailedEventIds() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder()
+                        .failedEntryCount(1)
+                        .entries(
+                                PutEventsResultEntry.builder().eventId("eb-0").build(),
+                                PutEventsResultEntry.builder().errorCode("InternalFailure").build())
+                        .build());
+
+        // When
+        List<String> failed = publisher.publish(createEvents(2));
+
+        // Then
+        assertEquals(List.of("event-1"), failed);
+    }
+
+    @Test
+    void publish_ClientError_ReturnsAllEventIds() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenThrow(EventBridgeException.builder().message("throttled").build());
+
+        // When
+        List<String> failed = publisher.publish(createEvents(2));
+
+        // Then
+        assertEquals(List.of("event-0", "event-1"), failed);
+    }
+
+    @Test
+    void publish_TooManyEvents_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> publisher.publish(createEvents(11)));
+    }
+
+    private List<OutboxEvent> createEvents(int count) {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OutboxEvent.builder()
+                    .eventId("event-" + i)
+                    .eventType("UserCreated")
+                    .detail("{}")
+                    .occurredAt(Instant.parse("2025-01-01T00:00:00Z"))
+                    .build());
+        }
+        return events;
+    }
+}
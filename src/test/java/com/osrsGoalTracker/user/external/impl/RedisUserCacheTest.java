@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.user.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.params.SetParams;
+
+@ExtendWith(MockitoExtension.class)
+class RedisUserCacheTest {
+
+    @Mock
+    private UnifiedJedis jedis;
+
+    private RedisUserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RedisUserCache(jedis);
+    }
+
+    @Test
+    void put_ThenGet_RoundTripsUserAsJson() {
+        // Given
+        User user = createUser("user1");
+
+        // When
+        cache.put(user, Duration.ofMinutes(5));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(jedis).eval(anyString(), eq(List.of("user:user1")), args.capture());
+        assertEquals("3", args.getValue().get(1));
+        assertEquals("300000", args.getValue().get(2));
+
+        when(jedis.get("user:user1")).thenReturn(args.getValue().get(0));
+        assertEquals(user, cache.get("user1").orElseThrow());
+    }
+
+    @Test
+    void multiGet_SomeCached_ReturnsOnlyCachedUsers() {
+        // Given
+        User user = createUser("user1");
+        cache.put(user, Duration.ofMinutes(5));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(jedis).eval(anyString(), anyList(), args.capture());
+        when(jedis.mget("user:user1", "user:user2")).thenReturn(Arrays.asList(args.getValue().get(0), null));
+
+        // When
+        Map<String, User> result = cache.multiGet(List.of("user1", "user2"));
+
+        // Then
+        assertEquals(Map.of("user1", user), result);
+    }
+
+    @Test
+    void remove_DeletedUser_WritesTombstoneThatReadsAsMiss() {
+        // When
+        cache.remove("user1", 3L);
+
+        // Then
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(jedis).set(eq("user:user1"), value.capture(), any(SetParams.class));
+        assertEquals("{\"deleted\":true,\"version\":3}", value.getValue());
+
+        when(jedis.get("user:user1")).thenReturn(value.getValue());
+        assertTrue(cache.get("user1").isEmpty());
+    }
+
+    @Test
+    void get_RedisUnavailable_ReturnsEmpty() {
+        // Given
+        when(jedis.get("user:user1")).thenThrow(new JedisConnectionException("down"));
+
+        // Then
+        assertTrue(cache.get("user1").isEmpty());
+    }
+
+    private User createUser(String userId) {
+        Instant now = Instant.parse("2025-01-01T00:00:00.123Z");
+        return User.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.service.UserService;
+import com.osrsGoalTracker.user.service.exception.IdempotencyConflictException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CreateUserHandlerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Context context;
+
+    private CreateUserHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CreateUserHandler(userService);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsSuccessResponse() throws Exception {
+        // Given
+        User user = createUser();
+        when(userService.createUser("test@example.com")).thenReturn(user);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(null), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(user), response.getBody());
+    }
+
+    @Test
+    void handleRequest_IdempotencyKeyHeader_PassesKeyToService() throws Exception {
+        // Given
+        User user = createUser();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("idempotency-key", "key-1");
+        when(userService.createUser("test@example.com", "key-1")).thenReturn(user);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(headers), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(user), response.getBody());
+        verify(userService).createUser("test@example.com", "key-1");
+    }
+
+    @Test
+    void handleRequest_IdempotencyKeyInProgress_ReturnsConflict() {
+        // Given
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Idempotency-Key", "key-1");
+        when(userService.createUser("test@example.com", "key-1"))
+                .thenThrow(new IdempotencyConflictException("in progress"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(headers), context);
+
+        // Then
+        assertEquals(409, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_MissingBody_ReturnsBadRequest() {
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(new APIGatewayProxyRequestEvent(), context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+    }
+
+    private User createUser() {
+        Instant now = Instant.now();
+        return User.builder()
+                .userId("user123")
+                .email("test@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private APIGatewayProxyRequestEvent createRequest(Map<String, String> headers) {
+        return new APIGatewayProxyRequestEvent()
+                .withHeaders(headers)
+                .withBody("{\"email\":\"test@example.com\"}");
+    }
+}
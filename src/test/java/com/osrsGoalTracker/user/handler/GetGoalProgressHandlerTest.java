@@ -0,0 +1,94 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetGoalProgressHandlerTest {
+    private static final Map<String, String> PATH_PARAMETERS = Map.of(
+            "userId", "user123",
+            "characterName", "Zezima",
+            "goalId", "goal1");
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Context context;
+
+    private GetGoalProgressHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetGoalProgressHandler(userService);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void handleRequest_RangeAndResolution_ReturnsColumns() throws Exception {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-03-01T00:00:00Z");
+        when(userService.getGoalProgress("user123", "Zezima", "goal1", from, to, ProgressResolution.WEEK))
+                .thenReturn(ProgressSeries.builder()
+                        .characterName("Zezima")
+                        .goalId("goal1")
+                        .resolution(ProgressResolution.WEEK)
+                        .timestamps(new long[] {1_736_121_600_000L, 1_736_726_400_000L})
+                        .values(new long[] {100, 150})
+                        .build());
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(PATH_PARAMETERS)
+                .withQueryStringParameters(Map.of(
+                        "from", "2025-01-01T00:00:00Z",
+                        "to", "2025-03-01T00:00:00Z",
+                        "resolution", "week"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("WEEK", body.get("resolution").asText());
+        assertEquals(1_736_726_400_000L, body.get("timestamps").get(1).asLong());
+        assertEquals(150, body.get("values").get(1).asLong());
+    }
+
+    @Test
+    void handleRequest_InvalidFrom_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(PATH_PARAMETERS)
+                .withQueryStringParameters(Map.of("from", "yesterday"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        verify(userService, never()).getGoalProgress(any(), any(), any(), any(), any(), any());
+    }
+}
@@ -2,6 +2,7 @@ package com.osrsGoalTracker.user.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +15,9 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.model.ReadConsistency;
 import com.osrsGoalTracker.user.model.User;
 import com.osrsGoalTracker.user.service.UserService;
 
@@ -168,4 +172,185 @@ class GetUserHandlerTest {
         assertEquals(500, response.getStatusCode());
         assertEquals("{\"message\":\"Error processing request: Service error\"}", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleRequest_StrongConsistencyParameter_RequestsStrongRead() {
+        // Given
+        String userId = "user123";
+        Instant now = Instant.now();
+        User user = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", userId);
+        Map<String, String> queryParameters = new HashMap<>();
+        queryParameters.put("consistency", "strong");
+
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withQueryStringParameters(queryParameters);
+
+        when(userService.getUser(userId, ReadConsistency.STRONG)).thenReturn(user);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        verify(userService).getUser(userId, ReadConsistency.STRONG);
+    }
+
+    @Test
+    void handleRequest_UnknownConsistencyParameter_ReturnsBadRequest() {
+        // Given
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", "user123");
+        Map<String, String> queryParameters = new HashMap<>();
+        queryParameters.put("consistency", "sometimes");
+
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withQueryStringParameters(queryParameters);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsValidatorHeaders() {
+        // Given
+        String userId = "user123";
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:00.500Z");
+        when(userService.getUser(userId)).thenReturn(createUser(userId, updatedAt));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, null), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals("\"" + Long.toHexString(updatedAt.toEpochMilli()) + "\"", response.getHeaders().get("ETag"));
+        assertEquals("Wed, 01 Jan 2025 10:00:00 GMT", response.getHeaders().get("Last-Modified"));
+    }
+
+    @Test
+    void handleRequest_MatchingIfNoneMatch_ReturnsNotModified() {
+        // Given
+        String userId = "user123";
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:00Z");
+        when(userService.getUser(userId)).thenReturn(createUser(userId, updatedAt));
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("if-none-match", "W/\"" + Long.toHexString(updatedAt.toEpochMilli()) + "\"");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, headers), context);
+
+        // Then
+        assertEquals(304, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void handleRequest_StaleIfNoneMatch_ReturnsFullResponse() {
+        // Given
+        String userId = "user123";
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:00Z");
+        when(userService.getUser(userId)).thenReturn(createUser(userId, updatedAt));
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("If-None-Match", "\"stale\"");
+        headers.put("If-Modified-Since", "Wed, 1 Jan 2025 10:00:00 GMT");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, headers), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    @Test
+    void handleRequest_IfModifiedSinceNotBeforeUpdate_ReturnsNotModified() {
+        // Given
+        String userId = "user123";
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:00.750Z");
+        when(userService.getUser(userId)).thenReturn(createUser(userId, updatedAt));
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("If-Modified-Since", "Wed, 1 Jan 2025 10:00:00 GMT");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, headers), context);
+
+        // Then
+        assertEquals(304, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_IfModifiedSinceBeforeUpdate_ReturnsFullResponse() {
+        // Given
+        String userId = "user123";
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:01Z");
+        when(userService.getUser(userId)).thenReturn(createUser(userId, updatedAt));
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("If-Modified-Since", "Wed, 1 Jan 2025 10:00:00 GMT");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, headers), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_RateLimited_ReturnsTooManyRequestsWithRetryAfter() {
+        // Given
+        String userId = "user123";
+        when(userService.getUser(userId)).thenThrow(new RateLimitedException("Too many requests", 1500L));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, null), context);
+
+        // Then
+        assertEquals(429, response.getStatusCode());
+        assertEquals("2", response.getHeaders().get("Retry-After"));
+    }
+
+    @Test
+    void handleRequest_DeadlineTooClose_ReturnsServiceUnavailable() {
+        // Given
+        String userId = "user123";
+        when(userService.getUser(userId)).thenThrow(new ServiceUnavailableException("Not enough time left"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(userId, null), context);
+
+        // Then
+        assertEquals(503, response.getStatusCode());
+    }
+
+    private User createUser(String userId, Instant updatedAt) {
+        return User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private APIGatewayProxyRequestEvent createRequest(String userId, Map<String, String> headers) {
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", userId);
+        return new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withHeaders(headers);
+    }
+}
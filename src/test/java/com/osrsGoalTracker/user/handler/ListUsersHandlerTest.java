@@ -0,0 +1,112 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ListUsersHandlerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Context context;
+
+    private ListUsersHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ListUsersHandler(userService);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void handleRequest_LimitCursorAndFields_ReturnsProjectedPage() throws Exception {
+        // Given
+        User user = User.builder()
+                .userId("user123")
+                .email("test@example.com")
+                .createdAt(Instant.now())
+                .build();
+        when(userService.listUsers(10, "cursor1", EnumSet.of(UserField.EMAIL)))
+                .thenReturn(UserPage.builder()
+                        .users(List.of(user))
+                        .nextCursor("cursor2")
+                        .build());
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withQueryStringParameters(Map.of("limit", "10", "cursor", "cursor1", "fields", "email"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("cursor2", body.get("nextCursor").asText());
+        JsonNode listed = body.get("users").get(0);
+        assertEquals("user123", listed.get("userId").asText());
+        assertEquals("test@example.com", listed.get("email").asText());
+        assertFalse(listed.has("createdAt"));
+    }
+
+    @Test
+    void handleRequest_NoParameters_ListsFirstPageWithDefaultSize() throws Exception {
+        // Given
+        when(userService.listUsers(25, null, Set.of()))
+                .thenReturn(UserPage.builder()
+                        .users(List.of())
+                        .build());
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(new APIGatewayProxyRequestEvent(), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals(0, body.get("users").size());
+        assertTrue(body.get("nextCursor").isNull());
+    }
+
+    @Test
+    void handleRequest_UnknownField_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withQueryStringParameters(Map.of("fields", "password"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        verify(userService, never()).listUsers(anyInt(), any(), any());
+    }
+}
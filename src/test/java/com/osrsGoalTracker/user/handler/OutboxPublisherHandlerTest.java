@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.StreamRecord;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.service.OutboxService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherHandlerTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private Context context;
+
+    private OutboxPublisherHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new OutboxPublisherHandler(outboxService);
+    }
+
+    @Test
+    void handleRequest_OutboxInserts_PublishesOnlyOutboxEvents() {
+        // Given
+        DynamodbEvent event = new DynamodbEvent();
+        event.setRecords(List.of(
+                createOutboxRecord("INSERT", "event-1", "100"),
+                createRecord("INSERT", Map.of("pk", new AttributeValue().withS("USER#user123")), "101"),
+                createOutboxRecord("REMOVE", "event-2", "102")));
+        when(outboxService.publishEvents(anyList())).thenReturn(List.of());
+
+        // When
+        StreamsEventResponse response = handler.handleRequest(event, context);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxService).publishEvents(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        OutboxEvent published = captor.getValue().get(0);
+        assertEquals("event-1", published.getEventId());
+        assertEquals("UserCreated", published.getEventType());
+        assertEquals(Instant.ofEpochMilli(1735689600000L), published.getOccurredAt());
+        assertTrue(response.getBatchItemFailures().isEmpty());
+    }
+
+    @Test
+    void handleRequest_PublishFails_ReportsSequenceNumberForRetry() {
+        // Given
+        DynamodbEvent event = new DynamodbEvent();
+        event.setRecords(List.of(
+                createOutboxRecord("INSERT", "event-1", "100"),
+                createOutboxRecord("INSERT", "event-2", "101")));
+        when(outboxService.publishEvents(anyList())).thenReturn(List.of("event-2"));
+
+        // When
+        StreamsEventResponse response = handler.handleRequest(event, context);
+
+        // Then
+        assertEquals(1, response.getBatchItemFailures().size());
+        assertEquals("101", response.getBatchItemFailures().get(0).getItemIdentifier());
+    }
+
+    private DynamodbStreamRecord createOutboxRecord(String eventName, String eventId, String sequenceNumber) {
+        return createRecord(eventName, Map.of(
+                "pk", new AttributeValue().withS("OUTBOX#" + eventId),
+                "eventId", new AttributeValue().withS(eventId),
+                "eventType", new AttributeValue().withS("UserCreated"),
+                "detail", new AttributeValue().withS("{\"userId\":\"user123\"}"),
+                "occurredAt", new AttributeValue().withN("1735689600000")), sequenceNumber);
+    }
+
+    private DynamodbStreamRecord createRecord(String eventName, Map<String, AttributeValue> newImage,
+            String sequenceNumber) {
+        DynamodbStreamRecord record = new DynamodbStreamRecord();
+        record.setEventName(eventName);
+        StreamRecord streamRecord = new StreamRecord();
+        streamRecord.setNewImage(newImage);
+        streamRecord.setSequenceNumber(sequenceNumber);
+        record.setDynamodb(streamRecord);
+        return record;
+    }
+}
@@ -0,0 +1,97 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.StreamRecord;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserChange;
+import com.osrsGoalTracker.user.service.UserCacheSyncService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheSyncHandlerTest {
+
+    @Mock
+    private UserCacheSyncService userCacheSyncService;
+
+    @Mock
+    private Context context;
+
+    private UserCacheSyncHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new UserCacheSyncHandler(userCacheSyncService);
+    }
+
+    @Test
+    void handleRequest_MetadataRecords_PassesUserChangesToService() {
+        // Given
+        Map<String, AttributeValue> newImage = Map.of(
+                "pk", new AttributeValue().withS("USER#user1"),
+                "sk", new AttributeValue().withS("METADATA"),
+                "email", new AttributeValue().withS("test@example.com"),
+                "createdAt", new AttributeValue().withS("2025-01-01T00:00:00Z"),
+                "updatedAt", new AttributeValue().withN("1735776000000"),
+                "version", new AttributeValue().withN("2"));
+        DynamodbEvent event = new DynamodbEvent();
+        event.setRecords(List.of(
+                createRecord("MODIFY", "USER#user1", "METADATA", newImage),
+                createRecord("REMOVE", "USER#user2", "METADATA", null),
+                createRecord("INSERT", "OUTBOX#event-1", "OUTBOX", Map.of())));
+        when(userCacheSyncService.applyChanges(anyList())).thenReturn(2);
+
+        // When
+        Integer applied = handler.handleRequest(event, context);
+
+        // Then
+        assertEquals(2, applied);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userCacheSyncService).applyChanges(captor.capture());
+        List<UserChange> changes = captor.getValue();
+        assertEquals(2, changes.size());
+        User user = changes.get(0).getUser();
+        assertEquals("user1", user.getUserId());
+        assertEquals("test@example.com", user.getEmail());
+        assertEquals(Instant.parse("2025-01-01T00:00:00Z"), user.getCreatedAt());
+        assertEquals(Instant.parse("2025-01-02T00:00:00Z"), user.getUpdatedAt());
+        assertEquals(2L, user.getVersion());
+        assertEquals("user2", changes.get(1).getUserId());
+        assertNull(changes.get(1).getUser());
+        assertTrue(changes.get(1).isDeleted());
+        assertEquals(Long.MAX_VALUE, changes.get(1).getDeletedVersion());
+    }
+
+    private DynamodbStreamRecord createRecord(String eventName, String pk, String sk,
+            Map<String, AttributeValue> newImage) {
+        DynamodbStreamRecord record = new DynamodbStreamRecord();
+        record.setEventName(eventName);
+        StreamRecord streamRecord = new StreamRecord();
+        streamRecord.setKeys(Map.of(
+                "pk", new AttributeValue().withS(pk),
+                "sk", new AttributeValue().withS(sk)));
+        streamRecord.setNewImage(newImage);
+        record.setDynamodb(streamRecord);
+        return record;
+    }
+}
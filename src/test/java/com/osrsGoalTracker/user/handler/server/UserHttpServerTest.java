@@ -0,0 +1,107 @@
+package com.osrsGoalTracker.user.handler.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.di.UserStorageBackend;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class UserHttpServerTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserHttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void createThenGetUser_InMemoryBackend_ReturnsCreatedUser() throws Exception {
+        // Given
+        startServer(4);
+
+        // When
+        HttpResponse<String> created = httpClient.send(HttpRequest.newBuilder(uri("/users"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"test@example.com\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        String userId = objectMapper.readTree(created.body()).get("userId").asText();
+        HttpResponse<String> fetched = httpClient.send(HttpRequest.newBuilder(uri("/users/" + userId)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(200, created.statusCode());
+        assertEquals(200, fetched.statusCode());
+        JsonNode user = objectMapper.readTree(fetched.body());
+        assertEquals("test@example.com", user.get("email").asText());
+        assertTrue(fetched.headers().firstValue("ETag").isPresent());
+    }
+
+    @Test
+    void getUsers_WrongMethod_ReturnsMethodNotAllowed() throws Exception {
+        // Given
+        startServer(4);
+
+        // When
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/users")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    void getUser_NoCapacity_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        startServer(0);
+
+        // When
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/users/user1")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(503, response.statusCode());
+        assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+    }
+
+    @Test
+    void createUser_BodyOverLimit_ReturnsPayloadTooLarge() throws Exception {
+        // Given
+        startServer(4);
+        String body = "{\"email\":\"" + "a".repeat(20 * 1024) + "@example.com\"}";
+
+        // When
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/users"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(413, response.statusCode());
+    }
+
+    private void startServer(int maxConcurrency) throws Exception {
+        server = new UserHttpServer(Guice.createInjector(new UserModule(UserStorageBackend.MEMORY)), 0,
+                maxConcurrency, 10L);
+        server.start();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.user.handler.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConditionalRequestUtilTest {
+
+    @Test
+    void formatHttpDate_SingleDigitDay_ZeroPadsDay() {
+        // Given
+        Instant lastModified = Instant.parse("2026-01-05T09:04:03.250Z");
+
+        // When
+        String httpDate = ConditionalRequestUtil.formatHttpDate(lastModified);
+
+        // Then
+        assertEquals("Mon, 05 Jan 2026 09:04:03 GMT", httpDate);
+    }
+
+    @Test
+    void isNotModified_IfModifiedSinceFromFormattedDate_ReturnsTrue() {
+        // Given
+        Instant lastModified = Instant.parse("2026-01-05T09:04:03.250Z");
+        Map<String, String> headers = Map.of(ConditionalRequestUtil.IF_MODIFIED_SINCE_HEADER,
+                ConditionalRequestUtil.formatHttpDate(lastModified));
+
+        // When/Then
+        assertTrue(ConditionalRequestUtil.isNotModified(headers, lastModified));
+    }
+}
@@ -0,0 +1,152 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterRepositoryImplTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private CharacterRepositoryImpl characterRepository;
+
+    @BeforeEach
+    void setUp() {
+        characterRepository = new CharacterRepositoryImpl(dynamoDbClient, new DynamoDbCallGuard(metricsRecorder));
+    }
+
+    @Test
+    void addCharacters_MoreThanOneBatch_WritesInChunksOf25() {
+        // Given
+        List<String> characterNames = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            characterNames.add("Character" + i);
+        }
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        List<UserCharacter> result = characterRepository.addCharacters("user123", characterNames);
+
+        // Then
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+        List<WriteRequest> firstBatch = captor.getAllValues().get(0).requestItems().get(null);
+        assertEquals(25, firstBatch.size());
+        assertEquals(5, captor.getAllValues().get(1).requestItems().get(null).size());
+        Map<String, AttributeValue> item = firstBatch.get(0).putRequest().item();
+        assertEquals("USER#user123", item.get("pk").s());
+        assertEquals("CHARACTER#METADATA#Character0", item.get("sk").s());
+        assertEquals("Character0", item.get("characterName").s());
+        assertEquals(30, result.size());
+    }
+
+    @Test
+    void addCharacters_UnprocessedItems_RetriesThem() {
+        // Given
+        WriteRequest unprocessed = WriteRequest.builder().build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(null, List.of(unprocessed)))
+                        .build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        characterRepository.addCharacters("user123", List.of("Zezima", "Lynx Titan"));
+
+        // Then
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+        assertEquals(List.of(unprocessed), captor.getAllValues().get(1).requestItems().get(null));
+    }
+
+    @Test
+    void addCharacters_StillUnprocessed_ThrowsRateLimitedException() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(null, List.of(WriteRequest.builder().build())))
+                        .build());
+
+        // When/Then
+        assertThrows(RateLimitedException.class,
+                () -> characterRepository.addCharacters("user123", List.of("Zezima")));
+        verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void listCharacters_ExistingCharacters_QueriesCharacterPrefix() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build(),
+                                "characterName", AttributeValue.builder().s("Zezima").build(),
+                                "addedAt", AttributeValue.builder().s("2025-01-01T00:00:00Z").build())))
+                        .build());
+
+        // When
+        List<UserCharacter> result = characterRepository.listCharacters("user123");
+
+        // Then
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        QueryRequest query = captor.getValue();
+        assertEquals("#pk = :pk AND begins_with(#sk, :prefix)", query.keyConditionExpression());
+        assertEquals("USER#user123", query.expressionAttributeValues().get(":pk").s());
+        assertEquals("CHARACTER#METADATA#", query.expressionAttributeValues().get(":prefix").s());
+        assertEquals(1, result.size());
+        assertEquals("Zezima", result.get(0).getCharacterName());
+        assertEquals(Instant.parse("2025-01-01T00:00:00Z"), result.get(0).getAddedAt());
+    }
+
+    @Test
+    void removeCharacter_NotRegistered_ThrowsResourceNotFoundException() {
+        // Given
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("Condition failed").build());
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> characterRepository.removeCharacter("user123", "Zezima"));
+        ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+        verify(dynamoDbClient).deleteItem(captor.capture());
+        assertEquals("CHARACTER#METADATA#Zezima", captor.getValue().key().get("sk").s());
+    }
+}
@@ -0,0 +1,101 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.common.ratelimit.AdaptiveRateLimiter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDbCallGuardTest {
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private long nanoTime;
+    private AdaptiveRateLimiter rateLimiter;
+    private DynamoDbCallGuard callGuard;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = 0L;
+        rateLimiter = new AdaptiveRateLimiter(1, 2, () -> nanoTime);
+        callGuard = new DynamoDbCallGuard(metricsRecorder, rateLimiter, 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void execute_PermitAvailable_ReturnsResult() {
+        // When
+        String result = callGuard.execute(() -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+    }
+
+    @Test
+    void execute_NoPermitAvailable_ThrowsRateLimitedException() {
+        // Given
+        callGuard.execute(() -> "first");
+        callGuard.execute(() -> "second");
+        AtomicInteger calls = new AtomicInteger();
+
+        // When/Then
+        assertThrows(RateLimitedException.class, () -> callGuard.execute(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        verify(metricsRecorder).increment("LoadShedding.RateLimited");
+    }
+
+    @Test
+    void execute_Throttled_BacksOffAndThrowsRateLimitedException() {
+        // When
+        assertThrows(RateLimitedException.class, () -> callGuard.execute(() -> {
+            throw ProvisionedThroughputExceededException.builder().message("throttled").build();
+        }));
+
+        // Then
+        assertEquals(1.0, rateLimiter.getRate());
+        verify(metricsRecorder).increment("DynamoDb.Throttles");
+    }
+
+    @Test
+    void execute_OtherDynamoDbError_RethrowsUnchanged() {
+        // When/Then
+        assertThrows(ConditionalCheckFailedException.class, () -> callGuard.execute(() -> {
+            throw ConditionalCheckFailedException.builder().message("condition failed").build();
+        }));
+        assertEquals(2.0, rateLimiter.getRate());
+    }
+
+    @Test
+    void execute_DeadlineTooClose_ThrowsServiceUnavailableException() {
+        // Given
+        RequestDeadline.start(100L);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When/Then
+        assertThrows(ServiceUnavailableException.class, () -> callGuard.execute(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        verify(metricsRecorder).increment("LoadShedding.DeadlineExceeded");
+    }
+}
@@ -0,0 +1,282 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.RollupGranularity;
+import com.osrsGoalTracker.user.repository.util.ProgressPackUtil;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@ExtendWith(MockitoExtension.class)
+class GoalProgressRepositoryImplTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private GoalProgressRepositoryImpl progressRepository;
+
+    @BeforeEach
+    void setUp() {
+        progressRepository = new GoalProgressRepositoryImpl(dynamoDbClient, new DynamoDbCallGuard(metricsRecorder));
+    }
+
+    @Test
+    void ingestProgress_DuplicatePoints_WritesOnceAndOffersPointersWithoutReading() {
+        // Given
+        Instant first = Instant.parse("2025-01-01T00:00:00Z");
+        Instant second = Instant.parse("2025-01-02T00:00:00.5Z");
+        List<GoalProgress> points = List.of(
+                progress("Zezima", "goal1", first, 100),
+                progress("Zezima", "goal1", first, 150),
+                progress("Zezima", "goal1", second, 200),
+                progress("Zezima", "goal2", first, 300));
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(UpdateItemResponse.builder().build());
+
+        // When
+        int written = progressRepository.ingestProgress("user123", points);
+
+        // Then
+        assertEquals(3, written);
+        ArgumentCaptor<BatchWriteItemRequest> batchCaptor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+        List<WriteRequest> writes = batchCaptor.getValue().requestItems().get(null);
+        assertEquals(3, writes.size());
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#2025-01-01T00:00:00.000Z",
+                writes.get(0).putRequest().item().get("sk").s());
+        assertEquals("150", writes.get(0).putRequest().item().get("progressValue").n());
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#2025-01-02T00:00:00.500Z",
+                writes.get(1).putRequest().item().get("sk").s());
+
+        ArgumentCaptor<UpdateItemRequest> updateCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient, times(4)).updateItem(updateCaptor.capture());
+        UpdateItemRequest latest = updateCaptor.getAllValues().get(0);
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#LATEST", latest.key().get("sk").s());
+        assertEquals("attribute_not_exists(#timestamp) OR #timestamp <= :timestamp", latest.conditionExpression());
+        assertEquals(Long.toString(second.toEpochMilli()), latest.expressionAttributeValues().get(":timestamp").n());
+        UpdateItemRequest earliest = updateCaptor.getAllValues().get(2);
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#EARLIEST", earliest.key().get("sk").s());
+        assertEquals("attribute_not_exists(#timestamp) OR #timestamp >= :timestamp", earliest.conditionExpression());
+        assertEquals("150", earliest.expressionAttributeValues().get(":progressValue").n());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void ingestProgress_PointerAlreadyPastPoint_IgnoresConditionFailure() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("Condition failed").build());
+
+        // When
+        int written = progressRepository.ingestProgress("user123",
+                List.of(progress("Zezima", "goal1", Instant.parse("2025-01-01T00:00:00Z"), 100)));
+
+        // Then
+        assertEquals(1, written);
+        verify(dynamoDbClient, times(2)).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    void compactProgress_PointsInTwoWeeks_WritesOneRollupPerWeekAndMarksPoints() {
+        // Given
+        Instant monday = Instant.parse("2025-01-06T00:00:00Z");
+        Instant tuesday = Instant.parse("2025-01-07T00:00:00Z");
+        Instant nextMonday = Instant.parse("2025-01-13T00:00:00Z");
+        Instant expiresAt = Instant.parse("2025-06-01T00:00:00Z");
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(
+                                progressItem("CHARACTER#Zezima#GOAL#goal1#2025-01-06T00:00:00.000Z", monday, 100),
+                                progressItem("CHARACTER#Zezima#GOAL#goal1#2025-01-07T00:00:00.000Z", tuesday, 150),
+                                progressItem("CHARACTER#Zezima#GOAL#goal1#2025-01-13T00:00:00.000Z", nextMonday, 220),
+                                progressItem("CHARACTER#Zezima#GOAL#goal1#EARLIEST", monday, 100)))
+                        .build());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        ProgressCompaction compaction = progressRepository.compactProgress("user123",
+                Instant.parse("2025-03-03T00:00:00Z"), RollupGranularity.WEEK, expiresAt);
+
+        // Then
+        assertEquals(3, compaction.getPointsCompacted());
+        assertEquals(2, compaction.getRollupsWritten());
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(queryCaptor.capture());
+        assertEquals("CHARACTER#", queryCaptor.getValue().expressionAttributeValues().get(":prefix").s());
+        assertEquals(Long.toString(Instant.parse("2025-03-03T00:00:00Z").toEpochMilli()),
+                queryCaptor.getValue().expressionAttributeValues().get(":cutoff").n());
+
+        ArgumentCaptor<PutItemRequest> putCaptor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient, times(2)).putItem(putCaptor.capture());
+        Map<String, AttributeValue> firstRollup = putCaptor.getAllValues().get(0).item();
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#ROLLUP#WEEK#2025-01-06", firstRollup.get("sk").s());
+        assertEquals("2", firstRollup.get("pointCount").n());
+        assertEquals("100", firstRollup.get("firstValue").n());
+        assertEquals("150", firstRollup.get("lastValue").n());
+        assertEquals(Map.of(monday.toEpochMilli(), 100L, tuesday.toEpochMilli(), 150L),
+                ProgressPackUtil.unpack(firstRollup.get("points").b().asByteArray()));
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#ROLLUP#WEEK#2025-01-13",
+                putCaptor.getAllValues().get(1).item().get("sk").s());
+
+        ArgumentCaptor<BatchWriteItemRequest> batchCaptor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchWriteItem(batchCaptor.capture());
+        List<WriteRequest> marked = batchCaptor.getAllValues().get(0).requestItems().get(null);
+        assertEquals(2, marked.size());
+        assertEquals(Long.toString(expiresAt.getEpochSecond()), marked.get(0).putRequest().item().get("expiresAt").n());
+        assertEquals("100", marked.get(0).putRequest().item().get("progressValue").n());
+    }
+
+    @Test
+    void compactProgress_ExistingRollup_MergesLatePoints() {
+        // Given
+        Instant monday = Instant.parse("2025-01-06T00:00:00Z");
+        Instant friday = Instant.parse("2025-01-10T00:00:00Z");
+        NavigableMap<Long, Long> rolledUp = new TreeMap<>(Map.of(monday.toEpochMilli(), 100L));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(
+                                progressItem("CHARACTER#Zezima#GOAL#goal1#2025-01-10T00:00:00.000Z", friday, 180)))
+                        .build());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder()
+                        .item(Map.of("points", AttributeValue.builder()
+                                .b(SdkBytes.fromByteArray(ProgressPackUtil.pack(rolledUp))).build()))
+                        .build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        ProgressCompaction compaction = progressRepository.compactProgress("user123",
+                Instant.parse("2025-03-03T00:00:00Z"), RollupGranularity.MONTH, Instant.parse("2025-06-01T00:00:00Z"));
+
+        // Then
+        assertEquals(1, compaction.getPointsCompacted());
+        ArgumentCaptor<PutItemRequest> putCaptor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(putCaptor.capture());
+        Map<String, AttributeValue> rollup = putCaptor.getValue().item();
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#ROLLUP#MONTH#2025-01-01", rollup.get("sk").s());
+        assertEquals("2", rollup.get("pointCount").n());
+        assertEquals("100", rollup.get("firstValue").n());
+        assertEquals("180", rollup.get("lastValue").n());
+    }
+
+    @Test
+    void getGoalProgress_RollupsAndRawPoints_MergesInTimestampOrder() {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-12-31T00:00:00Z");
+        NavigableMap<Long, Long> rolledUp = new TreeMap<>(Map.of(
+                Instant.parse("2024-12-31T00:00:00Z").toEpochMilli(), 50L,
+                Instant.parse("2025-01-06T00:00:00Z").toEpochMilli(), 100L,
+                Instant.parse("2025-01-07T00:00:00Z").toEpochMilli(), 150L));
+        Map<String, AttributeValue> rollupItem = Map.of("points", AttributeValue.builder()
+                .b(SdkBytes.fromByteArray(ProgressPackUtil.pack(rolledUp))).build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(rollupItem)).build())
+                .thenReturn(QueryResponse.builder().build())
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(
+                                Map.of(
+                                        "timestamp", AttributeValue.builder().n(Long.toString(
+                                                Instant.parse("2025-01-07T00:00:00Z").toEpochMilli())).build(),
+                                        "progressValue", AttributeValue.builder().n("155").build()),
+                                Map.of(
+                                        "timestamp", AttributeValue.builder().n(Long.toString(
+                                                Instant.parse("2025-03-01T00:00:00Z").toEpochMilli())).build(),
+                                        "progressValue", AttributeValue.builder().n("400").build())))
+                        .build());
+
+        // When
+        ProgressSeries series = progressRepository.getGoalProgress("user123", "Zezima", "goal1", from, to,
+                ProgressResolution.RAW);
+
+        // Then
+        assertArrayEquals(new long[] {
+                Instant.parse("2025-01-06T00:00:00Z").toEpochMilli(),
+                Instant.parse("2025-01-07T00:00:00Z").toEpochMilli(),
+                Instant.parse("2025-03-01T00:00:00Z").toEpochMilli()}, series.getTimestamps());
+        assertArrayEquals(new long[] {100, 155, 400}, series.getValues());
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(3)).query(captor.capture());
+        QueryRequest weekRollups = captor.getAllValues().get(0);
+        assertEquals("#pk = :pk AND #sk BETWEEN :from AND :to", weekRollups.keyConditionExpression());
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#ROLLUP#WEEK#2024-12-30",
+                weekRollups.expressionAttributeValues().get(":from").s());
+        QueryRequest raw = captor.getAllValues().get(2);
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#2025-01-01T00:00:00.000Z",
+                raw.expressionAttributeValues().get(":from").s());
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#2025-12-31T00:00:00.000Z",
+                raw.expressionAttributeValues().get(":to").s());
+        assertEquals("#timestamp, #progressValue", raw.projectionExpression());
+    }
+
+    private static Map<String, AttributeValue> progressItem(String sortKey, Instant timestamp, long value) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#user123").build(),
+                "sk", AttributeValue.builder().s(sortKey).build(),
+                "userId", AttributeValue.builder().s("user123").build(),
+                "characterName", AttributeValue.builder().s("Zezima").build(),
+                "goalId", AttributeValue.builder().s("goal1").build(),
+                "timestamp", AttributeValue.builder().n(Long.toString(timestamp.toEpochMilli())).build(),
+                "progressValue", AttributeValue.builder().n(Long.toString(value)).build());
+    }
+
+    private static GoalProgress progress(String characterName, String goalId, Instant timestamp, long value) {
+        return GoalProgress.builder()
+                .characterName(characterName)
+                .goalId(goalId)
+                .timestamp(timestamp)
+                .progressValue(value)
+                .build();
+    }
+}
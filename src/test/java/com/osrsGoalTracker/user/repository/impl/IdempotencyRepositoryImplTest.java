@@ -0,0 +1,192 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.user.common.deadline.RequestDeadline;
+import com.osrsGoalTracker.user.common.exception.ServiceUnavailableException;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.IdempotencyStatus;
+import com.osrsGoalTracker.user.model.User;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRepositoryImplTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private IdempotencyRepositoryImpl idempotencyRepository;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRepository = new IdempotencyRepositoryImpl(dynamoDbClient, new DynamoDbCallGuard(metricsRecorder),
+                Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void getRecord_CompletedRecord_ReturnsUserAndCachesLocally() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(createCompletedItem(NOW.plusSeconds(60))).build());
+
+        // When
+        Optional<IdempotencyRecord> first = idempotencyRepository.getRecord("key-1");
+        Optional<IdempotencyRecord> second = idempotencyRepository.getRecord("key-1");
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals(IdempotencyStatus.COMPLETED, first.get().getStatus());
+        assertEquals("user123", first.get().getUser().getUserId());
+        assertEquals(first, second);
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getRecord_ExpiredRecord_ReturnsEmpty() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(createCompletedItem(NOW.minusSeconds(1))).build());
+
+        // Then
+        assertFalse(idempotencyRepository.getRecord("key-1").isPresent());
+    }
+
+    @Test
+    void getRecord_ConsistentRead_IsRequested() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().build());
+
+        // When
+        idempotencyRepository.getRecord("key-1");
+
+        // Then
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(captor.capture());
+        assertTrue(captor.getValue().consistentRead());
+        assertEquals("IDEMPOTENCY#key-1", captor.getValue().key().get("pk").s());
+    }
+
+    @Test
+    void claim_KeyAlreadyHeld_ReturnsFalse() {
+        // Given
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.class);
+
+        // Then
+        assertFalse(idempotencyRepository.claim("key-1", "test@example.com"));
+    }
+
+    @Test
+    void claim_WithRequestDeadline_HoldsClaimPastDeadline() {
+        // Given
+        RequestDeadline.start(Duration.ofMinutes(5).toMillis());
+
+        // When
+        assertTrue(idempotencyRepository.claim("key-1", "test@example.com"));
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        long expiresAt = Long.parseLong(captor.getValue().item().get("expiresAt").n());
+        assertTrue(expiresAt > NOW.plus(Duration.ofMinutes(5)).getEpochSecond(), "expiresAt " + expiresAt);
+        assertTrue(expiresAt <= NOW.plus(Duration.ofMinutes(5).plusSeconds(30)).getEpochSecond(),
+                "expiresAt " + expiresAt);
+    }
+
+    @Test
+    void claim_WithoutRequestDeadline_HoldsClaimForLongestInvocation() {
+        // When
+        assertTrue(idempotencyRepository.claim("key-1", "test@example.com"));
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertEquals(Long.toString(NOW.plus(Duration.ofMinutes(15).plusSeconds(30)).getEpochSecond()),
+                captor.getValue().item().get("expiresAt").n());
+    }
+
+    @Test
+    void claim_TooLittleTimeLeft_ShedsWithoutWriting() {
+        // Given
+        RequestDeadline.start(50L);
+
+        // When/Then
+        assertThrows(ServiceUnavailableException.class,
+                () -> idempotencyRepository.claim("key-1", "test@example.com"));
+        verify(dynamoDbClient, never()).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void complete_StoresRecordWithTtlAndServesReplaysLocally() {
+        // Given
+        User user = User.builder()
+                .userId("user123")
+                .email("test@example.com")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+
+        // When
+        idempotencyRepository.complete("key-1", "test@example.com", user);
+        Optional<IdempotencyRecord> replay = idempotencyRepository.getRecord("key-1");
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertEquals(Long.toString(NOW.plus(Duration.ofHours(24)).getEpochSecond()),
+                captor.getValue().item().get("expiresAt").n());
+        assertEquals(user, replay.get().getUser());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    private Map<String, AttributeValue> createCompletedItem(Instant expiresAt) {
+        return Map.of(
+                "status", AttributeValue.builder().s("COMPLETED").build(),
+                "requestFingerprint", AttributeValue.builder().s("test@example.com").build(),
+                "userId", AttributeValue.builder().s("user123").build(),
+                "email", AttributeValue.builder().s("test@example.com").build(),
+                "createdAt", AttributeValue.builder().n(Long.toString(NOW.toEpochMilli())).build(),
+                "updatedAt", AttributeValue.builder().n(Long.toString(NOW.toEpochMilli())).build(),
+                "expiresAt", AttributeValue.builder().n(Long.toString(expiresAt.getEpochSecond())).build());
+    }
+}
@@ -0,0 +1,54 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+@ExtendWith(MockitoExtension.class)
+class JobCheckpointRepositoryImplTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private JobCheckpointRepositoryImpl checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository = new JobCheckpointRepositoryImpl(dynamoDbClient, new DynamoDbCallGuard(metricsRecorder));
+    }
+
+    @Test
+    void saveJobCheckpoint_NullCursor_DeletesCheckpoint() {
+        // Given
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class))).thenReturn(DeleteItemResponse.builder().build());
+
+        // When
+        checkpointRepository.saveJobCheckpoint("PROGRESS_COMPACTION", null);
+
+        // Then
+        ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+        verify(dynamoDbClient).deleteItem(captor.capture());
+        assertEquals("JOB#PROGRESS_COMPACTION", captor.getValue().key().get("pk").s());
+        assertEquals("CHECKPOINT", captor.getValue().key().get("sk").s());
+        verify(dynamoDbClient, never()).putItem(any(PutItemRequest.class));
+    }
+}
@@ -0,0 +1,112 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.SubscriberPage;
+import com.osrsGoalTracker.user.repository.util.ChannelIndexKeyUtil;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationChannelRepositoryImplTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private NotificationChannelRepositoryImpl channelRepository;
+
+    @BeforeEach
+    void setUp() {
+        channelRepository = new NotificationChannelRepositoryImpl(dynamoDbClient,
+                new DynamoDbCallGuard(metricsRecorder));
+    }
+
+    @Test
+    void putNotificationChannel_NewChannel_WritesChannelIndexKeys() {
+        // Given
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        NotificationChannel result = channelRepository.putNotificationChannel("user123",
+                NotificationChannelType.DISCORD, "https://discord.com/api/webhooks/1/a");
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        Map<String, AttributeValue> item = captor.getValue().item();
+        assertEquals("USER#user123", item.get("pk").s());
+        assertEquals("NOTIFICATION#DISCORD", item.get("sk").s());
+        assertEquals("CHANNEL#DISCORD#" + ChannelIndexKeyUtil.getSegment("user123"), item.get("channelPk").s());
+        assertEquals("user123", item.get("channelSk").s());
+        assertEquals("https://discord.com/api/webhooks/1/a", result.getIdentifier());
+    }
+
+    @Test
+    void listSubscribers_Segment_QueriesSegmentPartitionAndReturnsCursor() {
+        // Given
+        Map<String, AttributeValue> lastKey = Map.of(
+                "pk", AttributeValue.builder().s("USER#user123").build(),
+                "sk", AttributeValue.builder().s("NOTIFICATION#SMS").build(),
+                "channelPk", AttributeValue.builder().s("CHANNEL#SMS#4").build(),
+                "channelSk", AttributeValue.builder().s("user123").build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build(),
+                                "channelType", AttributeValue.builder().s("SMS").build(),
+                                "identifier", AttributeValue.builder().s("+15550100").build())))
+                        .lastEvaluatedKey(lastKey)
+                        .build());
+
+        // When
+        SubscriberPage page = channelRepository.listSubscribers(NotificationChannelType.SMS, 4, 1,
+                PageCursorUtil.encode(lastKey));
+
+        // Then
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        QueryRequest query = captor.getValue();
+        assertEquals("notification-channel-index", query.indexName());
+        assertEquals("CHANNEL#SMS#4", query.expressionAttributeValues().get(":channelPk").s());
+        assertEquals(1, query.limit());
+        assertEquals(lastKey, query.exclusiveStartKey());
+        assertEquals("+15550100", page.getChannels().get(0).getIdentifier());
+        assertEquals(lastKey, PageCursorUtil.decode(page.getNextCursor()));
+        assertEquals(ChannelIndexKeyUtil.SEGMENTS, page.getTotalSegments());
+    }
+
+    @Test
+    void listSubscribers_SegmentOutOfRange_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> channelRepository.listSubscribers(NotificationChannelType.DISCORD, ChannelIndexKeyUtil.SEGMENTS,
+                        10, null));
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+}
@@ -0,0 +1,102 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.model.OutboxEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRepositoryImplTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private OutboxRepositoryImpl outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = new OutboxRepositoryImpl(dynamoDbClient);
+    }
+
+    @Test
+    void createOutboxItem_ValidEvent_SetsKeysAndTtl() {
+        // Given
+        Instant occurredAt = Instant.parse("2025-01-01T00:00:00Z");
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId("event-1")
+                .eventType("UserCreated")
+                .detail("{}")
+                .occurredAt(occurredAt)
+                .build();
+
+        // When
+        Map<String, AttributeValue> item = OutboxRepositoryImpl.createOutboxItem(event);
+
+        // Then
+        assertEquals("OUTBOX#event-1", item.get("pk").s());
+        assertEquals("OUTBOX", item.get("sk").s());
+        assertEquals(Long.toString(occurredAt.toEpochMilli()), item.get("occurredAt").n());
+        assertEquals(Long.toString(occurredAt.plusSeconds(7 * 24 * 3600).getEpochSecond()),
+                item.get("expiresAt").n());
+    }
+
+    @Test
+    void deleteEvents_MoreThanOneBatch_SplitsIntoBatchesOf25() {
+        // Given
+        List<String> eventIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            eventIds.add("event-" + i);
+        }
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        int failed = outboxRepository.deleteEvents(eventIds);
+
+        // Then
+        assertEquals(0, failed);
+        verify(dynamoDbClient, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void deleteEvents_UnprocessedItems_RetriesThenReportsFailures() {
+        // Given
+        WriteRequest unprocessed = WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(Map.of(
+                        "pk", AttributeValue.builder().s("OUTBOX#event-1").build())).build())
+                .build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(null, List.of(unprocessed)))
+                        .build());
+
+        // When
+        int failed = outboxRepository.deleteEvents(List.of("event-1"));
+
+        // Then
+        assertEquals(1, failed);
+        verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+}
@@ -2,32 +2,79 @@ package com.osrsGoalTracker.user.repository.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.filter.BloomFilter;
+import com.osrsGoalTracker.user.common.id.TimeOrderedUuidGenerator;
+import com.osrsGoalTracker.user.common.id.UserIdGenerator;
+import com.osrsGoalTracker.user.common.metrics.MetricUnit;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.model.ReadConsistency;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
 import com.osrsGoalTracker.user.repository.exception.DuplicateUserException;
 import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.repository.exception.VersionConflictException;
+import com.osrsGoalTracker.user.repository.util.PageCursorUtil;
+import com.osrsGoalTracker.user.repository.util.TimestampFormat;
+import com.osrsGoalTracker.user.repository.util.UserListIndexKeyUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 @ExtendWith(MockitoExtension.class)
 class UserRepositoryImplTest {
@@ -35,11 +82,27 @@ class UserRepositoryImplTest {
     @Mock
     private DynamoDbClient dynamoDbClient;
 
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    @TempDir
+    private Path tempDir;
+
+    private DynamoDbCallGuard callGuard;
+
+    private EmailFilter emailFilter;
+
+    private UserIdGenerator userIdGenerator;
+
     private UserRepositoryImpl userRepository;
 
     @BeforeEach
     void setUp() {
-        userRepository = new UserRepositoryImpl(dynamoDbClient);
+        callGuard = new DynamoDbCallGuard(metricsRecorder);
+        emailFilter = new EmailFilter(metricsRecorder, null, 100, 0.01);
+        userIdGenerator = new TimeOrderedUuidGenerator();
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard, emailFilter,
+                userIdGenerator);
     }
 
     @Test
@@ -53,17 +116,28 @@ class UserRepositoryImplTest {
                         .items(Collections.emptyList())
                         .build());
 
-        // Mock the put item operation
-        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
-                .thenReturn(null); // PutItem doesn't return anything meaningful for this test
-
         // When
         User result = userRepository.createUser(email);
 
         // Then
         assertEquals(email, result.getEmail());
+        assertEquals(1L, result.getVersion());
         verify(dynamoDbClient).query(any(QueryRequest.class));
-        verify(dynamoDbClient).putItem(any(PutItemRequest.class));
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> transactItems = captor.getValue().transactItems();
+        assertEquals(3, transactItems.size());
+        assertEquals("1", transactItems.get(0).put().item().get("version").n());
+        assertEquals(UserListIndexKeyUtil.getPartitionKey(UserListIndexKeyUtil.getSegment(result.getUserId())),
+                transactItems.get(0).put().item().get("listPk").s());
+        assertEquals(Long.toString(result.getCreatedAt().toEpochMilli()),
+                transactItems.get(0).put().item().get("listSk").n());
+        assertEquals("EMAIL#test@example.com", transactItems.get(1).put().item().get("pk").s());
+        assertEquals(result.getUserId(), transactItems.get(1).put().item().get("userId").s());
+        Map<String, AttributeValue> outboxItem = transactItems.get(2).put().item();
+        assertTrue(outboxItem.get("pk").s().startsWith("OUTBOX#"));
+        assertEquals("UserCreated", outboxItem.get("eventType").s());
+        assertTrue(outboxItem.get("detail").s().contains(result.getUserId()));
     }
 
     @Test
@@ -92,13 +166,61 @@ class UserRepositoryImplTest {
                         .items(Collections.emptyList())
                         .build());
 
-        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
-                .thenThrow(ConditionalCheckFailedException.class);
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
 
         // Then
         assertThrows(DuplicateUserException.class, () -> userRepository.createUser(email));
     }
 
+    @Test
+    void createUser_IdempotencyKey_CompletesClaimInSameTransaction() {
+        // Given
+        String email = "test@example.com";
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(Collections.emptyList())
+                        .build());
+
+        // When
+        User result = userRepository.createUser(email, "key-1");
+
+        // Then
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> transactItems = captor.getValue().transactItems();
+        assertEquals(4, transactItems.size());
+        Map<String, AttributeValue> record = transactItems.get(3).put().item();
+        assertEquals("IDEMPOTENCY#key-1", record.get("pk").s());
+        assertEquals("COMPLETED", record.get("status").s());
+        assertEquals(result.getUserId(), record.get("userId").s());
+        assertEquals("IN_PROGRESS", transactItems.get(3).put().expressionAttributeValues().get(":inProgress").s());
+    }
+
+    @Test
+    void createUser_IdempotencyClaimLost_ThrowsIllegalStateException() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(Collections.emptyList())
+                        .build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> userRepository.createUser("test@example.com", "key-1"));
+    }
+
     @Test
     void getUser_ValidUserId_ReturnsUser() {
         // Given
@@ -172,4 +294,647 @@ class UserRepositoryImplTest {
         assertThrows(IllegalArgumentException.class,
                 () -> userRepository.createUser("   "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUser_EpochMillisTimestamps_ReturnsUser() {
+        // Given
+        String userId = "user123";
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00.123Z");
+        Instant updatedAt = Instant.parse("2025-01-02T00:00:00.456Z");
+
+        Map<String, AttributeValue> item = Map.of(
+                "userId", AttributeValue.builder().s(userId).build(),
+                "email", AttributeValue.builder().s("test@example.com").build(),
+                "createdAt", AttributeValue.builder().n(Long.toString(createdAt.toEpochMilli())).build(),
+                "updatedAt", AttributeValue.builder().n(Long.toString(updatedAt.toEpochMilli())).build());
+
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(item).build());
+
+        // When
+        User result = userRepository.getUser(userId);
+
+        // Then
+        assertEquals(createdAt, result.getCreatedAt());
+        assertEquals(updatedAt, result.getUpdatedAt());
+    }
+
+    @Test
+    void createUser_EpochMillisFormat_WritesNumberTimestamps() {
+        // Given
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard, emailFilter,
+                userIdGenerator, TimestampFormat.EPOCH_MILLIS, ReadConsistency.EVENTUAL, null);
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(Collections.emptyList())
+                        .build());
+
+        // When
+        User result = userRepository.createUser("test@example.com");
+
+        // Then
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        Map<String, AttributeValue> item = captor.getValue().transactItems().get(0).put().item();
+        assertNotNull(item.get("createdAt").n());
+        assertEquals(result.getCreatedAt().toEpochMilli(), Long.parseLong(item.get("createdAt").n()));
+        assertEquals(result.getUpdatedAt().toEpochMilli(), Long.parseLong(item.get("updatedAt").n()));
+    }
+
+    @Test
+    void migrateTimestamps_LegacyItem_RewritesAsEpochMillis() {
+        // Given
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard, emailFilter,
+                userIdGenerator, TimestampFormat.EPOCH_MILLIS, ReadConsistency.EVENTUAL, null);
+        Instant now = Instant.parse("2025-01-01T00:00:00.123Z");
+        Map<String, AttributeValue> legacyItem = Map.of(
+                "pk", AttributeValue.builder().s("USER#user123").build(),
+                "sk", AttributeValue.builder().s("METADATA").build(),
+                "createdAt", AttributeValue.builder().s(now.toString()).build(),
+                "updatedAt", AttributeValue.builder().s(now.toString()).build());
+
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder()
+                        .items(Collections.singletonList(legacyItem))
+                        .build());
+
+        // When
+        long migrated = userRepository.migrateTimestamps(1);
+
+        // Then
+        assertEquals(1, migrated);
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest update = captor.getValue();
+        assertEquals(Long.toString(now.toEpochMilli()), update.expressionAttributeValues().get(":createdAt").n());
+        assertEquals(now.toString(), update.expressionAttributeValues().get(":previousUpdatedAt").s());
+        assertEquals(UserListIndexKeyUtil.getPartitionKey(UserListIndexKeyUtil.getSegment("user123")),
+                update.expressionAttributeValues().get(":listPk").s());
+    }
+
+    @Test
+    void migrateTimestamps_ConcurrentlyModifiedItem_SkipsItem() {
+        // Given
+        Instant now = Instant.now();
+        Map<String, AttributeValue> legacyItem = Map.of(
+                "pk", AttributeValue.builder().s("USER#user123").build(),
+                "sk", AttributeValue.builder().s("METADATA").build(),
+                "createdAt", AttributeValue.builder().n(Long.toString(now.toEpochMilli())).build(),
+                "updatedAt", AttributeValue.builder().n(Long.toString(now.toEpochMilli())).build());
+
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder()
+                        .items(Collections.singletonList(legacyItem))
+                        .build());
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.class);
+
+        // When
+        long migrated = userRepository.migrateTimestamps(1);
+
+        // Then
+        assertEquals(0, migrated);
+    }
+
+    @Test
+    void migrateTimestamps_InvalidSegments_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userRepository.migrateTimestamps(0));
+    }
+
+    @Test
+    void listUsers_FirstPage_MergesSegmentsByCreationTime() {
+        // Given
+        Map<String, AttributeValue> lastKey = createListEntry("user3", 300L);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest query = invocation.getArgument(0);
+            String segment = query.expressionAttributeValues().get(":listPk").s();
+            if ("USER#0".equals(segment)) {
+                return QueryResponse.builder()
+                        .items(List.of(createListEntry("user1", 100L), createListEntry("user3", 300L)))
+                        .lastEvaluatedKey(lastKey)
+                        .build();
+            }
+            if ("USER#1".equals(segment)) {
+                return QueryResponse.builder()
+                        .items(List.of(createListEntry("user2", 200L)))
+                        .build();
+            }
+            return QueryResponse.builder().items(Collections.emptyList()).build();
+        });
+
+        // When
+        UserPage page = userRepository.listUsers(2, null, Set.of(UserField.EMAIL));
+
+        // Then
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(UserListIndexKeyUtil.SEGMENTS)).query(captor.capture());
+        QueryRequest query = captor.getAllValues().get(0);
+        assertEquals("user-list-index", query.indexName());
+        assertEquals(2, query.limit());
+        assertEquals("#userId, #email, #pk, #sk, #listSk", query.projectionExpression());
+        assertEquals(List.of("user1", "user2"), page.getUsers().stream().map(User::getUserId).toList());
+        assertEquals("user1@example.com", page.getUsers().get(0).getEmail());
+        Map<String, AttributeValue> cursor = PageCursorUtil.decode(page.getNextCursor());
+        assertEquals("USER#user1", cursor.get("0.pk").s());
+        assertEquals("100", cursor.get("0.listSk").n());
+        for (int segment = 1; segment < UserListIndexKeyUtil.SEGMENTS; segment++) {
+            assertEquals("1", cursor.get(segment + ".end").n());
+        }
+    }
+
+    @Test
+    void listUsers_Cursor_ResumesOnlyUnfinishedSegments() {
+        // Given
+        Map<String, AttributeValue> cursor = new LinkedHashMap<>();
+        cursor.put("0.pk", AttributeValue.builder().s("USER#user1").build());
+        cursor.put("0.sk", AttributeValue.builder().s("METADATA").build());
+        cursor.put("0.listSk", AttributeValue.builder().n("100").build());
+        for (int segment = 1; segment < UserListIndexKeyUtil.SEGMENTS; segment++) {
+            cursor.put(segment + ".end", AttributeValue.builder().n("1").build());
+        }
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(Collections.emptyList())
+                        .build());
+
+        // When
+        UserPage page = userRepository.listUsers(10, PageCursorUtil.encode(cursor), Set.of());
+
+        // Then
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        assertEquals(Map.of(
+                "pk", AttributeValue.builder().s("USER#user1").build(),
+                "sk", AttributeValue.builder().s("METADATA").build(),
+                "listPk", AttributeValue.builder().s("USER#0").build(),
+                "listSk", AttributeValue.builder().n("100").build()), captor.getValue().exclusiveStartKey());
+        assertEquals(null, captor.getValue().projectionExpression());
+        assertTrue(page.getUsers().isEmpty());
+        assertEquals(null, page.getNextCursor());
+    }
+
+    @Test
+    void listUsers_ForeignCursor_ThrowsIllegalArgumentException() {
+        // Given
+        String cursor = PageCursorUtil.encode(Map.of("pk", AttributeValue.builder().s("USER#user123").build()));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userRepository.listUsers(10, cursor, Set.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> userRepository.listUsers(10, "not-a-cursor", Set.of()));
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void createUser_EmailNotInFilter_SkipsIndexQuery() throws IOException {
+        // Given
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard,
+                filterContaining("existing@example.com"), userIdGenerator);
+
+        // When
+        User result = userRepository.createUser("new@example.com");
+
+        // Then
+        assertEquals("new@example.com", result.getEmail());
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+        verify(dynamoDbClient).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(metricsRecorder).increment(EmailFilter.QUERIES_AVOIDED_METRIC);
+    }
+
+    @Test
+    void createUser_EmailInFilter_QueriesIndexAndThrowsDuplicateUserException() throws IOException {
+        // Given
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard,
+                filterContaining("existing@example.com"), userIdGenerator);
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(Collections.singletonList(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build())))
+                        .build());
+
+        // When/Then
+        assertThrows(DuplicateUserException.class,
+                () -> userRepository.createUser("Existing@Example.com"));
+        verify(metricsRecorder).increment(EmailFilter.TRUE_POSITIVES_METRIC);
+        verify(metricsRecorder, never()).increment(EmailFilter.QUERIES_AVOIDED_METRIC);
+    }
+
+    @Test
+    void createUser_CreatedEmail_IsAddedToFilter() throws IOException {
+        // Given
+        emailFilter = filterContaining("existing@example.com");
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard, emailFilter,
+                userIdGenerator);
+
+        // When
+        userRepository.createUser("new@example.com");
+
+        // Then
+        assertTrue(emailFilter.mightExist("NEW@example.com"));
+    }
+
+    @Test
+    void rebuildEmailFilter_ScannedEmails_SavesFilterContainingThem() {
+        // Given
+        Path filterPath = tempDir.resolve("emails.bloom");
+        emailFilter = new EmailFilter(metricsRecorder, filterPath, 100, 0.01);
+        userRepository = new UserRepositoryImpl(dynamoDbClient, metricsRecorder, callGuard, emailFilter,
+                userIdGenerator);
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder()
+                        .items(List.of(
+                                Map.of("email", AttributeValue.builder().s("first@example.com").build()),
+                                Map.of("email", AttributeValue.builder().s("Second@Example.com").build())))
+                        .build());
+
+        // When
+        long emails = userRepository.rebuildEmailFilter(1);
+
+        // Then
+        assertEquals(2, emails);
+        assertTrue(Files.exists(filterPath));
+        EmailFilter reloaded = new EmailFilter(metricsRecorder, filterPath, 100, 0.01);
+        assertTrue(reloaded.mightExist("first@example.com"));
+        assertTrue(reloaded.mightExist("second@example.com"));
+        assertFalse(reloaded.mightExist("unknown@example.com"));
+    }
+
+    @Test
+    void rebuildEmailFilter_NoFilterPath_ThrowsIllegalStateException() {
+        assertThrows(IllegalStateException.class,
+                () -> userRepository.rebuildEmailFilter(1));
+    }
+
+    private EmailFilter filterContaining(String email) throws IOException {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+        bloomFilter.put(email);
+        Path filterPath = tempDir.resolve("emails.bloom");
+        try (OutputStream out = Files.newOutputStream(filterPath)) {
+            bloomFilter.writeTo(out);
+        }
+        return new EmailFilter(metricsRecorder, filterPath, 100, 0.01);
+    }
+
+    @Test
+    void getUser_StrongConsistency_UsesConsistentReadAndRecordsMetrics() {
+        // Given
+        String userId = "user123";
+        Instant now = Instant.now();
+        Map<String, AttributeValue> item = Map.of(
+                "userId", AttributeValue.builder().s(userId).build(),
+                "email", AttributeValue.builder().s("test@example.com").build(),
+                "createdAt", AttributeValue.builder().s(now.toString()).build(),
+                "updatedAt", AttributeValue.builder().s(now.toString()).build());
+
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder()
+                        .item(item)
+                        .consumedCapacity(ConsumedCapacity.builder().capacityUnits(1.0).build())
+                        .build());
+
+        // When
+        userRepository.getUser(userId, ReadConsistency.STRONG);
+
+        // Then
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(captor.capture());
+        assertTrue(captor.getValue().consistentRead());
+        verify(metricsRecorder).increment("GetUser.StrongReads");
+        verify(metricsRecorder).record("GetUser.StrongReadCapacityUnits", 1.0, MetricUnit.COUNT);
+    }
+
+    @Test
+    void getUser_DefaultConsistency_UsesEventualRead() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().build());
+
+        // When
+        assertThrows(ResourceNotFoundException.class, () -> userRepository.getUser("user123"));
+
+        // Then
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(captor.capture());
+        assertFalse(captor.getValue().consistentRead());
+        verify(metricsRecorder).increment("GetUser.EventualReads");
+    }
+
+    @Test
+    void getUser_NullReadConsistency_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userRepository.getUser("user123", null));
+    }
+
+    @Test
+    void updateUser_EmailChanged_WritesTransactionAndReturnsNewVersion() {
+        // Given
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        User currentUser = User.builder()
+                .userId("user123")
+                .email("old@example.com")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(3L)
+                .build();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(Collections.emptyList()).build());
+
+        // When
+        User result = userRepository.updateUser(currentUser, "new@example.com");
+
+        // Then
+        assertEquals("new@example.com", result.getEmail());
+        assertEquals(4L, result.getVersion());
+        assertEquals(createdAt, result.getCreatedAt());
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> transactItems = captor.getValue().transactItems();
+        assertEquals(3, transactItems.size());
+        assertEquals("3", transactItems.get(0).update().expressionAttributeValues().get(":expectedVersion").n());
+        assertEquals("4", transactItems.get(0).update().expressionAttributeValues().get(":nextVersion").n());
+        assertEquals("EMAIL#new@example.com", transactItems.get(1).put().item().get("pk").s());
+        assertEquals("EMAIL#old@example.com", transactItems.get(2).delete().key().get("pk").s());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void updateUser_StaleVersion_ThrowsVersionConflictException() {
+        // Given
+        User currentUser = User.builder().userId("user123").email("old@example.com").version(3L).build();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(Collections.emptyList()).build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("ConditionalCheckFailed")
+                                        .item(Map.of("version", AttributeValue.builder().n("4").build()))
+                                        .build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build())
+                        .build());
+
+        // Then
+        assertThrows(VersionConflictException.class,
+                () -> userRepository.updateUser(currentUser, "new@example.com"));
+    }
+
+    @Test
+    void updateUser_SameEmail_UsesUpdateItemReturnValues() {
+        // Given
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        User currentUser = User.builder().userId("user123").email("test@example.com").version(0L).build();
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(UpdateItemResponse.builder()
+                        .attributes(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build(),
+                                "email", AttributeValue.builder().s("Test@example.com").build(),
+                                "createdAt", AttributeValue.builder().s(createdAt.toString()).build(),
+                                "updatedAt", AttributeValue.builder().s(createdAt.toString()).build(),
+                                "version", AttributeValue.builder().n("1").build()))
+                        .build());
+
+        // When
+        User result = userRepository.updateUser(currentUser, "Test@example.com");
+
+        // Then
+        assertEquals("Test@example.com", result.getEmail());
+        assertEquals(1L, result.getVersion());
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertEquals("attribute_exists(#pk) AND attribute_not_exists(#version)",
+                captor.getValue().conditionExpression());
+        verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void updateUser_MissingUser_ThrowsResourceNotFoundException() {
+        // Given
+        User currentUser = User.builder().userId("user123").email("test@example.com").version(2L).build();
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().build());
+
+        // Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> userRepository.updateUser(currentUser, "test@example.com"));
+    }
+
+    @Test
+    void deleteUser_MatchingVersion_DeletesUserAndReleasesEmailInOneTransaction() {
+        // Given
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder()
+                        .item(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build(),
+                                "email", AttributeValue.builder().s("test@example.com").build(),
+                                "createdAt", AttributeValue.builder().s(createdAt.toString()).build(),
+                                "updatedAt", AttributeValue.builder().s(createdAt.toString()).build(),
+                                "version", AttributeValue.builder().n("2").build()))
+                        .build());
+
+        // When
+        User result = userRepository.deleteUser("user123", 2L);
+
+        // Then
+        assertEquals("test@example.com", result.getEmail());
+        assertEquals(2L, result.getVersion());
+        ArgumentCaptor<GetItemRequest> getCaptor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(getCaptor.capture());
+        assertTrue(getCaptor.getValue().consistentRead());
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> transactItems = captor.getValue().transactItems();
+        assertEquals(2, transactItems.size());
+        assertEquals("USER#user123", transactItems.get(0).delete().key().get("pk").s());
+        assertEquals("2", transactItems.get(0).delete().expressionAttributeValues().get(":expectedVersion").n());
+        assertEquals("EMAIL#test@example.com", transactItems.get(1).delete().key().get("pk").s());
+        verify(dynamoDbClient, never()).deleteItem(any(DeleteItemRequest.class));
+    }
+
+    @Test
+    void deleteUser_StaleVersion_ThrowsVersionConflictException() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder()
+                        .item(Map.of(
+                                "userId", AttributeValue.builder().s("user123").build(),
+                                "email", AttributeValue.builder().s("test@example.com").build(),
+                                "version", AttributeValue.builder().n("3").build()))
+                        .build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("ConditionalCheckFailed")
+                                        .item(Map.of("version", AttributeValue.builder().n("3").build()))
+                                        .build(),
+                                CancellationReason.builder().code("None").build())
+                        .build());
+
+        // Then
+        assertThrows(VersionConflictException.class, () -> userRepository.deleteUser("user123", 2L));
+    }
+
+    @Test
+    void deleteUser_MissingUser_ThrowsResourceNotFoundWithoutWriting() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        // Then
+        assertThrows(ResourceNotFoundException.class, () -> userRepository.deleteUser("user123", 2L));
+        verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void getUsers_UnprocessedKeys_RetriesAndReturnsFoundUsers() {
+        // Given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        Map<String, AttributeValue> item1 = Map.of(
+                "userId", AttributeValue.builder().s("user1").build(),
+                "email", AttributeValue.builder().s("one@example.com").build(),
+                "createdAt", AttributeValue.builder().s(now.toString()).build(),
+                "updatedAt", AttributeValue.builder().s(now.toString()).build());
+        Map<String, AttributeValue> item2 = Map.of(
+                "userId", AttributeValue.builder().s("user2").build(),
+                "email", AttributeValue.builder().s("two@example.com").build(),
+                "createdAt", AttributeValue.builder().s(now.toString()).build(),
+                "updatedAt", AttributeValue.builder().s(now.toString()).build());
+        Map<String, AttributeValue> user2Key = Map.of("pk", AttributeValue.builder().s("USER#user2").build());
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Collections.singletonMap(null, List.of(item1)))
+                        .unprocessedKeys(Collections.singletonMap(null,
+                                KeysAndAttributes.builder().keys(List.of(user2Key)).build()))
+                        .build())
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Collections.singletonMap(null, List.of(item2)))
+                        .build());
+
+        // When
+        Map<String, User> result = userRepository.getUsers(List.of("user1", "user2", "user3"));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("two@example.com", result.get("user2").getEmail());
+        verify(dynamoDbClient, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void getUser_DynamoDbThrottles_ThrowsRateLimitedException() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("throttled").build());
+
+        // When/Then
+        RateLimitedException exception = assertThrows(RateLimitedException.class,
+                () -> userRepository.getUser("test-user-id"));
+        assertTrue(exception.getRetryAfterMillis() > 0);
+        verify(metricsRecorder).increment("DynamoDb.Throttles");
+    }
+
+    @Test
+    void purgeUser_TwoPages_DeletesInBatchesAndMetadataLast() {
+        // Given
+        List<Map<String, AttributeValue>> firstPage = new ArrayList<>();
+        firstPage.add(keyItem("METADATA"));
+        for (int i = 0; i < 30; i++) {
+            firstPage.add(keyItem(String.format("CHARACTER#Zezima#GOAL#goal1#2025-01-01T00:00:%02d.000Z", i)));
+        }
+        List<Map<String, AttributeValue>> secondPage = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            secondPage.add(keyItem("CHARACTER#Zezima" + i));
+        }
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder()
+                        .item(Map.of("email", AttributeValue.builder().s("test@example.com").build()))
+                        .build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(firstPage)
+                        .lastEvaluatedKey(firstPage.get(firstPage.size() - 1))
+                        .build())
+                .thenReturn(QueryResponse.builder().items(secondPage).build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class)))
+                .thenReturn(DeleteItemResponse.builder().build());
+
+        // When
+        UserPurge purge = userRepository.purgeUser("user123", 4, Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(36, purge.getItemsDeleted());
+        assertTrue(purge.isComplete());
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(queryCaptor.capture());
+        assertEquals("#pk, #sk", queryCaptor.getValue().projectionExpression());
+
+        ArgumentCaptor<BatchWriteItemRequest> batchCaptor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchWriteItem(batchCaptor.capture());
+        int deletes = 0;
+        for (BatchWriteItemRequest batch : batchCaptor.getAllValues()) {
+            for (WriteRequest write : batch.requestItems().get(null)) {
+                assertNotEquals("METADATA", write.deleteRequest().key().get("sk").s());
+                deletes++;
+            }
+        }
+        assertEquals(35, deletes);
+
+        ArgumentCaptor<DeleteItemRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+        verify(dynamoDbClient, times(2)).deleteItem(deleteCaptor.capture());
+        assertEquals("EMAIL#test@example.com", deleteCaptor.getAllValues().get(0).key().get("pk").s());
+        assertEquals("METADATA", deleteCaptor.getAllValues().get(1).key().get("sk").s());
+    }
+
+    @Test
+    void purgeUser_DeadlinePassed_StopsAfterPageAndKeepsMetadata() {
+        // Given
+        Map<String, AttributeValue> item = keyItem("CHARACTER#Zezima");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(item)).lastEvaluatedKey(item).build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        UserPurge purge = userRepository.purgeUser("user123", 1, Instant.now().minusSeconds(1));
+
+        // Then
+        assertEquals(1, purge.getItemsDeleted());
+        assertFalse(purge.isComplete());
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+        verify(dynamoDbClient, never()).deleteItem(any(DeleteItemRequest.class));
+    }
+
+    @Test
+    void purgeUser_BatchThrottled_ThrowsRateLimitedException() {
+        // Given
+        Map<String, AttributeValue> item = keyItem("CHARACTER#Zezima");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(item)).build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("throttled").build());
+
+        // Then
+        assertThrows(RateLimitedException.class,
+                () -> userRepository.purgeUser("user123", 1, Instant.now().plusSeconds(30)));
+        verify(dynamoDbClient, never()).deleteItem(any(DeleteItemRequest.class));
+    }
+
+    private static Map<String, AttributeValue> createListEntry(String userId, long createdAtMillis) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#" + userId).build(),
+                "sk", AttributeValue.builder().s("METADATA").build(),
+                "listSk", AttributeValue.builder().n(Long.toString(createdAtMillis)).build(),
+                "userId", AttributeValue.builder().s(userId).build(),
+                "email", AttributeValue.builder().s(userId + "@example.com").build());
+    }
+
+    private static Map<String, AttributeValue> keyItem(String sortKey) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#user123").build(),
+                "sk", AttributeValue.builder().s(sortKey).build());
+    }
+}
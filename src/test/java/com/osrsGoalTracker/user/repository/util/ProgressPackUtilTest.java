@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class ProgressPackUtilTest {
+
+    @Test
+    void unpack_PackedPoints_ReturnsSamePoints() {
+        // Given
+        NavigableMap<Long, Long> points = new TreeMap<>();
+        points.put(1_735_689_600_000L, 13_034_431L);
+        points.put(1_735_776_000_000L, 13_100_000L);
+        points.put(1_735_862_400_000L, 12_999_999L);
+        points.put(1_735_862_400_001L, Long.MAX_VALUE);
+
+        // When
+        NavigableMap<Long, Long> unpacked = ProgressPackUtil.unpack(ProgressPackUtil.pack(points));
+
+        // Then
+        assertEquals(points, unpacked);
+    }
+
+    @Test
+    void pack_DailyPoints_TakesFarLessThanAFixedWidthEncoding() {
+        // Given
+        NavigableMap<Long, Long> points = new TreeMap<>();
+        for (int day = 0; day < 31; day++) {
+            points.put(1_735_689_600_000L + day * 86_400_000L, 13_000_000L + day * 5_000L);
+        }
+
+        // When
+        byte[] packed = ProgressPackUtil.pack(points);
+
+        // Then
+        assertTrue(packed.length < 31 * 2 * Long.BYTES, "Packed " + packed.length + " bytes");
+    }
+
+    @Test
+    void unpack_TruncatedPoints_ThrowsIllegalArgumentException() {
+        // Given
+        NavigableMap<Long, Long> points = new TreeMap<>();
+        points.put(1_735_689_600_000L, 100L);
+        byte[] packed = ProgressPackUtil.pack(points);
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> ProgressPackUtil.unpack(truncated));
+    }
+}
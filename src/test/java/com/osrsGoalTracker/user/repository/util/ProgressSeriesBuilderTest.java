@@ -0,0 +1,62 @@
+package com.osrsGoalTracker.user.repository.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+
+import org.junit.jupiter.api.Test;
+
+class ProgressSeriesBuilderTest {
+
+    @Test
+    void build_WeekResolution_KeepsLastValuePerMondayAlignedBucket() {
+        // Given
+        ProgressSeriesBuilder builder = new ProgressSeriesBuilder(ProgressResolution.WEEK);
+
+        // When
+        builder.add(millis("2025-01-06T10:00:00Z"), 100);
+        builder.add(millis("2025-01-12T23:59:59Z"), 150);
+        builder.add(millis("2025-01-13T00:00:00Z"), 200);
+        ProgressSeries series = builder.build("Zezima", "goal1");
+
+        // Then
+        assertArrayEquals(new long[] {millis("2025-01-06T00:00:00Z"), millis("2025-01-13T00:00:00Z")},
+                series.getTimestamps());
+        assertArrayEquals(new long[] {150, 200}, series.getValues());
+    }
+
+    @Test
+    void build_RawResolutionBeyondInitialCapacity_KeepsEveryPoint() {
+        // Given
+        ProgressSeriesBuilder builder = new ProgressSeriesBuilder(ProgressResolution.RAW);
+        long[] expected = new long[1_000];
+
+        // When
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 10L;
+            builder.add(i, i * 10L);
+        }
+        ProgressSeries series = builder.build("Zezima", "goal1");
+
+        // Then
+        assertArrayEquals(expected, series.getValues());
+    }
+
+    @Test
+    void add_OutOfOrder_ThrowsIllegalArgumentException() {
+        // Given
+        ProgressSeriesBuilder builder = new ProgressSeriesBuilder(ProgressResolution.DAY);
+        builder.add(millis("2025-01-02T00:00:00Z"), 100);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> builder.add(millis("2025-01-01T00:00:00Z"), 90));
+    }
+
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+}
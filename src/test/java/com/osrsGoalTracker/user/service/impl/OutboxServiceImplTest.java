@@ -0,0 +1,110 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.user.external.EventPublisher;
+import com.osrsGoalTracker.user.external.impl.InMemoryEventPublisher;
+import com.osrsGoalTracker.user.model.OutboxEvent;
+import com.osrsGoalTracker.user.repository.OutboxRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private EventPublisher failingPublisher;
+
+    private InMemoryEventPublisher eventPublisher;
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = new InMemoryEventPublisher();
+        outboxService = new OutboxServiceImpl(eventPublisher, outboxRepository);
+    }
+
+    @Test
+    void publishEvents_MoreThanOneBatch_PublishesInBatchesOfTen() {
+        // Given
+        List<OutboxEvent> events = createEvents(23);
+
+        // When
+        List<String> failed = outboxService.publishEvents(events);
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertEquals(List.of(10, 10, 3), eventPublisher.getBatchSizes());
+        assertEquals(events, eventPublisher.getPublishedEvents());
+        verify(outboxRepository).deleteEvents(events.stream().map(OutboxEvent::getEventId).toList());
+    }
+
+    @Test
+    void publishEvents_PartialFailure_ReturnsFailedIdsAndDeletesOnlyPublished() {
+        // Given
+        List<OutboxEvent> events = createEvents(3);
+        when(failingPublisher.publish(events)).thenReturn(List.of("event-1"));
+        outboxService = new OutboxServiceImpl(failingPublisher, outboxRepository);
+
+        // When
+        List<String> failed = outboxService.publishEvents(events);
+
+        // Then
+        assertEquals(List.of("event-1"), failed);
+        verify(outboxRepository).deleteEvents(List.of("event-0", "event-2"));
+    }
+
+    @Test
+    void publishEvents_DeleteFails_StillReportsSuccess() {
+        // Given
+        List<OutboxEvent> events = createEvents(2);
+        when(outboxRepository.deleteEvents(anyList())).thenThrow(new RuntimeException("boom"));
+
+        // When
+        List<String> failed = outboxService.publishEvents(events);
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertEquals(2, eventPublisher.getPublishedEvents().size());
+    }
+
+    @Test
+    void publishEvents_NoEvents_PublishesNothing() {
+        // When
+        List<String> failed = outboxService.publishEvents(List.of());
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertTrue(eventPublisher.getBatchSizes().isEmpty());
+        verify(outboxRepository, never()).deleteEvents(anyList());
+    }
+
+    private List<OutboxEvent> createEvents(int count) {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OutboxEvent.builder()
+                    .eventId("event-" + i)
+                    .eventType("UserCreated")
+                    .detail("{\"userId\":\"user" + i + "\"}")
+                    .occurredAt(Instant.parse("2025-01-01T00:00:00Z"))
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,225 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.user.common.cache.LocalCache;
+import com.osrsGoalTracker.user.common.exception.CircuitOpenException;
+import com.osrsGoalTracker.user.common.exception.RateLimitedException;
+import com.osrsGoalTracker.user.common.metrics.MetricsRecorder;
+import com.osrsGoalTracker.user.external.impl.InMemoryUserCache;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.exception.VersionConflictException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TieredUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    @Mock
+    private MetricsRecorder metricsRecorder;
+
+    private InMemoryUserCache sharedCache;
+    private LocalCache<String, User> localCache;
+    private TieredUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new InMemoryUserCache();
+        localCache = new LocalCache<>(100, Duration.ofSeconds(30));
+        repository = new TieredUserRepository(delegate, sharedCache, metricsRecorder, localCache,
+                Duration.ofHours(1), ReadConsistency.EVENTUAL, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void getUser_Miss_ReadsTableOnceAndServesFromLocalCache() {
+        // Given
+        User user = createUser("user1", 1L);
+        when(delegate.getUser("user1", ReadConsistency.EVENTUAL)).thenReturn(user);
+
+        // When
+        repository.getUser("user1");
+        User result = repository.getUser("user1");
+
+        // Then
+        assertEquals(user, result);
+        verify(delegate, times(1)).getUser("user1", ReadConsistency.EVENTUAL);
+        assertTrue(sharedCache.get("user1").isPresent());
+        verify(metricsRecorder).increment("UserCache.Misses");
+        verify(metricsRecorder).increment("UserCache.LocalHits");
+    }
+
+    @Test
+    void getUser_SharedHit_SkipsTable() {
+        // Given
+        User user = createUser("user1", 1L);
+        sharedCache.put(user, Duration.ofHours(1));
+
+        // When
+        User result = repository.getUser("user1", ReadConsistency.EVENTUAL);
+
+        // Then
+        assertEquals(user, result);
+        verify(delegate, never()).getUser(anyString(), any(ReadConsistency.class));
+        assertTrue(localCache.get("user1").isPresent());
+    }
+
+    @Test
+    void getUser_StrongRead_BypassesCaches() {
+        // Given
+        localCache.put("user1", createUser("user1", 1L));
+        User fresh = createUser("user1", 2L);
+        when(delegate.getUser("user1", ReadConsistency.STRONG)).thenReturn(fresh);
+
+        // When
+        User result = repository.getUser("user1", ReadConsistency.STRONG);
+
+        // Then
+        assertEquals(fresh, result);
+        assertEquals(2L, localCache.get("user1").orElseThrow().getVersion());
+    }
+
+    @Test
+    void getUsers_MixedTiers_BatchesEachTierAndReadsOnlyMissesFromTable() {
+        // Given
+        localCache.put("user1", createUser("user1", 1L));
+        sharedCache.put(createUser("user2", 1L), Duration.ofHours(1));
+        when(delegate.getUsers(List.of("user3", "user4"))).thenReturn(Map.of("user3", createUser("user3", 1L)));
+
+        // When
+        Map<String, User> result = repository.getUsers(List.of("user1", "user2", "user3", "user4"));
+
+        // Then
+        assertEquals(3, result.size());
+        verify(delegate).getUsers(List.of("user3", "user4"));
+        assertTrue(sharedCache.get("user3").isPresent());
+    }
+
+    @Test
+    void updateUser_VersionConflict_InvalidatesBothTiers() {
+        // Given
+        User stale = createUser("user1", 1L);
+        localCache.put("user1", stale);
+        sharedCache.put(stale, Duration.ofHours(1));
+        when(delegate.updateUser(stale, "new@example.com")).thenThrow(new VersionConflictException("conflict"));
+
+        // Then
+        assertThrows(VersionConflictException.class, () -> repository.updateUser(stale, "new@example.com"));
+        assertTrue(localCache.get("user1").isEmpty());
+        assertTrue(sharedCache.get("user1").isEmpty());
+    }
+
+    @Test
+    void updateUser_EmailChanged_InvalidatesInsteadOfCaching() {
+        // Given
+        User current = createUser("user1", 1L);
+        localCache.put("user1", current);
+        sharedCache.put(current, Duration.ofHours(1));
+        User updated = current.toBuilder().email("new@example.com").version(2L).build();
+        when(delegate.updateUser(current, "new@example.com")).thenReturn(updated);
+
+        // When
+        User result = repository.updateUser(current, "new@example.com");
+
+        // Then
+        assertEquals(updated, result);
+        assertTrue(localCache.get("user1").isEmpty());
+        assertTrue(sharedCache.get("user1").isEmpty());
+    }
+
+    @Test
+    void deleteUser_Success_InvalidatesBothTiers() {
+        // Given
+        User user = createUser("user1", 1L);
+        localCache.put("user1", user);
+        sharedCache.put(user, Duration.ofHours(1));
+        when(delegate.deleteUser("user1", 1L)).thenReturn(user);
+
+        // When
+        repository.deleteUser("user1", 1L);
+
+        // Then
+        assertTrue(localCache.get("user1").isEmpty());
+        assertTrue(sharedCache.get("user1").isEmpty());
+    }
+
+    @Test
+    void getUser_TableKeepsFailing_OpensCircuitAndFailsFast() {
+        // Given
+        when(delegate.getUser("user1", ReadConsistency.STRONG))
+                .thenThrow(new IllegalStateException("endpoint unavailable"));
+        assertThrows(IllegalStateException.class, () -> repository.getUser("user1", ReadConsistency.STRONG));
+        assertThrows(IllegalStateException.class, () -> repository.getUser("user1", ReadConsistency.STRONG));
+
+        // When/Then
+        assertThrows(CircuitOpenException.class, () -> repository.getUser("user1", ReadConsistency.STRONG));
+        verify(delegate, times(2)).getUser("user1", ReadConsistency.STRONG);
+        verify(metricsRecorder).increment("UserTable.ShortCircuited");
+    }
+
+    @Test
+    void getUser_ReadsShedByRateLimiter_LeavesCircuitClosed() {
+        // Given
+        when(delegate.getUser("user1", ReadConsistency.STRONG))
+                .thenThrow(new RateLimitedException("Too many requests, please retry later", 1000L));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RateLimitedException.class, () -> repository.getUser("user1", ReadConsistency.STRONG));
+        }
+
+        // Then
+        verify(delegate, times(3)).getUser("user1", ReadConsistency.STRONG);
+        verify(metricsRecorder, never()).increment("UserTable.ShortCircuited");
+        verify(metricsRecorder, never()).record(anyString(), anyDouble(), any());
+    }
+
+    @Test
+    void getUser_TableFails_ServesExpiredLocalEntryForEventualRead() {
+        // Given
+        User user = createUser("user1", 1L);
+        localCache.put("user1", user, Duration.ZERO);
+        when(delegate.getUser("user1", ReadConsistency.EVENTUAL))
+                .thenThrow(new IllegalStateException("endpoint unavailable"));
+
+        // When
+        User result = repository.getUser("user1", ReadConsistency.EVENTUAL);
+
+        // Then
+        assertEquals(user, result);
+        verify(metricsRecorder).increment("UserCache.StaleHits");
+    }
+
+    private User createUser(String userId, long version) {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        return User.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .version(version)
+                .build();
+    }
+}
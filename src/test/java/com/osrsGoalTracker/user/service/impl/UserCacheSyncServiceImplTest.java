@@ -0,0 +1,104 @@
+package com.osrsGoalTracker.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.user.external.impl.InMemoryUserCache;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserChange;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserCacheSyncServiceImplTest {
+
+    private InMemoryUserCache userCache;
+    private UserCacheSyncServiceImpl userCacheSyncService;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new InMemoryUserCache();
+        userCacheSyncService = new UserCacheSyncServiceImpl(userCache, Duration.ofHours(1));
+    }
+
+    @Test
+    void applyChanges_SeveralChangesForOneUser_AppliesOnlyTheLast() {
+        // Given
+        List<UserChange> changes = List.of(
+                change(createUser("user1", "first@example.com", 1L)),
+                change(createUser("user2", "other@example.com", 1L)),
+                change(createUser("user1", "second@example.com", 2L)));
+
+        // When
+        int applied = userCacheSyncService.applyChanges(changes);
+
+        // Then
+        assertEquals(2, applied);
+        assertEquals("second@example.com", userCache.get("user1").orElseThrow().getEmail());
+        assertEquals("other@example.com", userCache.get("user2").orElseThrow().getEmail());
+    }
+
+    @Test
+    void applyChanges_UserRemoved_InvalidatesCachedUser() {
+        // Given
+        userCache.put(createUser("user1", "test@example.com", 1L), Duration.ofHours(1));
+
+        // When
+        userCacheSyncService.applyChanges(List.of(removal("user1", 1L)));
+
+        // Then
+        assertTrue(userCache.get("user1").isEmpty());
+    }
+
+    @Test
+    void applyChanges_UserRemoved_RefusesReadThroughOfDeletedVersion() {
+        // Given
+        userCacheSyncService.applyChanges(List.of(removal("user1", 1L)));
+
+        // When
+        userCache.put(createUser("user1", "test@example.com", 1L), Duration.ofHours(1));
+
+        // Then
+        assertTrue(userCache.get("user1").isEmpty());
+    }
+
+    @Test
+    void applyChanges_OlderVersion_DoesNotReplaceNewerCachedUser() {
+        // Given
+        userCache.put(createUser("user1", "new@example.com", 3L), Duration.ofHours(1));
+
+        // When
+        userCacheSyncService.applyChanges(List.of(change(createUser("user1", "old@example.com", 2L))));
+
+        // Then
+        assertEquals("new@example.com", userCache.get("user1").orElseThrow().getEmail());
+    }
+
+    @Test
+    void applyChanges_NoChanges_ReturnsZero() {
+        assertEquals(0, userCacheSyncService.applyChanges(List.of()));
+    }
+
+    private UserChange removal(String userId, long deletedVersion) {
+        return UserChange.builder().userId(userId).deleted(true).deletedVersion(deletedVersion).build();
+    }
+
+    private UserChange change(User user) {
+        return UserChange.builder().userId(user.getUserId()).user(user).build();
+    }
+
+    private User createUser(String userId, String email, long version) {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        return User.builder()
+                .userId(userId)
+                .email(email)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(version)
+                .build();
+    }
+}
@@ -2,17 +2,51 @@ package com.osrsGoalTracker.user.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import com.osrsGoalTracker.user.model.IdempotencyRecord;
+import com.osrsGoalTracker.user.model.IdempotencyStatus;
+import com.osrsGoalTracker.user.model.GoalProgress;
+import com.osrsGoalTracker.user.model.NotificationChannel;
+import com.osrsGoalTracker.user.model.NotificationChannelType;
+import com.osrsGoalTracker.user.model.ProgressCompaction;
+import com.osrsGoalTracker.user.model.ProgressResolution;
+import com.osrsGoalTracker.user.model.ProgressSeries;
+import com.osrsGoalTracker.user.model.ReadConsistency;
+import com.osrsGoalTracker.user.model.RollupGranularity;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserCharacter;
+import com.osrsGoalTracker.user.model.UserField;
+import com.osrsGoalTracker.user.model.UserPage;
+import com.osrsGoalTracker.user.model.UserPurge;
+import com.osrsGoalTracker.user.repository.CharacterRepository;
+import com.osrsGoalTracker.user.repository.GoalProgressRepository;
+import com.osrsGoalTracker.user.repository.IdempotencyRepository;
+import com.osrsGoalTracker.user.repository.JobCheckpointRepository;
+import com.osrsGoalTracker.user.repository.NotificationChannelRepository;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.service.exception.IdempotencyConflictException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,11 +56,27 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    @Mock
+    private CharacterRepository characterRepository;
+
+    @Mock
+    private NotificationChannelRepository channelRepository;
+
+    @Mock
+    private GoalProgressRepository progressRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
     private UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, idempotencyRepository, characterRepository,
+                channelRepository, progressRepository, checkpointRepository);
     }
 
     @Test
@@ -108,4 +158,474 @@ class UserServiceImplTest {
         assertThrows(IllegalArgumentException.class,
                 () -> userService.getUser("   "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUser_StrongConsistency_DelegatesWithConsistency() {
+        // Given
+        String userId = "user123";
+        Instant now = Instant.now();
+        User expectedUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        when(userRepository.getUser(userId, ReadConsistency.STRONG)).thenReturn(expectedUser);
+
+        // When
+        User actualUser = userService.getUser(" " + userId + " ", ReadConsistency.STRONG);
+
+        // Then
+        assertEquals(expectedUser, actualUser);
+        verify(userRepository).getUser(userId, ReadConsistency.STRONG);
+    }
+
+    @Test
+    void getUser_NullReadConsistency_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.getUser("user123", null));
+    }
+
+    @Test
+    void migrateTimestamps_ValidSegments_DelegatesToRepository() {
+        // Given
+        when(userRepository.migrateTimestamps(4)).thenReturn(10L);
+
+        // When
+        long migrated = userService.migrateTimestamps(4);
+
+        // Then
+        assertEquals(10L, migrated);
+        verify(userRepository).migrateTimestamps(4);
+    }
+
+    @Test
+    void migrateTimestamps_TooManySegments_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.migrateTimestamps(65));
+    }
+
+    @Test
+    void rebuildEmailFilter_ValidSegments_DelegatesToRepository() {
+        // Given
+        when(userRepository.rebuildEmailFilter(4)).thenReturn(25L);
+
+        // When
+        long emails = userService.rebuildEmailFilter(4);
+
+        // Then
+        assertEquals(25L, emails);
+        verify(userRepository).rebuildEmailFilter(4);
+    }
+
+    @Test
+    void listUsers_NullFields_DelegatesWithAllFields() {
+        // Given
+        UserPage expectedPage = UserPage.builder()
+                .users(List.of())
+                .nextCursor("cursor")
+                .build();
+        when(userRepository.listUsers(25, null, Set.of())).thenReturn(expectedPage);
+
+        // When
+        UserPage page = userService.listUsers(25, null, null);
+
+        // Then
+        assertEquals(expectedPage, page);
+        verify(userRepository).listUsers(25, null, Set.of());
+    }
+
+    @Test
+    void listUsers_PageSizeTooLarge_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.listUsers(101, null, Set.of(UserField.EMAIL)));
+    }
+
+    @Test
+    void createUserIdempotent_FirstRequest_CreatesAndStoresResult() {
+        // Given
+        String email = "test@example.com";
+        User expectedUser = createUser(email);
+        when(idempotencyRepository.getRecord("key-1")).thenReturn(Optional.empty());
+        when(idempotencyRepository.claim("key-1", email)).thenReturn(true);
+        when(userRepository.createUser(email, "key-1")).thenReturn(expectedUser);
+
+        // When
+        User actualUser = userService.createUser(email, "key-1");
+
+        // Then
+        assertEquals(expectedUser, actualUser);
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), any(User.class));
+    }
+
+    @Test
+    void createUserIdempotent_CompletedReplay_ReturnsStoredUserWithoutCreating() {
+        // Given
+        String email = "test@example.com";
+        User storedUser = createUser(email);
+        when(idempotencyRepository.getRecord("key-1"))
+                .thenReturn(Optional.of(createRecord(IdempotencyStatus.COMPLETED, email, storedUser)));
+
+        // When
+        User actualUser = userService.createUser(email, "key-1");
+
+        // Then
+        assertEquals(storedUser, actualUser);
+        verify(userRepository, never()).createUser(anyString());
+        verify(idempotencyRepository, never()).claim(anyString(), anyString());
+    }
+
+    @Test
+    void createUserIdempotent_InProgress_ThrowsIdempotencyConflictException() {
+        // Given
+        String email = "test@example.com";
+        when(idempotencyRepository.getRecord("key-1"))
+                .thenReturn(Optional.of(createRecord(IdempotencyStatus.IN_PROGRESS, email, null)));
+
+        // Then
+        assertThrows(IdempotencyConflictException.class, () -> userService.createUser(email, "key-1"));
+    }
+
+    @Test
+    void createUserIdempotent_KeyReusedWithDifferentEmail_ThrowsIllegalArgumentException() {
+        // Given
+        when(idempotencyRepository.getRecord("key-1"))
+                .thenReturn(Optional.of(createRecord(IdempotencyStatus.COMPLETED, "other@example.com",
+                        createUser("other@example.com"))));
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> userService.createUser("test@example.com", "key-1"));
+    }
+
+    @Test
+    void createUserIdempotent_CreateFails_ReleasesKey() {
+        // Given
+        String email = "test@example.com";
+        when(idempotencyRepository.getRecord("key-1")).thenReturn(Optional.empty());
+        when(idempotencyRepository.claim("key-1", email)).thenReturn(true);
+        when(userRepository.createUser(email, "key-1")).thenThrow(new RuntimeException("boom"));
+
+        // Then
+        assertThrows(RuntimeException.class, () -> userService.createUser(email, "key-1"));
+        verify(idempotencyRepository).release("key-1");
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), any(User.class));
+    }
+
+    @Test
+    void updateUser_ValidEmail_TrimsAndDelegates() {
+        // Given
+        User currentUser = createUser("old@example.com");
+        User updatedUser = currentUser.toBuilder().email("new@example.com").version(1L).build();
+        when(userRepository.updateUser(currentUser, "new@example.com")).thenReturn(updatedUser);
+
+        // When
+        User result = userService.updateUser(currentUser, "  new@example.com  ");
+
+        // Then
+        assertEquals(updatedUser, result);
+    }
+
+    @Test
+    void updateUser_NullUser_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.updateUser(null, "new@example.com"));
+    }
+
+    @Test
+    void updateUser_EmptyEmail_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.updateUser(createUser("old@example.com"), " "));
+    }
+
+    @Test
+    void deleteUser_ValidUserId_Delegates() {
+        // Given
+        User deletedUser = createUser("test@example.com");
+        when(userRepository.deleteUser("user123", 2L)).thenReturn(deletedUser);
+
+        // When
+        User result = userService.deleteUser(" user123 ", 2L);
+
+        // Then
+        assertEquals(deletedUser, result);
+    }
+
+    @Test
+    void deleteUser_NegativeVersion_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.deleteUser("user123", -1L));
+    }
+
+    @Test
+    void getUsers_ValidIds_TrimsAndDelegates() {
+        // Given
+        User user = createUser("test@example.com");
+        when(userRepository.getUsers(List.of("user123", "user456"))).thenReturn(Map.of("user123", user));
+
+        // When
+        Map<String, User> result = userService.getUsers(List.of(" user123 ", "user456"));
+
+        // Then
+        assertEquals(Map.of("user123", user), result);
+    }
+
+    @Test
+    void getUsers_BlankId_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(List.of("user123", " ")));
+    }
+
+    private User createUser(String email) {
+        Instant now = Instant.now();
+        return User.builder()
+                .userId("user123")
+                .email(email)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private IdempotencyRecord createRecord(IdempotencyStatus status, String email, User user) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey("key-1")
+                .status(status)
+                .requestFingerprint(email)
+                .user(user)
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+    @Test
+    void addCharacters_ValidNames_ChecksUserAndDelegatesTrimmedNames() {
+        // Given
+        List<UserCharacter> expectedCharacters = List.of(
+                UserCharacter.builder().userId("user123").characterName("Zezima").build(),
+                UserCharacter.builder().userId("user123").characterName("Lynx Titan").build());
+        when(characterRepository.addCharacters("user123", List.of("Zezima", "Lynx Titan")))
+                .thenReturn(expectedCharacters);
+
+        // When
+        List<UserCharacter> result = userService.addCharacters(" user123 ", List.of(" Zezima", "Lynx Titan "));
+
+        // Then
+        assertEquals(expectedCharacters, result);
+        verify(userRepository).getUser("user123");
+    }
+
+    @Test
+    void addCharacters_UnknownUser_DoesNotWrite() {
+        // Given
+        when(userRepository.getUser("user123")).thenThrow(new ResourceNotFoundException("User not found"));
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> userService.addCharacters("user123", List.of("Zezima")));
+        verify(characterRepository, never()).addCharacters(anyString(), any());
+    }
+
+    @Test
+    void addCharacter_InvalidName_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.addCharacter("user123", "CHARACTER#X"));
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.addCharacter("user123", "ThirteenChars"));
+    }
+
+    @Test
+    void addCharacters_ReservedName_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.addCharacters("user123", List.of("Zezima", "metadata")));
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.addCharacter("user123", " Rollup "));
+        verify(characterRepository, never()).addCharacters(anyString(), any());
+    }
+
+    @Test
+    void putNotificationChannel_ExistingUser_DelegatesTrimmedIdentifier() {
+        // Given
+        NotificationChannel expectedChannel = NotificationChannel.builder()
+                .userId("user123")
+                .channelType(NotificationChannelType.SMS)
+                .identifier("+15550100")
+                .build();
+        when(channelRepository.putNotificationChannel("user123", NotificationChannelType.SMS, "+15550100"))
+                .thenReturn(expectedChannel);
+
+        // When
+        NotificationChannel result = userService.putNotificationChannel("user123", NotificationChannelType.SMS,
+                " +15550100 ");
+
+        // Then
+        assertEquals(expectedChannel, result);
+        verify(userRepository).getUser("user123");
+    }
+
+    @Test
+    void listSubscribers_PageSizeTooLarge_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.listSubscribers(NotificationChannelType.DISCORD, 0, 1_001, null));
+    }
+
+    @Test
+    void ingestProgress_ValidPoints_DelegatesTrimmedPoints() {
+        // Given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        GoalProgress point = GoalProgress.builder()
+                .characterName(" Zezima ")
+                .goalId(" goal1 ")
+                .timestamp(now)
+                .progressValue(100)
+                .build();
+        GoalProgress trimmedPoint = point.toBuilder()
+                .characterName("Zezima")
+                .goalId("goal1")
+                .build();
+        when(progressRepository.ingestProgress("user123", List.of(trimmedPoint))).thenReturn(1);
+
+        // When
+        int written = userService.ingestProgress("user123", List.of(point));
+
+        // Then
+        assertEquals(1, written);
+    }
+
+    @Test
+    void ingestProgress_ReservedGoalId_ThrowsIllegalArgumentException() {
+        // Given
+        GoalProgress point = GoalProgress.builder()
+                .characterName("Zezima")
+                .goalId("Latest")
+                .timestamp(Instant.now())
+                .build();
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.ingestProgress("user123", List.of(point)));
+        verify(progressRepository, never()).ingestProgress(anyString(), any());
+    }
+
+    @Test
+    void ingestProgress_GoalIdWithSeparator_ThrowsIllegalArgumentException() {
+        // Given
+        GoalProgress point = GoalProgress.builder()
+                .characterName("Zezima")
+                .goalId("goal#1")
+                .timestamp(Instant.now())
+                .build();
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.ingestProgress("user123", List.of(point)));
+        verify(progressRepository, never()).ingestProgress(anyString(), any());
+    }
+
+    @Test
+    void getGoalProgress_ValidRange_DelegatesTrimmedNames() {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-12-31T00:00:00Z");
+        ProgressSeries expected = ProgressSeries.builder()
+                .characterName("Zezima")
+                .goalId("goal1")
+                .resolution(ProgressResolution.DAY)
+                .timestamps(new long[] {from.toEpochMilli()})
+                .values(new long[] {100})
+                .build();
+        when(progressRepository.getGoalProgress("user123", "Zezima", "goal1", from, to, ProgressResolution.DAY))
+                .thenReturn(expected);
+
+        // When
+        ProgressSeries series = userService.getGoalProgress("user123", " Zezima ", " goal1 ", from, to,
+                ProgressResolution.DAY);
+
+        // Then
+        assertEquals(expected, series);
+    }
+
+    @Test
+    void getGoalProgress_FromAfterTo_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.getGoalProgress("user123", "Zezima", "goal1",
+                        Instant.parse("2025-12-31T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"),
+                        ProgressResolution.DAY));
+        verify(progressRepository, never()).getGoalProgress(anyString(), anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void purgeUser_ValidRequest_DelegatesTrimmedIdWithDeadline() {
+        // Given
+        UserPurge expected = UserPurge.builder().userId("user123").itemsDeleted(42).complete(true).build();
+        when(userRepository.purgeUser(eq("user123"), eq(8), any(Instant.class))).thenReturn(expected);
+        Instant before = Instant.now();
+
+        // When
+        UserPurge purge = userService.purgeUser(" user123 ", 8, Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(expected, purge);
+        ArgumentCaptor<Instant> deadlineCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(userRepository).purgeUser(eq("user123"), eq(8), deadlineCaptor.capture());
+        assertFalse(deadlineCaptor.getValue().isBefore(before.plus(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    void purgeUser_TooManyInFlightBatches_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.purgeUser("user123", 65, Duration.ofMinutes(5)));
+        verify(userRepository, never()).purgeUser(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void compactProgress_TwoPages_CompactsEveryUserAndClearsCheckpoint() {
+        // Given
+        when(checkpointRepository.getJobCheckpoint("PROGRESS_COMPACTION")).thenReturn(null);
+        when(userRepository.listUsers(100, null, Set.of(UserField.USER_ID)))
+                .thenReturn(UserPage.builder()
+                        .users(List.of(User.builder().userId("user1").build(), User.builder().userId("user2").build()))
+                        .nextCursor("cursor1")
+                        .build());
+        when(userRepository.listUsers(100, "cursor1", Set.of(UserField.USER_ID)))
+                .thenReturn(UserPage.builder()
+                        .users(List.of(User.builder().userId("user3").build()))
+                        .build());
+        when(progressRepository.compactProgress(anyString(), any(Instant.class), eq(RollupGranularity.WEEK),
+                any(Instant.class)))
+                .thenReturn(ProgressCompaction.builder()
+                        .usersProcessed(1)
+                        .pointsCompacted(7)
+                        .rollupsWritten(1)
+                        .complete(true)
+                        .build());
+
+        // When
+        ProgressCompaction compaction = userService.compactProgress(2, RollupGranularity.WEEK, 90,
+                Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(3, compaction.getUsersProcessed());
+        assertEquals(21, compaction.getPointsCompacted());
+        assertEquals(3, compaction.getRollupsWritten());
+        assertTrue(compaction.isComplete());
+        verify(checkpointRepository).saveJobCheckpoint("PROGRESS_COMPACTION", "cursor1");
+        verify(checkpointRepository).saveJobCheckpoint("PROGRESS_COMPACTION", null);
+    }
+
+    @Test
+    void compactProgress_TimeBudgetUsedUp_StopsAfterOnePageFromCheckpoint() {
+        // Given
+        when(checkpointRepository.getJobCheckpoint("PROGRESS_COMPACTION")).thenReturn("cursor1");
+        when(userRepository.listUsers(100, "cursor1", Set.of(UserField.USER_ID)))
+                .thenReturn(UserPage.builder()
+                        .users(List.of())
+                        .nextCursor("cursor2")
+                        .build());
+
+        // When
+        ProgressCompaction compaction = userService.compactProgress(1, RollupGranularity.MONTH, 90, Duration.ZERO);
+
+        // Then
+        assertFalse(compaction.isComplete());
+        assertEquals(0, compaction.getUsersProcessed());
+        verify(checkpointRepository).saveJobCheckpoint("PROGRESS_COMPACTION", "cursor2");
+        verify(userRepository, never()).listUsers(100, "cursor2", Set.of(UserField.USER_ID));
+    }
+}